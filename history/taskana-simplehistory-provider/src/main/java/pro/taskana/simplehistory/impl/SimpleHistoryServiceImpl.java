@@ -2,18 +2,32 @@ package pro.taskana.simplehistory.impl;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.jobs.TaskanaJob;
+import pro.taskana.common.internal.jobs.TaskanaJobProvider;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
 import pro.taskana.simplehistory.impl.mappings.HistoryQueryMapper;
 import pro.taskana.simplehistory.query.HistoryQuery;
 import pro.taskana.spi.history.api.TaskanaHistory;
 import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
-/** This is the implementation of TaskanaHistory. */
-public class SimpleHistoryServiceImpl implements TaskanaHistory {
+/**
+ * This is the implementation of TaskanaHistory. It contributes the {@link HistoryCleanupJob} to the
+ * job framework of TASKANA.
+ */
+public class SimpleHistoryServiceImpl implements TaskanaHistory, TaskanaJobProvider {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SimpleHistoryServiceImpl.class);
   private TaskanaHistoryEngineImpl taskanaHistoryEngine;
@@ -55,6 +69,69 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  @Override
+  public void createBatch(List<TaskanaHistoryEvent> events) {
+    if (events == null || events.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    try (SqlSession batchSession = taskanaHistoryEngine.openBatchSession()) {
+      HistoryEventMapper batchMapper = batchSession.getMapper(HistoryEventMapper.class);
+      for (TaskanaHistoryEvent event : events) {
+        if (event.getCreated() == null) {
+          event.setCreated(now);
+        }
+        batchMapper.insert(event);
+      }
+      batchSession.flushStatements();
+      batchSession.commit();
+      LOGGER.debug("Exit from createBatch(events). Created {} history events.", events.size());
+    } catch (SQLException | PersistenceException e) {
+      LOGGER.error("Error while inserting a batch of {} history events", events.size(), e);
+    }
+  }
+
+  @Override
+  public Set<ScheduledJob.Type> getJobTypes() {
+    return Collections.singleton(ScheduledJob.Type.HISTORYCLEANUPJOB);
+  }
+
+  @Override
+  public TaskanaJob createJob(
+      TaskanaEngine engine, TaskanaTransactionProvider<Object> txProvider, ScheduledJob job) {
+    return new HistoryCleanupJob(engine, txProvider, job, this);
+  }
+
+  @Override
+  public void initializeJobSchedule(TaskanaEngine engine, ScheduledJob.Type type) {
+    HistoryCleanupJob.initializeSchedule(engine);
+  }
+
+  /**
+   * Deletes at most batchSize history events, which were created before the given instant.
+   *
+   * @param createdBefore only history events created before this instant are deleted
+   * @param batchSize the maximum number of history events to be deleted
+   * @return the number of deleted history events
+   * @throws SQLException if the connection could not be opened
+   */
+  public int deleteHistoryEventsCreatedBefore(Instant createdBefore, int batchSize)
+      throws SQLException {
+    LOGGER.debug(
+        "entry to deleteHistoryEventsCreatedBefore(createdBefore = {}, batchSize = {})",
+        createdBefore,
+        batchSize);
+    int deletedEvents = 0;
+    try {
+      taskanaHistoryEngine.openConnection();
+      deletedEvents = historyEventMapper.deleteCreatedBefore(createdBefore, batchSize);
+      return deletedEvents;
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+      LOGGER.debug("exit from deleteHistoryEventsCreatedBefore(), returning {}", deletedEvents);
+    }
+  }
+
   public HistoryQuery createHistoryQuery() {
     return new HistoryQueryImpl(taskanaHistoryEngine, historyQueryMapper);
   }
@@ -5,6 +5,7 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -143,6 +144,24 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     }
   }
 
+  /**
+   * Opens a separate SqlSession, which uses JDBC batching to execute statements. The caller is
+   * responsible for flushing, committing and closing the returned session.
+   *
+   * @return a new SqlSession with batch executor
+   * @throws SQLException thrown if the schema of the connection could not be set.
+   */
+  SqlSession openBatchSession() throws SQLException {
+    SqlSession batchSession = this.sessionManager.openSession(ExecutorType.BATCH);
+    try {
+      batchSession.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
+    } catch (SQLException | RuntimeException e) {
+      batchSession.close();
+      throw e;
+    }
+    return batchSession;
+  }
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession() {
     this.sessionManager.startManagedSession();
@@ -0,0 +1,121 @@
+package pro.taskana.simplehistory.impl.jobs;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaCallable;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+
+/**
+ * Job to delete history events after a period of time. The events are deleted in batches by their
+ * creation timestamp, so neither their ids nor the events themselves have to be loaded.
+ */
+public class HistoryCleanupJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryCleanupJob.class);
+
+  private final SimpleHistoryServiceImpl historyService;
+
+  // Parameter
+  private Instant firstRun;
+  private Duration runEvery;
+  private Duration minimumAge;
+  private int batchSize;
+
+  public HistoryCleanupJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob scheduledJob,
+      SimpleHistoryServiceImpl historyService) {
+    super(taskanaEngine, txProvider, scheduledJob);
+    this.historyService = historyService;
+    firstRun = taskanaEngine.getConfiguration().getCleanupJobFirstRun();
+    runEvery = taskanaEngine.getConfiguration().getCleanupJobRunEvery();
+    minimumAge = taskanaEngine.getConfiguration().getHistoryCleanupJobMinimumAge();
+    batchSize = taskanaEngine.getConfiguration().getHistoryCleanupJobBatchSize();
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    Instant createdBefore = Instant.now().minus(minimumAge);
+    LOGGER.info("Running job to delete all history events created before ({})", createdBefore);
+    long start = System.nanoTime();
+    try {
+      int totalNumberOfEventsDeleted = 0;
+      int deletedEvents;
+      do {
+        long batchStart = System.nanoTime();
+        deletedEvents = deleteNextBatchTransactionally(createdBefore);
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(
+              "Deleted a batch of {} history events in {} ms.",
+              deletedEvents,
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStart));
+        }
+        totalNumberOfEventsDeleted += deletedEvents;
+      } while (deletedEvents >= batchSize);
+      LOGGER.info(
+          "Job ended successfully. {} history events deleted in {} ms.",
+          totalNumberOfEventsDeleted,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing HistoryCleanupJob.", e);
+    } finally {
+      scheduleNextCleanupJob();
+    }
+  }
+
+  /**
+   * Initializes the HistoryCleanupJob schedule. <br>
+   * All scheduled cleanup jobs are cancelled/deleted and a new one is scheduled.
+   *
+   * @param taskanaEngine the TASKANA engine.
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    HistoryCleanupJob job = new HistoryCleanupJob(taskanaEngine, null, null, null);
+    job.scheduleNextCleanupJob();
+  }
+
+  private int deleteNextBatchTransactionally(Instant createdBefore) {
+    TaskanaCallable<Object> deleteNextBatch =
+        () -> {
+          try {
+            return historyService.deleteHistoryEventsCreatedBefore(createdBefore, batchSize);
+          } catch (SQLException e) {
+            throw new SystemException("Could not delete history events.", e);
+          }
+        };
+    if (txProvider != null) {
+      return (Integer) txProvider.executeInTransaction(deleteNextBatch);
+    }
+    return (Integer) deleteNextBatch.call();
+  }
+
+  private void scheduleNextCleanupJob() {
+    LOGGER.debug("Entry to scheduleNextCleanupJob.");
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.HISTORYCLEANUPJOB);
+    job.setDue(getNextDueForHistoryCleanupJob());
+    taskanaEngineImpl.getJobService().createJob(job);
+    LOGGER.debug("Exit from scheduleNextCleanupJob.");
+  }
+
+  private Instant getNextDueForHistoryCleanupJob() {
+    Instant nextRunAt = firstRun;
+    while (nextRunAt.isBefore(Instant.now())) {
+      nextRunAt = nextRunAt.plus(runEvery);
+    }
+    LOGGER.info("Scheduling next run of the HistoryCleanupJob for {}", nextRunAt);
+    return nextRunAt;
+  }
+}
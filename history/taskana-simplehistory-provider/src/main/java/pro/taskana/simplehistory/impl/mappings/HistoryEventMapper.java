@@ -1,5 +1,7 @@
 package pro.taskana.simplehistory.impl.mappings;
 
+import java.time.Instant;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 
@@ -23,4 +25,11 @@ public interface HistoryEventMapper {
           + " #{historyEvent.oldData}, #{historyEvent.newData}) "
           + "</script>")
   void insert(@Param("historyEvent") TaskanaHistoryEvent historyEvent);
+
+  @Delete(
+      "<script>DELETE FROM HISTORY_EVENTS WHERE ID IN (SELECT ID FROM HISTORY_EVENTS WHERE CREATED &lt; #{createdBefore}"
+          + " FETCH FIRST ${batchSize} ROWS ONLY)"
+          + "</script>")
+  int deleteCreatedBefore(
+      @Param("createdBefore") Instant createdBefore, @Param("batchSize") int batchSize);
 }
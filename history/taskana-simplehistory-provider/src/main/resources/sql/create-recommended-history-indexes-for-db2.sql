@@ -0,0 +1,22 @@
+-- LIST OF RECOMMENDED INDEXES FOR THE HISTORY_EVENTS TABLE
+-- The history query compares the upper case values of the id columns,
+-- therefore these indexes are created on UPPER(...) (requires DB2 10.5 or later).
+-- The index on CREATED is used by the history cleanup job.
+
+ SET SCHEMA TASKANA;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_UPPER_TASK_ID ON HISTORY_EVENTS
+   (UPPER(TASK_ID) ASC, CREATED ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_UPPER_BUSINESS_PROCESS_ID ON HISTORY_EVENTS
+   (UPPER(BUSINESS_PROCESS_ID) ASC, CREATED ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_UPPER_WORKBASKET_KEY ON HISTORY_EVENTS
+   (UPPER(WORKBASKET_KEY) ASC, CREATED ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_CREATED ON HISTORY_EVENTS
+   (CREATED ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
@@ -0,0 +1,22 @@
+-- LIST OF RECOMMENDED INDEXES FOR THE HISTORY_EVENTS TABLE
+-- The history query compares the upper case values of the id columns,
+-- therefore these indexes are created on UPPER(...).
+-- The index on CREATED is used by the history cleanup job.
+
+ SET search_path TO taskana;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_UPPER_TASK_ID ON HISTORY_EVENTS
+   (UPPER(TASK_ID) ASC, CREATED ASC);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_UPPER_BUSINESS_PROCESS_ID ON HISTORY_EVENTS
+   (UPPER(BUSINESS_PROCESS_ID) ASC, CREATED ASC);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_UPPER_WORKBASKET_KEY ON HISTORY_EVENTS
+   (UPPER(WORKBASKET_KEY) ASC, CREATED ASC);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_HISTORY_EVENTS_CREATED ON HISTORY_EVENTS
+   (CREATED ASC);
+   COMMIT WORK ;
@@ -0,0 +1,30 @@
+package acceptance.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/** Acceptance test for the creation of history events in batches. */
+public class CreateHistoryEventBatchAccTest extends AbstractAccTest {
+
+  @Test
+  public void should_InsertAllEvents_When_BatchIsCreated() {
+    List<TaskanaHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      events.add(
+          createHistoryEvent(
+              "wbKey1", "TKI:batch" + i, "batch", "batch comment", "wbKey2", "someUserId"));
+    }
+
+    getHistoryService().createBatch(events);
+
+    assertThat(getHistoryService().createHistoryQuery().eventTypeIn("batch").count())
+        .isEqualTo(25);
+    assertThat(events).allMatch(event -> event.getCreated() != null);
+  }
+}
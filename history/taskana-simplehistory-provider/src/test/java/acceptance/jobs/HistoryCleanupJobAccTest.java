@@ -0,0 +1,79 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.simplehistory.impl.HistoryEventImpl;
+import pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/** Acceptance test for the deletion of old history events by the {@link HistoryCleanupJob}. */
+class HistoryCleanupJobAccTest extends AbstractAccTest {
+
+  private TaskanaEngine taskanaEngine;
+
+  @BeforeEach
+  void setup() throws Exception {
+    resetDb(getSchemaName());
+    TaskanaEngineConfiguration taskanaEngineConfiguration =
+        new TaskanaEngineConfiguration(getDataSource(), false, getSchemaName());
+    taskanaEngineConfiguration.setHistoryCleanupJobMinimumAge(Duration.ofDays(1));
+    taskanaEngineConfiguration.setHistoryCleanupJobBatchSize(2);
+    taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+  }
+
+  @Test
+  void should_DeleteHistoryEventsOlderThanMinimumAge_When_JobIsRun() throws Exception {
+    List<TaskanaHistoryEvent> oldEvents = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      HistoryEventImpl event =
+          createHistoryEvent("wbKey1", "TKI:old" + i, "old", "comment", "wbKey2", "someUserId");
+      event.setCreated(Instant.now().minus(3, ChronoUnit.DAYS));
+      oldEvents.add(event);
+    }
+    getHistoryService().createBatch(oldEvents);
+    assertThat(getHistoryService().createHistoryQuery().count()).isEqualTo(8);
+
+    new HistoryCleanupJob(taskanaEngine, null, null, getHistoryService()).run();
+
+    assertThat(getHistoryService().createHistoryQuery().count()).isEqualTo(2);
+    Instant oneDayAgo = Instant.now().minus(1, ChronoUnit.DAYS);
+    assertThat(
+            getHistoryService()
+                .createHistoryQuery()
+                .createdWithin(new TimeInterval(null, oneDayAgo))
+                .count())
+        .isZero();
+  }
+
+  @Test
+  void should_CreateHistoryCleanupJob_When_ScheduledJobHasHistoryCleanupType() throws Exception {
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(ScheduledJob.Type.HISTORYCLEANUPJOB);
+
+    assertThat(AbstractTaskanaJob.createFromScheduledJob(taskanaEngine, null, scheduledJob))
+        .isInstanceOf(HistoryCleanupJob.class);
+  }
+
+  @Test
+  void should_ScheduleHistoryCleanupJob_When_SimpleHistoryProviderIsOnTheClasspath()
+      throws Exception {
+    assertThat(
+            AbstractTaskanaJob.initializeProvidedJobSchedule(
+                taskanaEngine, ScheduledJob.Type.HISTORYCLEANUPJOB))
+        .isTrue();
+  }
+}
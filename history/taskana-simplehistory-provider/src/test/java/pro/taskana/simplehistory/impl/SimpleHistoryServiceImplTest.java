@@ -10,7 +10,9 @@ import static org.mockito.Mockito.when;
 import acceptance.AbstractAccTest;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
 import pro.taskana.simplehistory.impl.mappings.HistoryQueryMapper;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
 /** Unit Test for SimpleHistoryServiceImplTest. */
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +42,8 @@ public class SimpleHistoryServiceImplTest {
 
   @Mock private SqlSessionManager sqlSessionManagerMock;
 
+  @Mock private SqlSession batchSessionMock;
+
   @Test
   public void testInitializeSimpleHistoryService() throws SQLException {
     when(sqlSessionManagerMock.getMapper(HistoryEventMapper.class))
@@ -66,6 +71,29 @@ public class SimpleHistoryServiceImplTest {
     assertThat(expectedWb.getCreated()).isNotNull();
   }
 
+  @Test
+  public void testCreateBatchOfEvents() throws SQLException {
+    HistoryEventImpl event1 =
+        AbstractAccTest.createHistoryEvent(
+            "wbKey1", "taskId1", "type1", "Some comment", "wbKey2", "someUserId");
+    HistoryEventImpl event2 =
+        AbstractAccTest.createHistoryEvent(
+            "wbKey1", "taskId2", "type1", "Some comment", "wbKey2", "someUserId");
+    List<TaskanaHistoryEvent> events = Arrays.asList(event1, event2);
+    when(taskanaHistoryEngineMock.openBatchSession()).thenReturn(batchSessionMock);
+    when(batchSessionMock.getMapper(HistoryEventMapper.class)).thenReturn(historyEventMapperMock);
+
+    cutSpy.createBatch(events);
+
+    verify(historyEventMapperMock, times(1)).insert(event1);
+    verify(historyEventMapperMock, times(1)).insert(event2);
+    verify(batchSessionMock, times(1)).flushStatements();
+    verify(batchSessionMock, times(1)).commit();
+    verify(batchSessionMock, times(1)).close();
+    assertThat(event1.getCreated()).isNotNull();
+    assertThat(event2.getCreated()).isNotNull();
+  }
+
   @Test
   public void testQueryEvent() throws SQLException {
     List<HistoryEventImpl> returnList = new ArrayList<>();
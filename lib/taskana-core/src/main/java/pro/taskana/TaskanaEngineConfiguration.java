@@ -14,6 +14,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,13 +29,16 @@ import org.apache.ibatis.datasource.pooled.PooledDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.LoggerUtils;
+import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.common.internal.configuration.DbSchemaCreator;
+import pro.taskana.spi.history.api.HistoryBackpressurePolicy;
 
 /**
  * This central class creates the TaskanaEngine and holds all the information about DB and Security.
@@ -55,17 +59,65 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_ROLES_SEPARATOR = "|";
   private static final String TASKANA_JOB_BATCHSIZE = "taskana.jobs.batchSize";
   private static final String TASKANA_JOB_RETRIES = "taskana.jobs.maxRetries";
+  private static final String TASKANA_JOB_LOCK_EXPIRATION_PERIOD =
+      "taskana.jobs.lockExpirationPeriod";
+  private static final String TASKANA_JOB_RUNNER_POOL_SIZE = "taskana.jobs.runner.poolSize";
+  private static final String TASKANA_JOB_RUNNER_MAX_CONCURRENCY =
+      "taskana.jobs.runner.maxConcurrency.";
   private static final String TASKANA_JOB_CLEANUP_RUN_EVERY = "taskana.jobs.cleanup.runEvery";
   private static final String TASKANA_JOB_CLEANUP_FIRST_RUN = "taskana.jobs.cleanup.firstRunAt";
   private static final String TASKANA_JOB_CLEANUP_MINIMUM_AGE = "taskana.jobs.cleanup.minimumAge";
   private static final String TASKANA_JOB_TASK_CLEANUP_ALL_COMPLETED_SAME_PARENTE_BUSINESS =
       "taskana.jobs.cleanup.allCompletedSameParentBusiness";
+  private static final String TASKANA_JOB_TASK_CLEANUP_SET_BASED =
+      "taskana.jobs.cleanup.setBased";
+  private static final String TASKANA_JOB_HISTORY_CLEANUP_MINIMUM_AGE =
+      "taskana.jobs.history.cleanup.minimumAge";
+  private static final String TASKANA_JOB_HISTORY_CLEANUP_BATCH_SIZE =
+      "taskana.jobs.history.cleanup.batchSize";
   private static final String TASKANA_DOMAINS_PROPERTY = "taskana.domains";
   private static final String TASKANA_CLASSIFICATION_TYPES_PROPERTY =
       "taskana.classification.types";
   private static final String TASKANA_CLASSIFICATION_CATEGORIES_PROPERTY =
       "taskana.classification.categories";
   private static final String TASKANA_GERMAN_HOLIDAYS_ENABLED = "taskana.german.holidays.enabled";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_ENABLED =
+      "taskana.workbasket.permissionCache.enabled";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_MAX_SIZE =
+      "taskana.workbasket.permissionCache.maxSize";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_TIME_TO_LIVE =
+      "taskana.workbasket.permissionCache.timeToLive";
+  private static final String TASKANA_CLASSIFICATION_CACHE_ENABLED =
+      "taskana.classification.cache.enabled";
+  private static final String TASKANA_CLASSIFICATION_CACHE_MAX_SIZE =
+      "taskana.classification.cache.maxSize";
+  private static final String TASKANA_CLASSIFICATION_CACHE_TIME_TO_LIVE =
+      "taskana.classification.cache.timeToLive";
+  private static final String TASKANA_CLASSIFICATION_CACHE_VERSION_CHECK_INTERVAL =
+      "taskana.classification.cache.versionCheckInterval";
+  private static final String TASKANA_ROUTING_CACHE_ENABLED = "taskana.routing.cache.enabled";
+  private static final String TASKANA_ROUTING_CACHE_MAX_SIZE = "taskana.routing.cache.maxSize";
+  private static final String TASKANA_ROUTING_CACHE_TIME_TO_LIVE =
+      "taskana.routing.cache.timeToLive";
+  private static final String TASKANA_ROUTING_PARALLELISM = "taskana.routing.parallelism";
+  private static final String TASKANA_MONITOR_TASK_COUNT_STORE_ENABLED =
+      "taskana.monitor.taskCountStore.enabled";
+  private static final String TASKANA_MONITOR_TASK_COUNT_STORE_RECONCILIATION_INTERVAL =
+      "taskana.monitor.taskCountStore.reconciliationInterval";
+  private static final String TASKANA_QUERY_FETCH_SIZE = "taskana.query.fetchSize";
+  private static final String TASKANA_QUERY_TEMPLATE_CACHE_SIZE =
+      "taskana.query.templateCacheSize";
+  private static final String TASKANA_ID_GENERATION_STRATEGY = "taskana.ids.generationStrategy";
+  private static final String TASKANA_CONNECTION_STATISTICS_ENABLED =
+      "taskana.connectionStatistics.enabled";
+  private static final String TASKANA_HISTORY_ASYNC_ENABLED = "taskana.history.async.enabled";
+  private static final String TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY =
+      "taskana.history.async.queueCapacity";
+  private static final String TASKANA_HISTORY_ASYNC_BATCH_SIZE = "taskana.history.async.batchSize";
+  private static final String TASKANA_HISTORY_ASYNC_FLUSH_INTERVAL =
+      "taskana.history.async.flushInterval";
+  private static final String TASKANA_HISTORY_ASYNC_BACKPRESSURE_POLICY =
+      "taskana.history.async.backpressurePolicy";
   // TASKANA_SCHEMA_VERSION
   private static final String DEFAULT_SCHEMA_NAME = "TASKANA";
 
@@ -96,11 +148,53 @@ public class TaskanaEngineConfiguration {
   // Properties for generalo job execution
   private int jobBatchSize = 100;
   private int maxNumberOfJobRetries = 3;
+  private Duration jobLockExpirationPeriod = Duration.parse("PT1M");
+  private int jobRunnerPoolSize = 1;
+  private Map<ScheduledJob.Type, Integer> jobRunnerMaxConcurrency =
+      new EnumMap<>(ScheduledJob.Type.class);
   // Properties for the cleanup job
   private Instant cleanupJobFirstRun = Instant.parse("2018-01-01T00:00:00Z");
   private Duration cleanupJobRunEvery = Duration.parse("P1D");
   private Duration cleanupJobMinimumAge = Duration.parse("P14D");
   private boolean taskCleanupJobAllCompletedSameParentBusiness = true;
+  private boolean taskCleanupJobSetBased = false;
+  // Properties for the history cleanup job. It runs on the schedule of the cleanup job and is
+  // scheduled by the JobScheduler of the REST example applications. Other applications have to call
+  // HistoryCleanupJob.initializeSchedule themselves.
+  private Duration historyCleanupJobMinimumAge = Duration.parse("P180D");
+  private int historyCleanupJobBatchSize = 1000;
+  // Properties for the workbasket permission cache
+  private boolean workbasketPermissionCacheEnabled = false;
+  private int workbasketPermissionCacheMaxSize = 10000;
+  private Duration workbasketPermissionCacheTimeToLive = Duration.parse("PT1M");
+  // Properties for the classification cache
+  private boolean classificationCacheEnabled = false;
+  private int classificationCacheMaxSize = 10000;
+  private Duration classificationCacheTimeToLive = Duration.parse("PT10M");
+  private Duration classificationCacheVersionCheckInterval = Duration.parse("PT30S");
+  // Properties for the task routing
+  private boolean routingCacheEnabled = false;
+  private int routingCacheMaxSize = 10000;
+  private Duration routingCacheTimeToLive = Duration.parse("PT5M");
+  private int routingParallelism = 1;
+  // Properties for the incrementally maintained task counts of the monitor
+  private boolean taskCountStoreEnabled = false;
+  private Duration taskCountStoreReconciliationInterval = Duration.parse("PT10M");
+  // JDBC fetch size and chunk size for streamed query results
+  private int queryFetchSize = 1000;
+  // maximum number of rendered SQL templates per query statement, 0 disables the cache
+  private int queryTemplateCacheSize = 500;
+  // Strategy for the ids of new entities
+  private IdGenerationStrategy idGenerationStrategy = IdGenerationStrategy.RANDOM;
+  // counting of connections and statements, meant for tests and diagnosis
+  private boolean connectionStatisticsEnabled = false;
+  // Properties for the asynchronous history event dispatching
+  private boolean historyAsyncEnabled = false;
+  private int historyAsyncQueueCapacity = 10000;
+  private int historyAsyncBatchSize = 100;
+  private Duration historyAsyncFlushInterval = Duration.parse("PT1S");
+  private HistoryBackpressurePolicy historyAsyncBackpressurePolicy =
+      HistoryBackpressurePolicy.BLOCK;
 
   public TaskanaEngineConfiguration(
       DataSource dataSource, boolean useManagedTransactions, String schemaName)
@@ -168,6 +262,15 @@ public class TaskanaEngineConfiguration {
     initClassificationTypes(props);
     initClassificationCategories(props);
     initGermanHolidaysEnabled(props);
+    initWorkbasketPermissionCache(props);
+    initClassificationCache(props);
+    initRoutingParameters(props);
+    initTaskCountStoreParameters(props);
+    initHistoryAsyncParameters(props);
+    initQueryFetchSize(props);
+    initQueryTemplateCacheSize(props);
+    initIdGenerationStrategy(props);
+    initConnectionStatisticsEnabled(props);
   }
 
   private void initGermanHolidaysEnabled(Properties props) {
@@ -234,10 +337,44 @@ public class TaskanaEngineConfiguration {
     return jobBatchSize;
   }
 
+  public void setMaxNumberOfUpdatesPerTransaction(int jobBatchSize) {
+    this.jobBatchSize = jobBatchSize;
+  }
+
   public int getMaxNumberOfJobRetries() {
     return maxNumberOfJobRetries;
   }
 
+  public Duration getJobLockExpirationPeriod() {
+    return jobLockExpirationPeriod;
+  }
+
+  public void setJobLockExpirationPeriod(Duration jobLockExpirationPeriod) {
+    this.jobLockExpirationPeriod = jobLockExpirationPeriod;
+  }
+
+  public int getJobRunnerPoolSize() {
+    return jobRunnerPoolSize;
+  }
+
+  public void setJobRunnerPoolSize(int jobRunnerPoolSize) {
+    this.jobRunnerPoolSize = jobRunnerPoolSize;
+  }
+
+  /**
+   * Returns the maximum number of jobs of one type which a single JobRunner executes concurrently.
+   * Types without an entry are only limited by the pool size of the JobRunner.
+   *
+   * @return the concurrency limits per job type
+   */
+  public Map<ScheduledJob.Type, Integer> getJobRunnerMaxConcurrency() {
+    return jobRunnerMaxConcurrency;
+  }
+
+  public void setJobRunnerMaxConcurrency(Map<ScheduledJob.Type, Integer> jobRunnerMaxConcurrency) {
+    this.jobRunnerMaxConcurrency = jobRunnerMaxConcurrency;
+  }
+
   public String getPropertiesSeparator() {
     return this.rolesSeparator;
   }
@@ -320,6 +457,10 @@ public class TaskanaEngineConfiguration {
     return cleanupJobMinimumAge;
   }
 
+  public void setCleanupJobMinimumAge(Duration cleanupJobMinimumAge) {
+    this.cleanupJobMinimumAge = cleanupJobMinimumAge;
+  }
+
   public boolean isTaskCleanupJobAllCompletedSameParentBusiness() {
     return taskCleanupJobAllCompletedSameParentBusiness;
   }
@@ -330,6 +471,230 @@ public class TaskanaEngineConfiguration {
         taskCleanupJobAllCompletedSameParentBusiness;
   }
 
+  public boolean isTaskCleanupJobSetBased() {
+    return taskCleanupJobSetBased;
+  }
+
+  public void setTaskCleanupJobSetBased(boolean taskCleanupJobSetBased) {
+    this.taskCleanupJobSetBased = taskCleanupJobSetBased;
+  }
+
+  public Duration getHistoryCleanupJobMinimumAge() {
+    return historyCleanupJobMinimumAge;
+  }
+
+  public void setHistoryCleanupJobMinimumAge(Duration historyCleanupJobMinimumAge) {
+    this.historyCleanupJobMinimumAge = historyCleanupJobMinimumAge;
+  }
+
+  public int getHistoryCleanupJobBatchSize() {
+    return historyCleanupJobBatchSize;
+  }
+
+  public void setHistoryCleanupJobBatchSize(int historyCleanupJobBatchSize) {
+    this.historyCleanupJobBatchSize = historyCleanupJobBatchSize;
+  }
+
+  public boolean isWorkbasketPermissionCacheEnabled() {
+    return workbasketPermissionCacheEnabled;
+  }
+
+  public void setWorkbasketPermissionCacheEnabled(boolean workbasketPermissionCacheEnabled) {
+    this.workbasketPermissionCacheEnabled = workbasketPermissionCacheEnabled;
+  }
+
+  public int getWorkbasketPermissionCacheMaxSize() {
+    return workbasketPermissionCacheMaxSize;
+  }
+
+  public void setWorkbasketPermissionCacheMaxSize(int workbasketPermissionCacheMaxSize) {
+    this.workbasketPermissionCacheMaxSize = workbasketPermissionCacheMaxSize;
+  }
+
+  public Duration getWorkbasketPermissionCacheTimeToLive() {
+    return workbasketPermissionCacheTimeToLive;
+  }
+
+  public void setWorkbasketPermissionCacheTimeToLive(
+      Duration workbasketPermissionCacheTimeToLive) {
+    this.workbasketPermissionCacheTimeToLive = workbasketPermissionCacheTimeToLive;
+  }
+
+  public boolean isClassificationCacheEnabled() {
+    return classificationCacheEnabled;
+  }
+
+  public void setClassificationCacheEnabled(boolean classificationCacheEnabled) {
+    this.classificationCacheEnabled = classificationCacheEnabled;
+  }
+
+  public int getClassificationCacheMaxSize() {
+    return classificationCacheMaxSize;
+  }
+
+  public void setClassificationCacheMaxSize(int classificationCacheMaxSize) {
+    this.classificationCacheMaxSize = classificationCacheMaxSize;
+  }
+
+  public Duration getClassificationCacheTimeToLive() {
+    return classificationCacheTimeToLive;
+  }
+
+  public void setClassificationCacheTimeToLive(Duration classificationCacheTimeToLive) {
+    this.classificationCacheTimeToLive = classificationCacheTimeToLive;
+  }
+
+  public Duration getClassificationCacheVersionCheckInterval() {
+    return classificationCacheVersionCheckInterval;
+  }
+
+  public void setClassificationCacheVersionCheckInterval(
+      Duration classificationCacheVersionCheckInterval) {
+    this.classificationCacheVersionCheckInterval = classificationCacheVersionCheckInterval;
+  }
+
+  public boolean isRoutingCacheEnabled() {
+    return routingCacheEnabled;
+  }
+
+  public void setRoutingCacheEnabled(boolean routingCacheEnabled) {
+    this.routingCacheEnabled = routingCacheEnabled;
+  }
+
+  public int getRoutingCacheMaxSize() {
+    return routingCacheMaxSize;
+  }
+
+  public void setRoutingCacheMaxSize(int routingCacheMaxSize) {
+    this.routingCacheMaxSize = routingCacheMaxSize;
+  }
+
+  public Duration getRoutingCacheTimeToLive() {
+    return routingCacheTimeToLive;
+  }
+
+  public void setRoutingCacheTimeToLive(Duration routingCacheTimeToLive) {
+    this.routingCacheTimeToLive = routingCacheTimeToLive;
+  }
+
+  /**
+   * Returns the maximum number of TaskRoutingProviders which are asked concurrently for the
+   * workbasket of one task. With 1 (the default) the providers are asked one after the other on
+   * the calling thread.
+   *
+   * @return the maximum number of concurrently asked TaskRoutingProviders
+   */
+  public int getRoutingParallelism() {
+    return routingParallelism;
+  }
+
+  public void setRoutingParallelism(int routingParallelism) {
+    this.routingParallelism = routingParallelism;
+  }
+
+  /**
+   * Returns whether the WorkbasketReport and the TaskStatusReport are built from task counts which
+   * are kept in memory and maintained incrementally by the TaskService instead of aggregating the
+   * TASK table for every report.
+   *
+   * @return true if the task count store is enabled
+   */
+  public boolean isTaskCountStoreEnabled() {
+    return taskCountStoreEnabled;
+  }
+
+  public void setTaskCountStoreEnabled(boolean taskCountStoreEnabled) {
+    this.taskCountStoreEnabled = taskCountStoreEnabled;
+  }
+
+  /**
+   * Returns the interval after which the task counts are reloaded from the database. On reload the
+   * incrementally maintained counts are compared with the database and any drift is logged.
+   *
+   * @return the reconciliation interval of the task count store
+   */
+  public Duration getTaskCountStoreReconciliationInterval() {
+    return taskCountStoreReconciliationInterval;
+  }
+
+  public void setTaskCountStoreReconciliationInterval(
+      Duration taskCountStoreReconciliationInterval) {
+    this.taskCountStoreReconciliationInterval = taskCountStoreReconciliationInterval;
+  }
+
+  public int getQueryFetchSize() {
+    return queryFetchSize;
+  }
+
+  public void setQueryFetchSize(int queryFetchSize) {
+    this.queryFetchSize = queryFetchSize;
+  }
+
+  public int getQueryTemplateCacheSize() {
+    return queryTemplateCacheSize;
+  }
+
+  public void setQueryTemplateCacheSize(int queryTemplateCacheSize) {
+    this.queryTemplateCacheSize = queryTemplateCacheSize;
+  }
+
+  public IdGenerationStrategy getIdGenerationStrategy() {
+    return idGenerationStrategy;
+  }
+
+  public void setIdGenerationStrategy(IdGenerationStrategy idGenerationStrategy) {
+    this.idGenerationStrategy = idGenerationStrategy;
+  }
+
+  public boolean isConnectionStatisticsEnabled() {
+    return connectionStatisticsEnabled;
+  }
+
+  public void setConnectionStatisticsEnabled(boolean connectionStatisticsEnabled) {
+    this.connectionStatisticsEnabled = connectionStatisticsEnabled;
+  }
+
+  public boolean isHistoryAsyncEnabled() {
+    return historyAsyncEnabled;
+  }
+
+  public void setHistoryAsyncEnabled(boolean historyAsyncEnabled) {
+    this.historyAsyncEnabled = historyAsyncEnabled;
+  }
+
+  public int getHistoryAsyncQueueCapacity() {
+    return historyAsyncQueueCapacity;
+  }
+
+  public void setHistoryAsyncQueueCapacity(int historyAsyncQueueCapacity) {
+    this.historyAsyncQueueCapacity = historyAsyncQueueCapacity;
+  }
+
+  public int getHistoryAsyncBatchSize() {
+    return historyAsyncBatchSize;
+  }
+
+  public void setHistoryAsyncBatchSize(int historyAsyncBatchSize) {
+    this.historyAsyncBatchSize = historyAsyncBatchSize;
+  }
+
+  public Duration getHistoryAsyncFlushInterval() {
+    return historyAsyncFlushInterval;
+  }
+
+  public void setHistoryAsyncFlushInterval(Duration historyAsyncFlushInterval) {
+    this.historyAsyncFlushInterval = historyAsyncFlushInterval;
+  }
+
+  public HistoryBackpressurePolicy getHistoryAsyncBackpressurePolicy() {
+    return historyAsyncBackpressurePolicy;
+  }
+
+  public void setHistoryAsyncBackpressurePolicy(
+      HistoryBackpressurePolicy historyAsyncBackpressurePolicy) {
+    this.historyAsyncBackpressurePolicy = historyAsyncBackpressurePolicy;
+  }
+
   public String getSchemaName() {
     return schemaName;
   }
@@ -373,6 +738,47 @@ public class TaskanaEngineConfiguration {
       }
     }
 
+    String jobLockExpirationPeriodProperty = props.getProperty(TASKANA_JOB_LOCK_EXPIRATION_PERIOD);
+    if (jobLockExpirationPeriodProperty != null && !jobLockExpirationPeriodProperty.isEmpty()) {
+      try {
+        jobLockExpirationPeriod = Duration.parse(jobLockExpirationPeriodProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse jobLockExpirationPeriodProperty ({}). Using default. Exception: {} ",
+            jobLockExpirationPeriodProperty,
+            e.getMessage());
+      }
+    }
+
+    String jobRunnerPoolSizeProperty = props.getProperty(TASKANA_JOB_RUNNER_POOL_SIZE);
+    if (jobRunnerPoolSizeProperty != null && !jobRunnerPoolSizeProperty.isEmpty()) {
+      try {
+        jobRunnerPoolSize = Integer.parseInt(jobRunnerPoolSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse jobRunnerPoolSizeProperty ({}). Using default. Exception: {} ",
+            jobRunnerPoolSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    for (ScheduledJob.Type type : ScheduledJob.Type.values()) {
+      String maxConcurrencyProperty =
+          props.getProperty(TASKANA_JOB_RUNNER_MAX_CONCURRENCY + type.name());
+      if (maxConcurrencyProperty != null && !maxConcurrencyProperty.isEmpty()) {
+        try {
+          jobRunnerMaxConcurrency.put(type, Integer.parseInt(maxConcurrencyProperty));
+        } catch (Exception e) {
+          LOGGER.warn(
+              "Could not parse maximum concurrency ({}) of job type {}. Ignoring it. "
+                  + "Exception: {} ",
+              maxConcurrencyProperty,
+              type,
+              e.getMessage());
+        }
+      }
+    }
+
     String taskCleanupJobFirstRunProperty = props.getProperty(TASKANA_JOB_CLEANUP_FIRST_RUN);
     if (taskCleanupJobFirstRunProperty != null && !taskCleanupJobFirstRunProperty.isEmpty()) {
       try {
@@ -425,9 +831,50 @@ public class TaskanaEngineConfiguration {
       }
     }
 
+    String taskCleanupJobSetBasedProperty = props.getProperty(TASKANA_JOB_TASK_CLEANUP_SET_BASED);
+    if (taskCleanupJobSetBasedProperty != null && !taskCleanupJobSetBasedProperty.isEmpty()) {
+      taskCleanupJobSetBased = Boolean.parseBoolean(taskCleanupJobSetBasedProperty);
+    }
+
+    String historyCleanupJobMinimumAgeProperty =
+        props.getProperty(TASKANA_JOB_HISTORY_CLEANUP_MINIMUM_AGE);
+    if (historyCleanupJobMinimumAgeProperty != null
+        && !historyCleanupJobMinimumAgeProperty.isEmpty()) {
+      try {
+        historyCleanupJobMinimumAge = Duration.parse(historyCleanupJobMinimumAgeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyCleanupJobMinimumAgeProperty ({}). Using default. "
+                + "Exception: {} ",
+            historyCleanupJobMinimumAgeProperty,
+            e.getMessage());
+      }
+    }
+
+    String historyCleanupJobBatchSizeProperty =
+        props.getProperty(TASKANA_JOB_HISTORY_CLEANUP_BATCH_SIZE);
+    if (historyCleanupJobBatchSizeProperty != null
+        && !historyCleanupJobBatchSizeProperty.isEmpty()) {
+      try {
+        historyCleanupJobBatchSize = Integer.parseInt(historyCleanupJobBatchSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyCleanupJobBatchSizeProperty ({}). Using default. "
+                + "Exception: {} ",
+            historyCleanupJobBatchSizeProperty,
+            e.getMessage());
+      }
+    }
+
     LOGGER.debug(
         "Configured number of task and workbasket updates per transaction: {}", jobBatchSize);
     LOGGER.debug("Number of retries of failed task updates: {}", maxNumberOfJobRetries);
+    LOGGER.debug(
+        "JobRunner configuration: lock expiration period {}, pool size {}, "
+            + "maximum concurrency per job type {}",
+        jobLockExpirationPeriod,
+        jobRunnerPoolSize,
+        jobRunnerMaxConcurrency);
     LOGGER.debug("CleanupJob configuration: first run at {}", cleanupJobFirstRun);
     LOGGER.debug("CleanupJob configuration: runs every {}", cleanupJobRunEvery);
     LOGGER.debug(
@@ -437,6 +884,300 @@ public class TaskanaEngineConfiguration {
         "TaskCleanupJob configuration: all completed task with the "
             + "same parent business property id {}",
         taskCleanupJobAllCompletedSameParentBusiness);
+    LOGGER.debug(
+        "HistoryCleanupJob configuration: minimum age of history events to be deleted is {}, "
+            + "batch size {}",
+        historyCleanupJobMinimumAge,
+        historyCleanupJobBatchSize);
+  }
+
+  private void initWorkbasketPermissionCache(Properties props) {
+    String enabledProperty = props.getProperty(TASKANA_WORKBASKET_PERMISSION_CACHE_ENABLED);
+    if (enabledProperty != null && !enabledProperty.isEmpty()) {
+      workbasketPermissionCacheEnabled = Boolean.parseBoolean(enabledProperty);
+    }
+
+    String maxSizeProperty = props.getProperty(TASKANA_WORKBASKET_PERMISSION_CACHE_MAX_SIZE);
+    if (maxSizeProperty != null && !maxSizeProperty.isEmpty()) {
+      try {
+        workbasketPermissionCacheMaxSize = Integer.parseInt(maxSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse workbasketPermissionCacheMaxSize ({}). Using default. Exception: {} ",
+            maxSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String timeToLiveProperty =
+        props.getProperty(TASKANA_WORKBASKET_PERMISSION_CACHE_TIME_TO_LIVE);
+    if (timeToLiveProperty != null && !timeToLiveProperty.isEmpty()) {
+      try {
+        workbasketPermissionCacheTimeToLive = Duration.parse(timeToLiveProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse workbasketPermissionCacheTimeToLive ({}). Using default. "
+                + "Exception: {} ",
+            timeToLiveProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "WorkbasketPermissionCache configuration: enabled = {}, maxSize = {}, timeToLive = {}",
+        workbasketPermissionCacheEnabled,
+        workbasketPermissionCacheMaxSize,
+        workbasketPermissionCacheTimeToLive);
+  }
+
+  private void initClassificationCache(Properties props) {
+    String enabledProperty = props.getProperty(TASKANA_CLASSIFICATION_CACHE_ENABLED);
+    if (enabledProperty != null && !enabledProperty.isEmpty()) {
+      classificationCacheEnabled = Boolean.parseBoolean(enabledProperty);
+    }
+
+    String maxSizeProperty = props.getProperty(TASKANA_CLASSIFICATION_CACHE_MAX_SIZE);
+    if (maxSizeProperty != null && !maxSizeProperty.isEmpty()) {
+      try {
+        classificationCacheMaxSize = Integer.parseInt(maxSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse classificationCacheMaxSize ({}). Using default. Exception: {} ",
+            maxSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String timeToLiveProperty = props.getProperty(TASKANA_CLASSIFICATION_CACHE_TIME_TO_LIVE);
+    if (timeToLiveProperty != null && !timeToLiveProperty.isEmpty()) {
+      try {
+        classificationCacheTimeToLive = Duration.parse(timeToLiveProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse classificationCacheTimeToLive ({}). Using default. Exception: {} ",
+            timeToLiveProperty,
+            e.getMessage());
+      }
+    }
+
+    String versionCheckIntervalProperty =
+        props.getProperty(TASKANA_CLASSIFICATION_CACHE_VERSION_CHECK_INTERVAL);
+    if (versionCheckIntervalProperty != null && !versionCheckIntervalProperty.isEmpty()) {
+      try {
+        classificationCacheVersionCheckInterval = Duration.parse(versionCheckIntervalProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse classificationCacheVersionCheckInterval ({}). Using default. "
+                + "Exception: {} ",
+            versionCheckIntervalProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "ClassificationCache configuration: enabled = {}, maxSize = {}, timeToLive = {}, "
+            + "versionCheckInterval = {}",
+        classificationCacheEnabled,
+        classificationCacheMaxSize,
+        classificationCacheTimeToLive,
+        classificationCacheVersionCheckInterval);
+  }
+
+  private void initRoutingParameters(Properties props) {
+    String enabledProperty = props.getProperty(TASKANA_ROUTING_CACHE_ENABLED);
+    if (enabledProperty != null && !enabledProperty.isEmpty()) {
+      routingCacheEnabled = Boolean.parseBoolean(enabledProperty);
+    }
+
+    String maxSizeProperty = props.getProperty(TASKANA_ROUTING_CACHE_MAX_SIZE);
+    if (maxSizeProperty != null && !maxSizeProperty.isEmpty()) {
+      try {
+        routingCacheMaxSize = Integer.parseInt(maxSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse routingCacheMaxSize ({}). Using default. Exception: {} ",
+            maxSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String timeToLiveProperty = props.getProperty(TASKANA_ROUTING_CACHE_TIME_TO_LIVE);
+    if (timeToLiveProperty != null && !timeToLiveProperty.isEmpty()) {
+      try {
+        routingCacheTimeToLive = Duration.parse(timeToLiveProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse routingCacheTimeToLive ({}). Using default. Exception: {} ",
+            timeToLiveProperty,
+            e.getMessage());
+      }
+    }
+
+    String parallelismProperty = props.getProperty(TASKANA_ROUTING_PARALLELISM);
+    if (parallelismProperty != null && !parallelismProperty.isEmpty()) {
+      try {
+        routingParallelism = Integer.parseInt(parallelismProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse routingParallelism ({}). Using default. Exception: {} ",
+            parallelismProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "Routing configuration: cacheEnabled = {}, cacheMaxSize = {}, cacheTimeToLive = {}, "
+            + "parallelism = {}",
+        routingCacheEnabled,
+        routingCacheMaxSize,
+        routingCacheTimeToLive,
+        routingParallelism);
+  }
+
+  private void initTaskCountStoreParameters(Properties props) {
+    String enabledProperty = props.getProperty(TASKANA_MONITOR_TASK_COUNT_STORE_ENABLED);
+    if (enabledProperty != null && !enabledProperty.isEmpty()) {
+      taskCountStoreEnabled = Boolean.parseBoolean(enabledProperty);
+    }
+
+    String intervalProperty =
+        props.getProperty(TASKANA_MONITOR_TASK_COUNT_STORE_RECONCILIATION_INTERVAL);
+    if (intervalProperty != null && !intervalProperty.isEmpty()) {
+      try {
+        taskCountStoreReconciliationInterval = Duration.parse(intervalProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse taskCountStoreReconciliationInterval ({}). Using default. "
+                + "Exception: {} ",
+            intervalProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "TaskCountStore configuration: enabled = {}, reconciliationInterval = {}",
+        taskCountStoreEnabled,
+        taskCountStoreReconciliationInterval);
+  }
+
+  private void initQueryFetchSize(Properties props) {
+    String fetchSizeProperty = props.getProperty(TASKANA_QUERY_FETCH_SIZE);
+    if (fetchSizeProperty != null && !fetchSizeProperty.isEmpty()) {
+      try {
+        queryFetchSize = Integer.parseInt(fetchSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse queryFetchSize ({}). Using default. Exception: {} ",
+            fetchSizeProperty,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug("Configured queryFetchSize: {}", queryFetchSize);
+  }
+
+  private void initQueryTemplateCacheSize(Properties props) {
+    String cacheSizeProperty = props.getProperty(TASKANA_QUERY_TEMPLATE_CACHE_SIZE);
+    if (cacheSizeProperty != null && !cacheSizeProperty.isEmpty()) {
+      try {
+        queryTemplateCacheSize = Integer.parseInt(cacheSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse queryTemplateCacheSize ({}). Using default. Exception: {} ",
+            cacheSizeProperty,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug("Configured queryTemplateCacheSize: {}", queryTemplateCacheSize);
+  }
+
+  private void initIdGenerationStrategy(Properties props) {
+    String strategyProperty = props.getProperty(TASKANA_ID_GENERATION_STRATEGY);
+    if (strategyProperty != null && !strategyProperty.isEmpty()) {
+      try {
+        idGenerationStrategy =
+            IdGenerationStrategy.valueOf(strategyProperty.trim().toUpperCase());
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse idGenerationStrategy ({}). Using default. Exception: {} ",
+            strategyProperty,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug("Configured idGenerationStrategy: {}", idGenerationStrategy);
+  }
+
+  private void initConnectionStatisticsEnabled(Properties props) {
+    String enabledProperty = props.getProperty(TASKANA_CONNECTION_STATISTICS_ENABLED);
+    if (enabledProperty != null && !enabledProperty.isEmpty()) {
+      connectionStatisticsEnabled = Boolean.parseBoolean(enabledProperty);
+    }
+    LOGGER.debug("Configured connectionStatisticsEnabled: {}", connectionStatisticsEnabled);
+  }
+
+  private void initHistoryAsyncParameters(Properties props) {
+    String enabledProperty = props.getProperty(TASKANA_HISTORY_ASYNC_ENABLED);
+    if (enabledProperty != null && !enabledProperty.isEmpty()) {
+      historyAsyncEnabled = Boolean.parseBoolean(enabledProperty);
+    }
+
+    String queueCapacityProperty = props.getProperty(TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY);
+    if (queueCapacityProperty != null && !queueCapacityProperty.isEmpty()) {
+      try {
+        historyAsyncQueueCapacity = Integer.parseInt(queueCapacityProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyAsyncQueueCapacity ({}). Using default. Exception: {} ",
+            queueCapacityProperty,
+            e.getMessage());
+      }
+    }
+
+    String batchSizeProperty = props.getProperty(TASKANA_HISTORY_ASYNC_BATCH_SIZE);
+    if (batchSizeProperty != null && !batchSizeProperty.isEmpty()) {
+      try {
+        historyAsyncBatchSize = Integer.parseInt(batchSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyAsyncBatchSize ({}). Using default. Exception: {} ",
+            batchSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String flushIntervalProperty = props.getProperty(TASKANA_HISTORY_ASYNC_FLUSH_INTERVAL);
+    if (flushIntervalProperty != null && !flushIntervalProperty.isEmpty()) {
+      try {
+        historyAsyncFlushInterval = Duration.parse(flushIntervalProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyAsyncFlushInterval ({}). Using default. Exception: {} ",
+            flushIntervalProperty,
+            e.getMessage());
+      }
+    }
+
+    String backpressurePolicyProperty =
+        props.getProperty(TASKANA_HISTORY_ASYNC_BACKPRESSURE_POLICY);
+    if (backpressurePolicyProperty != null && !backpressurePolicyProperty.isEmpty()) {
+      try {
+        historyAsyncBackpressurePolicy =
+            HistoryBackpressurePolicy.valueOf(backpressurePolicyProperty.trim().toUpperCase());
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyAsyncBackpressurePolicy ({}). Using default. Exception: {} ",
+            backpressurePolicyProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "History async configuration: enabled = {}, queueCapacity = {}, batchSize = {}, "
+            + "flushInterval = {}, backpressurePolicy = {}",
+        historyAsyncEnabled,
+        historyAsyncQueueCapacity,
+        historyAsyncBatchSize,
+        historyAsyncFlushInterval,
+        historyAsyncBackpressurePolicy);
   }
 
   private void initDomains(Properties props) {
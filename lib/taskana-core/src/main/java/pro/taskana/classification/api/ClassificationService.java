@@ -1,5 +1,7 @@
 package pro.taskana.classification.api;
 
+import java.util.List;
+
 import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.classification.api.exceptions.ClassificationInUseException;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
@@ -34,6 +36,14 @@ public interface ClassificationService {
    */
   Classification getClassification(String id) throws ClassificationNotFoundException;
 
+  /**
+   * Get the Classifications with the given ids. Ids of not existing classifications are ignored.
+   *
+   * @param ids the ids of the searched-for classifications
+   * @return the classifications identified by the ids
+   */
+  List<Classification> getClassifications(List<String> ids);
+
   /**
    * Delete a classification with all child classifications.
    *
@@ -84,7 +94,8 @@ public interface ClassificationService {
           InvalidArgumentException;
 
   /**
-   * Updates a Classification.
+   * Updates a Classification. If the category was changed, it is changed on all tasks of the
+   * classification, including the tasks in workbaskets the caller is not permitted to read.
    *
    * @param classification the Classification to update
    * @return the updated Classification.
@@ -0,0 +1,241 @@
+package pro.taskana.classification.internal;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import pro.taskana.classification.internal.models.ClassificationImpl;
+
+/**
+ * Engine wide read-through cache for classifications. Classifications are cached by id and by key
+ * and domain. A key and domain entry may hold the classification of the master domain, if there
+ * is none in the requested domain, or may mark the classification as missing, if it does not exist
+ * at all. The cache is bounded by a maximum number of entries (least recently used entries are
+ * evicted first) and every entry expires after the configured time to live.
+ *
+ * <p>Whenever classifications are changed, the whole cache has to be invalidated via {@link
+ * #invalidateAll()}. Changes made by other nodes are detected by {@link #validate(Supplier)}, which
+ * compares a version stamp read from the database at most once per version check interval.
+ */
+public class ClassificationCache {
+
+  // marks classifications, which are known not to exist. It is never handed out.
+  private static final ClassificationImpl NOT_FOUND = new ClassificationImpl();
+
+  private static final String SEPARATOR = "\u0000";
+
+  private final boolean enabled;
+  private final long timeToLiveNanos;
+  private final long versionCheckIntervalNanos;
+  private final Map<String, CacheEntry> entries;
+  private final AtomicLong nextVersionCheckNanos = new AtomicLong(System.nanoTime());
+  private volatile String versionStamp;
+
+  public ClassificationCache(
+      boolean enabled, int maxSize, Duration timeToLive, Duration versionCheckInterval) {
+    this.enabled = enabled && maxSize > 0 && !timeToLive.isNegative() && !timeToLive.isZero();
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.versionCheckIntervalNanos = versionCheckInterval.toNanos();
+    this.entries =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+              private static final long serialVersionUID = 1L;
+
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+              }
+            });
+  }
+
+  public static ClassificationCache disabled() {
+    return new ClassificationCache(false, 0, Duration.ZERO, Duration.ZERO);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns a copy of the cached classification with the given id.
+   *
+   * @param id the id of the classification
+   * @return the classification or null, if there is no valid cache entry or the classification is
+   *     missing
+   */
+  public ClassificationImpl getById(String id) {
+    return enabled ? get("ID" + SEPARATOR + id) : null;
+  }
+
+  /**
+   * Checks whether the classification with the given id is known not to exist.
+   *
+   * @param id the id of the classification
+   * @return true, if there is a valid cache entry which marks the classification as missing
+   */
+  public boolean isMissingById(String id) {
+    return enabled && isMissing("ID" + SEPARATOR + id);
+  }
+
+  /**
+   * Returns a copy of the classification cached for the given key and domain.
+   *
+   * @param key the key of the classification
+   * @param domain the requested domain
+   * @return the classification of the domain or the master domain or null, if there is no valid
+   *     cache entry or the classification is missing
+   */
+  public ClassificationImpl getByKeyAndDomain(String key, String domain) {
+    return enabled ? get(createKeyDomainKey(key, domain)) : null;
+  }
+
+  /**
+   * Checks whether the classification with the given key is known to exist neither in the given
+   * domain nor in the master domain.
+   *
+   * @param key the key of the classification
+   * @param domain the requested domain
+   * @return true, if there is a valid cache entry which marks the classification as missing
+   */
+  public boolean isMissingByKeyAndDomain(String key, String domain) {
+    return enabled && isMissing(createKeyDomainKey(key, domain));
+  }
+
+  /**
+   * Caches the given classification by its id.
+   *
+   * @param id the id of the classification
+   * @param classification the classification
+   */
+  public void putById(String id, ClassificationImpl classification) {
+    if (enabled) {
+      put("ID" + SEPARATOR + id, classification);
+    }
+  }
+
+  /**
+   * Marks the classification with the given id as missing.
+   *
+   * @param id the id of the classification
+   */
+  public void putMissingById(String id) {
+    putById(id, NOT_FOUND);
+  }
+
+  /**
+   * Caches the classification resolved for the given key and domain. The classification is cached
+   * by its id, too.
+   *
+   * @param key the key of the classification
+   * @param domain the requested domain
+   * @param classification the classification of the domain or the master domain
+   */
+  public void putByKeyAndDomain(String key, String domain, ClassificationImpl classification) {
+    if (enabled) {
+      put(createKeyDomainKey(key, domain), classification);
+      if (classification != NOT_FOUND) {
+        put("ID" + SEPARATOR + classification.getId(), classification);
+      }
+    }
+  }
+
+  /**
+   * Marks the classification with the given key as missing in the given domain and the master
+   * domain.
+   *
+   * @param key the key of the classification
+   * @param domain the requested domain
+   */
+  public void putMissingByKeyAndDomain(String key, String domain) {
+    putByKeyAndDomain(key, domain, NOT_FOUND);
+  }
+
+  /**
+   * Invalidates the cache, if the classifications in the database have been changed by another
+   * node. The version stamp is read at most once per version check interval.
+   *
+   * @param versionStampSupplier reads the current version stamp from the database
+   */
+  public void validate(Supplier<String> versionStampSupplier) {
+    if (!enabled || versionCheckIntervalNanos <= 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    long nextCheck = nextVersionCheckNanos.get();
+    if (now - nextCheck < 0
+        || !nextVersionCheckNanos.compareAndSet(nextCheck, now + versionCheckIntervalNanos)) {
+      return;
+    }
+    String currentVersionStamp = versionStampSupplier.get();
+    if (!Objects.equals(versionStamp, currentVersionStamp)) {
+      invalidateAll();
+      versionStamp = currentVersionStamp;
+    }
+  }
+
+  /** Removes all entries from the cache. */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private static String createKeyDomainKey(String key, String domain) {
+    return "KEY_DOMAIN" + SEPARATOR + key + SEPARATOR + domain;
+  }
+
+  private static ClassificationImpl copyOf(ClassificationImpl classification) {
+    if (classification == NOT_FOUND) {
+      return NOT_FOUND;
+    }
+    ClassificationImpl copy = classification.copy(classification.getKey());
+    copy.setId(classification.getId());
+    return copy;
+  }
+
+  private ClassificationImpl get(String key) {
+    CacheEntry entry = getValidEntry(key);
+    if (entry == null || entry.classification == NOT_FOUND) {
+      return null;
+    }
+    return copyOf(entry.classification);
+  }
+
+  private boolean isMissing(String key) {
+    CacheEntry entry = getValidEntry(key);
+    return entry != null && entry.classification == NOT_FOUND;
+  }
+
+  private CacheEntry getValidEntry(String key) {
+    CacheEntry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (System.nanoTime() - entry.createdNanos >= timeToLiveNanos) {
+      entries.remove(key);
+      return null;
+    }
+    return entry;
+  }
+
+  private void put(String key, ClassificationImpl classification) {
+    entries.put(key, new CacheEntry(copyOf(classification), System.nanoTime()));
+  }
+
+  private static final class CacheEntry {
+
+    private final ClassificationImpl classification;
+    private final long createdNanos;
+
+    private CacheEntry(ClassificationImpl classification, long createdNanos) {
+      this.classification = classification;
+      this.createdNanos = createdNanos;
+    }
+  }
+}
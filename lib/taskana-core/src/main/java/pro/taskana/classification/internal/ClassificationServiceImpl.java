@@ -5,10 +5,13 @@ import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +24,7 @@ import pro.taskana.classification.api.exceptions.ClassificationNotFoundException
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
@@ -31,25 +35,30 @@ import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.jobs.ClassificationChangedJob;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
-import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.TaskMapper;
 
 /** This is the implementation of ClassificationService. */
 public class ClassificationServiceImpl implements ClassificationService {
 
   private static final String ID_PREFIX_CLASSIFICATION = "CLI";
+  private static final int MAX_IDS_PER_QUERY = 1000;
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationServiceImpl.class);
   private ClassificationMapper classificationMapper;
   private TaskMapper taskMapper;
   private InternalTaskanaEngine taskanaEngine;
+  private ClassificationCache classificationCache;
+  private IdGenerationStrategy idGenerationStrategy;
 
   public ClassificationServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       ClassificationMapper classificationMapper,
-      TaskMapper taskMapper) {
+      TaskMapper taskMapper,
+      ClassificationCache classificationCache) {
     this.taskanaEngine = taskanaEngine;
     this.classificationMapper = classificationMapper;
     this.taskMapper = taskMapper;
+    this.classificationCache = classificationCache;
+    this.idGenerationStrategy = taskanaEngine.getIdGenerationStrategy();
   }
 
   @Override
@@ -61,22 +70,27 @@ public class ClassificationServiceImpl implements ClassificationService {
           null, domain, "Classification for null key and domain " + domain + " was not found.");
     }
 
-    Classification result = null;
-    try {
-      taskanaEngine.openConnection();
-      result = classificationMapper.findByKeyAndDomain(key, domain);
-      if (result == null) {
-        result = classificationMapper.findByKeyAndDomain(key, "");
+    validateCache();
+    ClassificationImpl result = classificationCache.getByKeyAndDomain(key, domain);
+    if (result == null && !classificationCache.isMissingByKeyAndDomain(key, domain)) {
+      try {
+        taskanaEngine.openConnection();
+        result = findByKeyAndDomainOrMasterDomain(key, domain);
         if (result == null) {
-          throw new ClassificationNotFoundException(
-              key, domain, "Classification for key = " + key + " and master domain was not found");
+          classificationCache.putMissingByKeyAndDomain(key, domain);
+        } else {
+          classificationCache.putByKeyAndDomain(key, domain, result);
         }
+      } finally {
+        taskanaEngine.returnConnection();
       }
-      return result;
-    } finally {
-      taskanaEngine.returnConnection();
-      LOGGER.debug("exit from getClassification(). Returning result {} ", result);
     }
+    if (result == null) {
+      throw new ClassificationNotFoundException(
+          key, domain, "Classification for key = " + key + " and master domain was not found");
+    }
+    LOGGER.debug("exit from getClassification(). Returning result {} ", result);
+    return result;
   }
 
   @Override
@@ -85,21 +99,90 @@ public class ClassificationServiceImpl implements ClassificationService {
       throw new ClassificationNotFoundException(null, "Classification for null id is invalid.");
     }
     LOGGER.debug("entry to getClassification(id = {})", id);
-    Classification result = null;
+    validateCache();
+    ClassificationImpl result = classificationCache.getById(id);
+    if (result == null && !classificationCache.isMissingById(id)) {
+      try {
+        taskanaEngine.openConnection();
+        result = classificationMapper.findById(id);
+        if (result == null) {
+          classificationCache.putMissingById(id);
+        } else {
+          classificationCache.putById(id, result);
+        }
+      } finally {
+        taskanaEngine.returnConnection();
+      }
+    }
+    if (result == null) {
+      throw new ClassificationNotFoundException(
+          id, "Classification for id " + id + " was not found");
+    }
+    LOGGER.debug("exit from getClassification(). Returning result {} ", result);
+    return result;
+  }
+
+  @Override
+  public List<Classification> getClassifications(List<String> ids) {
+    LOGGER.debug("entry to getClassifications(ids = {})", ids);
+    List<Classification> result = new ArrayList<>();
     try {
       taskanaEngine.openConnection();
-      result = classificationMapper.findById(id);
-      if (result == null) {
-        throw new ClassificationNotFoundException(
-            id, "Classification for id " + id + " was not found");
+      for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+        result.addAll(
+            classificationMapper.findByIds(
+                ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()))));
       }
       return result;
     } finally {
       taskanaEngine.returnConnection();
-      LOGGER.debug("exit from getClassification(). Returning result {} ", result);
+      LOGGER.debug("exit from getClassifications(). Returning {} classifications", result.size());
     }
   }
 
+  /**
+   * Returns the summaries of the classifications with the given ids. If the classification cache
+   * is enabled, only the classifications which are not cached are read from the database.
+   *
+   * @param ids the ids of the classifications
+   * @return the summaries of the existing classifications
+   */
+  public List<ClassificationSummary> getClassificationSummaries(Collection<String> ids) {
+    LOGGER.debug("entry to getClassificationSummaries(ids = {})", ids);
+    if (!classificationCache.isEnabled() || ids.isEmpty()) {
+      return createClassificationQuery().idIn(ids.toArray(new String[0])).list();
+    }
+    validateCache();
+    List<ClassificationSummary> result = new ArrayList<>();
+    List<String> missingIds = new ArrayList<>();
+    for (String id : ids) {
+      ClassificationImpl classification = classificationCache.getById(id);
+      if (classification != null) {
+        result.add(classification.asSummary());
+      } else if (!classificationCache.isMissingById(id)) {
+        missingIds.add(id);
+      }
+    }
+    if (!missingIds.isEmpty()) {
+      List<Classification> classifications = getClassifications(missingIds);
+      for (Classification classification : classifications) {
+        classificationCache.putById(classification.getId(), (ClassificationImpl) classification);
+        result.add(classification.asSummary());
+      }
+      if (classifications.size() < missingIds.size()) {
+        Set<String> foundIds =
+            classifications.stream().map(Classification::getId).collect(Collectors.toSet());
+        missingIds.stream()
+            .filter(id -> !foundIds.contains(id))
+            .forEach(classificationCache::putMissingById);
+      }
+    }
+    LOGGER.debug(
+        "exit from getClassificationSummaries(). {} classifications were read from the database",
+        missingIds.size());
+    return result;
+  }
+
   @Override
   public void deleteClassification(String classificationId)
       throws ClassificationInUseException, ClassificationNotFoundException, NotAuthorizedException {
@@ -132,6 +215,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       try {
         this.classificationMapper.deleteClassification(classificationId);
+        invalidateClassificationCache();
       } catch (PersistenceException e) {
         if (isReferentialIntegrityConstraintViolation(e)) {
           throw new ClassificationInUseException(
@@ -209,6 +293,7 @@ public class ClassificationServiceImpl implements ClassificationService {
       if (!classification.getDomain().isEmpty()) {
         addClassificationToMasterDomain(classificationImpl);
       }
+      invalidateClassificationCache();
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from createClassification()");
@@ -242,6 +327,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       this.checkExistenceOfParentClassification(oldClassification, classificationImpl);
       classificationMapper.update(classificationImpl);
+      invalidateClassificationCache();
       this.createJobIfPriorityOrServiceLevelHasChanged(oldClassification, classificationImpl);
 
       LOGGER.debug(
@@ -336,7 +422,8 @@ public class ClassificationServiceImpl implements ClassificationService {
     if (!Objects.equals(classification.getDomain(), "")) {
       boolean doesExist = true;
       ClassificationImpl masterClassification = classification.copy(classification.getKey());
-      masterClassification.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION));
+      masterClassification.setId(
+          IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION, idGenerationStrategy));
       masterClassification.setParentKey(classification.getParentKey());
       masterClassification.setDomain("");
       masterClassification.setIsValidInDomain(false);
@@ -381,7 +468,8 @@ public class ClassificationServiceImpl implements ClassificationService {
       throws InvalidArgumentException {
     Instant now = Instant.now();
     if (classification.getId() == null || "".equals(classification.getId())) {
-      classification.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION));
+      classification.setId(
+          IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION, idGenerationStrategy));
     }
 
     if (classification.getCreated() == null) {
@@ -443,6 +531,28 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  private ClassificationImpl findByKeyAndDomainOrMasterDomain(String key, String domain) {
+    ClassificationImpl classification = classificationMapper.findByKeyAndDomain(key, domain);
+    if (classification == null) {
+      classification = classificationMapper.findByKeyAndDomain(key, "");
+    }
+    return classification;
+  }
+
+  /**
+   * Invalidates the classification cache now, so that this call sees its own changes, and again
+   * after the commit, because other sessions may have cached the old classifications meanwhile.
+   */
+  private void invalidateClassificationCache() {
+    classificationCache.invalidateAll();
+    taskanaEngine.executeAfterCommit(classificationCache::invalidateAll);
+  }
+
+  private void validateCache() {
+    classificationCache.validate(
+        () -> taskanaEngine.openAndReturnConnection(classificationMapper::findVersionStamp));
+  }
+
   private boolean doesClassificationExist(String key, String domain) {
     boolean isExisting = false;
     try {
@@ -484,8 +594,18 @@ public class ClassificationServiceImpl implements ClassificationService {
   private Classification getExistingClassificationAndVerifyTimestampHasNotChanged(
       ClassificationImpl classificationImpl)
       throws ConcurrencyException, ClassificationNotFoundException {
+    // the cache must not be used here, because it might not know about concurrent modifications
     Classification oldClassification =
-        this.getClassification(classificationImpl.getKey(), classificationImpl.getDomain());
+        findByKeyAndDomainOrMasterDomain(
+            classificationImpl.getKey(), classificationImpl.getDomain());
+    if (oldClassification == null) {
+      throw new ClassificationNotFoundException(
+          classificationImpl.getKey(),
+          classificationImpl.getDomain(),
+          "Classification for key = "
+              + classificationImpl.getKey()
+              + " and master domain was not found");
+    }
     if (!oldClassification.getModified().equals(classificationImpl.getModified())) {
       throw new ConcurrencyException(
           "The current Classification has been modified while editing. "
@@ -496,25 +616,23 @@ public class ClassificationServiceImpl implements ClassificationService {
   }
 
   /**
-   * Update classification fields used by tasks.
+   * Update classification fields used by tasks. The category is changed with one set based
+   * statement, so the tasks are neither read nor limited by the size of an IN list.
    *
    * @param classificationImpl the new classification
    * @param oldClassification the old classification
    */
   private void updateCategoryOnAssociatedTasks(
       ClassificationImpl classificationImpl, Classification oldClassification) {
-    List<TaskSummary> taskSummaries =
-        taskanaEngine
-            .getEngine()
-            .getTaskService()
-            .createTaskQuery()
-            .classificationIdIn(oldClassification.getId())
-            .list();
-
-    if (!taskSummaries.isEmpty()) {
-      List<String> taskIds = new ArrayList<>();
-      taskSummaries.forEach(ts -> taskIds.add(ts.getId()));
-      taskMapper.updateClassificationCategoryOnChange(taskIds, classificationImpl.getCategory());
+    int updatedTasks =
+        taskMapper.updateClassificationCategoryOnChange(
+            oldClassification.getId(), classificationImpl.getCategory());
+    LOGGER.debug(
+        "updateCategoryOnAssociatedTasks() changed the category of {} tasks to {}",
+        updatedTasks,
+        classificationImpl.getCategory());
+    if (updatedTasks > 0) {
+      taskanaEngine.getTaskCountStore().invalidate();
     }
   }
 
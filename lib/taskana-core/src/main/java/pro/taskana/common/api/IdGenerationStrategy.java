@@ -0,0 +1,13 @@
+package pro.taskana.common.api;
+
+/** Determines how the ids of new entities are generated. */
+public enum IdGenerationStrategy {
+  /** The id is the prefix followed by a random UUID. */
+  RANDOM,
+  /**
+   * The id is the prefix followed by a UUID whose leading bits are the creation time. Ids which
+   * are generated later sort after the ones generated before, so new rows are appended to the
+   * primary key indexes instead of being spread over them.
+   */
+  TIME_ORDERED
+}
@@ -175,6 +175,7 @@ public class ScheduledJob {
     CLASSIFICATIONCHANGEDJOB,
     UPDATETASKSJOB,
     TASKCLEANUPJOB,
-    WORKBASKETCLEANUPJOB;
+    WORKBASKETCLEANUPJOB,
+    HISTORYCLEANUPJOB;
   }
 }
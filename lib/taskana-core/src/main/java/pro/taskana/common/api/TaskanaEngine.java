@@ -77,8 +77,9 @@ public interface TaskanaEngine {
    * Set the connection to be used by taskana in mode CONNECTION_MANAGED_EXTERNALLY. If this Api is
    * called, taskana uses the connection passed by the client for all subsequent API calls until the
    * client resets this connection. Control over commit and rollback of the connection is the
-   * responsibility of the client. In order to close the connection, closeConnection() or
-   * setConnection(null) has to be called.
+   * responsibility of the client, which should use commitConnection() and rollbackConnection() for
+   * it. In order to close the connection, closeConnection() or setConnection(null) has to be
+   * called.
    *
    * @param connection - The java.sql.Connection that is controlled by the client
    * @throws SQLException if a database access error occurs
@@ -91,6 +92,24 @@ public interface TaskanaEngine {
    */
   void closeConnection();
 
+  /**
+   * Commits the client's connection and then executes the actions TASKANA postponed until the
+   * commit, e.g. the invalidation of its caches. Only applicable in mode EXPLICIT. If the client
+   * commits the connection itself, these actions are discarded when the connection is closed or
+   * replaced, and the caches of TASKANA may return outdated entries until they expire.
+   *
+   * @throws SQLException if a database access error occurs
+   */
+  void commitConnection() throws SQLException;
+
+  /**
+   * Rolls back the client's connection and discards the actions TASKANA postponed until the commit.
+   * Only applicable in mode EXPLICIT.
+   *
+   * @throws SQLException if a database access error occurs
+   */
+  void rollbackConnection() throws SQLException;
+
   /**
    * check whether the current user is member of one of the roles specified.
    *
@@ -0,0 +1,103 @@
+package pro.taskana.common.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how often a {@link TaskanaEngineImpl} binds a database connection and how many SQL
+ * statements it prepares. A call is the outermost openConnection() / returnConnection() pair, which
+ * usually is one call of the public API. The counters allow tests to detect regressions in the
+ * number of round trips to the database.
+ */
+public final class ConnectionStatistics {
+
+  private final AtomicLong callCount = new AtomicLong();
+  private final AtomicLong connectionAcquisitionCount = new AtomicLong();
+  private final AtomicLong schemaSetCount = new AtomicLong();
+  private final AtomicLong statementCount = new AtomicLong();
+  private final AtomicLong maxStatementsPerCall = new AtomicLong();
+  private final ThreadLocal<long[]> statementsOfCurrentCall =
+      ThreadLocal.withInitial(() -> new long[2]);
+
+  public long getCallCount() {
+    return callCount.get();
+  }
+
+  public long getConnectionAcquisitionCount() {
+    return connectionAcquisitionCount.get();
+  }
+
+  public long getSchemaSetCount() {
+    return schemaSetCount.get();
+  }
+
+  public long getStatementCount() {
+    return statementCount.get();
+  }
+
+  public long getMaxStatementsPerCall() {
+    return maxStatementsPerCall.get();
+  }
+
+  /**
+   * Returns the number of statements, which were prepared during the last finished call of the
+   * current thread.
+   *
+   * @return the number of statements of the last call
+   */
+  public long getStatementCountOfLastCall() {
+    return statementsOfCurrentCall.get()[1];
+  }
+
+  /** Sets all counters to 0. */
+  public void reset() {
+    callCount.set(0);
+    connectionAcquisitionCount.set(0);
+    schemaSetCount.set(0);
+    statementCount.set(0);
+    maxStatementsPerCall.set(0);
+    long[] counters = statementsOfCurrentCall.get();
+    counters[0] = 0;
+    counters[1] = 0;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionStatistics [callCount="
+        + callCount
+        + ", connectionAcquisitionCount="
+        + connectionAcquisitionCount
+        + ", schemaSetCount="
+        + schemaSetCount
+        + ", statementCount="
+        + statementCount
+        + ", maxStatementsPerCall="
+        + maxStatementsPerCall
+        + "]";
+  }
+
+  void callStarted() {
+    callCount.incrementAndGet();
+    statementsOfCurrentCall.get()[0] = 0;
+  }
+
+  void callFinished() {
+    long[] counters = statementsOfCurrentCall.get();
+    counters[1] = counters[0];
+    counters[0] = 0;
+    maxStatementsPerCall.accumulateAndGet(counters[1], Math::max);
+  }
+
+  void connectionAcquired() {
+    connectionAcquisitionCount.incrementAndGet();
+  }
+
+  void schemaSet() {
+    schemaSetCount.incrementAndGet();
+  }
+
+  /** Is invoked by the {@link StatementCountInterceptor} for every prepared statement. */
+  void statementPrepared() {
+    statementCount.incrementAndGet();
+    statementsOfCurrentCall.get()[0]++;
+  }
+}
@@ -3,7 +3,10 @@ package pro.taskana.common.internal;
 import java.util.function.Supplier;
 import org.apache.ibatis.session.SqlSession;
 
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
+import pro.taskana.monitor.internal.TaskCountStore;
 import pro.taskana.spi.history.internal.HistoryEventProducer;
 import pro.taskana.task.internal.TaskRoutingManager;
 
@@ -37,6 +40,26 @@ public interface InternalTaskanaEngine {
    */
   <T> T openAndReturnConnection(Supplier<T> supplier);
 
+  /**
+   * Registers an action which is executed once the changes of the current Api call have been
+   * committed. In mode AUTOCOMMIT the action is executed after the outermost call has committed and
+   * it is discarded if the commit fails. In mode EXPLICIT it is executed when the client commits
+   * with {@link TaskanaEngine#commitConnection()} and discarded on a rollback. In mode PARTICIPATE
+   * it is executed after the commit of the surrounding transaction if the engine knows this
+   * transaction (e.g. the Spring engine). Otherwise it is executed when the outermost call returns,
+   * i.e. possibly before the surrounding transaction commits.
+   *
+   * @param action the action to execute, e.g. the invalidation of a cache
+   */
+  void executeAfterCommit(Runnable action);
+
+  /**
+   * Rolls back the changes of the current Api call in mode AUTOCOMMIT and discards the actions
+   * registered with {@link #executeAfterCommit(Runnable)}. In the other modes the caller owns the
+   * transaction and has to roll it back.
+   */
+  void rollbackIfAutocommit();
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession();
 
@@ -76,6 +99,28 @@ public interface InternalTaskanaEngine {
    */
   TaskRoutingManager getTaskRoutingManager();
 
+  /**
+   * Retrieve the engine wide TaskCountStore.
+   *
+   * @return the TaskCountStore instance.
+   */
+  TaskCountStore getTaskCountStore();
+
+  /**
+   * Retrieve the strategy which this engine uses to generate the ids of new entities.
+   *
+   * @return the IdGenerationStrategy of the engine's configuration.
+   */
+  IdGenerationStrategy getIdGenerationStrategy();
+
+  /**
+   * Retrieve the WorkingDaysCalendar of this engine. It is built from the holidays of the engine's
+   * configuration and is built again when these holidays are changed.
+   *
+   * @return the WorkingDaysCalendar of this engine.
+   */
+  WorkingDaysCalendar getWorkingDaysCalendar();
+
   /**
    * This method is supposed to skip further permission checks if we are already in a secured
    * environment. With great power comes great responsibility.
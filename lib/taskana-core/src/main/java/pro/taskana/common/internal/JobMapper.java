@@ -1,5 +1,7 @@
 package pro.taskana.common.internal;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Delete;
@@ -60,6 +62,67 @@ public interface JobMapper {
       })
   List<ScheduledJob> findJobsToRun();
 
+  /**
+   * Selects the next jobs which can be claimed. On Postgres and DB2 rows which are locked by
+   * another transaction are skipped, so that several nodes can claim jobs at the same time without
+   * waiting for each other. The claim itself is done by {@link #claimJob}.
+   */
+  @Select(
+      "<script> SELECT JOB_ID, PRIORITY, CREATED, DUE, STATE, LOCKED_BY, LOCK_EXPIRES, TYPE, RETRY_COUNT, ARGUMENTS "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND (DUE is null OR DUE &lt; #{now}) AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; #{now}) AND RETRY_COUNT > 0 "
+          + "<if test='excludedTypes != null and !excludedTypes.isEmpty()'>AND TYPE NOT IN (<foreach item='item' collection='excludedTypes' separator=',' >#{item}</foreach>) </if>"
+          + "ORDER BY PRIORITY DESC, JOB_ID ASC "
+          + "FETCH FIRST ${limit} ROWS ONLY "
+          + "<if test=\"_databaseId == 'postgres'\">FOR UPDATE SKIP LOCKED </if> "
+          + "<if test=\"_databaseId == 'db2'\">WITH RS USE AND KEEP UPDATE LOCKS SKIP LOCKED DATA </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "jobId", column = "JOB_ID"),
+        @Result(property = "priority", column = "PRIORITY"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "due", column = "DUE"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "lockedBy", column = "LOCKED_BY"),
+        @Result(property = "lockExpires", column = "LOCK_EXPIRES"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "retryCount", column = "RETRY_COUNT"),
+        @Result(
+            property = "arguments",
+            column = "ARGUMENTS",
+            javaType = Map.class,
+            typeHandler = MapTypeHandler.class)
+      })
+  List<ScheduledJob> findJobsToClaim(
+      @Param("now") Instant now,
+      @Param("excludedTypes") Collection<ScheduledJob.Type> excludedTypes,
+      @Param("limit") int limit);
+
+  /**
+   * Claims a job for the given owner. The update only succeeds if the job has not been claimed by
+   * someone else in the meantime or if the lock of the previous owner has expired.
+   *
+   * @return 1 if the job was claimed, 0 otherwise
+   */
+  @Update(
+      "UPDATE SCHEDULED_JOB SET LOCKED_BY = #{owner}, LOCK_EXPIRES = #{lockExpires}, RETRY_COUNT = RETRY_COUNT - 1 "
+          + "WHERE JOB_ID = #{jobId} AND STATE = 'READY' AND RETRY_COUNT > 0 AND (LOCK_EXPIRES is null OR LOCK_EXPIRES < #{now})")
+  int claimJob(
+      @Param("jobId") Integer jobId,
+      @Param("owner") String owner,
+      @Param("lockExpires") Instant lockExpires,
+      @Param("now") Instant now);
+
+  @Update(
+      "<script>UPDATE SCHEDULED_JOB SET LOCK_EXPIRES = #{lockExpires} "
+          + "WHERE LOCKED_BY = #{owner} AND JOB_ID IN(<foreach item='item' collection='jobIds' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  int renewLocks(
+      @Param("jobIds") Collection<Integer> jobIds,
+      @Param("owner") String owner,
+      @Param("lockExpires") Instant lockExpires);
+
   @Update(
       value =
           "UPDATE SCHEDULED_JOB SET CREATED = #{created}, PRIORITY = #{priority}, DUE = #{due}, STATE = #{state}, "
@@ -1,6 +1,9 @@
 package pro.taskana.common.internal;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +47,7 @@ public class JobServiceImpl implements JobService {
     try {
       taskanaEngineImpl.openConnection();
       job.setLockedBy(owner);
-      job.setLockExpires(Instant.now().plusMillis(DEFAULT_LOCK_EXPIRATION_PERIOD));
+      job.setLockExpires(Instant.now().plus(getLockExpirationPeriod()));
       job.setRetryCount(job.getRetryCount() - 1);
       jobMapper.update(job);
       LOGGER.debug("Job {} locked. Remaining retries: {}", job.getJobId(), job.getRetryCount());
@@ -55,6 +58,63 @@ public class JobServiceImpl implements JobService {
     return job;
   }
 
+  /**
+   * Claims up to maxJobs due jobs for the given owner. Every claimed job is locked until the lock
+   * expiration period has passed, so that jobs of a node which died while running them are picked
+   * up again by other nodes. Jobs which are claimed by another node at the same time are skipped.
+   *
+   * @param owner the identifier of the claiming job runner
+   * @param maxJobs the maximum number of jobs to claim
+   * @param excludedTypes job types which must not be claimed
+   * @return the claimed jobs
+   */
+  public List<ScheduledJob> claimJobs(
+      String owner, int maxJobs, Collection<ScheduledJob.Type> excludedTypes) {
+    LOGGER.debug(
+        "entry to claimJobs(owner = {}, maxJobs = {}, excludedTypes = {})",
+        owner,
+        maxJobs,
+        excludedTypes);
+    List<ScheduledJob> claimedJobs = new ArrayList<>();
+    try {
+      taskanaEngineImpl.openConnection();
+      Instant now = Instant.now();
+      Instant lockExpires = now.plus(getLockExpirationPeriod());
+      for (ScheduledJob job : jobMapper.findJobsToClaim(now, excludedTypes, maxJobs)) {
+        if (jobMapper.claimJob(job.getJobId(), owner, lockExpires, now) == 1) {
+          job.setLockedBy(owner);
+          job.setLockExpires(lockExpires);
+          job.setRetryCount(job.getRetryCount() - 1);
+          claimedJobs.add(job);
+        }
+      }
+      return claimedJobs;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from claimJobs(), returning {}", claimedJobs);
+    }
+  }
+
+  /**
+   * Extends the locks of jobs which are still running, so that they are not claimed by another
+   * node.
+   *
+   * @param owner the identifier of the job runner which holds the locks
+   * @param jobIds the ids of the running jobs
+   */
+  public void renewLocks(String owner, Collection<Integer> jobIds) {
+    LOGGER.debug("entry to renewLocks(owner = {}, jobIds = {})", owner, jobIds);
+    try {
+      taskanaEngineImpl.openConnection();
+      if (!jobIds.isEmpty()) {
+        jobMapper.renewLocks(jobIds, owner, Instant.now().plus(getLockExpirationPeriod()));
+      }
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from renewLocks()");
+    }
+  }
+
   public List<ScheduledJob> findJobsToRun() {
     LOGGER.debug("entry to findJobsToRun");
     List<ScheduledJob> availableJobs;
@@ -81,6 +141,10 @@ public class JobServiceImpl implements JobService {
     }
   }
 
+  private Duration getLockExpirationPeriod() {
+    return taskanaEngineImpl.getEngine().getConfiguration().getJobLockExpirationPeriod();
+  }
+
   private ScheduledJob initializeJobDefault(ScheduledJob job) {
     LOGGER.debug("entry to initializeJobDefault(job = {})", job);
     job.setCreated(Instant.now());
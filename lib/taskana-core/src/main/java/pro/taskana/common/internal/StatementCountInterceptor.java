@@ -0,0 +1,32 @@
+package pro.taskana.common.internal;
+
+import java.sql.Connection;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * MyBatis plugin, which counts every JDBC statement prepared by the engine. Queries answered from
+ * the local session cache do not prepare a statement and are therefore not counted.
+ */
+@Intercepts(
+    @Signature(
+        type = StatementHandler.class,
+        method = "prepare",
+        args = {Connection.class, Integer.class}))
+class StatementCountInterceptor implements Interceptor {
+
+  private final ConnectionStatistics connectionStatistics;
+
+  StatementCountInterceptor(ConnectionStatistics connectionStatistics) {
+    this.connectionStatistics = connectionStatistics;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    connectionStatistics.statementPrepared();
+    return invocation.proceed();
+  }
+}
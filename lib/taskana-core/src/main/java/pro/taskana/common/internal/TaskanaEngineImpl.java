@@ -6,11 +6,12 @@ import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
-import java.util.ArrayDeque;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
 import java.util.Set;
 import java.util.function.Supplier;
 import javax.security.auth.Subject;
@@ -29,9 +30,11 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.internal.ClassificationCache;
 import pro.taskana.classification.internal.ClassificationMapper;
 import pro.taskana.classification.internal.ClassificationQueryMapper;
 import pro.taskana.classification.internal.ClassificationServiceImpl;
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.JobService;
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.TaskanaEngine;
@@ -44,11 +47,14 @@ import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
+import pro.taskana.common.internal.persistence.QueryTemplateLanguageDriver;
 import pro.taskana.common.internal.security.CurrentUserContext;
 import pro.taskana.common.internal.security.GroupPrincipal;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.TaskCountStore;
 import pro.taskana.spi.history.internal.HistoryEventProducer;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.internal.AttachmentMapper;
@@ -62,6 +68,7 @@ import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
@@ -70,7 +77,6 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
   private static final String DEFAULT = "default";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineImpl.class);
-  private static SessionStack sessionStack = new SessionStack();
   protected TaskanaEngineConfiguration taskanaEngineConfiguration;
   protected TransactionFactory transactionFactory;
   protected SqlSessionManager sessionManager;
@@ -78,14 +84,44 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   protected java.sql.Connection connection = null;
   private HistoryEventProducer historyEventProducer;
   private TaskRoutingManager taskRoutingManager;
+  private WorkbasketPermissionCache workbasketPermissionCache;
+  private ClassificationCache classificationCache;
+  private TaskCountStore taskCountStore;
+  private volatile WorkingDaysCalendar workingDaysCalendar;
   private InternalTaskanaEngineImpl internalTaskanaEngineImpl;
+  private final ConnectionStatistics connectionStatistics;
+  private final SessionDepth sessionDepth = new SessionDepth();
+  private final ThreadLocal<List<Runnable>> afterCommitActions =
+      ThreadLocal.withInitial(ArrayList::new);
 
   protected TaskanaEngineImpl(TaskanaEngineConfiguration taskanaEngineConfiguration) {
     this.taskanaEngineConfiguration = taskanaEngineConfiguration;
+    connectionStatistics =
+        taskanaEngineConfiguration.isConnectionStatisticsEnabled()
+            ? new ConnectionStatistics()
+            : null;
     createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
     this.sessionManager = createSqlSessionManager();
     historyEventProducer = HistoryEventProducer.getInstance(taskanaEngineConfiguration);
-    taskRoutingManager = TaskRoutingManager.getInstance(this);
+    taskRoutingManager = new TaskRoutingManager(this);
+    workbasketPermissionCache =
+        new WorkbasketPermissionCache(
+            taskanaEngineConfiguration.isWorkbasketPermissionCacheEnabled(),
+            taskanaEngineConfiguration.getWorkbasketPermissionCacheMaxSize(),
+            taskanaEngineConfiguration.getWorkbasketPermissionCacheTimeToLive());
+    classificationCache =
+        new ClassificationCache(
+            taskanaEngineConfiguration.isClassificationCacheEnabled(),
+            taskanaEngineConfiguration.getClassificationCacheMaxSize(),
+            taskanaEngineConfiguration.getClassificationCacheTimeToLive(),
+            taskanaEngineConfiguration.getClassificationCacheVersionCheckInterval());
+    // postgres computes the age of a task from the exact duration, not from calendar days
+    taskCountStore =
+        new TaskCountStore(
+            taskanaEngineConfiguration.isTaskCountStoreEnabled(),
+            taskanaEngineConfiguration.getTaskCountStoreReconciliationInterval(),
+            !DB.POSTGRESS.dbProductId.equals(sessionManager.getConfiguration().getDatabaseId()),
+            action -> internalTaskanaEngineImpl.executeAfterCommit(action));
     this.internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
   }
 
@@ -108,7 +144,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   public MonitorService getMonitorService() {
     SqlSession session = this.sessionManager;
     return new MonitorServiceImpl(
-        internalTaskanaEngineImpl, session.getMapper(MonitorMapper.class));
+        internalTaskanaEngineImpl, session.getMapper(MonitorMapper.class), taskCountStore);
   }
 
   @Override
@@ -118,7 +154,8 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         internalTaskanaEngineImpl,
         session.getMapper(WorkbasketMapper.class),
         session.getMapper(DistributionTargetMapper.class),
-        session.getMapper(WorkbasketAccessMapper.class));
+        session.getMapper(WorkbasketAccessMapper.class),
+        workbasketPermissionCache);
   }
 
   @Override
@@ -127,7 +164,8 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return new ClassificationServiceImpl(
         internalTaskanaEngineImpl,
         session.getMapper(ClassificationMapper.class),
-        session.getMapper(TaskMapper.class));
+        session.getMapper(TaskMapper.class),
+        classificationCache);
   }
 
   @Override
@@ -141,6 +179,16 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return this.taskanaEngineConfiguration;
   }
 
+  /**
+   * Returns the counters of connection acquisitions and prepared statements of this engine. They
+   * are only maintained if {@link TaskanaEngineConfiguration#isConnectionStatisticsEnabled()}.
+   *
+   * @return the {@link ConnectionStatistics} of this engine or null, if they are disabled
+   */
+  public ConnectionStatistics getConnectionStatistics() {
+    return connectionStatistics;
+  }
+
   @Override
   public boolean isHistoryEnabled() {
     return HistoryEventProducer.isHistoryEnabled();
@@ -155,6 +203,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         sessionManager.close();
       }
       connection = null;
+      afterCommitActions.remove();
     }
     this.mode = mode;
   }
@@ -162,6 +211,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   @Override
   public void setConnection(java.sql.Connection connection) throws SQLException {
     if (connection != null) {
+      afterCommitActions.remove();
       this.connection = connection;
       // disabling auto commit for passed connection in order to gain full control over the
       // connection management
@@ -181,10 +231,27 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       if (sessionManager.isManagedSessionStarted()) {
         sessionManager.close();
       }
+      afterCommitActions.remove();
       mode = ConnectionManagementMode.PARTICIPATE;
     }
   }
 
+  @Override
+  public void commitConnection() throws SQLException {
+    if (this.mode == ConnectionManagementMode.EXPLICIT && connection != null) {
+      connection.commit();
+      runAfterCommitActions();
+    }
+  }
+
+  @Override
+  public void rollbackConnection() throws SQLException {
+    if (this.mode == ConnectionManagementMode.EXPLICIT && connection != null) {
+      afterCommitActions.remove();
+      connection.rollback();
+    }
+  }
+
   @Override
   public boolean isUserInRole(TaskanaRole... roles) {
     if (!getConfiguration().isSecurityEnabled()) {
@@ -248,10 +315,26 @@ public class TaskanaEngineImpl implements TaskanaEngine {
           e.getCause());
     }
 
+    // the fetch size lets the drivers read large (streamed) results in portions
+    if (taskanaEngineConfiguration.getQueryFetchSize() > 0) {
+      configuration.setDefaultFetchSize(taskanaEngineConfiguration.getQueryFetchSize());
+    }
+
+    // the language driver of the task queries reads the size of its template cache from here
+    Properties variables = new Properties();
+    variables.setProperty(
+        QueryTemplateLanguageDriver.MAX_TEMPLATES_VARIABLE,
+        String.valueOf(taskanaEngineConfiguration.getQueryTemplateCacheSize()));
+    configuration.setVariables(variables);
+
     // register type handlers
     configuration.getTypeHandlerRegistry().register(new MapTypeHandler());
     configuration.getTypeHandlerRegistry().register(Instant.class, new InstantTypeHandler());
     configuration.getTypeHandlerRegistry().register(JdbcType.TIMESTAMP, new InstantTypeHandler());
+    // count the prepared statements
+    if (connectionStatistics != null) {
+      configuration.addInterceptor(new StatementCountInterceptor(connectionStatistics));
+    }
     // add mappers
     configuration.addMapper(TaskMapper.class);
     configuration.addMapper(MonitorMapper.class);
@@ -270,6 +353,26 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return SqlSessionManager.newInstance(localSessionFactory);
   }
 
+  /**
+   * Registers an action to be executed after the commit of the transaction TASKANA participates in
+   * (mode PARTICIPATE). TASKANA itself does not know this transaction, so subclasses which do know
+   * it override this method.
+   *
+   * @param action the action to execute after the commit
+   * @return true, if the action has been registered with the surrounding transaction
+   */
+  protected boolean executeAfterCommitOfSurroundingTransaction(Runnable action) {
+    return false;
+  }
+
+  private void runAfterCommitActions() {
+    List<Runnable> actions = afterCommitActions.get();
+    if (!actions.isEmpty()) {
+      afterCommitActions.remove();
+      actions.forEach(Runnable::run);
+    }
+  }
+
   /**
    * creates the MyBatis transaction factory.
    *
@@ -284,44 +387,28 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   }
 
   /**
-   * With sessionStack, we maintain a Stack of SqlSessionManager objects on a per thread basis.
-   * SqlSessionManager is the MyBatis object that wraps database connections. The purpose of this
-   * stack is to keep track of nested calls. Each external API call is wrapped into
-   * taskanaEngineImpl.openConnection(); ..... taskanaEngineImpl.returnConnection(); calls. In order
-   * to avoid duplicate opening / closing of connections, we use the sessionStack in the following
-   * way: Each time, an openConnection call is received, we push the current sessionManager onto the
-   * stack. On the first call to openConnection, we call sessionManager.startManagedSession() to
-   * open a database connection. On each call to returnConnection() we pop one instance of
-   * sessionManager from the stack. When the stack becomes empty, we close the database connection
-   * by calling sessionManager.close().
+   * With SessionDepth, we keep track of nested calls on a per thread basis. Each external API call
+   * is wrapped into taskanaEngineImpl.openConnection(); ..... taskanaEngineImpl.returnConnection();
+   * calls. In order to avoid duplicate opening / closing of connections, we count these calls: On
+   * the first call to openConnection, we call sessionManager.startManagedSession() to open a
+   * database connection and set the schema on it. Nested calls only increment the depth. On each
+   * call to returnConnection() we decrement the depth. When it becomes 0, we close the database
+   * connection by calling sessionManager.close().
    */
-  private static class SessionStack {
-
-    private ThreadLocal<Deque<SqlSessionManager>> sessionStack = new ThreadLocal<>();
-
-    /**
-     * Get latest SqlSession from session stack.
-     *
-     * @return Stack of SqlSessionManager
-     */
-    private Deque<SqlSessionManager> getSessionStack() {
-      Deque<SqlSessionManager> stack = sessionStack.get();
-      if (stack == null) {
-        stack = new ArrayDeque<>();
-        sessionStack.set(stack);
-      }
-      return stack;
-    }
+  private static class SessionDepth {
+
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
 
-    private void pushSessionToStack(SqlSessionManager session) {
-      getSessionStack().push(session);
+    private int increment() {
+      return depth.get()[0]++;
     }
 
-    private void popSessionFromStack() {
-      Deque<SqlSessionManager> stack = getSessionStack();
-      if (!stack.isEmpty()) {
-        stack.pop();
+    private int decrement() {
+      int[] counter = depth.get();
+      if (counter[0] > 0) {
+        counter[0]--;
       }
+      return counter[0];
     }
   }
 
@@ -330,36 +417,53 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     @Override
     public void openConnection() {
-      initSqlSession();
-      try {
-        sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
-      } catch (SQLException e) {
-        throw new SystemException(
-            "Method openConnection() could not open a connection "
-                + "to the database. No schema has been created.",
-            e.getCause());
+      if (mode == ConnectionManagementMode.EXPLICIT) {
+        // the schema has already been set on the connection in setConnection()
+        initSqlSession();
+        return;
+      }
+      if (!sessionManager.isManagedSessionStarted()) {
+        sessionManager.startManagedSession();
+        try {
+          sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
+        } catch (SQLException e) {
+          throw new SystemException(
+              "Method openConnection() could not open a connection "
+                  + "to the database. No schema has been created.",
+              e.getCause());
+        }
+        if (connectionStatistics != null) {
+          connectionStatistics.connectionAcquired();
+          connectionStatistics.schemaSet();
+        }
       }
-      if (mode != ConnectionManagementMode.EXPLICIT) {
-        sessionStack.pushSessionToStack(sessionManager);
+      if (sessionDepth.increment() == 0 && connectionStatistics != null) {
+        connectionStatistics.callStarted();
       }
     }
 
     @Override
     public void returnConnection() {
-      if (mode != ConnectionManagementMode.EXPLICIT) {
-        sessionStack.popSessionFromStack();
-        if (sessionStack.getSessionStack().isEmpty()
-            && sessionManager != null
-            && sessionManager.isManagedSessionStarted()) {
+      if (mode == ConnectionManagementMode.EXPLICIT) {
+        // the caller commits its connection and runs the actions with commitConnection()
+        return;
+      }
+      if (sessionDepth.decrement() == 0) {
+        if (sessionManager != null && sessionManager.isManagedSessionStarted()) {
+          if (connectionStatistics != null) {
+            connectionStatistics.callFinished();
+          }
           if (mode == ConnectionManagementMode.AUTOCOMMIT) {
             try {
               sessionManager.commit();
             } catch (Exception e) {
+              afterCommitActions.remove();
               throw new AutocommitFailedException(e.getCause());
             }
           }
           sessionManager.close();
         }
+        runAfterCommitActions();
       }
     }
 
@@ -374,6 +478,25 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public void executeAfterCommit(Runnable action) {
+      if (mode == ConnectionManagementMode.PARTICIPATE
+          && executeAfterCommitOfSurroundingTransaction(action)) {
+        return;
+      }
+      afterCommitActions.get().add(action);
+    }
+
+    @Override
+    public void rollbackIfAutocommit() {
+      if (mode == ConnectionManagementMode.AUTOCOMMIT
+          && sessionManager != null
+          && sessionManager.isManagedSessionStarted()) {
+        sessionManager.rollback();
+        afterCommitActions.remove();
+      }
+    }
+
     @Override
     public void initSqlSession() {
       if (mode == ConnectionManagementMode.EXPLICIT && connection == null) {
@@ -409,6 +532,29 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       return taskRoutingManager;
     }
 
+    @Override
+    public TaskCountStore getTaskCountStore() {
+      return taskCountStore;
+    }
+
+    @Override
+    public IdGenerationStrategy getIdGenerationStrategy() {
+      return taskanaEngineConfiguration.getIdGenerationStrategy();
+    }
+
+    @Override
+    public WorkingDaysCalendar getWorkingDaysCalendar() {
+      boolean germanPublicHolidaysEnabled =
+          taskanaEngineConfiguration.isGermanPublicHolidaysEnabled();
+      List<LocalDate> customHolidays = taskanaEngineConfiguration.getCustomHolidays();
+      WorkingDaysCalendar calendar = workingDaysCalendar;
+      if (calendar == null || !calendar.hasHolidays(germanPublicHolidaysEnabled, customHolidays)) {
+        calendar = WorkingDaysCalendar.of(germanPublicHolidaysEnabled, customHolidays);
+        workingDaysCalendar = calendar;
+      }
+      return calendar;
+    }
+
     @Override
     public <T> T runAsAdmin(Supplier<T> supplier) {
 
@@ -9,6 +9,7 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.spi.history.internal.HistoryEventProducer;
 
 /** Abstract base for all background jobs of TASKANA. */
 public abstract class AbstractTaskanaJob implements TaskanaJob {
@@ -38,6 +39,8 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
         return new TaskCleanupJob(engine, txProvider, job);
       case WORKBASKETCLEANUPJOB:
         return new WorkbasketCleanupJob(engine, txProvider, job);
+      case HISTORYCLEANUPJOB:
+        return createProvidedJob(engine, txProvider, job);
       default:
         throw new TaskanaException(
             "No matching job found for "
@@ -48,6 +51,45 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     }
   }
 
+  /**
+   * Initializes the schedule of a job, which is contributed by a {@link TaskanaJobProvider}.
+   *
+   * @param engine the TASKANA engine
+   * @param type the type of the job
+   * @return true, if a job provider for the type is registered and the job was scheduled
+   */
+  public static boolean initializeProvidedJobSchedule(
+      TaskanaEngine engine, ScheduledJob.Type type) {
+    TaskanaJobProvider jobProvider = getJobProvider(engine, type);
+    if (jobProvider == null) {
+      return false;
+    }
+    jobProvider.initializeJobSchedule(engine, type);
+    return true;
+  }
+
+  private static TaskanaJob createProvidedJob(
+      TaskanaEngine engine, TaskanaTransactionProvider<Object> txProvider, ScheduledJob job)
+      throws TaskanaException {
+    TaskanaJobProvider jobProvider = getJobProvider(engine, job.getType());
+    if (jobProvider == null) {
+      throw new TaskanaException(
+          "No job provider found for "
+              + job.getType()
+              + " of ScheduledJob "
+              + job.getJobId()
+              + ". Is the history provider on the classpath?");
+    }
+    return jobProvider.createJob(engine, txProvider, job);
+  }
+
+  private static TaskanaJobProvider getJobProvider(TaskanaEngine engine, ScheduledJob.Type type) {
+    return HistoryEventProducer.getInstance(engine.getConfiguration()).getJobProviders().stream()
+        .filter(jobProvider -> jobProvider.getJobTypes().contains(type))
+        .findFirst()
+        .orElse(null);
+  }
+
   <T> List<List<T>> partition(Collection<T> members, int maxSize) {
     List<List<T>> result = new ArrayList<>();
     List<T> internal = new ArrayList<>();
@@ -1,7 +1,7 @@
 package pro.taskana.common.internal.jobs;
 
+import java.time.Instant;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +10,7 @@ import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.internal.TaskServiceImpl;
 
 /**
@@ -23,6 +24,10 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
   public static final String CLASSIFICATION_ID = "classificationId";
   public static final String PRIORITY_CHANGED = "priorityChanged";
   public static final String SERVICE_LEVEL_CHANGED = "serviceLevelChanged";
+  public static final String FROM_PLANNED = "fromPlanned";
+  public static final String FROM_TASK_ID = "fromTaskId";
+  public static final String TO_PLANNED = "toPlanned";
+  public static final String TO_TASK_ID = "toTaskId";
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationChangedJob.class);
   private String classificationId;
   private boolean priorityChanged;
@@ -42,38 +47,68 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     LOGGER.info("Running ClassificationChangedJob for classification ({})", classificationId);
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      List<String> affectedTaskIds =
-          taskService.findTasksIdsAffectedByClassificationChange(classificationId);
-      if (!affectedTaskIds.isEmpty()) {
-        scheduleTaskRefreshJobs(affectedTaskIds);
-      }
+      scheduleTaskRefreshJobs(taskService);
       LOGGER.info("ClassificationChangedJob ended successfully.");
     } catch (Exception e) {
       throw new TaskanaException("Error while processing ClassificationChangedJob.", e);
     }
   }
 
-  private void scheduleTaskRefreshJobs(List<String> affectedTaskIds) {
+  /**
+   * Splits the affected tasks, ordered by planned and id, into partitions of at most batchSize
+   * tasks and schedules one TaskRefreshJob per partition. A job only carries the bounds of its
+   * partition, the ids of the tasks are selected when the job runs.
+   */
+  private void scheduleTaskRefreshJobs(TaskServiceImpl taskService) {
     int batchSize = taskanaEngineImpl.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
-    List<List<String>> affectedTaskBatches = partition(affectedTaskIds, batchSize);
+    int numberOfJobs = 0;
+    Pair<String, Instant> lowerBound = null;
+    while (true) {
+      Pair<String, Instant> upperBound = findAffectedTask(taskService, lowerBound, batchSize - 1);
+      if (upperBound == null) {
+        // schedule a job without upper bound for the remaining tasks, if there are any
+        if (findAffectedTask(taskService, lowerBound, 0) != null) {
+          scheduleTaskRefreshJob(lowerBound, null);
+          numberOfJobs++;
+        }
+        break;
+      }
+      scheduleTaskRefreshJob(lowerBound, upperBound);
+      numberOfJobs++;
+      lowerBound = upperBound;
+    }
     LOGGER.debug(
-        "Creating {} TaskRefreshJobs out of {} affected tasks "
-            + "with a maximum number of {} tasks each. ",
-        affectedTaskBatches.size(),
-        affectedTaskIds.size(),
+        "Created {} TaskRefreshJobs with a maximum number of {} tasks each.",
+        numberOfJobs,
         batchSize);
-    for (List<String> taskIdBatch : affectedTaskBatches) {
-      Map<String, String> args = new HashMap<>();
-      if (!taskIdBatch.isEmpty()) {
-        String taskIds = String.join(",", affectedTaskIds);
-        args.put(TASK_IDS, taskIds);
-        args.put(PRIORITY_CHANGED, Boolean.valueOf(priorityChanged).toString());
-        args.put(SERVICE_LEVEL_CHANGED, Boolean.valueOf(serviceLevelChanged).toString());
-        ScheduledJob job = new ScheduledJob();
-        job.setType(ScheduledJob.Type.UPDATETASKSJOB);
-        job.setArguments(args);
-        taskanaEngineImpl.getJobService().createJob(job);
-      }
+  }
+
+  private Pair<String, Instant> findAffectedTask(
+      TaskServiceImpl taskService, Pair<String, Instant> after, int offset) {
+    return taskService.findTaskAffectedByClassificationChange(
+        classificationId,
+        after == null ? null : after.getRight(),
+        after == null ? null : after.getLeft(),
+        offset);
+  }
+
+  private void scheduleTaskRefreshJob(
+      Pair<String, Instant> lowerBound, Pair<String, Instant> upperBound) {
+    Map<String, String> args = new HashMap<>();
+    args.put(CLASSIFICATION_ID, classificationId);
+    if (lowerBound != null) {
+      args.put(FROM_TASK_ID, lowerBound.getLeft());
+      args.put(FROM_PLANNED, lowerBound.getRight().toString());
+    }
+    if (upperBound != null) {
+      args.put(TO_TASK_ID, upperBound.getLeft());
+      args.put(TO_PLANNED, upperBound.getRight().toString());
     }
+    args.put(PRIORITY_CHANGED, Boolean.valueOf(priorityChanged).toString());
+    args.put(SERVICE_LEVEL_CHANGED, Boolean.valueOf(serviceLevelChanged).toString());
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.UPDATETASKSJOB);
+    job.setArguments(args);
+    taskanaEngineImpl.getJobService().createJob(job);
   }
 }
@@ -5,8 +5,26 @@ import java.net.UnknownHostException;
 import java.security.Principal;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.security.auth.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,19 +37,35 @@ import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.security.UserPrincipal;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.task.internal.TaskServiceImpl;
 
-/** This is the runner for Tasks jobs. */
+/**
+ * This is the runner for Tasks jobs. The runner claims due jobs in small batches and executes them
+ * either on the calling thread or, if a pool size greater than one is configured, on a pool of
+ * worker threads. Claimed jobs stay locked for the configured lock expiration period and the locks
+ * are renewed as long as the jobs are running. If a node dies, the locks of its jobs expire and the
+ * jobs are picked up by another node.
+ */
 public class JobRunner {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
+  private static final int MAX_OWNER_LENGTH = 32;
+  private final AtomicInteger workerThreadCount = new AtomicInteger();
+  private final Set<Integer> claimedJobIds = ConcurrentHashMap.newKeySet();
   private TaskanaEngineImpl taskanaEngine;
   private JobServiceImpl jobService;
   private TaskanaTransactionProvider<Object> txProvider;
+  private String owner;
+  private int poolSize;
+  private Map<ScheduledJob.Type, Integer> maxConcurrencyPerType;
+  private Duration lockExpirationPeriod;
 
   public JobRunner(TaskanaEngine taskanaEngine) {
     this.taskanaEngine = (TaskanaEngineImpl) taskanaEngine;
     jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    owner = createOwner();
+    poolSize = taskanaEngine.getConfiguration().getJobRunnerPoolSize();
+    maxConcurrencyPerType = taskanaEngine.getConfiguration().getJobRunnerMaxConcurrency();
+    lockExpirationPeriod = taskanaEngine.getConfiguration().getJobLockExpirationPeriod();
   }
 
   public void registerTransactionProvider(TaskanaTransactionProvider<Object> txProvider) {
@@ -40,49 +74,143 @@ public class JobRunner {
 
   public void runJobs() {
     LOGGER.info("entry to runJobs()");
+    ScheduledExecutorService lockRenewer = startLockRenewal();
     try {
-      List<ScheduledJob> jobsToRun = findAndLockJobsToRun();
-      for (ScheduledJob scheduledJob : jobsToRun) {
-        runJobTransactionally(scheduledJob);
+      if (poolSize > 1) {
+        runJobsInParallel();
+      } else {
+        runJobsSequentially();
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted while waiting for running jobs.");
     } catch (Exception e) {
       LOGGER.error("Error occurred while running jobs: ", e);
     } finally {
+      lockRenewer.shutdownNow();
       LOGGER.info("exit from runJobs().");
     }
   }
 
-  private List<ScheduledJob> findAndLockJobsToRun() {
-    List<ScheduledJob> availableJobs = jobService.findJobsToRun();
-    List<ScheduledJob> lockedJobs = new ArrayList<ScheduledJob>();
-    for (ScheduledJob job : availableJobs) {
-      lockedJobs.add(lockJobTransactionally(job));
+  private void runJobsSequentially() {
+    List<ScheduledJob> claimedJobs =
+        claimJobsTransactionally(1, getSaturatedTypes(Collections.emptyMap()));
+    while (!claimedJobs.isEmpty()) {
+      runJobTransactionally(claimedJobs.get(0));
+      claimedJobs = claimJobsTransactionally(1, getSaturatedTypes(Collections.emptyMap()));
+    }
+  }
+
+  private void runJobsInParallel() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(poolSize, this::createWorkerThread);
+    CompletionService<ScheduledJob> completionService = new ExecutorCompletionService<>(executor);
+    Map<Future<ScheduledJob>, ScheduledJob> runningJobs = new HashMap<>();
+    Map<ScheduledJob.Type, Integer> runningJobsPerType = new EnumMap<>(ScheduledJob.Type.class);
+    try {
+      while (true) {
+        List<ScheduledJob> claimedJobs = Collections.emptyList();
+        int claimSize = getClaimSize(runningJobs.size(), runningJobsPerType);
+        if (claimSize > 0) {
+          claimedJobs = claimJobsTransactionally(claimSize, getSaturatedTypes(runningJobsPerType));
+        }
+        for (ScheduledJob job : claimedJobs) {
+          Callable<ScheduledJob> runJob =
+              () -> {
+                runJobTransactionally(job);
+                return job;
+              };
+          runningJobs.put(completionService.submit(runJob), job);
+          runningJobsPerType.merge(job.getType(), 1, Integer::sum);
+        }
+        if (claimedJobs.isEmpty()) {
+          if (runningJobs.isEmpty()) {
+            break;
+          }
+          // wait until a job has finished before claiming new jobs
+          ScheduledJob finishedJob = runningJobs.remove(completionService.take());
+          runningJobsPerType.merge(finishedJob.getType(), -1, Integer::sum);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private int getClaimSize(int runningJobs, Map<ScheduledJob.Type, Integer> runningJobsPerType) {
+    // a batch must not exceed the capacity of any job type, because its types are not known
+    // before it is claimed. Types which have reached their limit are excluded from the claim.
+    int claimSize = poolSize - runningJobs;
+    for (Map.Entry<ScheduledJob.Type, Integer> limit : maxConcurrencyPerType.entrySet()) {
+      int remainingCapacity =
+          limit.getValue() - runningJobsPerType.getOrDefault(limit.getKey(), 0);
+      if (remainingCapacity > 0) {
+        claimSize = Math.min(claimSize, remainingCapacity);
+      }
     }
-    return lockedJobs;
+    return claimSize;
   }
 
-  private ScheduledJob lockJobTransactionally(ScheduledJob job) {
-    ScheduledJob lockedJob;
+  private Set<ScheduledJob.Type> getSaturatedTypes(
+      Map<ScheduledJob.Type, Integer> runningJobsPerType) {
+    Set<ScheduledJob.Type> saturatedTypes = EnumSet.noneOf(ScheduledJob.Type.class);
+    maxConcurrencyPerType.forEach(
+        (type, limit) -> {
+          if (runningJobsPerType.getOrDefault(type, 0) >= limit) {
+            saturatedTypes.add(type);
+          }
+        });
+    return saturatedTypes;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ScheduledJob> claimJobsTransactionally(
+      int maxJobs, Set<ScheduledJob.Type> excludedTypes) {
+    List<ScheduledJob> claimedJobs;
     if (txProvider != null) {
-      lockedJob = (ScheduledJob) txProvider.executeInTransaction(() -> lockJob(job));
+      claimedJobs =
+          (List<ScheduledJob>)
+              txProvider.executeInTransaction(
+                  () -> jobService.claimJobs(owner, maxJobs, excludedTypes));
     } else {
-      lockedJob = lockJob(job);
+      claimedJobs = jobService.claimJobs(owner, maxJobs, excludedTypes);
     }
-    LOGGER.debug("Locked job: {}", lockedJob);
-    return lockedJob;
+    claimedJobs.forEach(job -> claimedJobIds.add(job.getJobId()));
+    LOGGER.debug("Claimed jobs: {}", claimedJobs);
+    return claimedJobs;
   }
 
-  private ScheduledJob lockJob(ScheduledJob job) {
-    String hostAddress = "UNKNOWN_ADDRESS";
+  private ScheduledExecutorService startLockRenewal() {
+    ScheduledExecutorService lockRenewer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "taskana-job-lock-renewer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long renewalPeriod = Math.max(1, lockExpirationPeriod.toMillis() / 2);
+    lockRenewer.scheduleAtFixedRate(
+        this::renewLocksTransactionally, renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS);
+    return lockRenewer;
+  }
+
+  private void renewLocksTransactionally() {
+    List<Integer> jobIds = new ArrayList<>(claimedJobIds);
+    if (jobIds.isEmpty()) {
+      return;
+    }
     try {
-      hostAddress = InetAddress.getLocalHost().getHostAddress();
-    } catch (UnknownHostException e) {
-      // ignore
+      if (txProvider != null) {
+        txProvider.executeInTransaction(
+            () -> {
+              jobService.renewLocks(owner, jobIds);
+              return null;
+            });
+      } else {
+        jobService.renewLocks(owner, jobIds);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Could not renew the locks of the running jobs {}.", jobIds, e);
     }
-    job.setLockedBy(hostAddress + " - " + Thread.currentThread().getName());
-    String owner = hostAddress + " - " + Thread.currentThread().getName();
-    ScheduledJob lockedJob = jobService.lockJob(job, owner);
-    return lockedJob;
   }
 
   private void runJobTransactionally(ScheduledJob scheduledJob) {
@@ -102,6 +230,8 @@ public class JobRunner {
           "Processing of job {} failed. Trying to split it up into two pieces...",
           scheduledJob.getJobId(),
           e);
+    } finally {
+      claimedJobIds.remove(scheduledJob.getJobId());
     }
   }
 
@@ -151,6 +281,28 @@ public class JobRunner {
     }
   }
 
+  private Thread createWorkerThread(Runnable runnable) {
+    Thread thread =
+        new Thread(runnable, "taskana-job-runner-" + workerThreadCount.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private static String createOwner() {
+    String hostAddress = "UNKNOWN_ADDRESS";
+    try {
+      hostAddress = InetAddress.getLocalHost().getHostAddress();
+    } catch (UnknownHostException e) {
+      // ignore
+    }
+    String runnerId = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+    int maxHostLength = MAX_OWNER_LENGTH - runnerId.length() - 1;
+    if (hostAddress.length() > maxHostLength) {
+      hostAddress = hostAddress.substring(hostAddress.length() - maxHostLength);
+    }
+    return hostAddress + "-" + runnerId;
+  }
+
   private Subject getAdminSubject() {
     Subject subject = new Subject();
     List<Principal> principalList = new ArrayList<>();
@@ -2,10 +2,8 @@ package pro.taskana.common.internal.jobs;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +16,12 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.transaction.TaskanaCallable;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.common.internal.util.LogSanitizer;
+import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
 
 /** Job to cleanup completed tasks after a period of time. */
 public class TaskCleanupJob extends AbstractTaskanaJob {
@@ -35,6 +36,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
   private Duration minimumAge;
   private int batchSize;
   private boolean allCompletedSameParentBusiness;
+  private boolean setBased;
 
   public TaskCleanupJob(
       TaskanaEngine taskanaEngine,
@@ -47,6 +49,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     batchSize = taskanaEngine.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
     allCompletedSameParentBusiness =
         taskanaEngine.getConfiguration().isTaskCleanupJobAllCompletedSameParentBusiness();
+    setBased = taskanaEngine.getConfiguration().isTaskCleanupJobSetBased();
   }
 
   @Override
@@ -54,19 +57,18 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     Instant completedBefore = Instant.now().minus(minimumAge);
     LOGGER.info(
         "Running job to delete all tasks completed before ({})", completedBefore.toString());
+    long start = System.nanoTime();
     try {
-      List<TaskSummary> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
-      int totalNumberOfTasksCompleted = 0;
-      while (tasksCompletedBefore.size() > 0) {
-        int upperLimit = batchSize;
-        if (upperLimit > tasksCompletedBefore.size()) {
-          upperLimit = tasksCompletedBefore.size();
-        }
-        totalNumberOfTasksCompleted +=
-            deleteTasksTransactionally(tasksCompletedBefore.subList(0, upperLimit));
-        tasksCompletedBefore.subList(0, upperLimit).clear();
-      }
-      LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksCompleted);
+      int totalNumberOfTasksDeleted =
+          setBased
+              ? deleteTasksCompletedBeforeSetBased(completedBefore)
+              : deleteTasksCompletedBefore(completedBefore);
+      long durationMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      LOGGER.info(
+          "Job ended successfully. {} tasks deleted in {} ms ({} tasks/s).",
+          totalNumberOfTasksDeleted,
+          durationMillis,
+          totalNumberOfTasksDeleted * 1000L / durationMillis);
     } catch (Exception e) {
       throw new TaskanaException("Error while processing TaskCleanupJob.", e);
     } finally {
@@ -85,66 +87,110 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     job.scheduleNextCleanupJob();
   }
 
-  private List<TaskSummary> getTasksCompletedBefore(Instant untilDate) {
-    LOGGER.debug("entry to getTasksCompletedBefore(untilDate = {})", untilDate);
-    List<TaskSummary> taskList =
-        taskanaEngineImpl
-            .getTaskService()
-            .createTaskQuery()
-            .completedWithin(new TimeInterval(null, untilDate))
-            .orderByBusinessProcessId(asc)
-            .list();
-
+  /**
+   * Reads the deletable tasks page by page with keyset pagination and deletes every page in its own
+   * transaction, so that at most the ids of one page are held in memory and no cursor stays open
+   * while the tasks are deleted.
+   */
+  private int deleteTasksCompletedBefore(Instant completedBefore) {
+    LOGGER.debug("entry to deleteTasksCompletedBefore(completedBefore = {})", completedBefore);
+    int totalNumberOfTasksDeleted = 0;
     if (allCompletedSameParentBusiness) {
-      Map<String, Long> numberParentTasksShouldHave = new HashMap<>();
-      Map<String, Long> countParentTask = new HashMap<>();
-      for (TaskSummary task : taskList) {
-        numberParentTasksShouldHave.put(
-            task.getParentBusinessProcessId(),
-            taskanaEngineImpl
-                .getTaskService()
-                .createTaskQuery()
-                .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
-                .count());
-        countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
+      List<String> parentBusinessProcessIds =
+          ((TaskServiceImpl) taskanaEngineImpl.getTaskService())
+              .findParentBusinessProcessIdsCompletedBefore(completedBefore);
+      for (List<String> chunk : partition(parentBusinessProcessIds, batchSize)) {
+        totalNumberOfTasksDeleted +=
+            deleteTasksPageByPage(
+                taskanaEngineImpl
+                    .getTaskService()
+                    .createTaskQuery()
+                    .parentBusinessProcessIdIn(chunk.toArray(new String[0])));
       }
+    } else {
+      totalNumberOfTasksDeleted =
+          deleteTasksPageByPage(
+              taskanaEngineImpl
+                  .getTaskService()
+                  .createTaskQuery()
+                  .completedWithin(new TimeInterval(null, completedBefore)));
+    }
+    LOGGER.debug(
+        "exit from deleteTasksCompletedBefore(), returning {}", totalNumberOfTasksDeleted);
+    return totalNumberOfTasksDeleted;
+  }
 
-      List<String> idsList = new ArrayList<>();
-      numberParentTasksShouldHave.forEach(
-          (k, v) -> {
-            if (v.compareTo(countParentTask.get(k)) == 0) {
-              idsList.add(k);
-            }
-          });
-
-      if (idsList.isEmpty()) {
-        LOGGER.debug("exit from getTasksCompletedBefore(), returning {}", new ArrayList<>());
-        return new ArrayList<>();
+  private int deleteTasksPageByPage(TaskQuery query) {
+    query.orderByTaskId(asc);
+    int numberOfTasksDeleted = 0;
+    String continuationToken = null;
+    List<TaskSummary> page;
+    do {
+      page = query.listAfter(continuationToken, batchSize);
+      if (!page.isEmpty()) {
+        continuationToken = query.getContinuationToken(page.get(page.size() - 1));
+        long batchStart = System.nanoTime();
+        int deletedTasks =
+            deleteTasksTransactionally(
+                page.stream().map(TaskSummary::getId).collect(Collectors.toList()));
+        logBatch(deletedTasks, batchStart);
+        numberOfTasksDeleted += deletedTasks;
       }
+    } while (page.size() >= batchSize);
+    return numberOfTasksDeleted;
+  }
 
-      String[] ids = new String[idsList.size()];
-      ids = idsList.toArray(ids);
-      taskList =
-          taskanaEngineImpl
-              .getTaskService()
-              .createTaskQuery()
-              .parentBusinessProcessIdIn(ids)
-              .list();
+  /**
+   * Selects and deletes the tasks batch by batch. Every transaction selects the ids of the next
+   * batch of deletable tasks in the database and deletes them together with their attachments and
+   * comments, so neither all ids nor all tasks have to be loaded up front.
+   */
+  private int deleteTasksCompletedBeforeSetBased(Instant completedBefore) {
+    LOGGER.debug(
+        "entry to deleteTasksCompletedBeforeSetBased(completedBefore = {})", completedBefore);
+    int totalNumberOfTasksDeleted = 0;
+    int deletedTasks;
+    do {
+      long batchStart = System.nanoTime();
+      deletedTasks = deleteNextBatchTransactionally(completedBefore);
+      logBatch(deletedTasks, batchStart);
+      totalNumberOfTasksDeleted += deletedTasks;
+    } while (deletedTasks >= batchSize);
+    LOGGER.debug(
+        "exit from deleteTasksCompletedBeforeSetBased(), returning {}",
+        totalNumberOfTasksDeleted);
+    return totalNumberOfTasksDeleted;
+  }
+
+  private int deleteNextBatchTransactionally(Instant completedBefore) {
+    TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+    TaskanaCallable<Object> deleteNextBatch =
+        () -> {
+          List<String> taskIds =
+              taskService.findTaskIdsToBeCleanedUp(
+                  completedBefore, allCompletedSameParentBusiness, batchSize);
+          return taskService.deleteTasksWithoutValidation(taskIds);
+        };
+    if (txProvider != null) {
+      return (Integer) txProvider.executeInTransaction(deleteNextBatch);
     }
+    return (Integer) deleteNextBatch.call();
+  }
 
+  private void logBatch(int deletedTasks, long batchStart) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "exit from getTasksCompletedBefore(), returning {}", LoggerUtils.listToString(taskList));
+          "Deleted a batch of {} tasks in {} ms.",
+          deletedTasks,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStart));
     }
-
-    return taskList;
   }
 
-  private int deleteTasksTransactionally(List<TaskSummary> tasksToBeDeleted) {
+  private int deleteTasksTransactionally(List<String> tasksIdsToBeDeleted) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "entry to deleteTasksTransactionally(tasksToBeDeleted = {})",
-          LoggerUtils.listToString(tasksToBeDeleted));
+          "entry to deleteTasksTransactionally(tasksIdsToBeDeleted = {})",
+          LoggerUtils.listToString(tasksIdsToBeDeleted));
     }
 
     int deletedTaskCount = 0;
@@ -154,7 +200,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
               txProvider.executeInTransaction(
                   () -> {
                     try {
-                      return deleteTasks(tasksToBeDeleted);
+                      return deleteTasks(tasksIdsToBeDeleted);
                     } catch (Exception e) {
                       LOGGER.warn("Could not delete tasks.", e);
                       return 0;
@@ -164,7 +210,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
       return count;
     } else {
       try {
-        deletedTaskCount = deleteTasks(tasksToBeDeleted);
+        deletedTaskCount = deleteTasks(tasksIdsToBeDeleted);
       } catch (Exception e) {
         LOGGER.warn("Could not delete tasks.", e);
       }
@@ -173,13 +219,11 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     return deletedTaskCount;
   }
 
-  private int deleteTasks(List<TaskSummary> tasksToBeDeleted) throws InvalidArgumentException {
+  private int deleteTasks(List<String> tasksIdsToBeDeleted) throws InvalidArgumentException {
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("entry to deleteTasks(tasksToBeDeleted = {})", tasksToBeDeleted);
+      LOGGER.debug("entry to deleteTasks(tasksIdsToBeDeleted = {})", tasksIdsToBeDeleted);
     }
 
-    List<String> tasksIdsToBeDeleted =
-        tasksToBeDeleted.stream().map(TaskSummary::getId).collect(Collectors.toList());
     BulkOperationResults<String, TaskanaException> results =
         taskanaEngineImpl.getTaskService().deleteTasks(tasksIdsToBeDeleted);
     LOGGER.debug("{} tasks deleted.", tasksIdsToBeDeleted.size() - results.getFailedIds().size());
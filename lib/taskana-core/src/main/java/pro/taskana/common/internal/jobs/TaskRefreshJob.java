@@ -1,5 +1,6 @@
 package pro.taskana.common.internal.jobs;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +15,7 @@ import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.task.internal.TaskServiceImpl;
 
 /**
- * This class executes a job of type CLASSIFICATIONCHANGEDJOB.
+ * This class executes a job of type UPDATETASKSJOB.
  *
  * @author bbr
  */
@@ -23,6 +24,11 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
   public static final String ARG_TASK_IDS = "taskIds";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskRefreshJob.class);
   private List<String> affectedTaskIds;
+  private String classificationId;
+  private Instant fromPlanned;
+  private String fromTaskId;
+  private Instant toPlanned;
+  private String toTaskId;
   private boolean priorityChanged;
   private boolean serviceLevelChanged;
 
@@ -31,7 +37,16 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
     super(engine, txProvider, job);
     Map<String, String> args = job.getArguments();
     String taskIdsString = args.get(ClassificationChangedJob.TASK_IDS);
-    affectedTaskIds = Arrays.asList(taskIdsString.split(","));
+    if (taskIdsString != null) {
+      // jobs which were scheduled before the tasks were partitioned by range carry explicit ids
+      affectedTaskIds = Arrays.asList(taskIdsString.split(","));
+    } else {
+      classificationId = args.get(ClassificationChangedJob.CLASSIFICATION_ID);
+      fromPlanned = parseInstant(args.get(ClassificationChangedJob.FROM_PLANNED));
+      fromTaskId = args.get(ClassificationChangedJob.FROM_TASK_ID);
+      toPlanned = parseInstant(args.get(ClassificationChangedJob.TO_PLANNED));
+      toTaskId = args.get(ClassificationChangedJob.TO_TASK_ID);
+    }
     priorityChanged = Boolean.parseBoolean(args.get(ClassificationChangedJob.PRIORITY_CHANGED));
     serviceLevelChanged =
         Boolean.parseBoolean(args.get(ClassificationChangedJob.SERVICE_LEVEL_CHANGED));
@@ -39,11 +54,19 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
 
   @Override
   public void run() throws TaskanaException {
-    LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
-          affectedTaskIds, serviceLevelChanged, priorityChanged);
+      List<String> taskIds = affectedTaskIds;
+      if (taskIds == null) {
+        taskIds =
+            taskService.findTaskIdsAffectedByClassificationChange(
+                classificationId, fromPlanned, fromTaskId, toPlanned, toTaskId);
+      }
+      LOGGER.info("Running TaskRefreshJob for {} tasks", taskIds.size());
+      if (!taskIds.isEmpty()) {
+        taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+            taskIds, serviceLevelChanged, priorityChanged);
+      }
       LOGGER.info("TaskRefreshJob ended successfully.");
     } catch (Exception e) {
       throw new TaskanaException("Error while processing TaskRefreshJob.", e);
@@ -52,6 +75,23 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
 
   @Override
   public String toString() {
-    return "TaskRefreshJob [affectedTaskIds= " + LoggerUtils.listToString(affectedTaskIds) + "]";
+    if (affectedTaskIds != null) {
+      return "TaskRefreshJob [affectedTaskIds= " + LoggerUtils.listToString(affectedTaskIds) + "]";
+    }
+    return "TaskRefreshJob [classificationId= "
+        + classificationId
+        + ", fromPlanned= "
+        + fromPlanned
+        + ", fromTaskId= "
+        + fromTaskId
+        + ", toPlanned= "
+        + toPlanned
+        + ", toTaskId= "
+        + toTaskId
+        + "]";
+  }
+
+  private static Instant parseInstant(String instant) {
+    return instant == null ? null : Instant.parse(instant);
   }
 }
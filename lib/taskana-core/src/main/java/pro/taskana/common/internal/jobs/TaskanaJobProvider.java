@@ -0,0 +1,44 @@
+package pro.taskana.common.internal.jobs;
+
+import java.util.Set;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+
+/**
+ * Contributes the jobs of an optional component to the job framework of TASKANA. A {@link
+ * pro.taskana.spi.history.api.TaskanaHistory} provider, which implements this interface, is
+ * registered as job provider when the history service providers are loaded.
+ */
+public interface TaskanaJobProvider {
+
+  /**
+   * Returns the types of the jobs created by this provider.
+   *
+   * @return the job types of this provider
+   */
+  Set<ScheduledJob.Type> getJobTypes();
+
+  /**
+   * Creates the job for a scheduled job of one of the types of this provider.
+   *
+   * @param engine the TASKANA engine
+   * @param txProvider the transaction provider the job runs in, may be null
+   * @param job the scheduled job
+   * @return the job to be run
+   * @throws TaskanaException if the job could not be created
+   */
+  TaskanaJob createJob(
+      TaskanaEngine engine, TaskanaTransactionProvider<Object> txProvider, ScheduledJob job)
+      throws TaskanaException;
+
+  /**
+   * Schedules the next run of the job of the given type.
+   *
+   * @param engine the TASKANA engine
+   * @param type one of the job types of this provider
+   */
+  void initializeJobSchedule(TaskanaEngine engine, ScheduledJob.Type type);
+}
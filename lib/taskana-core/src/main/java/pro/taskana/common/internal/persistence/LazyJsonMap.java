@@ -0,0 +1,128 @@
+package pro.taskana.common.internal.persistence;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.json.JSONObject;
+
+/**
+ * A Map which was read from a JSON column. The JSON is only parsed when the content of the map is
+ * accessed for the first time. As long as the map is not modified, the {@link MapTypeHandler}
+ * writes the original JSON back instead of serializing the map again.
+ *
+ * <p>The views returned by {@link #entrySet()}, {@link #keySet()} and {@link #values()} can modify
+ * the map, therefore the map counts as modified as soon as one of them is requested. This includes
+ * equals and hashCode, which are inherited from AbstractMap.
+ */
+public class LazyJsonMap extends AbstractMap<String, Object> {
+
+  private final String json;
+  private Map<String, Object> map;
+  private boolean modified;
+
+  public LazyJsonMap(String json) {
+    this.json = json;
+  }
+
+  /**
+   * Returns the JSON this map was read from.
+   *
+   * @return the original JSON or null, if the map might have been modified since
+   */
+  public String getUnmodifiedJson() {
+    return modified ? null : json;
+  }
+
+  public boolean isParsed() {
+    return map != null;
+  }
+
+  @Override
+  public int size() {
+    return getMap().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return getMap().isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return getMap().containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return getMap().containsValue(value);
+  }
+
+  @Override
+  public Object get(Object key) {
+    return getMap().get(key);
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    return getMap().getOrDefault(key, defaultValue);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    getMap().forEach(action);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    return getModifiableMap().put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    return getModifiableMap().remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    getModifiableMap().putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    getModifiableMap().clear();
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return getModifiableMap().keySet();
+  }
+
+  @Override
+  public Collection<Object> values() {
+    return getModifiableMap().values();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return getModifiableMap().entrySet();
+  }
+
+  @Override
+  public String toString() {
+    return getMap().toString();
+  }
+
+  private Map<String, Object> getMap() {
+    if (map == null) {
+      map = new JSONObject(json).toMap();
+    }
+    return map;
+  }
+
+  private Map<String, Object> getModifiableMap() {
+    modified = true;
+    return getMap();
+  }
+}
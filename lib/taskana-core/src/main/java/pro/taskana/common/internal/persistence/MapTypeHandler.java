@@ -13,7 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This Typehandler will transfer a Map into an xml blob and back.
+ * This Typehandler will transfer a Map into an xml blob and back. The JSON of a read blob is only
+ * parsed when the map is accessed, see {@link LazyJsonMap}.
  *
  * @author EH
  */
@@ -25,7 +26,11 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
   public void setNonNullParameter(
       PreparedStatement ps, int i, Map<String, Object> parameter, JdbcType jdbcType)
       throws SQLException {
-    if (parameter != null && parameter.size() > 0) {
+    if (parameter instanceof LazyJsonMap
+        && ((LazyJsonMap) parameter).getUnmodifiedJson() != null) {
+      // the map is unchanged since it was read, so its JSON can be written back as it is
+      ps.setString(i, ((LazyJsonMap) parameter).getUnmodifiedJson());
+    } else if (parameter != null && parameter.size() > 0) {
       LOGGER.debug("Input-Map before serializing: {}", parameter);
       // Convert Map to JSON string
       JSONObject jsonObj = new JSONObject(parameter);
@@ -65,7 +70,6 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
   }
 
   private Map<String, Object> convertToMap(String fieldValue) {
-    JSONObject jsonObj = new JSONObject(fieldValue);
-    return jsonObj.toMap();
+    return new LazyJsonMap(fieldValue);
   }
 }
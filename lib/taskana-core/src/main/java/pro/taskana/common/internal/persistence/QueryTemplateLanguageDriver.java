@@ -0,0 +1,157 @@
+package pro.taskana.common.internal.persistence;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.ibatis.builder.xml.XMLMapperEntityResolver;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.parsing.XNode;
+import org.apache.ibatis.parsing.XPathParser;
+import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * MyBatis language driver for large dynamic query scripts. It parses the script like the default
+ * {@link XMLLanguageDriver}, but caches the rendered SQL of each query shape in a {@link
+ * QueryTemplateSqlSource}. Mapper methods opt in with the {@code @Lang} annotation.
+ *
+ * <p>The values of all properties which are compared in a {@code test} expression by more than a
+ * null check are part of the query shape, too. So the shape always determines the result of each
+ * evaluated {@code <if>} and {@code <when>}.
+ *
+ * <p>The maximum number of cached shapes per statement is read from the configuration variable
+ * {@link #MAX_TEMPLATES_VARIABLE}. A value of 0 disables the cache.
+ */
+public class QueryTemplateLanguageDriver extends XMLLanguageDriver {
+
+  public static final String MAX_TEMPLATES_VARIABLE = "taskana.query.templateCacheSize";
+  private static final int DEFAULT_MAX_TEMPLATES = 500;
+  private static final Pattern LITERAL_PROPERTY = Pattern.compile("\\$\\{\\s*(\\w+)\\s*}");
+  private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*'|\"[^\"]*\"");
+  private static final Pattern NULL_CHECK =
+      Pattern.compile(
+          "(?<![\\w.])(\\w+)(\\.\\w+)?\\s*(?:!=|==)\\s*null\\b"
+              + "|\\bnull\\s*(?:!=|==)\\s*(\\w+)(\\.\\w+)?(?![\\w.(])");
+  private static final Pattern ROOT_PROPERTY = Pattern.compile("(?<![\\w.@$#])([A-Za-z_]\\w*)");
+  private static final Set<String> OGNL_KEYWORDS =
+      new HashSet<>(
+          Arrays.asList(
+              "and", "or", "not", "null", "true", "false", "eq", "neq", "lt", "lte", "gt", "gte",
+              "in", "instanceof", "new"));
+
+  @Override
+  public SqlSource createSqlSource(
+      Configuration configuration, String script, Class<?> parameterType) {
+    SqlSource sqlSource = super.createSqlSource(configuration, script, parameterType);
+    int maxTemplates = getMaxTemplates(configuration);
+    if (!(sqlSource instanceof DynamicSqlSource) || maxTemplates <= 0) {
+      return sqlSource;
+    }
+    Set<String> shapeProperties = getLiteralProperties(script);
+    shapeProperties.addAll(getComparedProperties(configuration, script));
+    return new QueryTemplateSqlSource(configuration, sqlSource, shapeProperties, maxTemplates);
+  }
+
+  /**
+   * Returns the names of all properties, which are written into the SQL text with ${...}. Their
+   * values are part of the query shape.
+   */
+  static Set<String> getLiteralProperties(String script) {
+    Set<String> literalProperties = new HashSet<>();
+    Matcher matcher = LITERAL_PROPERTY.matcher(script);
+    while (matcher.find()) {
+      literalProperties.add(matcher.group(1));
+    }
+    return literalProperties;
+  }
+
+  /**
+   * Returns the names of all properties, whose values are compared in a {@code test} expression by
+   * more than a null check. Since the item of a foreach element is no property of the query
+   * object, the collection of the item is returned instead. Null checks on the property of an item
+   * are covered by the shape of the collection.
+   */
+  static Set<String> getComparedProperties(Configuration configuration, String script) {
+    Set<String> comparedProperties = new HashSet<>();
+    String trimmedScript = script.trim();
+    if (trimmedScript.startsWith("<script>")) {
+      XPathParser parser =
+          new XPathParser(
+              trimmedScript, false, configuration.getVariables(), new XMLMapperEntityResolver());
+      addComparedProperties(parser.evalNode("/script"), new HashMap<>(), comparedProperties);
+    }
+    return comparedProperties;
+  }
+
+  private static void addComparedProperties(
+      XNode node, Map<String, String> foreachItems, Set<String> comparedProperties) {
+    String test = node.getStringAttribute("test");
+    if (test != null) {
+      addComparedProperties(test, foreachItems, comparedProperties);
+    }
+    Map<String, String> itemsOfChildren = foreachItems;
+    if ("foreach".equals(node.getName())) {
+      itemsOfChildren = new HashMap<>(foreachItems);
+      String collection = node.getStringAttribute("collection");
+      String root = getRoot(collection, foreachItems);
+      putForeachVariable(itemsOfChildren, node.getStringAttribute("item"), root);
+      putForeachVariable(itemsOfChildren, node.getStringAttribute("index"), root);
+    }
+    for (XNode child : node.getChildren()) {
+      addComparedProperties(child, itemsOfChildren, comparedProperties);
+    }
+  }
+
+  private static void addComparedProperties(
+      String test, Map<String, String> foreachItems, Set<String> comparedProperties) {
+    StringBuffer remainder = new StringBuffer();
+    Matcher nullChecks = NULL_CHECK.matcher(STRING_LITERAL.matcher(test).replaceAll("''"));
+    while (nullChecks.find()) {
+      String name = nullChecks.group(1) != null ? nullChecks.group(1) : nullChecks.group(3);
+      String path = nullChecks.group(1) != null ? nullChecks.group(2) : nullChecks.group(4);
+      // the shape contains the null state of properties and of the fields of foreach items only
+      if (path != null && !foreachItems.containsKey(name)) {
+        comparedProperties.add(getRoot(name, foreachItems));
+      }
+      nullChecks.appendReplacement(remainder, "");
+    }
+    nullChecks.appendTail(remainder);
+
+    Matcher roots = ROOT_PROPERTY.matcher(remainder);
+    while (roots.find()) {
+      String name = roots.group(1);
+      if (!OGNL_KEYWORDS.contains(name) && !name.startsWith("_")) {
+        comparedProperties.add(getRoot(name, foreachItems));
+      }
+    }
+  }
+
+  private static void putForeachVariable(
+      Map<String, String> foreachItems, String variable, String collection) {
+    if (variable != null && collection != null) {
+      foreachItems.put(variable, collection);
+    }
+  }
+
+  private static String getRoot(String expression, Map<String, String> foreachItems) {
+    if (expression == null) {
+      return null;
+    }
+    int dot = expression.indexOf('.');
+    String root = (dot < 0 ? expression : expression.substring(0, dot)).trim();
+    return foreachItems.getOrDefault(root, root);
+  }
+
+  private static int getMaxTemplates(Configuration configuration) {
+    String maxTemplates =
+        configuration.getVariables() == null
+            ? null
+            : configuration.getVariables().getProperty(MAX_TEMPLATES_VARIABLE);
+    return maxTemplates == null ? DEFAULT_MAX_TEMPLATES : Integer.parseInt(maxTemplates);
+  }
+}
@@ -0,0 +1,331 @@
+package pro.taskana.common.internal.persistence;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.DynamicContext;
+import org.apache.ibatis.session.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the rendered SQL of a dynamic script per query shape. The shape of a query object
+ * consists of the fields which are set, the length of its arrays, the content of its collections
+ * and the values of all properties which are written into the SQL text with ${...} or compared in
+ * a test expression. The SQL of a known shape is reused, only the values are bound again.
+ *
+ * <p>The values of foreach items are located in the arrays and lists of the query object when a
+ * shape is rendered for the first time. If an item can not be located unambiguously, the shape is
+ * not cached and the script is rendered on each execution.
+ */
+public class QueryTemplateSqlSource implements SqlSource {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(QueryTemplateSqlSource.class);
+  private static final String FOREACH_ITEM_PREFIX = "__frch_";
+  private static final ClassValue<Field[]> FIELDS =
+      new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+          return getInstanceFields(type);
+        }
+      };
+
+  private final Configuration configuration;
+  private final SqlSource dynamicSqlSource;
+  private final Set<String> valueProperties;
+  private final int maxTemplates;
+  private final Map<String, QueryTemplate> templates = new ConcurrentHashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public QueryTemplateSqlSource(
+      Configuration configuration,
+      SqlSource dynamicSqlSource,
+      Set<String> valueProperties,
+      int maxTemplates) {
+    this.configuration = configuration;
+    this.dynamicSqlSource = dynamicSqlSource;
+    this.valueProperties = valueProperties;
+    this.maxTemplates = maxTemplates;
+  }
+
+  @Override
+  public BoundSql getBoundSql(Object parameterObject) {
+    if (parameterObject == null || parameterObject instanceof Map) {
+      return dynamicSqlSource.getBoundSql(parameterObject);
+    }
+    String shape = getShape(parameterObject);
+    QueryTemplate template = templates.get(shape);
+    if (template != null) {
+      hitCount.incrementAndGet();
+      return template.bind(configuration, parameterObject);
+    }
+    missCount.incrementAndGet();
+    BoundSql boundSql = dynamicSqlSource.getBoundSql(parameterObject);
+    if (templates.size() < maxTemplates) {
+      template = QueryTemplate.create(boundSql, parameterObject);
+      if (template != null) {
+        templates.putIfAbsent(shape, template);
+      } else {
+        LOGGER.debug("Could not create a query template for shape {}", shape);
+      }
+    }
+    return boundSql;
+  }
+
+  public int getTemplateCount() {
+    return templates.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  String getShape(Object parameterObject) {
+    StringBuilder shape = new StringBuilder(256);
+    for (Field field : FIELDS.get(parameterObject.getClass())) {
+      Object value = getValue(field, parameterObject);
+      if (value == null) {
+        shape.append('-');
+      } else if (valueProperties.contains(field.getName())) {
+        appendValue(shape, value);
+      } else if (value instanceof Boolean) {
+        shape.append((Boolean) value ? 'T' : 'F');
+      } else if (value.getClass().isArray()) {
+        appendArrayShape(shape, value);
+      } else if (value instanceof Collection) {
+        shape.append('{');
+        ((Collection<?>) value).forEach(element -> appendLiteral(shape, element));
+        shape.append('}');
+      } else {
+        shape.append('+');
+      }
+    }
+    return shape.toString();
+  }
+
+  /**
+   * Appends the complete value. Arrays and collections are appended element by element, beans
+   * like time intervals with the values of their fields.
+   */
+  private static void appendValue(StringBuilder shape, Object value) {
+    if (value.getClass().isArray()) {
+      shape.append('[');
+      for (int i = 0; i < Array.getLength(value); i++) {
+        appendElement(shape, Array.get(value, i));
+      }
+      shape.append(']');
+    } else if (value instanceof Collection) {
+      shape.append('{');
+      ((Collection<?>) value).forEach(element -> appendElement(shape, element));
+      shape.append('}');
+    } else {
+      appendElement(shape, value);
+    }
+  }
+
+  private static void appendElement(StringBuilder shape, Object element) {
+    if (element == null || isValueType(element.getClass())) {
+      appendLiteral(shape, element);
+    } else {
+      shape.append('(');
+      for (Field field : FIELDS.get(element.getClass())) {
+        appendLiteral(shape, getValue(field, element));
+      }
+      shape.append(')');
+    }
+  }
+
+  private static void appendLiteral(StringBuilder shape, Object value) {
+    String literal = String.valueOf(value);
+    shape.append(literal.length()).append(':').append(literal);
+  }
+
+  /**
+   * Appends the length of the array. For arrays of beans like time intervals the fields of each
+   * element which are set are appended, too.
+   */
+  private static void appendArrayShape(StringBuilder shape, Object array) {
+    int length = Array.getLength(array);
+    shape.append('[').append(length);
+    if (!isValueType(array.getClass().getComponentType())) {
+      for (int i = 0; i < length; i++) {
+        Object element = Array.get(array, i);
+        shape.append(',');
+        if (element == null) {
+          shape.append('-');
+        } else if (!isValueType(element.getClass())) {
+          for (Field field : FIELDS.get(element.getClass())) {
+            shape.append(getValue(field, element) == null ? '-' : '+');
+          }
+        }
+      }
+    }
+    shape.append(']');
+  }
+
+  private static boolean isValueType(Class<?> type) {
+    return type.isPrimitive()
+        || type.isEnum()
+        || type.getName().startsWith("java.")
+        || type.getName().startsWith("javax.");
+  }
+
+  private static Field[] getInstanceFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+    }
+    return fields.toArray(new Field[0]);
+  }
+
+  private static Object getValue(Field field, Object target) {
+    try {
+      return field.get(target);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not read field " + field.getName(), e);
+    }
+  }
+
+  /** The rendered SQL of one query shape and the positions of its foreach items. */
+  private static final class QueryTemplate {
+
+    private final String sql;
+    private final List<ParameterMapping> parameterMappings;
+    private final Map<String, ItemLocation> itemLocations;
+
+    private QueryTemplate(
+        String sql,
+        List<ParameterMapping> parameterMappings,
+        Map<String, ItemLocation> itemLocations) {
+      this.sql = sql;
+      this.parameterMappings = parameterMappings;
+      this.itemLocations = itemLocations;
+    }
+
+    /**
+     * Creates the template of a rendered statement.
+     *
+     * @return the template or null, if a foreach item could not be located in the query object
+     */
+    static QueryTemplate create(BoundSql boundSql, Object parameterObject) {
+      Map<Object, ItemLocation> objectLocations = new IdentityHashMap<>();
+      Map<Object, ItemLocation> primitiveLocations = new HashMap<>();
+      for (Field field : FIELDS.get(parameterObject.getClass())) {
+        Object value = getValue(field, parameterObject);
+        if (value instanceof Object[]) {
+          Object[] array = (Object[]) value;
+          for (int i = 0; i < array.length; i++) {
+            addLocation(objectLocations, array[i], new ItemLocation(field, i));
+          }
+        } else if (value != null && value.getClass().isArray()) {
+          // primitive values are boxed while iterating, so they can only be compared by equals
+          for (int i = 0; i < Array.getLength(value); i++) {
+            addLocation(primitiveLocations, Array.get(value, i), new ItemLocation(field, i));
+          }
+        } else if (value instanceof List) {
+          List<?> list = (List<?>) value;
+          for (int i = 0; i < list.size(); i++) {
+            addLocation(objectLocations, list.get(i), new ItemLocation(field, i));
+          }
+        }
+      }
+
+      Map<String, ItemLocation> itemLocations = new HashMap<>();
+      for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+        String property = parameterMapping.getProperty();
+        int dot = property.indexOf('.');
+        String root = dot < 0 ? property : property.substring(0, dot);
+        if (itemLocations.containsKey(root) || !boundSql.hasAdditionalParameter(root)) {
+          continue;
+        }
+        if (!root.startsWith(FOREACH_ITEM_PREFIX)) {
+          if (DynamicContext.PARAMETER_OBJECT_KEY.equals(root)) {
+            itemLocations.put(root, ItemLocation.PARAMETER_OBJECT);
+            continue;
+          }
+          // a variable of a bind element
+          return null;
+        }
+        Object item = boundSql.getAdditionalParameter(root);
+        ItemLocation location = objectLocations.get(item);
+        if (location == null && isBoxedPrimitive(item)) {
+          location = primitiveLocations.get(item);
+        }
+        if (location == null || location == ItemLocation.AMBIGUOUS) {
+          return null;
+        }
+        itemLocations.put(root, location);
+      }
+      return new QueryTemplate(boundSql.getSql(), boundSql.getParameterMappings(), itemLocations);
+    }
+
+    BoundSql bind(Configuration configuration, Object parameterObject) {
+      BoundSql boundSql = new BoundSql(configuration, sql, parameterMappings, parameterObject);
+      boundSql.setAdditionalParameter(DynamicContext.PARAMETER_OBJECT_KEY, parameterObject);
+      boundSql.setAdditionalParameter(
+          DynamicContext.DATABASE_ID_KEY, configuration.getDatabaseId());
+      itemLocations.forEach(
+          (name, location) ->
+              boundSql.setAdditionalParameter(name, location.getValue(parameterObject)));
+      return boundSql;
+    }
+
+    private static void addLocation(
+        Map<Object, ItemLocation> locations, Object item, ItemLocation location) {
+      if (item != null && locations.putIfAbsent(item, location) != null) {
+        locations.put(item, ItemLocation.AMBIGUOUS);
+      }
+    }
+
+    private static boolean isBoxedPrimitive(Object item) {
+      return item instanceof Number || item instanceof Boolean || item instanceof Character;
+    }
+  }
+
+  /** The position of a foreach item in an array or list field of the query object. */
+  private static final class ItemLocation {
+
+    static final ItemLocation AMBIGUOUS = new ItemLocation(null, -1);
+    static final ItemLocation PARAMETER_OBJECT = new ItemLocation(null, -1);
+
+    private final Field field;
+    private final int index;
+
+    private ItemLocation(Field field, int index) {
+      this.field = field;
+      this.index = index;
+    }
+
+    Object getValue(Object parameterObject) {
+      if (this == PARAMETER_OBJECT) {
+        return parameterObject;
+      }
+      Object container = QueryTemplateSqlSource.getValue(field, parameterObject);
+      return container instanceof List
+          ? ((List<?>) container).get(index)
+          : Array.get(container, index);
+    }
+  }
+}
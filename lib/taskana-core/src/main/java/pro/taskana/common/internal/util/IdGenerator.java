@@ -1,11 +1,22 @@
 package pro.taskana.common.internal.util;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import pro.taskana.common.api.IdGenerationStrategy;
 
 /** This class contains util methods for generating ids. */
 public final class IdGenerator {
 
   private static final String SEPERATOR = ":";
+  private static final int SEQUENCE_BITS = 12;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+  // milliseconds since the epoch followed by a sequence number within the millisecond
+  private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
 
   private IdGenerator() {}
 
@@ -16,10 +27,50 @@ public final class IdGenerator {
    * @return a String with a length of 40 characters
    */
   public static String generateWithPrefix(String prefix) {
+    return generateWithPrefix(prefix, IdGenerationStrategy.RANDOM);
+  }
+
+  /**
+   * This method create an id with an specific prefix and the given strategy.
+   *
+   * @param prefix only 3 characters!
+   * @param strategy the strategy of the engine which creates the id. Null means RANDOM.
+   * @return a String with a length of 40 characters
+   */
+  public static String generateWithPrefix(String prefix, IdGenerationStrategy strategy) {
+    UUID uuid =
+        strategy == IdGenerationStrategy.TIME_ORDERED
+            ? generateTimeOrderedUuid()
+            : UUID.randomUUID();
     return new StringBuilder()
         .append(prefix)
         .append(SEPERATOR)
-        .append(UUID.randomUUID().toString())
+        .append(uuid.toString())
         .toString();
   }
+
+  /**
+   * Creates a UUID with the layout of UUID version 7. The first 48 bits are the current time in
+   * milliseconds, the following 12 bits (after the version) are a sequence number within the
+   * millisecond and the remaining bits are random. Therefore the UUIDs created by this JVM are
+   * strictly increasing, also in their string representation. If more than 4096 UUIDs are created
+   * within one millisecond, the sequence number overflows into the time.
+   *
+   * @return a time ordered UUID
+   */
+  static UUID generateTimeOrderedUuid() {
+    long now = System.currentTimeMillis() << SEQUENCE_BITS;
+    long last;
+    long next;
+    do {
+      last = LAST_TIMESTAMP_AND_SEQUENCE.get();
+      next = Math.max(now, last + 1);
+    } while (!LAST_TIMESTAMP_AND_SEQUENCE.compareAndSet(last, next));
+
+    long mostSigBits =
+        ((next >>> SEQUENCE_BITS) << 16) | VERSION_7 | (next & SEQUENCE_MASK);
+    long leastSigBits =
+        (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_4122;
+    return new UUID(mostSigBits, leastSigBits);
+  }
 }
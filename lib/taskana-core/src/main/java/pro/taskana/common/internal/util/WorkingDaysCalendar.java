@@ -0,0 +1,306 @@
+package pro.taskana.common.internal.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Immutable calendar of working days. Weekends, the German public holidays (if enabled) and the
+ * custom holidays are no working days.
+ *
+ * <p>The calendar precomputes a table for a range of whole years. For every day of the range the
+ * table contains the number of working days before that day (a prefix sum) and for every working
+ * day its position in the range. Therefore adding working days to a date, counting the working days
+ * between two dates and checking a single date are array lookups. If a computation leaves the range
+ * of the table, a larger table is built and replaces the old one.
+ */
+public final class WorkingDaysCalendar {
+
+  private static final int INITIAL_YEARS_BEFORE = 2;
+  private static final int INITIAL_YEARS_AFTER = 3;
+  // every year has at least 200 working days, even with all German holidays
+  private static final int MIN_WORKING_DAYS_PER_YEAR = 200;
+  private static final int MAX_YEARS = 1000;
+  private static final long GOOD_FRIDAY = -2;
+  private static final long EASTER_MONDAY = 1;
+  private static final long ASCENSION_DAY = 39;
+  private static final long WHIT_MONDAY = 50;
+
+  private final boolean germanHolidaysEnabled;
+  private final Set<LocalDate> customHolidays;
+  private volatile Table table;
+
+  private WorkingDaysCalendar(boolean germanHolidaysEnabled, Set<LocalDate> customHolidays) {
+    this.germanHolidaysEnabled = germanHolidaysEnabled;
+    this.customHolidays = Collections.unmodifiableSet(customHolidays);
+    int currentYear = LocalDate.now().getYear();
+    this.table =
+        buildTable(currentYear - INITIAL_YEARS_BEFORE, currentYear + INITIAL_YEARS_AFTER);
+  }
+
+  /**
+   * Creates the calendar for the given holiday configuration. The calendars are not shared, every
+   * engine keeps the calendar of its own configuration.
+   *
+   * @param germanHolidaysEnabled true if the German public holidays are no working days
+   * @param customHolidays additional holidays, may be null
+   * @return the calendar for the given holiday configuration
+   */
+  public static WorkingDaysCalendar of(
+      boolean germanHolidaysEnabled, Collection<LocalDate> customHolidays) {
+    return new WorkingDaysCalendar(germanHolidaysEnabled, toSet(customHolidays));
+  }
+
+  /**
+   * Checks whether this calendar was created for the given holiday configuration.
+   *
+   * @param germanHolidaysEnabled true if the German public holidays are no working days
+   * @param customHolidays additional holidays, may be null
+   * @return true if the calendar has exactly these holidays
+   */
+  public boolean hasHolidays(boolean germanHolidaysEnabled, Collection<LocalDate> customHolidays) {
+    return this.germanHolidaysEnabled == germanHolidaysEnabled
+        && this.customHolidays.equals(toSet(customHolidays));
+  }
+
+  public boolean isGermanHolidaysEnabled() {
+    return germanHolidaysEnabled;
+  }
+
+  public Set<LocalDate> getCustomHolidays() {
+    return customHolidays;
+  }
+
+  /**
+   * Computes the offset in days from a start date to the n-th working day. The start date itself
+   * counts as working day 0 if it is a working day. For a negative number of working days the
+   * working days before the start date are counted.
+   *
+   * @param start the date to start from
+   * @param workingDays the number of working days to add, may be negative
+   * @return the offset in days from the start date
+   */
+  public long getOffsetOfWorkingDay(LocalDate start, long workingDays) {
+    long startDay = start.toEpochDay();
+    while (true) {
+      Table current = table;
+      if (current.covers(startDay)) {
+        int index = (int) (startDay - current.firstDay);
+        long position =
+            workingDays >= 0
+                ? current.workingDaysBefore[index] + workingDays
+                : current.workingDaysBefore[index + 1] - 1 + workingDays;
+        if (position >= 0 && position < current.workingDayIndexes.length) {
+          return current.firstDay + current.workingDayIndexes[(int) position] - startDay;
+        }
+      }
+      extendTable(start, workingDays);
+    }
+  }
+
+  /**
+   * Counts the working days in the range [from, to).
+   *
+   * @param from the first day of the range
+   * @param to the first day after the range
+   * @return the number of working days in the range or 0 if to is not after from
+   */
+  public long countWorkingDays(LocalDate from, LocalDate to) {
+    if (!to.isAfter(from)) {
+      return 0;
+    }
+    long fromDay = from.toEpochDay();
+    long toDay = to.toEpochDay();
+    Table current = table;
+    if (!current.covers(fromDay) || !current.covers(toDay - 1)) {
+      current = extendTable(from.getYear(), to.getYear());
+    }
+    return current.workingDaysBefore[(int) (toDay - current.firstDay)]
+        - current.workingDaysBefore[(int) (fromDay - current.firstDay)];
+  }
+
+  public boolean isWorkingDay(LocalDate date) {
+    long day = date.toEpochDay();
+    Table current = table;
+    if (current.covers(day)) {
+      int index = (int) (day - current.firstDay);
+      return current.workingDaysBefore[index + 1] != current.workingDaysBefore[index];
+    }
+    return !isWeekend(date) && !isHoliday(date);
+  }
+
+  public boolean isHoliday(LocalDate date) {
+    return (germanHolidaysEnabled && isGermanHoliday(date)) || customHolidays.contains(date);
+  }
+
+  public boolean isGermanHoliday(LocalDate date) {
+    // Fix holidays that are valid throughout Germany: New years day, Labour Day, Day of German
+    // Unity, Christmas
+    for (GermanFixHolidays holiday : GermanFixHolidays.values()) {
+      if (holiday.matches(date)) {
+        return true;
+      }
+    }
+    // Movable holidays: Good Friday, Easter Monday, Ascension Day, Whit Monday
+    long diffFromEasterSunday =
+        date.toEpochDay() - getEasterSunday(date.getYear()).toEpochDay();
+    return diffFromEasterSunday == GOOD_FRIDAY
+        || diffFromEasterSunday == EASTER_MONDAY
+        || diffFromEasterSunday == ASCENSION_DAY
+        || diffFromEasterSunday == WHIT_MONDAY;
+  }
+
+  private static Set<LocalDate> toSet(Collection<LocalDate> holidays) {
+    return new HashSet<>(holidays == null ? Collections.emptySet() : holidays);
+  }
+
+  @Override
+  public String toString() {
+    return "WorkingDaysCalendar [germanHolidaysEnabled="
+        + germanHolidaysEnabled
+        + ", customHolidays="
+        + customHolidays
+        + ", firstDay="
+        + LocalDate.ofEpochDay(table.firstDay)
+        + ", lastDay="
+        + LocalDate.ofEpochDay(table.firstDay + table.workingDaysBefore.length - 2)
+        + "]";
+  }
+
+  /**
+   * Computes the date of Easter Sunday for a given year.
+   *
+   * @param year for which the date of Easter Sunday should be calculated
+   * @return the date of Easter Sunday for the given year
+   */
+  static LocalDate getEasterSunday(int year) {
+    // Formula to compute Easter Sunday by Gauss.
+    int a = year % 19;
+    int b = year % 4;
+    int c = year % 7;
+    int k = year / 100;
+    int p = (13 + 8 * k) / 25;
+    int q = k / 4;
+    int m = (15 - p + k - q) % 30;
+    int n = (4 + k - q) % 7;
+    int d = (19 * a + m) % 30;
+
+    int e = (2 * b + 4 * c + 6 * d + n) % 7;
+
+    if (d == 29 && e == 6) {
+      return LocalDate.of(year, 3, 15).plusDays((long) d + e);
+    }
+    if (d == 28 && e == 6 && (11 * m + 11) % 30 < 19) {
+      return LocalDate.of(year, 3, 15).plusDays((long) d + e);
+    }
+    return LocalDate.of(year, 3, 22).plusDays((long) d + e);
+  }
+
+  private boolean isWeekend(LocalDate date) {
+    return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+  }
+
+  private void extendTable(LocalDate start, long workingDays) {
+    long years = Math.abs(workingDays) / MIN_WORKING_DAYS_PER_YEAR + 1;
+    if (years > MAX_YEARS) {
+      throw new SystemException(
+          String.format("Cannot compute %d working days from %s", workingDays, start));
+    }
+    if (workingDays >= 0) {
+      extendTable(start.getYear(), start.getYear() + (int) years);
+    } else {
+      extendTable(start.getYear() - (int) years, start.getYear());
+    }
+  }
+
+  private synchronized Table extendTable(int fromYear, int toYear) {
+    Table current = table;
+    int firstYear = Math.min(current.firstYear, fromYear);
+    int lastYear = Math.max(current.lastYear, toYear);
+    if (firstYear == current.firstYear && lastYear == current.lastYear) {
+      // the years are covered, but the custom holidays leave too few working days in them
+      firstYear--;
+      lastYear++;
+    }
+    if (lastYear - firstYear > MAX_YEARS) {
+      throw new SystemException(
+          String.format("Cannot compute working days between %d and %d", firstYear, lastYear));
+    }
+    current = buildTable(firstYear, lastYear);
+    table = current;
+    return current;
+  }
+
+  private Table buildTable(int firstYear, int lastYear) {
+    LocalDate first = LocalDate.of(firstYear, 1, 1);
+    int numberOfDays = (int) (LocalDate.of(lastYear + 1, 1, 1).toEpochDay() - first.toEpochDay());
+    int[] workingDaysBefore = new int[numberOfDays + 1];
+    int[] workingDayIndexes = new int[numberOfDays];
+    int workingDays = 0;
+    LocalDate date = first;
+    for (int index = 0; index < numberOfDays; index++) {
+      workingDaysBefore[index] = workingDays;
+      if (!isWeekend(date) && !isHoliday(date)) {
+        workingDayIndexes[workingDays++] = index;
+      }
+      date = date.plusDays(1);
+    }
+    workingDaysBefore[numberOfDays] = workingDays;
+    int[] indexes = new int[workingDays];
+    System.arraycopy(workingDayIndexes, 0, indexes, 0, workingDays);
+    return new Table(firstYear, lastYear, first.toEpochDay(), workingDaysBefore, indexes);
+  }
+
+  /** Enumeration of German holidays. */
+  private enum GermanFixHolidays {
+    NEWYEAR(1, 1),
+    LABOURDAY(5, 1),
+    GERMANUNITY(10, 3),
+    CHRISTMAS1(12, 25),
+    CHRISTMAS2(12, 26);
+
+    private int month;
+    private int day;
+
+    GermanFixHolidays(int month, int day) {
+      this.month = month;
+      this.day = day;
+    }
+
+    public boolean matches(LocalDate date) {
+      return date.getDayOfMonth() == day && date.getMonthValue() == month;
+    }
+  }
+
+  /** Precomputed working days of the whole years from firstYear to lastYear. */
+  private static final class Table {
+
+    private final int firstYear;
+    private final int lastYear;
+    private final long firstDay;
+    private final int[] workingDaysBefore;
+    private final int[] workingDayIndexes;
+
+    private Table(
+        int firstYear,
+        int lastYear,
+        long firstDay,
+        int[] workingDaysBefore,
+        int[] workingDayIndexes) {
+      this.firstYear = firstYear;
+      this.lastYear = lastYear;
+      this.firstDay = firstDay;
+      this.workingDaysBefore = workingDaysBefore;
+      this.workingDayIndexes = workingDayIndexes;
+    }
+
+    private boolean covers(long day) {
+      return day >= firstDay && day < firstDay + workingDaysBefore.length - 1;
+    }
+  }
+}
@@ -1,54 +1,48 @@
 package pro.taskana.common.internal.util;
 
-import static java.time.temporal.ChronoUnit.DAYS;
-
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.LongStream;
-import java.util.stream.Stream;
 
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.SystemException;
 
 /**
  * The WorkingDaysToDaysConverter provides a method to convert an age in working days into an age in
- * days.
+ * days. All computations are delegated to the immutable {@link WorkingDaysCalendar} the converter
+ * was created with.
  */
 public final class WorkingDaysToDaysConverter {
 
-  private static boolean germanHolidaysEnabled;
-  private static Set<LocalDate> customHolidays = new HashSet<>();
-  private Instant referenceDate;
-  private LocalDate easterSunday;
+  private final Instant referenceDate;
+  private final WorkingDaysCalendar calendar;
 
-  private WorkingDaysToDaysConverter(Instant referenceDate) {
-    easterSunday =
-        getEasterSunday(LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).getYear());
+  private WorkingDaysToDaysConverter(Instant referenceDate, WorkingDaysCalendar calendar) {
     this.referenceDate = referenceDate;
+    this.calendar = calendar;
   }
 
   public Instant getReferenceDate() {
     return referenceDate;
   }
 
+  public WorkingDaysCalendar getCalendar() {
+    return calendar;
+  }
+
   /**
-   * Initializes the WorkingDaysToDaysConverter for the current day.
+   * Initializes the WorkingDaysToDaysConverter for the current day and a calendar.
    *
+   * @param calendar the {@link WorkingDaysCalendar} which determines the working days
    * @return an instance of the WorkingDaysToDaysConverter
-   * @throws SystemException is thrown when the {@link WorkingDaysToDaysConverter} cannot be
-   *     initialized with the current Instant. Should never occur.
+   * @throws SystemException is thrown when the calendar is null. Should never occur.
    */
-  public static WorkingDaysToDaysConverter initialize() {
+  public static WorkingDaysToDaysConverter initialize(WorkingDaysCalendar calendar) {
     try {
-      return initialize(Instant.now());
+      return initialize(Instant.now(), calendar);
     } catch (InvalidArgumentException ex) {
       throw new SystemException(
           "Internal error. Cannot initialize WorkingDaysToDaysConverter. This should not happen",
@@ -57,45 +51,46 @@ public final class WorkingDaysToDaysConverter {
   }
 
   /**
-   * Initializes the WorkingDaysToDaysConverter for a referenceDate.
+   * Initializes the WorkingDaysToDaysConverter for a referenceDate and a calendar.
    *
    * @param referenceDate a {@link Instant} that represents the current day of the table
+   * @param calendar the {@link WorkingDaysCalendar} which determines the working days
    * @return an instance of the WorkingDaysToDaysConverter
-   * @throws InvalidArgumentException thrown if columnHeaders or referenceDate is null
+   * @throws InvalidArgumentException thrown if referenceDate or calendar is null
    */
-  public static WorkingDaysToDaysConverter initialize(Instant referenceDate)
-      throws InvalidArgumentException {
+  public static WorkingDaysToDaysConverter initialize(
+      Instant referenceDate, WorkingDaysCalendar calendar) throws InvalidArgumentException {
 
     if (referenceDate == null) {
       throw new InvalidArgumentException("ReferenceDate cannot be used as NULL-Parameter");
     }
+    if (calendar == null) {
+      throw new InvalidArgumentException("Calendar cannot be used as NULL-Parameter");
+    }
 
-    return new WorkingDaysToDaysConverter(referenceDate);
-  }
-
-  public static void setGermanPublicHolidaysEnabled(boolean germanPublicHolidaysEnabled) {
-    germanHolidaysEnabled = germanPublicHolidaysEnabled;
+    return new WorkingDaysToDaysConverter(referenceDate, calendar);
   }
 
-  public static void setCustomHolidays(List<LocalDate> holidays) {
-    customHolidays = new HashSet<>(holidays == null ? Collections.emptyList() : holidays);
+  /**
+   * Initializes the WorkingDaysToDaysConverter for the current day and the holidays of a
+   * configuration.
+   *
+   * @param germanPublicHolidaysEnabled true if the German public holidays are no working days
+   * @param customHolidays additional holidays, may be null
+   * @return an instance of the WorkingDaysToDaysConverter
+   */
+  public static WorkingDaysToDaysConverter initialize(
+      boolean germanPublicHolidaysEnabled, List<LocalDate> customHolidays) {
+    return new WorkingDaysToDaysConverter(
+        Instant.now(), WorkingDaysCalendar.of(germanPublicHolidaysEnabled, customHolidays));
   }
 
   public long convertWorkingDaysToDays(Instant startTime, long numberOfDays) {
     if (startTime == null) {
       throw new SystemException(
           "Internal Error: convertWorkingDasToDays was called with a null startTime");
-    } else if (!startTime.equals(referenceDate)) {
-      refreshReferenceDate(referenceDate);
     }
-    int direction = numberOfDays >= 0 ? 1 : -1;
-    long limit = Math.abs(numberOfDays);
-    final Instant finalStartTime = startTime;
-    return LongStream.iterate(0, i -> i + direction)
-        .filter(day -> isWorkingDay(day, finalStartTime))
-        .skip(limit)
-        .findFirst()
-        .orElse(0);
+    return calendar.getOffsetOfWorkingDay(toLocalDate(startTime), numberOfDays);
   }
 
   public Instant addWorkingDaysToInstant(Instant instant, Duration workingDays) {
@@ -108,83 +103,28 @@ public final class WorkingDaysToDaysConverter {
     return instant.plus(Duration.ofDays(days));
   }
 
-  public boolean isWorkingDay(long day, Instant referenceDate) {
-    LocalDateTime dateToCheck =
-        LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).plusDays(day);
-
-    return !isWeekend(dateToCheck) && !isHoliday(dateToCheck.toLocalDate());
+  /**
+   * Counts the working days among the days [0, numberOfDays) after a start time.
+   *
+   * @param startTime the day 0
+   * @param numberOfDays the number of days to check
+   * @return the number of working days
+   */
+  public long countWorkingDays(Instant startTime, long numberOfDays) {
+    LocalDate start = toLocalDate(startTime);
+    return calendar.countWorkingDays(start, start.plusDays(numberOfDays));
   }
 
-  public boolean isWeekend(LocalDateTime dateToCheck) {
-    return dateToCheck.getDayOfWeek().equals(DayOfWeek.SATURDAY)
-        || dateToCheck.getDayOfWeek().equals(DayOfWeek.SUNDAY);
+  public boolean isWorkingDay(long day, Instant referenceDate) {
+    return calendar.isWorkingDay(toLocalDate(referenceDate).plusDays(day));
   }
 
   public boolean isHoliday(LocalDate date) {
-    if (germanHolidaysEnabled && isGermanHoliday(date)) {
-      return true;
-    }
-    // Custom holidays that can be configured in the TaskanaEngineConfiguration
-    return customHolidays.contains(date);
+    return calendar.isHoliday(date);
   }
 
   public boolean isGermanHoliday(LocalDate date) {
-    // Fix and movable holidays that are valid throughout Germany: New years day, Labour Day, Day of
-    // German
-    // Unity, Christmas,
-    if (Stream.of(GermanFixHolidays.values()).anyMatch(day -> day.matches(date))) {
-      return true;
-    }
-
-    // Easter holidays Good Friday, Easter Monday, Ascension Day, Whit Monday.
-    long diffFromEasterSunday = DAYS.between(easterSunday, date);
-    long goodFriday = -2;
-    long easterMonday = 1;
-    long ascensionDay = 39;
-    long whitMonday = 50;
-
-    return LongStream.of(goodFriday, easterMonday, ascensionDay, whitMonday)
-        .anyMatch(diff -> diff == diffFromEasterSunday);
-  }
-
-  /**
-   * Computes the date of Easter Sunday for a given year.
-   *
-   * @param year for which the date of Easter Sunday should be calculated
-   * @return the date of Easter Sunday for the given year
-   */
-  static LocalDate getEasterSunday(int year) {
-    // Formula to compute Easter Sunday by Gauss.
-    int a = year % 19;
-    int b = year % 4;
-    int c = year % 7;
-    int k = year / 100;
-    int p = (13 + 8 * k) / 25;
-    int q = k / 4;
-    int m = (15 - p + k - q) % 30;
-    int n = (4 + k - q) % 7;
-    int d = (19 * a + m) % 30;
-
-    int e = (2 * b + 4 * c + 6 * d + n) % 7;
-
-    if (d == 29 && e == 6) {
-      return LocalDate.of(year, 3, 15).plusDays((long) d + e);
-    }
-    if (d == 28 && e == 6 && (11 * m + 11) % 30 < 19) {
-      return LocalDate.of(year, 3, 15).plusDays((long) d + e);
-    }
-    return LocalDate.of(year, 3, 22).plusDays((long) d + e);
-  }
-
-  private void refreshReferenceDate(Instant newReferenceDate) {
-    int yearOfReferenceDate =
-        LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).getYear();
-    int yearOfNewReferenceDate =
-        LocalDateTime.ofInstant(newReferenceDate, ZoneId.systemDefault()).getYear();
-    if (yearOfReferenceDate != yearOfNewReferenceDate) {
-      easterSunday = getEasterSunday(yearOfNewReferenceDate);
-    }
-    this.referenceDate = newReferenceDate;
+    return calendar.isGermanHoliday(date);
   }
 
   @Override
@@ -192,29 +132,12 @@ public final class WorkingDaysToDaysConverter {
     return "WorkingDaysToDaysConverter{"
         + "dateCreated="
         + referenceDate
-        + ", easterSunday="
-        + easterSunday
+        + ", calendar="
+        + calendar
         + '}';
   }
 
-  /** Enumeration of German holidays. */
-  private enum GermanFixHolidays {
-    NEWYEAR(1, 1),
-    LABOURDAY(5, 1),
-    GERMANUNITY(10, 3),
-    CHRISTMAS1(12, 25),
-    CHRISTMAS2(12, 26);
-
-    private int month;
-    private int day;
-
-    GermanFixHolidays(int month, int day) {
-      this.month = month;
-      this.day = day;
-    }
-
-    public boolean matches(LocalDate date) {
-      return date.getDayOfMonth() == day && date.getMonthValue() == month;
-    }
+  private static LocalDate toLocalDate(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneId.systemDefault()).toLocalDate();
   }
 }
@@ -1,6 +1,8 @@
 package pro.taskana.monitor.api.reports;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,8 @@ import java.util.Set;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.monitor.api.reports.header.ColumnHeader;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
 import pro.taskana.monitor.api.reports.row.Row;
@@ -31,11 +35,13 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   private Map<String, Row<I>> reportRows = new LinkedHashMap<>();
   private Row<I> sumRow;
   private String[] rowDesc;
+  private final AgeColumnLookup ageColumnLookup;
 
   protected Report(List<H> columnHeaders, String[] rowDesc) {
     this.rowDesc = rowDesc;
     sumRow = createRow(columnHeaders.size());
     this.columnHeaders = new ArrayList<>(columnHeaders);
+    this.ageColumnLookup = AgeColumnLookup.create(this.columnHeaders);
   }
 
   public final Map<String, Row<I>> getRows() {
@@ -72,6 +78,13 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
       row = reportRows.computeIfAbsent(item.getKey(), (s) -> createRow(columnHeaders.size()));
       row.updateTotalValue(item);
       sumRow.updateTotalValue(item);
+    } else if (ageColumnLookup != null && item instanceof AgeQueryItem) {
+      int column = ageColumnLookup.findColumn(((AgeQueryItem) item).getAgeInDays());
+      if (column >= 0) {
+        row = reportRows.computeIfAbsent(item.getKey(), (s) -> createRow(columnHeaders.size()));
+        row.addItem(item, column);
+        sumRow.addItem(item, column);
+      }
     } else {
       for (int i = 0; i < columnHeaders.size(); i++) {
         if (columnHeaders.get(i).fits(item)) {
@@ -101,6 +114,80 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
     return new SingleRow<>(columnSize);
   }
 
+  /**
+   * Finds the column of an age with a binary search over the limits of the {@link
+   * TimeIntervalColumnHeader}s. It can only be used if the column headers don't overlap, because
+   * then an age fits into at most one column.
+   */
+  private static final class AgeColumnLookup {
+
+    private final int[] lowerAgeLimits;
+    private final int[] upperAgeLimits;
+    private final int[] columns;
+
+    private AgeColumnLookup(int[] lowerAgeLimits, int[] upperAgeLimits, int[] columns) {
+      this.lowerAgeLimits = lowerAgeLimits;
+      this.upperAgeLimits = upperAgeLimits;
+      this.columns = columns;
+    }
+
+    private static AgeColumnLookup create(List<? extends ColumnHeader<?>> columnHeaders) {
+      if (columnHeaders.isEmpty()
+          || !columnHeaders.stream().allMatch(AgeColumnLookup::hasDefaultFitsMethod)) {
+        return null;
+      }
+      List<TimeIntervalColumnHeader> headers = new ArrayList<>();
+      columnHeaders.forEach(header -> headers.add((TimeIntervalColumnHeader) header));
+      Integer[] order = new Integer[headers.size()];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparingInt(i -> headers.get(i).getLowerAgeLimit()));
+
+      int[] lowerAgeLimits = new int[order.length];
+      int[] upperAgeLimits = new int[order.length];
+      int[] columns = new int[order.length];
+      for (int i = 0; i < order.length; i++) {
+        TimeIntervalColumnHeader header = headers.get(order[i]);
+        if (header.getLowerAgeLimit() > header.getUpperAgeLimit()
+            || (i > 0 && header.getLowerAgeLimit() <= upperAgeLimits[i - 1])) {
+          return null;
+        }
+        lowerAgeLimits[i] = header.getLowerAgeLimit();
+        upperAgeLimits[i] = header.getUpperAgeLimit();
+        columns[i] = order[i];
+      }
+      return new AgeColumnLookup(lowerAgeLimits, upperAgeLimits, columns);
+    }
+
+    private static boolean hasDefaultFitsMethod(ColumnHeader<?> header) {
+      if (!(header instanceof TimeIntervalColumnHeader)) {
+        return false;
+      }
+      try {
+        return header.getClass().getMethod("fits", AgeQueryItem.class).getDeclaringClass()
+            == TimeIntervalColumnHeader.class;
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
+    }
+
+    /**
+     * Returns the index of the column the given age fits into.
+     *
+     * @param ageInDays the age
+     * @return the index of the column or -1 if the age fits into no column
+     */
+    private int findColumn(int ageInDays) {
+      int index = Arrays.binarySearch(lowerAgeLimits, ageInDays);
+      if (index < 0) {
+        // the insertion point is the first column with a greater lower limit
+        index = -index - 2;
+      }
+      return index >= 0 && upperAgeLimits[index] >= ageInDays ? columns[index] : -1;
+    }
+  }
+
   /**
    * Builder for {@link Report}.
    *
@@ -21,6 +21,11 @@ import pro.taskana.task.api.Timestamp;
 @SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
 public interface MonitorMapper {
 
+  String TIMESTAMP_OF_STATUS =
+      "(CASE S.STATUS WHEN 'CREATED' THEN T.CREATED WHEN 'CLAIMED' THEN T.CLAIMED "
+          + "WHEN 'COMPLETED' THEN T.COMPLETED WHEN 'MODIFIED' THEN T.MODIFIED "
+          + "WHEN 'PLANNED' THEN T.PLANNED WHEN 'DUE' THEN T.DUE END)";
+
   @Select(
       "<script>"
           + "SELECT B.WORKBASKET_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
@@ -415,6 +420,25 @@ public interface MonitorMapper {
   List<TaskQueryItem> getTasksCountByState(
       @Param("domains") List<String> domains, @Param("states") List<TaskState> states);
 
+  @Select(
+      "<script>"
+          + "SELECT T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.STATE, T.CLASSIFICATION_CATEGORY, CAST(T.DUE AS DATE) AS DUE_DAY, "
+          + "COUNT(DISTINCT T.ID) AS NUMBER_OF_TASKS, COUNT(*) AS NUMBER_OF_ROWS "
+          + "FROM TASK AS T LEFT JOIN ATTACHMENT AS A ON T.ID = A.TASK_ID "
+          + "GROUP BY T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.STATE, T.CLASSIFICATION_CATEGORY, CAST(T.DUE AS DATE)"
+          + "</script>")
+  @Results({
+    @Result(column = "WORKBASKET_ID", property = "workbasketId"),
+    @Result(column = "WORKBASKET_KEY", property = "workbasketKey"),
+    @Result(column = "DOMAIN", property = "domain"),
+    @Result(column = "STATE", property = "state"),
+    @Result(column = "CLASSIFICATION_CATEGORY", property = "category"),
+    @Result(column = "DUE_DAY", property = "dueDay"),
+    @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks"),
+    @Result(column = "NUMBER_OF_ROWS", property = "numberOfRows")
+  })
+  List<TaskCountItem> getTaskCounts();
+
   @Select(
       "<script>"
           + "SELECT DISTINCT ${customField} "
@@ -455,24 +479,20 @@ public interface MonitorMapper {
 
   @Select(
       "<script>"
-          + "SELECT A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4, "
-          + "'${status}' AS STATUS, COUNT(A.AGE_IN_DAYS) AS COUNT FROM ("
-          // This subquery prevents the repetition of the AGE_IN_DAYS column calculation
-          // (like everywhere else in the Mappers...)in the group by clause.
-          // DB2 is not able to reuse computed columns in the group by statement. Even if this adds
-          // a little
-          // overhead / complexity. It's worth the trade-off of not computing the AGE_IN_DAYS column
-          // twice.
-          + "SELECT W.ORG_LEVEL_1, W.ORG_LEVEL_2, W.ORG_LEVEL_3, W.ORG_LEVEL_4, "
-          + "<if test=\"_databaseId == 'db2'\">(DAYS(T.${status}) - DAYS(CURRENT_TIMESTAMP))</if>"
-          + "<if test=\"_databaseId == 'h2'\">DATEDIFF('DAY', CURRENT_TIMESTAMP, T.${status})</if>"
-          + "<if test=\"_databaseId == 'postgres'\">DATE_PART('DAY', T.${status} - CURRENT_TIMESTAMP)</if>"
+          + "SELECT A.STATUS, A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4, "
+          + "COUNT(A.AGE_IN_DAYS) AS COUNT FROM ("
+          // Every task is combined with every requested status by the join with the VALUES list.
+          // This way TASK is scanned only once for all statuses. The CASE expression picks the
+          // timestamp of the status and the subquery prevents the repetition of the AGE_IN_DAYS
+          // column calculation in the group by clause, because DB2 can't reuse computed columns.
+          + "SELECT S.STATUS, W.ORG_LEVEL_1, W.ORG_LEVEL_2, W.ORG_LEVEL_3, W.ORG_LEVEL_4, "
+          + "<if test=\"_databaseId == 'db2'\">(DAYS(" + TIMESTAMP_OF_STATUS + ") - DAYS(CURRENT_TIMESTAMP))</if>"
+          + "<if test=\"_databaseId == 'h2'\">DATEDIFF('DAY', CURRENT_TIMESTAMP, " + TIMESTAMP_OF_STATUS + ")</if>"
+          + "<if test=\"_databaseId == 'postgres'\">DATE_PART('DAY', " + TIMESTAMP_OF_STATUS + " - CURRENT_TIMESTAMP)</if>"
           + " as AGE_IN_DAYS "
           + "FROM TASK AS T INNER JOIN WORKBASKET AS W ON T.WORKBASKET_KEY=W.KEY "
+          + "CROSS JOIN (VALUES <foreach collection='statuses' item='status' separator=','>(CAST(#{status} AS VARCHAR(32)))</foreach>) AS S (STATUS) "
           + "<where>"
-          + "<if test=\"status.name() == 'COMPLETED'\">"
-          + "T.COMPLETED IS NOT NULL"
-          + "</if>"
           + "<if test='categories != null'>"
           + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
           + "</if>"
@@ -490,7 +510,8 @@ public interface MonitorMapper {
           + "</if>"
           + "</where>"
           + ") AS A "
-          + "GROUP BY A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4 "
+          + "WHERE A.AGE_IN_DAYS IS NOT NULL "
+          + "GROUP BY A.STATUS, A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4 "
           + "</script>")
   @Results({
     @Result(column = "STATUS", property = "status"),
@@ -501,8 +522,8 @@ public interface MonitorMapper {
     @Result(column = "ORG_LEVEL_3", property = "orgLevel3"),
     @Result(column = "ORG_LEVEL_4", property = "orgLevel4")
   })
-  List<TimestampQueryItem> getTasksCountForStatusGroupedByOrgLevel(
-      @Param("status") Timestamp status,
+  List<TimestampQueryItem> getTasksCountForStatusesGroupedByOrgLevel(
+      @Param("statuses") List<Timestamp> statuses,
       @Param("categories") List<String> categories,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
@@ -21,16 +21,21 @@ public class MonitorServiceImpl implements MonitorService {
 
   private InternalTaskanaEngine taskanaEngine;
   private MonitorMapper monitorMapper;
+  private TaskCountStore taskCountStore;
 
-  public MonitorServiceImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  public MonitorServiceImpl(
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      TaskCountStore taskCountStore) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.taskCountStore = taskCountStore;
   }
 
   @Override
   public WorkbasketReport.Builder createWorkbasketReportBuilder() {
-    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper, taskCountStore);
   }
 
   @Override
@@ -51,7 +56,7 @@ public class MonitorServiceImpl implements MonitorService {
 
   @Override
   public TaskStatusReport.Builder createTaskStatusReportBuilder() {
-    return new TaskStatusReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new TaskStatusReportBuilderImpl(taskanaEngine, monitorMapper, taskCountStore);
   }
 
   @Override
@@ -0,0 +1,113 @@
+package pro.taskana.monitor.internal;
+
+import java.sql.Date;
+
+import pro.taskana.task.api.TaskState;
+
+/**
+ * The TaskCountItem contains the number of tasks for one combination of workbasket, domain, state,
+ * classification category and due day. It is used to (re)load the {@link TaskCountStore}.
+ */
+public class TaskCountItem {
+
+  private String workbasketId;
+  private String workbasketKey;
+  private String domain;
+  private TaskState state;
+  private String category;
+  private Date dueDay;
+  private int numberOfTasks;
+  private int numberOfRows;
+
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  public void setWorkbasketId(String workbasketId) {
+    this.workbasketId = workbasketId;
+  }
+
+  public String getWorkbasketKey() {
+    return workbasketKey;
+  }
+
+  public void setWorkbasketKey(String workbasketKey) {
+    this.workbasketKey = workbasketKey;
+  }
+
+  public String getDomain() {
+    return domain;
+  }
+
+  public void setDomain(String domain) {
+    this.domain = domain;
+  }
+
+  public TaskState getState() {
+    return state;
+  }
+
+  public void setState(TaskState state) {
+    this.state = state;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  public void setCategory(String category) {
+    this.category = category;
+  }
+
+  public Date getDueDay() {
+    return dueDay;
+  }
+
+  public void setDueDay(Date dueDay) {
+    this.dueDay = dueDay;
+  }
+
+  public int getNumberOfTasks() {
+    return numberOfTasks;
+  }
+
+  public void setNumberOfTasks(int numberOfTasks) {
+    this.numberOfTasks = numberOfTasks;
+  }
+
+  /**
+   * Returns the number of rows the tasks produce when they are joined with their attachments. A
+   * task without attachments produces one row.
+   *
+   * @return the number of joined rows
+   */
+  public int getNumberOfRows() {
+    return numberOfRows;
+  }
+
+  public void setNumberOfRows(int numberOfRows) {
+    this.numberOfRows = numberOfRows;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskCountItem ["
+        + "workbasketId= "
+        + this.workbasketId
+        + ", workbasketKey= "
+        + this.workbasketKey
+        + ", domain= "
+        + this.domain
+        + ", state= "
+        + this.state
+        + ", category= "
+        + this.category
+        + ", dueDay= "
+        + this.dueDay
+        + ", numberOfTasks= "
+        + this.numberOfTasks
+        + ", numberOfRows= "
+        + this.numberOfRows
+        + "]";
+  }
+}
@@ -0,0 +1,484 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.api.reports.item.TaskQueryItem;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/**
+ * Engine wide store of task counts grouped by workbasket, domain, state, classification category
+ * and due day. The counts are loaded with one grouped query and afterwards maintained
+ * incrementally by the TaskService, so that the WorkbasketReport and the TaskStatusReport don't
+ * have to aggregate the TASK table for every report. Changes which affect many tasks at once have
+ * to {@link #invalidate() invalidate} the store instead.
+ *
+ * <p>The changes of the counts are collected per transaction and applied after it committed, so
+ * a rolled back transaction leaves the counts untouched. If the counts were reloaded in the
+ * meantime, the reloaded counts may already contain the changes and the store is invalidated
+ * instead. With a connection management mode of PARTICIPATE the changes are applied when the
+ * TASKANA call returns, before the surrounding transaction commits. The counts still drift if such
+ * a transaction is rolled back or if tasks are changed by another engine. Therefore the store
+ * reloads the counts after the configured reconciliation interval and logs any drift it detects.
+ */
+public class TaskCountStore {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskCountStore.class);
+
+  private final boolean enabled;
+  private final boolean ageInDaysSupported;
+  private final long reconciliationIntervalNanos;
+  private final Consumer<Runnable> afterCommit;
+  private Map<Key, long[]> counts = new HashMap<>();
+  private boolean loaded;
+  // changed whenever the counts are loaded or discarded
+  private long generation;
+  private long loadedAt;
+  private long reconciliationCount;
+  private long driftCount;
+
+  /**
+   * Creates a new TaskCountStore.
+   *
+   * @param enabled whether the store is used at all
+   * @param reconciliationInterval the interval after which the counts are reloaded
+   * @param ageInDaysSupported whether the age of the tasks in days is computed by the database as
+   *     the difference of calendar days, which is what the store computes
+   * @param afterCommit executes the given action after the current transaction committed
+   */
+  public TaskCountStore(
+      boolean enabled,
+      Duration reconciliationInterval,
+      boolean ageInDaysSupported,
+      Consumer<Runnable> afterCommit) {
+    this.enabled = enabled && !reconciliationInterval.isNegative();
+    this.reconciliationIntervalNanos = reconciliationInterval.toNanos();
+    this.ageInDaysSupported = ageInDaysSupported;
+    this.afterCommit = afterCommit;
+  }
+
+  public static TaskCountStore disabled() {
+    return new TaskCountStore(false, Duration.ZERO, false, Runnable::run);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean isAgeInDaysSupported() {
+    return enabled && ageInDaysSupported;
+  }
+
+  /**
+   * Captures the counted properties of a task as they are stored. The entry has to be captured
+   * before a task is modified so that its old counts can be removed afterwards. Like the reports
+   * computed by the database, the store counts a task in the DOMAIN stored with the task, which can
+   * differ from the domain of its workbasket.
+   *
+   * @param task the task
+   * @return the entry of the task or null, if the store is disabled
+   */
+  public Entry entryOf(Task task) {
+    if (task instanceof TaskImpl && ((TaskImpl) task).getPersistedDomain() != null) {
+      return entryOf(task, ((TaskImpl) task).getPersistedDomain());
+    }
+    return entryOf(task, task == null ? null : task.getDomain());
+  }
+
+  private Entry entryOf(Task task, String domain) {
+    if (!enabled || task == null) {
+      return null;
+    }
+    LocalDate dueDay =
+        task.getDue() == null
+            ? null
+            : LocalDateTime.ofInstant(task.getDue(), ZoneOffset.UTC).toLocalDate();
+    Key key =
+        new Key(
+            task.getWorkbasketSummary() == null ? null : task.getWorkbasketSummary().getId(),
+            task.getWorkbasketKey(),
+            domain,
+            task.getState(),
+            task.getClassificationCategory(),
+            dueDay);
+    int attachments = task.getAttachments() == null ? 0 : task.getAttachments().size();
+    return new Entry(key, Math.max(1, attachments));
+  }
+
+  public void taskCreated(Task task) {
+    tasksCreated(Collections.singletonList(task));
+  }
+
+  /**
+   * Adds the counts of the given tasks after the current transaction committed.
+   *
+   * @param tasks the created tasks
+   */
+  public void tasksCreated(List<? extends Task> tasks) {
+    if (!enabled) {
+      return;
+    }
+    Map<Key, long[]> deltas = new HashMap<>();
+    // a task is written with the domain of its workbasket
+    tasks.forEach(task -> add(deltas, entryOf(task, task.getDomain()), 1));
+    applyAfterCommit(deltas);
+  }
+
+  public void taskDeleted(Entry entry) {
+    if (entry == null) {
+      return;
+    }
+    Map<Key, long[]> deltas = new HashMap<>();
+    add(deltas, entry, -1);
+    applyAfterCommit(deltas);
+  }
+
+  /**
+   * Moves the counts of a task from its old to its new properties after the current transaction
+   * committed.
+   *
+   * @param before the entry of the task captured before it was modified
+   * @param after the modified task, which was written with the domain of its workbasket
+   */
+  public void taskChanged(Entry before, Task after) {
+    if (after instanceof TaskImpl) {
+      ((TaskImpl) after).setPersistedDomain(after.getDomain());
+    }
+    Entry entry = entryOf(after, after == null ? null : after.getDomain());
+    if (entry == null || entry.equals(before)) {
+      return;
+    }
+    Map<Key, long[]> deltas = new HashMap<>();
+    add(deltas, before, -1);
+    add(deltas, entry, 1);
+    applyAfterCommit(deltas);
+  }
+
+  /**
+   * Discards the counts now and again after the current transaction committed. They are loaded
+   * again without a drift check when they are needed.
+   */
+  public void invalidate() {
+    if (enabled) {
+      discard();
+      afterCommit.accept(this::discard);
+    }
+  }
+
+  /**
+   * Returns the number of tasks per domain and state like {@link
+   * MonitorMapper#getTasksCountByState(List, List)}.
+   *
+   * @param monitorMapper the mapper used to load the counts if necessary
+   * @param domains the domains of the tasks or null for all domains
+   * @param states the states of the tasks or null for all states
+   * @return the number of tasks per domain and state
+   */
+  public List<TaskQueryItem> getTasksCountByState(
+      MonitorMapper monitorMapper, List<String> domains, List<TaskState> states) {
+    Map<Key, long[]> byState = new HashMap<>();
+    for (Map.Entry<Key, long[]> count : getCounts(monitorMapper).entrySet()) {
+      Key key = count.getKey();
+      if (matches(domains, key.domain) && matches(states, key.state)) {
+        Key stateKey = new Key(null, null, key.domain, key.state, null, null);
+        byState.computeIfAbsent(stateKey, k -> new long[2])[0] += count.getValue()[0];
+      }
+    }
+    List<TaskQueryItem> items = new ArrayList<>();
+    byState.forEach(
+        (key, count) -> {
+          TaskQueryItem item = new TaskQueryItem();
+          item.setDomain(key.domain);
+          item.setState(key.state);
+          item.setCount((int) count[0]);
+          items.add(item);
+        });
+    return items;
+  }
+
+  /**
+   * Returns the number of tasks per workbasket key and age in days like {@link
+   * MonitorMapper#getTaskCountOfWorkbaskets}. As in the query, a task is counted once per
+   * attachment and tasks without a due date are ignored.
+   *
+   * @param monitorMapper the mapper used to load the counts if necessary
+   * @param workbasketIds the ids of the workbaskets or null for all workbaskets
+   * @param states the states of the tasks or null for all states
+   * @param categories the classification categories of the tasks or null for all categories
+   * @param domains the domains of the tasks or null for all domains
+   * @return the number of tasks per workbasket key and age in days
+   */
+  public List<MonitorQueryItem> getTaskCountOfWorkbaskets(
+      MonitorMapper monitorMapper,
+      List<String> workbasketIds,
+      List<TaskState> states,
+      List<String> categories,
+      List<String> domains) {
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    Map<String, Map<Integer, MonitorQueryItem>> byWorkbasketKey = new HashMap<>();
+    List<MonitorQueryItem> items = new ArrayList<>();
+    for (Map.Entry<Key, long[]> count : getCounts(monitorMapper).entrySet()) {
+      Key key = count.getKey();
+      if (key.dueDay != null
+          && matches(workbasketIds, key.workbasketId)
+          && matches(states, key.state)
+          && matches(categories, key.category)
+          && matches(domains, key.domain)) {
+        int ageInDays = (int) ChronoUnit.DAYS.between(today, key.dueDay);
+        MonitorQueryItem item =
+            byWorkbasketKey
+                .computeIfAbsent(key.workbasketKey, k -> new HashMap<>())
+                .computeIfAbsent(
+                    ageInDays,
+                    age -> {
+                      MonitorQueryItem newItem = new MonitorQueryItem();
+                      newItem.setKey(key.workbasketKey);
+                      newItem.setAgeInDays(age);
+                      items.add(newItem);
+                      return newItem;
+                    });
+        item.setNumberOfTasks(item.getValue() + (int) count.getValue()[1]);
+      }
+    }
+    return items;
+  }
+
+  public synchronized long getReconciliationCount() {
+    return reconciliationCount;
+  }
+
+  /**
+   * Returns the number of counts which differed from the database when the store was reconciled.
+   *
+   * @return the number of drifted counts
+   */
+  public synchronized long getDriftCount() {
+    return driftCount;
+  }
+
+  private synchronized Map<Key, long[]> getCounts(MonitorMapper monitorMapper) {
+    long now = System.nanoTime();
+    if (!loaded || now - loadedAt >= reconciliationIntervalNanos) {
+      Map<Key, long[]> loadedCounts = new HashMap<>();
+      for (TaskCountItem item : monitorMapper.getTaskCounts()) {
+        Key key =
+            new Key(
+                item.getWorkbasketId(),
+                item.getWorkbasketKey(),
+                item.getDomain(),
+                item.getState(),
+                item.getCategory(),
+                item.getDueDay() == null ? null : item.getDueDay().toLocalDate());
+        loadedCounts.put(key, new long[] {item.getNumberOfTasks(), item.getNumberOfRows()});
+      }
+      if (loaded) {
+        reconcile(loadedCounts);
+      }
+      counts = loadedCounts;
+      loaded = true;
+      loadedAt = now;
+      generation++;
+    }
+    return new HashMap<>(counts);
+  }
+
+  private void reconcile(Map<Key, long[]> loadedCounts) {
+    reconciliationCount++;
+    Set<Key> keys = new HashSet<>(counts.keySet());
+    keys.addAll(loadedCounts.keySet());
+    long drifted = 0;
+    for (Key key : keys) {
+      long[] expected = loadedCounts.getOrDefault(key, new long[2]);
+      long[] actual = counts.getOrDefault(key, new long[2]);
+      if (expected[0] != actual[0] || expected[1] != actual[1]) {
+        drifted++;
+      }
+    }
+    if (drifted > 0) {
+      driftCount += drifted;
+      LOGGER.warn(
+          "TaskCountStore drifted from the database in {} of {} counts. The counts were reloaded.",
+          drifted,
+          keys.size());
+    }
+  }
+
+  private void applyAfterCommit(Map<Key, long[]> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    long expectedGeneration = getGeneration();
+    afterCommit.accept(() -> apply(deltas, expectedGeneration));
+  }
+
+  private synchronized long getGeneration() {
+    return generation;
+  }
+
+  private synchronized void apply(Map<Key, long[]> deltas, long expectedGeneration) {
+    if (!loaded) {
+      return;
+    }
+    if (generation != expectedGeneration) {
+      // the counts were loaded after the change and may already contain it
+      discard();
+      return;
+    }
+    deltas.forEach(
+        (key, delta) -> {
+          long[] count = counts.computeIfAbsent(key, k -> new long[2]);
+          count[0] += delta[0];
+          count[1] += delta[1];
+          if (count[0] == 0 && count[1] == 0) {
+            counts.remove(key);
+          }
+        });
+  }
+
+  private synchronized void discard() {
+    if (loaded) {
+      LOGGER.debug("TaskCountStore invalidated.");
+      loaded = false;
+      counts = new HashMap<>();
+      generation++;
+    }
+  }
+
+  private static void add(Map<Key, long[]> deltas, Entry entry, int sign) {
+    if (entry != null) {
+      long[] delta = deltas.computeIfAbsent(entry.key, k -> new long[2]);
+      delta[0] += sign;
+      delta[1] += sign * entry.rows;
+    }
+  }
+
+  private static <T> boolean matches(List<T> filter, T value) {
+    return filter == null || filter.contains(value);
+  }
+
+  /** The counted properties of one task. */
+  public static final class Entry {
+
+    private final Key key;
+    private final int rows;
+
+    private Entry(Key key, int rows) {
+      this.key = key;
+      this.rows = rows;
+    }
+
+    public Key getKey() {
+      return key;
+    }
+
+    public int getRows() {
+      return rows;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(key, rows);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Entry)) {
+        return false;
+      }
+      Entry other = (Entry) obj;
+      return rows == other.rows && Objects.equals(key, other.key);
+    }
+  }
+
+  /** The properties by which the tasks are counted. */
+  public static final class Key {
+
+    private final String workbasketId;
+    private final String workbasketKey;
+    private final String domain;
+    private final TaskState state;
+    private final String category;
+    private final LocalDate dueDay;
+
+    private Key(
+        String workbasketId,
+        String workbasketKey,
+        String domain,
+        TaskState state,
+        String category,
+        LocalDate dueDay) {
+      this.workbasketId = workbasketId;
+      this.workbasketKey = workbasketKey;
+      this.domain = domain;
+      this.state = state;
+      this.category = category;
+      this.dueDay = dueDay;
+    }
+
+    public String getWorkbasketId() {
+      return workbasketId;
+    }
+
+    public String getWorkbasketKey() {
+      return workbasketKey;
+    }
+
+    public String getDomain() {
+      return domain;
+    }
+
+    public TaskState getState() {
+      return state;
+    }
+
+    public String getCategory() {
+      return category;
+    }
+
+    public LocalDate getDueDay() {
+      return dueDay;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(workbasketId, workbasketKey, domain, state, category, dueDay);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return Objects.equals(workbasketId, other.workbasketId)
+          && Objects.equals(workbasketKey, other.workbasketKey)
+          && Objects.equals(domain, other.domain)
+          && state == other.state
+          && Objects.equals(category, other.category)
+          && Objects.equals(dueDay, other.dueDay);
+    }
+  }
+}
@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.common.internal.util.WorkingDaysToDaysConverter;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 
@@ -38,24 +39,49 @@ public class WorkingDaysToDaysReportConverter {
         generateDaysToWorkingDays(columnHeaders, daysToWorkingDaysConverter.getReferenceDate());
   }
 
+  /**
+   * Initializes the WorkingDaysToDaysConverter for a list of {@link TimeIntervalColumnHeader}s, a
+   * referenceDate and the working days of a {@link WorkingDaysCalendar}.
+   *
+   * @param columnHeaders a list of {@link TimeIntervalColumnHeader}s that determines the size of
+   *     the table
+   * @param referenceDate a {@link Instant} that represents the current day of the table
+   * @param calendar the {@link WorkingDaysCalendar} which determines the working days
+   * @return an instance of the WorkingDaysToDaysConverter
+   * @throws InvalidArgumentException thrown if columnHeaders, referenceDate or calendar is null
+   */
   public static WorkingDaysToDaysReportConverter initialize(
-      List<? extends TimeIntervalColumnHeader> columnHeaders) throws InvalidArgumentException {
-    return initialize(columnHeaders, Instant.now());
+      List<? extends TimeIntervalColumnHeader> columnHeaders,
+      Instant referenceDate,
+      WorkingDaysCalendar calendar)
+      throws InvalidArgumentException {
+    if (referenceDate == null) {
+      throw new InvalidArgumentException("ReferenceDate can´t be used as NULL-Parameter");
+    }
+    return initialize(
+        columnHeaders, WorkingDaysToDaysConverter.initialize(referenceDate, calendar));
   }
 
   /**
    * Initializes the WorkingDaysToDaysConverter for a list of {@link TimeIntervalColumnHeader}s and
-   * a referenceDate. A new table is only created if there are bigger limits or the date has
-   * changed.
+   * the working days of a {@link WorkingDaysCalendar}.
    *
    * @param columnHeaders a list of {@link TimeIntervalColumnHeader}s that determines the size of
    *     the table
-   * @param referenceDate a {@link Instant} that represents the current day of the table
+   * @param calendar the {@link WorkingDaysCalendar} which determines the working days
    * @return an instance of the WorkingDaysToDaysConverter
-   * @throws InvalidArgumentException thrown if columnHeaders or referenceDate is null
+   * @throws InvalidArgumentException thrown if columnHeaders or calendar is null
    */
   public static WorkingDaysToDaysReportConverter initialize(
-      List<? extends TimeIntervalColumnHeader> columnHeaders, Instant referenceDate)
+      List<? extends TimeIntervalColumnHeader> columnHeaders, WorkingDaysCalendar calendar)
+      throws InvalidArgumentException {
+    return initialize(
+        columnHeaders, WorkingDaysToDaysConverter.initialize(Instant.now(), calendar));
+  }
+
+  private static WorkingDaysToDaysReportConverter initialize(
+      List<? extends TimeIntervalColumnHeader> columnHeaders,
+      WorkingDaysToDaysConverter workingDaysToDaysConverter)
       throws InvalidArgumentException {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -66,12 +92,6 @@ public class WorkingDaysToDaysReportConverter {
       throw new InvalidArgumentException(
           "TimeIntervalColumnHeaders can´t be used as NULL-Parameter");
     }
-    if (referenceDate == null) {
-      throw new InvalidArgumentException("ReferenceDate can´t be used as NULL-Parameter");
-    }
-    WorkingDaysToDaysConverter workingDaysToDaysConverter =
-        WorkingDaysToDaysConverter.initialize(referenceDate);
-
     return new WorkingDaysToDaysReportConverter(columnHeaders, workingDaysToDaysConverter);
   }
 
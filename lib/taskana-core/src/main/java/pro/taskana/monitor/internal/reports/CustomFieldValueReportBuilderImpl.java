@@ -53,7 +53,8 @@ public class CustomFieldValueReportBuilderImpl
 
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.workingDaysCalendar, this.inWorkingDays));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
@@ -10,6 +10,7 @@ import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.monitor.api.reports.TaskStatusReport;
 import pro.taskana.monitor.api.reports.item.TaskQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.TaskCountStore;
 import pro.taskana.task.api.TaskState;
 
 /** The implementation of TaskStatusReportBuilder. */
@@ -18,13 +19,17 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatusReportBuilderImpl.class);
   private InternalTaskanaEngine taskanaEngine;
   private MonitorMapper monitorMapper;
+  private TaskCountStore taskCountStore;
   private List<String> domains;
   private List<TaskState> states;
 
   public TaskStatusReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      TaskCountStore taskCountStore) {
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.taskCountStore = taskCountStore;
   }
 
   @Override
@@ -33,8 +38,12 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
       this.taskanaEngine.openConnection();
-      List<TaskQueryItem> tasks =
-          this.monitorMapper.getTasksCountByState(this.domains, this.states);
+      List<TaskQueryItem> tasks;
+      if (taskCountStore != null && taskCountStore.isEnabled()) {
+        tasks = taskCountStore.getTasksCountByState(this.monitorMapper, this.domains, this.states);
+      } else {
+        tasks = this.monitorMapper.getTasksCountByState(this.domains, this.states);
+      }
       TaskStatusReport report = new TaskStatusReport(this.states);
       report.addItems(tasks);
       return report;
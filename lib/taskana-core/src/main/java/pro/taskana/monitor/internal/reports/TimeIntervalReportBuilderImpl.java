@@ -13,7 +13,7 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
-import pro.taskana.common.internal.util.WorkingDaysToDaysConverter;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.reports.ClassificationReport;
 import pro.taskana.monitor.api.reports.TimeIntervalReportBuilder;
@@ -43,6 +43,7 @@ abstract class TimeIntervalReportBuilderImpl<
   protected MonitorMapper monitorMapper;
   protected List<H> columnHeaders;
   protected boolean inWorkingDays;
+  protected WorkingDaysCalendar workingDaysCalendar;
   protected List<String> workbasketIds;
   protected List<TaskState> states;
   protected List<String> categories;
@@ -55,7 +56,7 @@ abstract class TimeIntervalReportBuilderImpl<
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
     this.columnHeaders = Collections.emptyList();
-    configureWorkingDaysToDaysConverter();
+    this.workingDaysCalendar = this.taskanaEngine.getWorkingDaysCalendar();
   }
 
   @Override
@@ -185,17 +186,10 @@ abstract class TimeIntervalReportBuilderImpl<
 
   protected abstract String determineGroupedBy();
 
-  private void configureWorkingDaysToDaysConverter() {
-    WorkingDaysToDaysConverter.setCustomHolidays(
-        this.taskanaEngine.getEngine().getConfiguration().getCustomHolidays());
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(
-        this.taskanaEngine.getEngine().getConfiguration().isGermanPublicHolidaysEnabled());
-  }
-
   private List<SelectedItem> convertWorkingDaysToDays(
       List<SelectedItem> selectedItems, List<H> columnHeaders) throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
-        WorkingDaysToDaysReportConverter.initialize(columnHeaders);
+        WorkingDaysToDaysReportConverter.initialize(columnHeaders, workingDaysCalendar);
     for (SelectedItem selectedItem : selectedItems) {
       selectedItem.setLowerAgeLimit(
           Collections.min(instance.convertWorkingDaysToDays(selectedItem.getLowerAgeLimit())));
@@ -2,9 +2,8 @@ package pro.taskana.monitor.internal.reports;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,32 +69,23 @@ public class TimestampReportBuilderImpl
       this.taskanaEngine.openConnection();
       TimestampReport report = new TimestampReport(this.columnHeaders);
       List<TimestampQueryItem> items =
-          status.stream()
-              // This can also be implemented into a single sql query which combines all statuses
-              // with the union
-              // operator. That would reduce the readability of the sql template. That's why "the
-              // loop" is done
-              // outside of mybatis.
-              .map(this::getTasksCountForStatusGroupedByOrgLevel)
-              .flatMap(Collection::stream)
-              .collect(Collectors.toList());
+          status.isEmpty()
+              ? Collections.emptyList()
+              : monitorMapper.getTasksCountForStatusesGroupedByOrgLevel(
+                  status,
+                  categories,
+                  classificationIds,
+                  excludedClassificationIds,
+                  domains,
+                  customAttributeFilter);
 
       report.addItems(
-          items, new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          items, new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.workingDaysCalendar, this.inWorkingDays));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
       LOGGER.debug("exit from buildDetailedReport().");
     }
   }
-
-  private List<TimestampQueryItem> getTasksCountForStatusGroupedByOrgLevel(Timestamp s) {
-    return monitorMapper.getTasksCountForStatusGroupedByOrgLevel(
-        s,
-        categories,
-        classificationIds,
-        excludedClassificationIds,
-        domains,
-        customAttributeFilter);
-  }
 }
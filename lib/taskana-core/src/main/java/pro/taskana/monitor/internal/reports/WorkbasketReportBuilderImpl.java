@@ -14,6 +14,7 @@ import pro.taskana.monitor.api.reports.WorkbasketReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.TaskCountStore;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of WorkbasketReportBuilder. */
@@ -23,10 +24,14 @@ public class WorkbasketReportBuilderImpl
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketReportBuilderImpl.class);
   private List<CombinedClassificationFilter> combinedClassificationFilter;
+  private TaskCountStore taskCountStore;
 
   public WorkbasketReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      TaskCountStore taskCountStore) {
     super(taskanaEngine, monitorMapper);
+    this.taskCountStore = taskCountStore;
   }
 
   @Override
@@ -36,19 +41,27 @@ public class WorkbasketReportBuilderImpl
     try {
       this.taskanaEngine.openConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfWorkbaskets(
-              this.workbasketIds,
-              this.states,
-              this.categories,
-              this.domains,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter,
-              this.combinedClassificationFilter);
+      List<MonitorQueryItem> monitorQueryItems;
+      if (isTaskCountStoreApplicable()) {
+        monitorQueryItems =
+            taskCountStore.getTaskCountOfWorkbaskets(
+                this.monitorMapper, this.workbasketIds, this.states, this.categories, this.domains);
+      } else {
+        monitorQueryItems =
+            this.monitorMapper.getTaskCountOfWorkbaskets(
+                this.workbasketIds,
+                this.states,
+                this.categories,
+                this.domains,
+                this.classificationIds,
+                this.excludedClassificationIds,
+                this.customAttributeFilter,
+                this.combinedClassificationFilter);
+      }
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.workingDaysCalendar, this.inWorkingDays));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
@@ -76,7 +89,8 @@ public class WorkbasketReportBuilderImpl
               this.combinedClassificationFilter);
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.workingDaysCalendar, this.inWorkingDays));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
@@ -91,6 +105,19 @@ public class WorkbasketReportBuilderImpl
     return this;
   }
 
+  /**
+   * The task counts only know the workbasket, domain, state, category and due day of the tasks.
+   * Reports filtering on anything else are built by the database.
+   */
+  private boolean isTaskCountStoreApplicable() {
+    return taskCountStore != null
+        && taskCountStore.isAgeInDaysSupported()
+        && this.classificationIds == null
+        && this.excludedClassificationIds == null
+        && this.customAttributeFilter == null
+        && this.combinedClassificationFilter == null;
+  }
+
   @Override
   protected WorkbasketReport.Builder _this() {
     return this;
@@ -0,0 +1,14 @@
+package pro.taskana.spi.history.api;
+
+/**
+ * Determines what happens to a history event if the queue of the asynchronous history event
+ * dispatching is full.
+ */
+public enum HistoryBackpressurePolicy {
+  /** The calling thread waits until there is room in the queue. */
+  BLOCK,
+  /** The event is discarded and counted as dropped. */
+  DROP,
+  /** The event is handed over to the history service providers on the calling thread. */
+  CALLER_RUNS
+}
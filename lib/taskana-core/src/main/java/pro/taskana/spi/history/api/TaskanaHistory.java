@@ -1,5 +1,7 @@
 package pro.taskana.spi.history.api;
 
+import java.util.List;
+
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
@@ -20,4 +22,14 @@ public interface TaskanaHistory {
    * @param event {@link TaskanaHistoryEvent} The event to be created.
    */
   void create(TaskanaHistoryEvent event);
+
+  /**
+   * Create a batch of new history events. Providers should override this method if they are able
+   * to persist several events more efficiently than one by one.
+   *
+   * @param events the list of {@link TaskanaHistoryEvent}s to be created.
+   */
+  default void createBatch(List<TaskanaHistoryEvent> events) {
+    events.forEach(this::create);
+  }
 }
@@ -0,0 +1,192 @@
+package pro.taskana.spi.history.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.spi.history.api.HistoryBackpressurePolicy;
+import pro.taskana.spi.history.api.TaskanaHistory;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/**
+ * Decouples the creation of history events from the calling thread. Events are collected in a
+ * bounded queue and handed over to the history service providers in batches by a background
+ * thread. The {@link HistoryBackpressurePolicy} decides what happens if the queue is full.
+ */
+class AsyncHistoryEventDispatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoryEventDispatcher.class);
+
+  private final List<TaskanaHistory> historyProviders;
+  private final BlockingQueue<TaskanaHistoryEvent> queue;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final HistoryBackpressurePolicy backpressurePolicy;
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final AtomicLong flushedEvents = new AtomicLong();
+  private final AtomicLong lastFlushDurationNanos = new AtomicLong();
+  private final AtomicLong maxFlushDurationNanos = new AtomicLong();
+  private volatile boolean running;
+  private Thread drainer;
+
+  AsyncHistoryEventDispatcher(
+      List<TaskanaHistory> historyProviders,
+      int queueCapacity,
+      int batchSize,
+      Duration flushInterval,
+      HistoryBackpressurePolicy backpressurePolicy) {
+    this.historyProviders = historyProviders;
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    this.batchSize = Math.max(1, batchSize);
+    this.flushIntervalMillis = Math.max(1, flushInterval.toMillis());
+    this.backpressurePolicy = backpressurePolicy;
+  }
+
+  synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    drainer = new Thread(this::drain, "taskana-history-dispatcher");
+    drainer.setDaemon(true);
+    drainer.start();
+    LOGGER.info(
+        "Started asynchronous history event dispatching with queue capacity {}, "
+            + "batch size {} and backpressure policy {}",
+        queue.remainingCapacity() + queue.size(),
+        batchSize,
+        backpressurePolicy);
+  }
+
+  /**
+   * Stops the background thread and hands all events that are still queued over to the history
+   * service providers.
+   */
+  synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    drainer.interrupt();
+    try {
+      drainer.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  void dispatch(TaskanaHistoryEvent event) {
+    if (event.getCreated() == null) {
+      event.setCreated(Instant.now());
+    }
+    switch (backpressurePolicy) {
+      case DROP:
+        if (!queue.offer(event)) {
+          long dropped = droppedEvents.incrementAndGet();
+          LOGGER.warn(
+              "History event queue is full. Dropped event {}. Dropped events so far: {}",
+              event,
+              dropped);
+        }
+        break;
+      case CALLER_RUNS:
+        if (!queue.offer(event)) {
+          writeBatch(Collections.singletonList(event));
+        }
+        break;
+      default:
+        try {
+          queue.put(event);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          LOGGER.warn("Interrupted while waiting for the history event queue. Writing {}", event);
+          writeBatch(Collections.singletonList(event));
+        }
+        break;
+    }
+  }
+
+  /** Hands all currently queued events over to the history service providers. */
+  void flush() {
+    List<TaskanaHistoryEvent> batch = new ArrayList<>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      writeBatch(batch);
+      batch = new ArrayList<>(batchSize);
+    }
+  }
+
+  int getQueueDepth() {
+    return queue.size();
+  }
+
+  long getDroppedEventCount() {
+    return droppedEvents.get();
+  }
+
+  long getFlushedEventCount() {
+    return flushedEvents.get();
+  }
+
+  Duration getLastFlushDuration() {
+    return Duration.ofNanos(lastFlushDurationNanos.get());
+  }
+
+  Duration getMaxFlushDuration() {
+    return Duration.ofNanos(maxFlushDurationNanos.get());
+  }
+
+  private void drain() {
+    while (running) {
+      try {
+        TaskanaHistoryEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        List<TaskanaHistoryEvent> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        writeBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        LOGGER.error("Unexpected error while dispatching history events", e);
+      }
+    }
+  }
+
+  private void writeBatch(List<TaskanaHistoryEvent> batch) {
+    long start = System.nanoTime();
+    for (TaskanaHistory historyProvider : historyProviders) {
+      try {
+        historyProvider.createBatch(batch);
+      } catch (RuntimeException e) {
+        LOGGER.error(
+            "History provider {} failed to create {} history events",
+            historyProvider.getClass().getName(),
+            batch.size(),
+            e);
+      }
+    }
+    long duration = System.nanoTime() - start;
+    flushedEvents.addAndGet(batch.size());
+    lastFlushDurationNanos.set(duration);
+    maxFlushDurationNanos.accumulateAndGet(duration, Math::max);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Dispatched {} history events in {} ms, queue depth is {}",
+          batch.size(),
+          TimeUnit.NANOSECONDS.toMillis(duration),
+          queue.size());
+    }
+  }
+}
@@ -1,11 +1,15 @@
 package pro.taskana.spi.history.internal;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.internal.jobs.TaskanaJobProvider;
 import pro.taskana.spi.history.api.TaskanaHistory;
 import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
@@ -16,16 +20,36 @@ public final class HistoryEventProducer {
   private static HistoryEventProducer singleton;
   private boolean enabled = false;
   private ServiceLoader<TaskanaHistory> serviceLoader;
+  private final List<TaskanaJobProvider> jobProviders = new ArrayList<>();
+  private volatile AsyncHistoryEventDispatcher asyncDispatcher;
+  private Thread shutdownHook;
 
   private HistoryEventProducer(TaskanaEngineConfiguration taskanaEngineConfiguration) {
     serviceLoader = ServiceLoader.load(TaskanaHistory.class);
+    List<TaskanaHistory> historyProviders = new ArrayList<>();
     for (TaskanaHistory history : serviceLoader) {
       history.initialize(taskanaEngineConfiguration);
+      historyProviders.add(history);
       LOGGER.info("Registered history provider: {}", history.getClass().getName());
+      if (history instanceof TaskanaJobProvider) {
+        jobProviders.add((TaskanaJobProvider) history);
+        LOGGER.info("Registered job provider: {}", history.getClass().getName());
+      }
       enabled = true;
     }
     if (!enabled) {
       LOGGER.info("No history provider found. Running without history.");
+    } else if (taskanaEngineConfiguration.isHistoryAsyncEnabled()) {
+      asyncDispatcher =
+          new AsyncHistoryEventDispatcher(
+              historyProviders,
+              taskanaEngineConfiguration.getHistoryAsyncQueueCapacity(),
+              taskanaEngineConfiguration.getHistoryAsyncBatchSize(),
+              taskanaEngineConfiguration.getHistoryAsyncFlushInterval(),
+              taskanaEngineConfiguration.getHistoryAsyncBackpressurePolicy());
+      asyncDispatcher.start();
+      shutdownHook = new Thread(asyncDispatcher::stop, "taskana-history-shutdown");
+      Runtime.getRuntime().addShutdownHook(shutdownHook);
     }
   }
 
@@ -42,7 +66,117 @@ public final class HistoryEventProducer {
   }
 
   public void createEvent(TaskanaHistoryEvent event) {
-    LOGGER.debug("Sending event to history service providers: {}", event);
-    serviceLoader.forEach(historyProvider -> historyProvider.create(event));
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    if (dispatcher != null) {
+      LOGGER.debug("Queueing event for history service providers: {}", event);
+      dispatcher.dispatch(event);
+    } else {
+      LOGGER.debug("Sending event to history service providers: {}", event);
+      serviceLoader.forEach(historyProvider -> historyProvider.create(event));
+    }
+  }
+
+  /**
+   * Creates several events at once. When running synchronously, every history service provider
+   * receives them as one batch.
+   *
+   * @param events the events to be created
+   */
+  public void createEvents(List<TaskanaHistoryEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    if (dispatcher != null) {
+      LOGGER.debug("Queueing {} events for history service providers", events.size());
+      events.forEach(dispatcher::dispatch);
+    } else {
+      LOGGER.debug("Sending {} events to history service providers", events.size());
+      serviceLoader.forEach(historyProvider -> historyProvider.createBatch(events));
+    }
+  }
+
+  /**
+   * Returns the history service providers, which contribute jobs. They are initialized already, so
+   * their jobs can use them directly.
+   *
+   * @return the history service providers implementing {@link TaskanaJobProvider}
+   */
+  public List<TaskanaJobProvider> getJobProviders() {
+    return jobProviders;
+  }
+
+  public boolean isAsync() {
+    return asyncDispatcher != null;
+  }
+
+  /** Hands all queued events over to the history service providers, if running asynchronously. */
+  public void flush() {
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    if (dispatcher != null) {
+      dispatcher.flush();
+    }
+  }
+
+  /**
+   * Stops the asynchronous dispatching, hands all queued events over to the history service
+   * providers and removes the shutdown hook registered for this. Events created afterwards are sent
+   * to the history service providers synchronously.
+   */
+  public synchronized void close() {
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    if (dispatcher == null) {
+      return;
+    }
+    try {
+      Runtime.getRuntime().removeShutdownHook(shutdownHook);
+    } catch (IllegalStateException e) {
+      // the JVM is shutting down and the shutdown hook stops the dispatcher
+      return;
+    }
+    asyncDispatcher = null;
+    shutdownHook = null;
+    dispatcher.stop();
+    LOGGER.info("Stopped asynchronous history event dispatching.");
+  }
+
+  /**
+   * Returns the number of events waiting to be handed over to the history service providers.
+   *
+   * @return the current depth of the event queue, 0 if running synchronously
+   */
+  public int getQueueDepth() {
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    return dispatcher == null ? 0 : dispatcher.getQueueDepth();
+  }
+
+  /**
+   * Returns the number of events, which were discarded because the event queue was full.
+   *
+   * @return the number of dropped events
+   */
+  public long getDroppedEventCount() {
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    return dispatcher == null ? 0 : dispatcher.getDroppedEventCount();
+  }
+
+  /**
+   * Returns the time needed for the last hand over of a batch of events.
+   *
+   * @return the duration of the last flush, {@link Duration#ZERO} if running synchronously
+   */
+  public Duration getLastFlushDuration() {
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    return dispatcher == null ? Duration.ZERO : dispatcher.getLastFlushDuration();
+  }
+
+  /**
+   * Returns the longest time needed for the hand over of a batch of events.
+   *
+   * @return the maximum flush duration, {@link Duration#ZERO} if running synchronously
+   */
+  public Duration getMaxFlushDuration() {
+    AsyncHistoryEventDispatcher dispatcher = asyncDispatcher;
+    return dispatcher == null ? Duration.ZERO : dispatcher.getMaxFlushDuration();
   }
 }
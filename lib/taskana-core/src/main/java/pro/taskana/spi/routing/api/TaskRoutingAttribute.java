@@ -0,0 +1,49 @@
+package pro.taskana.spi.routing.api;
+
+import java.util.function.Function;
+
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.Task;
+
+/**
+ * The attributes of a task a {@link TaskRoutingProvider} can base its decision on. See {@link
+ * TaskRoutingProvider#getRoutingAttributes()}.
+ */
+public enum TaskRoutingAttribute {
+  DOMAIN(Task::getDomain),
+  CLASSIFICATION_KEY(TaskRoutingAttribute::classificationKey),
+  BUSINESS_PROCESS_ID(Task::getBusinessProcessId),
+  PARENT_BUSINESS_PROCESS_ID(Task::getParentBusinessProcessId),
+  POR_COMPANY(task -> primaryObjRefValue(task, ObjectReference::getCompany)),
+  POR_SYSTEM(task -> primaryObjRefValue(task, ObjectReference::getSystem)),
+  POR_SYSTEM_INSTANCE(task -> primaryObjRefValue(task, ObjectReference::getSystemInstance)),
+  POR_TYPE(task -> primaryObjRefValue(task, ObjectReference::getType)),
+  POR_VALUE(task -> primaryObjRefValue(task, ObjectReference::getValue));
+
+  private final Function<Task, String> valueExtractor;
+
+  TaskRoutingAttribute(Function<Task, String> valueExtractor) {
+    this.valueExtractor = valueExtractor;
+  }
+
+  /**
+   * Returns the value of this attribute for the given task.
+   *
+   * @param task the task
+   * @return the value of this attribute, may be null
+   */
+  public String getValue(Task task) {
+    return valueExtractor.apply(task);
+  }
+
+  private static String classificationKey(Task task) {
+    ClassificationSummary classification = task.getClassificationSummary();
+    return classification == null ? null : classification.getKey();
+  }
+
+  private static String primaryObjRefValue(Task task, Function<ObjectReference, String> getter) {
+    ObjectReference primaryObjRef = task.getPrimaryObjRef();
+    return primaryObjRef == null ? null : getter.apply(primaryObjRef);
+  }
+}
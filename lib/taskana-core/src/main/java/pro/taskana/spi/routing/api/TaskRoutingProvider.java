@@ -1,5 +1,7 @@
 package pro.taskana.spi.routing.api;
 
+import java.util.Set;
+
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.task.api.models.Task;
 
@@ -20,4 +22,16 @@ public interface TaskRoutingProvider {
    * @return the id of the workbasket in which the task is to be created.
    */
   String determineWorkbasketId(Task task);
+
+  /**
+   * Declares the attributes of a task on which the decision of this TaskRoutingProvider depends.
+   * If the attributes are declared, the decision for a task is reused for all further tasks with
+   * the same values of these attributes, as long as it is cached. An empty set declares that the
+   * decision is the same for all tasks.
+   *
+   * @return the attributes the decision depends on or null, if the decision must not be reused
+   */
+  default Set<TaskRoutingAttribute> getRoutingAttributes() {
+    return null;
+  }
 }
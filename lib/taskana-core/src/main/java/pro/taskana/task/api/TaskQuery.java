@@ -1,5 +1,8 @@
 package pro.taskana.task.api;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TimeInterval;
@@ -883,4 +886,57 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    * @return the query
    */
   TaskQuery orderByAttachmentReceived(SortDirection sortDirection);
+
+  /**
+   * Returns the next page of tasks using keyset pagination. In contrast to {@link #list(int, int)}
+   * the database does not need to skip the rows of the previous pages, which keeps deep pages
+   * cheap. The query can be sorted by the task id or by one of created, modified, planned, due or
+   * priority. The task id is always used as additional sort criteria to get a stable order.
+   *
+   * @param continuationToken the token created by {@link #getContinuationToken(TaskSummary)} for
+   *     the last task of the previous page. Null or empty for the first page.
+   * @param limit the maximum number of returned tasks
+   * @return the tasks following the task encoded in the continuation token
+   * @throws IllegalArgumentException if the limit is smaller than 1, if the sort order of the query
+   *     is not supported or if the continuation token is invalid or was created for another sort
+   *     order
+   */
+  List<TaskSummary> listAfter(String continuationToken, int limit);
+
+  /**
+   * Creates the continuation token for {@link #listAfter(String, int)}, which continues after the
+   * given task.
+   *
+   * @param lastTaskSummary the last task of the current page
+   * @return the continuation token
+   * @throws IllegalArgumentException if the sort order of the query is not supported by keyset
+   *     pagination or if the task has no value for the sort column
+   */
+  String getContinuationToken(TaskSummary lastTaskSummary);
+
+  /**
+   * Executes the query and hands the resulting tasks over to the consumer chunk by chunk. The
+   * result is read with a database cursor and only one chunk of tasks is held in memory at a time.
+   * The chunk size is taken from {@link
+   * pro.taskana.TaskanaEngineConfiguration#getQueryFetchSize()}.
+   *
+   * <p>The database connection stays open until the last chunk was consumed. The consumer should
+   * therefore not start long running operations.
+   *
+   * @param chunkConsumer the consumer, which is called once for every chunk of tasks
+   */
+  void forEachChunk(Consumer<List<TaskSummary>> chunkConsumer);
+
+  /**
+   * Executes the query and hands the resulting tasks over to the consumer chunk by chunk. The
+   * result is read with a database cursor and only one chunk of tasks is held in memory at a time.
+   *
+   * <p>The database connection stays open until the last chunk was consumed. The consumer should
+   * therefore not start long running operations.
+   *
+   * @param chunkSize the maximum number of tasks handed over to the consumer at once
+   * @param chunkConsumer the consumer, which is called once for every chunk of tasks
+   * @throws IllegalArgumentException if the chunkSize is smaller than 1
+   */
+  void forEachChunk(int chunkSize, Consumer<List<TaskSummary>> chunkConsumer);
 }
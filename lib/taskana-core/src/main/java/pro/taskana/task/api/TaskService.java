@@ -136,6 +136,24 @@ public interface TaskService {
       throws NotAuthorizedException, WorkbasketNotFoundException, ClassificationNotFoundException,
           TaskAlreadyExistException, InvalidArgumentException;
 
+  /**
+   * Persists a list of not persisted Tasks. The workbaskets, permissions and classifications are
+   * resolved once for all tasks which reference them and the tasks are inserted in batches. Tasks
+   * without an external id get a generated one.
+   *
+   * <p>The validation of the tasks is reported per task. Writing the valid tasks to the database
+   * is all-or-nothing: if the database rejects any of them, none of the tasks is created and a
+   * {@link pro.taskana.common.api.exceptions.SystemException} is thrown.
+   *
+   * @param tasksToCreate the transient task objects to be persisted
+   * @return the result of the operations with the external id and Exception for each failed task
+   *     creation.
+   * @throws InvalidArgumentException if tasksToCreate is NULL or if an external id is contained
+   *     more than once. No task is created in this case.
+   */
+  BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException;
+
   /**
    * Get the details of a task by Id without checking permissions.
    *
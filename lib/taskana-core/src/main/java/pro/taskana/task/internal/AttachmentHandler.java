@@ -13,7 +13,9 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.ClassificationServiceImpl;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
@@ -29,11 +31,15 @@ public class AttachmentHandler {
   private static final String ID_PREFIX_ATTACHMENT = "TAI";
   private final AttachmentMapper attachmentMapper;
   private final ClassificationService classificationService;
+  private final IdGenerationStrategy idGenerationStrategy;
 
   AttachmentHandler(
-      AttachmentMapper attachmentMapper, ClassificationService classificationService) {
+      AttachmentMapper attachmentMapper,
+      ClassificationService classificationService,
+      IdGenerationStrategy idGenerationStrategy) {
     this.attachmentMapper = attachmentMapper;
     this.classificationService = classificationService;
+    this.idGenerationStrategy = idGenerationStrategy;
   }
 
   List<Attachment> augmentAttachmentsByClassification(
@@ -44,14 +50,11 @@ public class AttachmentHandler {
       return result;
     }
     List<ClassificationSummary> classifications =
-        classificationService
-            .createClassificationQuery()
-            .idIn(
+        ((ClassificationServiceImpl) classificationService)
+            .getClassificationSummaries(
                 attachmentImpls.stream()
                     .map(t -> t.getClassificationSummary().getId())
-                    .distinct()
-                    .toArray(String[]::new))
-            .list();
+                    .collect(Collectors.toSet()));
     for (AttachmentImpl att : attachmentImpls) {
       ClassificationSummary classificationSummary =
           classifications.stream()
@@ -157,6 +160,18 @@ public class AttachmentHandler {
     }
   }
 
+  void initializeAttachmentsOnTaskCreation(TaskImpl task) throws InvalidArgumentException {
+    List<Attachment> attachments = task.getAttachments();
+    if (attachments != null) {
+      for (Attachment attachment : attachments) {
+        AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
+        initAttachment(attachmentImpl, task);
+        ObjectReference objRef = attachmentImpl.getObjectReference();
+        ObjectReference.validate(objRef, "ObjectReference", "Attachment");
+      }
+    }
+  }
+
   void deleteRemovedAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -213,7 +228,7 @@ public class AttachmentHandler {
   void initAttachment(AttachmentImpl attachment, Task newTask) {
     LOGGER.debug("entry to initAttachment()");
     if (attachment.getId() == null) {
-      attachment.setId(IdGenerator.generateWithPrefix(ID_PREFIX_ATTACHMENT));
+      attachment.setId(IdGenerator.generateWithPrefix(ID_PREFIX_ATTACHMENT, idGenerationStrategy));
     }
     if (attachment.getCreated() == null) {
       attachment.setCreated(newTask.getModified());
@@ -1,6 +1,5 @@
 package pro.taskana.task.internal;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Delete;
@@ -13,7 +12,6 @@ import org.apache.ibatis.annotations.Update;
 import org.apache.ibatis.type.ClobTypeHandler;
 
 import pro.taskana.common.internal.persistence.MapTypeHandler;
-import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.internal.models.AttachmentImpl;
 import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 
@@ -27,6 +25,14 @@ public interface AttachmentMapper {
           + " #{att.objectReference.type}, #{att.objectReference.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} )")
   void insert(@Param("att") AttachmentImpl att);
 
+  @Insert(
+      "<script>INSERT INTO ATTACHMENT (ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES) "
+          + "VALUES <foreach item='att' collection='attachments' separator=',' >"
+          + "(#{att.id}, #{att.taskId}, #{att.created}, #{att.modified}, #{att.classificationSummary.key}, #{att.classificationSummary.id}, #{att.objectReference.company}, #{att.objectReference.system}, #{att.objectReference.systemInstance}, "
+          + " #{att.objectReference.type}, #{att.objectReference.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} )"
+          + "</foreach></script>")
+  void insertMultiple(@Param("attachments") List<AttachmentImpl> attachments);
+
   @Select(
       "<script> SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES "
           + "FROM ATTACHMENT "
@@ -93,6 +99,10 @@ public interface AttachmentMapper {
   @Delete("DELETE FROM ATTACHMENT WHERE ID=#{attachmentId}")
   void deleteAttachment(@Param("attachmentId") String attachmentId);
 
+  @Delete(
+      "<script>DELETE FROM ATTACHMENT WHERE TASK_ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</script>")
+  void deleteMultipleByTaskIds(@Param("taskIds") List<String> taskIds);
+
   @Update(
       "UPDATE ATTACHMENT SET TASK_ID = #{taskId}, CREATED = #{created}, MODIFIED = #{modified},"
           + " CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, REF_COMPANY = #{objectReference.company}, REF_SYSTEM = #{objectReference.system},"
@@ -114,20 +124,4 @@ public interface AttachmentMapper {
             typeHandler = ClobTypeHandler.class)
       })
   String getCustomAttributesAsString(@Param("attachmentId") String attachmentId);
-
-  @Select(
-      "<script> SELECT DISTINCT t.ID, t.PLANNED FROM TASK t "
-          + "LEFT JOIN ATTACHMENT AS a on a.TASK_ID = t.ID"
-          + " WHERE a.CLASSIFICATION_ID = #{classificationId} "
-          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
-          + "</script>")
-  @Results(
-      value = {
-        @Result(property = "left", column = "ID"),
-        @Result(property = "right", column = "PLANNED")
-        //          ,  javaType = Instant.class,
-        //            typeHandler = InstantTypeHandler.class)
-      })
-  List<Pair<String, Instant>> findTaskIdsAndPlannedAffectedByClassificationChange(
-      @Param("classificationId") String classificationId);
 }
@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.ClassificationServiceImpl;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -37,7 +38,7 @@ class ServiceLevelHandler {
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskMapper taskMapper;
   private final AttachmentMapper attachmentMapper;
-  private WorkingDaysToDaysConverter converter;
+  private final WorkingDaysToDaysConverter converter;
 
   ServiceLevelHandler(
       InternalTaskanaEngine taskanaEngine,
@@ -46,9 +47,7 @@ class ServiceLevelHandler {
     this.taskanaEngine = taskanaEngine;
     this.taskMapper = taskMapper;
     this.attachmentMapper = attachmentMapper;
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(
-        taskanaEngine.getEngine().getConfiguration().isGermanPublicHolidaysEnabled());
-    this.converter = WorkingDaysToDaysConverter.initialize();
+    this.converter = WorkingDaysToDaysConverter.initialize(taskanaEngine.getWorkingDaysCalendar());
   }
 
   // use the same algorithm as setPlannedPropertyOfTasksImpl to refresh
@@ -339,12 +338,7 @@ class ServiceLevelHandler {
         isServiceLevelViolated = true;
       } else {
         long days = Duration.between(taskPlanned, planned).toDays();
-        for (long day = 0; day < days; day++) {
-          if (converter.isWorkingDay(day, taskPlanned)) {
-            isServiceLevelViolated = true;
-            break;
-          }
-        }
+        isServiceLevelViolated = converter.countWorkingDays(taskPlanned, days) > 0;
       }
       if (isServiceLevelViolated) {
         throw new InvalidArgumentException(
@@ -592,14 +586,8 @@ class ServiceLevelHandler {
     if (classificationIds.isEmpty()) {
       return new ArrayList<>();
     } else {
-      String[] idsArrayForQuery = new String[classificationIds.size()];
-      idsArrayForQuery = classificationIds.toArray(idsArrayForQuery);
-      return taskanaEngine
-          .getEngine()
-          .getClassificationService()
-          .createClassificationQuery()
-          .idIn(idsArrayForQuery)
-          .list();
+      return ((ClassificationServiceImpl) taskanaEngine.getEngine().getClassificationService())
+          .getClassificationSummaries(classificationIds);
     }
   }
 
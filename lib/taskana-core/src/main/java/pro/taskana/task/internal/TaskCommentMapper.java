@@ -27,6 +27,12 @@ public interface TaskCommentMapper {
   @Delete("DELETE FROM TASK_COMMENT WHERE ID = #{taskCommentId}")
   void delete(String taskCommentId);
 
+  @Delete(
+      "<script>DELETE FROM TASK_COMMENT WHERE TASK_ID IN("
+          + "<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  void deleteMultipleByTaskIds(@Param("taskIds") List<String> taskIds);
+
   @Select(
       "<script> SELECT ID, TASK_ID, TEXT_FIELD, CREATOR, CREATED, MODIFIED"
           + " FROM TASK_COMMENT "
@@ -6,6 +6,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -30,6 +31,7 @@ class TaskCommentServiceImpl {
   private InternalTaskanaEngine taskanaEngine;
   private TaskServiceImpl taskService;
   private TaskCommentMapper taskCommentMapper;
+  private IdGenerationStrategy idGenerationStrategy;
 
   TaskCommentServiceImpl(
       InternalTaskanaEngine taskanaEngine,
@@ -39,6 +41,7 @@ class TaskCommentServiceImpl {
     this.taskanaEngine = taskanaEngine;
     this.taskService = taskService;
     this.taskCommentMapper = taskCommentMapper;
+    this.idGenerationStrategy = taskanaEngine.getIdGenerationStrategy();
   }
 
   TaskComment newTaskComment(String taskId) {
@@ -241,7 +244,8 @@ class TaskCommentServiceImpl {
 
     Instant now = Instant.now();
 
-    taskCommentImplToCreate.setId(IdGenerator.generateWithPrefix(ID_PREFIX_TASK_COMMENT));
+    taskCommentImplToCreate.setId(
+        IdGenerator.generateWithPrefix(ID_PREFIX_TASK_COMMENT, idGenerationStrategy));
     taskCommentImplToCreate.setModified(now);
     taskCommentImplToCreate.setCreated(now);
 
@@ -56,6 +56,7 @@ public interface TaskMapper {
         @Result(property = "classificationSummaryImpl.id", column = "CLASSIFICATION_ID"),
         @Result(property = "classificationSummaryImpl.key", column = "CLASSIFICATION_KEY"),
         @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "persistedDomain", column = "DOMAIN"),
         @Result(property = "businessProcessId", column = "BUSINESS_PROCESS_ID"),
         @Result(property = "parentBusinessProcessId", column = "PARENT_BUSINESS_PROCESS_ID"),
         @Result(property = "owner", column = "OWNER"),
@@ -110,6 +111,28 @@ public interface TaskMapper {
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(TaskImpl task);
 
+  @Insert(
+      "<script>INSERT INTO TASK(ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE,  CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, "
+          + "POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, "
+          + "CUSTOM_9, CUSTOM_10, CUSTOM_11,  CUSTOM_12,  CUSTOM_13,  CUSTOM_14,  CUSTOM_15,  CUSTOM_16 ) "
+          + "VALUES <foreach item='t' collection='tasks' separator=',' >"
+          + "(#{t.id},#{t.externalId}, #{t.created}, #{t.claimed}, #{t.completed}, #{t.modified}, #{t.planned}, #{t.due}, #{t.name}, #{t.creator}, #{t.description}, #{t.note}, #{t.priority}, #{t.state}, #{t.classificationSummary.category}, "
+          + "#{t.classificationSummary.key}, #{t.classificationSummary.id}, #{t.workbasketSummary.id}, #{t.workbasketSummary.key}, #{t.workbasketSummary.domain}, #{t.businessProcessId}, "
+          + "#{t.parentBusinessProcessId}, #{t.owner}, #{t.primaryObjRef.company}, #{t.primaryObjRef.system}, #{t.primaryObjRef.systemInstance}, #{t.primaryObjRef.type}, #{t.primaryObjRef.value}, "
+          + "#{t.isRead}, #{t.isTransferred}, #{t.callbackInfo,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, #{t.callbackState}, "
+          + "#{t.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, "
+          + "#{t.custom1}, #{t.custom2}, #{t.custom3}, #{t.custom4}, #{t.custom5}, #{t.custom6}, #{t.custom7}, #{t.custom8}, #{t.custom9}, #{t.custom10}, "
+          + "#{t.custom11}, #{t.custom12}, #{t.custom13}, #{t.custom14}, #{t.custom15},  #{t.custom16})"
+          + "</foreach></script>")
+  void insertMultiple(@Param("tasks") List<TaskImpl> tasks);
+
+  @Select(
+      "<script>SELECT EXTERNAL_ID FROM TASK "
+          + "WHERE EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findExistingExternalIds(@Param("externalIds") List<String> externalIds);
+
   @Update(
       "UPDATE TASK SET CLAIMED = #{claimed}, COMPLETED = #{completed}, MODIFIED = #{modified}, PLANNED = #{planned}, DUE = #{due}, NAME = #{name}, DESCRIPTION = #{description}, NOTE = #{note}, "
           + " PRIORITY = #{priority}, STATE = #{state}, CLASSIFICATION_CATEGORY = #{classificationSummary.category}, CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, "
@@ -128,7 +151,31 @@ public interface TaskMapper {
 
   @Delete(
       "<script>DELETE FROM TASK WHERE ID IN(<foreach item='item' collection='ids' separator=',' >#{item}</foreach>)</script>")
-  void deleteMultiple(@Param("ids") List<String> ids);
+  int deleteMultiple(@Param("ids") List<String> ids);
+
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE COMPLETED &lt;= #{completedBefore} "
+          + "AND STATE IN ('COMPLETED', 'CANCELLED', 'TERMINATED') "
+          + "AND (CALLBACK_STATE IS NULL OR CALLBACK_STATE &lt;&gt; 'CALLBACK_PROCESSING_REQUIRED' OR STATE &lt;&gt; 'COMPLETED') "
+          + "<if test='allCompletedSameParentBusiness'>"
+          + "AND PARENT_BUSINESS_PROCESS_ID IN (SELECT PARENT_BUSINESS_PROCESS_ID FROM TASK GROUP BY PARENT_BUSINESS_PROCESS_ID "
+          + "HAVING COUNT(*) = COUNT(CASE WHEN COMPLETED &lt;= #{completedBefore} THEN 1 END)) "
+          + "</if>"
+          + "FETCH FIRST ${limit} ROWS ONLY "
+          + "</script>")
+  List<String> findTaskIdsToBeCleanedUp(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("allCompletedSameParentBusiness") boolean allCompletedSameParentBusiness,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT PARENT_BUSINESS_PROCESS_ID FROM TASK "
+          + "WHERE PARENT_BUSINESS_PROCESS_ID IS NOT NULL GROUP BY PARENT_BUSINESS_PROCESS_ID "
+          + "HAVING COUNT(*) = COUNT(CASE WHEN COMPLETED &lt;= #{completedBefore} THEN 1 END) "
+          + "</script>")
+  List<String> findParentBusinessProcessIdsCompletedBefore(
+      @Param("completedBefore") Instant completedBefore);
 
   @Update(
       "<script>UPDATE TASK SET CALLBACK_STATE = #{state} WHERE EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>)</script>")
@@ -190,12 +237,12 @@ public interface TaskMapper {
       @Param("taskIds") List<String> taskIds, @Param("externalIds") List<String> externalIds);
 
   @Update(
-      "<script>"
-          + " UPDATE TASK SET CLASSIFICATION_CATEGORY = #{newCategory} "
-          + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
-          + "</script>")
-  void updateClassificationCategoryOnChange(
-      @Param("taskIds") List<String> taskIds, @Param("newCategory") String newCategory);
+      "UPDATE TASK SET CLASSIFICATION_CATEGORY = #{newCategory} "
+          + "WHERE CLASSIFICATION_ID = #{classificationId} "
+          + "AND (CLASSIFICATION_CATEGORY IS NULL OR CLASSIFICATION_CATEGORY <> #{newCategory})")
+  int updateClassificationCategoryOnChange(
+      @Param("classificationId") String classificationId,
+      @Param("newCategory") String newCategory);
 
   @Update(
       "<script>UPDATE TASK SET  "
@@ -246,9 +293,13 @@ public interface TaskMapper {
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskImpl referenceTask);
 
   @Select(
-      "<script>SELECT ID, PLANNED, STATE FROM TASK "
-          + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
-          + "AND STATE IN ( 'READY','CLAIMED') "
+      "<script>SELECT ID, PLANNED FROM TASK "
+          + "WHERE STATE IN ( 'READY','CLAIMED') "
+          + "AND (CLASSIFICATION_ID = #{classificationId} OR ID IN (SELECT TASK_ID FROM ATTACHMENT WHERE CLASSIFICATION_ID = #{classificationId})) "
+          + "<if test='fromPlanned != null'>AND (PLANNED &gt; #{fromPlanned} OR (PLANNED = #{fromPlanned} AND ID &gt; #{fromId})) </if>"
+          + "<if test='toPlanned != null'>AND (PLANNED &lt; #{toPlanned} OR (PLANNED = #{toPlanned} AND ID &lt;= #{toId})) </if>"
+          + "ORDER BY PLANNED ASC, ID ASC "
+          + "<if test='offset != null'>OFFSET ${offset} ROWS FETCH FIRST 1 ROWS ONLY </if>"
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   @Results(
@@ -260,8 +311,13 @@ public interface TaskMapper {
             javaType = Instant.class,
             typeHandler = InstantTypeHandler.class)
       })
-  List<Pair<String, Instant>> filterTaskIdsForReadyAndClaimed(
-      @Param("taskIds") List<String> taskIds);
+  List<Pair<String, Instant>> findTasksAffectedByClassificationChange(
+      @Param("classificationId") String classificationId,
+      @Param("fromPlanned") Instant fromPlanned,
+      @Param("fromId") String fromId,
+      @Param("toPlanned") Instant toPlanned,
+      @Param("toId") String toId,
+      @Param("offset") Integer offset);
 
   @Select(
       "<script> "
@@ -272,16 +328,12 @@ public interface TaskMapper {
           + "<otherwise>"
           + "SELECT t.ID FROM TASK t WHERE t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)"
           + "AND NOT (t.WORKBASKET_ID IN ( "
+          + "SELECT s.WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST AS s WHERE "
+          + "s.ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
           + "<choose>"
-          + "<when test=\"_databaseId == 'db2'\">"
-          + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
-          + "</when>"
-          + "<otherwise>"
-          + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
-          + "</otherwise>"
+          + "<when test=\"_databaseId == 'db2'\">AND s.PERM_READ = 1 ))</when>"
+          + "<otherwise>AND s.PERM_READ::int = 1 ))</otherwise>"
           + "</choose>"
-          + "ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
-          + "group by WORKBASKET_ID ) AS f where max_read = 1 ))"
           + "</otherwise>"
           + "</choose>"
           + "</script>")
@@ -1,9 +1,16 @@
 package pro.taskana.task.internal;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
@@ -15,6 +22,7 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.configuration.DB;
@@ -48,6 +56,10 @@ public class TaskQueryImpl implements TaskQuery {
   private static final String LINK_TO_VALUEMAPPER =
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskColumnValues";
   private static final String TIME_INTERVAL = "TimeInterval ";
+  private static final String TASK_ID_COLUMN = "ID";
+  private static final String CONTINUATION_TOKEN_SEPARATOR = "|";
+  private static final List<String> KEYSET_SORT_COLUMNS =
+      Arrays.asList("CREATED", "MODIFIED", "PLANNED", "DUE", "PRIORITY");
   private static final String IS_INVALID = " is invalid.";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
   private InternalTaskanaEngine taskanaEngine;
@@ -155,6 +167,12 @@ public class TaskQueryImpl implements TaskQuery {
   private boolean addAttachmentColumnsToSelectClauseForOrdering = false;
   private boolean addClassificationNameToSelectClauseForOrdering = false;
   private boolean addAttachmentClassificationNameToSelectClauseForOrdering = false;
+  // parameters for keyset pagination
+  private String keysetColumn;
+  private String keysetOperator;
+  private Object keysetValue;
+  private String keysetId;
+  private Integer keysetLimit;
 
   TaskQueryImpl(InternalTaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
@@ -1013,6 +1031,115 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public List<TaskSummary> listAfter(String continuationToken, int limit) {
+    LOGGER.debug(
+        "entry to listAfter(continuationToken = {}, limit = {}), this = {}",
+        continuationToken,
+        limit,
+        this);
+    if (limit < 1) {
+      throw new IllegalArgumentException("limit must be greater than 0, but was " + limit);
+    }
+    List<TaskSummary> result = new ArrayList<>();
+    List<String> originalOrderBy = new ArrayList<>(orderBy);
+    List<String> originalOrderColumns = new ArrayList<>(orderColumns);
+    try {
+      taskanaEngine.openConnection();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      SortDirection sortDirection = getKeysetSortDirection();
+      String sortColumn = getKeysetSortColumn();
+      if (!TASK_ID_COLUMN.equals(orderColumns.get(orderColumns.size() - 1))) {
+        addOrderCriteria(TASK_ID_COLUMN, sortDirection);
+      }
+      if (continuationToken != null && !continuationToken.isEmpty()) {
+        applyContinuationToken(continuationToken, sortColumn, sortDirection);
+      }
+      keysetLimit = limit;
+      setupAccessIds();
+      setupJoinAndOrderParameters();
+      List<TaskSummaryImpl> tasks =
+          taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this);
+      result = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+      return result;
+    } finally {
+      orderBy = originalOrderBy;
+      orderColumns = originalOrderColumns;
+      keysetColumn = null;
+      keysetOperator = null;
+      keysetValue = null;
+      keysetId = null;
+      keysetLimit = null;
+      taskanaEngine.returnConnection();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "exit from listAfter(). Returning {} resulting Objects: {} ",
+            result.size(),
+            LoggerUtils.listToString(result));
+      }
+    }
+  }
+
+  @Override
+  public String getContinuationToken(TaskSummary lastTaskSummary) {
+    SortDirection sortDirection = getKeysetSortDirection();
+    String sortColumn = getKeysetSortColumn();
+    Object sortValue = getKeysetSortValue(lastTaskSummary, sortColumn);
+    if (sortValue == null) {
+      throw new IllegalArgumentException(
+          "Task " + lastTaskSummary.getId() + " has no value for the sort column " + sortColumn);
+    }
+    String token =
+        String.join(
+            CONTINUATION_TOKEN_SEPARATOR,
+            sortColumn,
+            sortDirection.toString(),
+            sortValue.toString(),
+            lastTaskSummary.getId());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void forEachChunk(Consumer<List<TaskSummary>> chunkConsumer) {
+    forEachChunk(taskanaEngine.getEngine().getConfiguration().getQueryFetchSize(), chunkConsumer);
+  }
+
+  @Override
+  public void forEachChunk(int chunkSize, Consumer<List<TaskSummary>> chunkConsumer) {
+    LOGGER.debug("entry to forEachChunk(chunkSize = {}), this = {}", chunkSize, this);
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be greater than 0, but was " + chunkSize);
+    }
+    int numberOfTasks = 0;
+    try {
+      taskanaEngine.openConnection();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupJoinAndOrderParameters();
+      setupAccessIds();
+      try (Cursor<TaskSummaryImpl> cursor =
+          taskanaEngine.getSqlSession().selectCursor(getLinkToMapperScript(), this)) {
+        List<TaskSummaryImpl> chunk = new ArrayList<>(chunkSize);
+        for (TaskSummaryImpl task : cursor) {
+          chunk.add(task);
+          if (chunk.size() == chunkSize) {
+            numberOfTasks += consumeChunk(chunk, chunkConsumer);
+            chunk = new ArrayList<>(chunkSize);
+          }
+        }
+        if (!chunk.isEmpty()) {
+          numberOfTasks += consumeChunk(chunk, chunkConsumer);
+        }
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the task query.", e);
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from forEachChunk(). Processed {} tasks.", numberOfTasks);
+    }
+  }
+
   @Override
   public List<String> listValues(TaskQueryColumnName columnName, SortDirection sortDirection) {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
@@ -1094,6 +1221,105 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  private String getKeysetSortColumn() {
+    List<String> sortColumns = getKeysetSortColumns();
+    return sortColumns.isEmpty() ? TASK_ID_COLUMN : sortColumns.get(0);
+  }
+
+  private SortDirection getKeysetSortDirection() {
+    getKeysetSortColumns();
+    if (orderBy.isEmpty()) {
+      return SortDirection.ASCENDING;
+    }
+    SortDirection sortDirection = null;
+    for (String orderCriteria : orderBy) {
+      SortDirection direction =
+          orderCriteria.endsWith(" " + SortDirection.DESCENDING)
+              ? SortDirection.DESCENDING
+              : SortDirection.ASCENDING;
+      if (sortDirection != null && sortDirection != direction) {
+        throw new IllegalArgumentException(
+            "Keyset pagination requires the same sort direction for all sort columns.");
+      }
+      sortDirection = direction;
+    }
+    return sortDirection;
+  }
+
+  private List<String> getKeysetSortColumns() {
+    List<String> sortColumns = new ArrayList<>(orderColumns);
+    if (!sortColumns.isEmpty()
+        && TASK_ID_COLUMN.equals(sortColumns.get(sortColumns.size() - 1))) {
+      sortColumns.remove(sortColumns.size() - 1);
+    }
+    if (sortColumns.size() > 1
+        || (sortColumns.size() == 1 && !KEYSET_SORT_COLUMNS.contains(sortColumns.get(0)))) {
+      throw new IllegalArgumentException(
+          "Keyset pagination supports only the sorting by task id or by one of "
+              + KEYSET_SORT_COLUMNS
+              + ", but the query is sorted by "
+              + orderColumns);
+    }
+    return sortColumns;
+  }
+
+  private Object getKeysetSortValue(TaskSummary taskSummary, String sortColumn) {
+    switch (sortColumn) {
+      case "CREATED":
+        return taskSummary.getCreated();
+      case "MODIFIED":
+        return taskSummary.getModified();
+      case "PLANNED":
+        return taskSummary.getPlanned();
+      case "DUE":
+        return taskSummary.getDue();
+      case "PRIORITY":
+        return taskSummary.getPriority();
+      default:
+        return taskSummary.getId();
+    }
+  }
+
+  private void applyContinuationToken(
+      String continuationToken, String sortColumn, SortDirection sortDirection) {
+    String[] tokenParts;
+    try {
+      String decodedToken =
+          new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+      tokenParts = decodedToken.split(Pattern.quote(CONTINUATION_TOKEN_SEPARATOR), -1);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("The continuation token is invalid.", e);
+    }
+    if (tokenParts.length != 4
+        || !sortColumn.equals(tokenParts[0])
+        || !sortDirection.toString().equals(tokenParts[1])) {
+      throw new IllegalArgumentException(
+          "The continuation token does not match the sort order of the query.");
+    }
+    keysetOperator = sortDirection == SortDirection.DESCENDING ? "<" : ">";
+    keysetId = tokenParts[3];
+    if (!TASK_ID_COLUMN.equals(sortColumn)) {
+      keysetColumn = sortColumn;
+      try {
+        keysetValue =
+            "PRIORITY".equals(sortColumn)
+                ? (Object) Integer.valueOf(tokenParts[2])
+                : Instant.parse(tokenParts[2]);
+      } catch (RuntimeException e) {
+        throw new IllegalArgumentException("The continuation token is invalid.", e);
+      }
+    }
+  }
+
+  private int consumeChunk(
+      List<TaskSummaryImpl> chunk, Consumer<List<TaskSummary>> chunkConsumer) {
+    List<TaskSummary> augmentedChunk = taskService.augmentTaskSummariesByContainedSummaries(chunk);
+    if (!augmentedChunk.isEmpty()) {
+      chunkConsumer.accept(augmentedChunk);
+    }
+    return augmentedChunk.size();
+  }
+
   public String getLinkToMapperScript() {
     return DB.DB2.dbProductId.equals(getDatabaseId()) ? LINK_TO_MAPPER_DB2 : LINK_TO_MAPPER;
   }
@@ -1244,6 +1470,26 @@ public class TaskQueryImpl implements TaskQuery {
     return orderColumns;
   }
 
+  public String getKeysetColumn() {
+    return keysetColumn;
+  }
+
+  public String getKeysetOperator() {
+    return keysetOperator;
+  }
+
+  public Object getKeysetValue() {
+    return keysetValue;
+  }
+
+  public String getKeysetId() {
+    return keysetId;
+  }
+
+  public Integer getKeysetLimit() {
+    return keysetLimit;
+  }
+
   public TimeInterval[] getCreatedIn() {
     return createdIn;
   }
@@ -1641,9 +1887,7 @@ public class TaskQueryImpl implements TaskQuery {
     try {
       if (this.workbasketIdIn != null && this.workbasketIdIn.length > 0) {
         filterByAccessIdIn = false;
-        for (String workbasketId : workbasketIdIn) {
-          checkOpenAndReadPermissionById(workbasketId);
-        }
+        checkOpenAndReadPermissionByIds(Arrays.asList(workbasketIdIn));
       }
       if (workbasketKeyDomainIn != null && workbasketKeyDomainIn.length > 0) {
         filterByAccessIdIn = false;
@@ -1656,14 +1900,15 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
-  private void checkOpenAndReadPermissionById(String workbasketId) throws NotAuthorizedException {
+  private void checkOpenAndReadPermissionByIds(List<String> workbasketIds)
+      throws NotAuthorizedException {
     try {
       taskanaEngine
           .getEngine()
           .getWorkbasketService()
-          .checkAuthorization(workbasketId, WorkbasketPermission.OPEN, WorkbasketPermission.READ);
+          .checkAuthorization(workbasketIds, WorkbasketPermission.OPEN, WorkbasketPermission.READ);
     } catch (WorkbasketNotFoundException e) {
-      LOGGER.warn("The workbasket with the ID '" + workbasketId + "' does not exist.", e);
+      LOGGER.warn("The workbasket with the ID '" + e.getId() + "' does not exist.", e);
     }
   }
 
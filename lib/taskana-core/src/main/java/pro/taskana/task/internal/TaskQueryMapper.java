@@ -1,10 +1,12 @@
 package pro.taskana.task.internal;
 
 import java.util.List;
+import org.apache.ibatis.annotations.Lang;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 
+import pro.taskana.common.internal.persistence.QueryTemplateLanguageDriver;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
 
@@ -12,6 +14,7 @@ import pro.taskana.task.internal.models.TaskSummaryImpl;
 @SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
 public interface TaskQueryMapper {
 
+  @Lang(QueryTemplateLanguageDriver.class)
   @Select(
       "<script> "
           + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
@@ -40,9 +43,9 @@ public interface TaskQueryMapper {
           + "<where>"
           + "<if test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
-          + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
-          + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
-          + "group by WORKBASKET_ID ) AS f where max_read = 1 ) "
+          + "SELECT s.WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST AS s WHERE "
+          + "s.ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+          + "AND s.PERM_READ::int = 1 ) "
           + "</if> "
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
@@ -133,8 +136,10 @@ public interface TaskQueryMapper {
           + "<if test='attachmentReferenceIn != null'>AND a.REF_VALUE IN(<foreach item='item' collection='attachmentReferenceIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='attachmentReferenceLike != null'>AND (<foreach item='item' collection='attachmentReferenceLike' separator=' OR '>UPPER(a.REF_VALUE) LIKE #{item}</foreach>)</if> "
           + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
+          + "<if test='keysetId != null'>AND <choose><when test='keysetColumn != null'>(t.${keysetColumn} ${keysetOperator} #{keysetValue} OR (t.${keysetColumn} = #{keysetValue} AND t.ID ${keysetOperator} #{keysetId}))</when><otherwise>t.ID ${keysetOperator} #{keysetId}</otherwise></choose></if> "
           + "</where>"
           + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
+          + "<if test='keysetLimit != null'>FETCH FIRST ${keysetLimit} ROWS ONLY </if>"
           + "</script>")
   @Results(
       value = {
@@ -190,6 +195,7 @@ public interface TaskQueryMapper {
       })
   List<TaskSummaryImpl> queryTaskSummaries(TaskQueryImpl taskQuery);
 
+  @Lang(QueryTemplateLanguageDriver.class)
   @Select(
       "<script> "
           + "WITH X (ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, TCLASSIFICATION_KEY, "
@@ -319,6 +325,7 @@ public interface TaskQueryMapper {
           + "<if test='attachmentReferenceIn != null'>AND a.REF_VALUE IN(<foreach item='item' collection='attachmentReferenceIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='attachmentReferenceLike != null'>AND (<foreach item='item' collection='attachmentReferenceLike' separator=' OR '>UPPER(a.REF_VALUE) LIKE #{item}</foreach>)</if> "
           + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
+          + "<if test='keysetId != null'>AND <choose><when test='keysetColumn != null'>(t.${keysetColumn} ${keysetOperator} #{keysetValue} OR (t.${keysetColumn} = #{keysetValue} AND t.ID ${keysetOperator} #{keysetId}))</when><otherwise>t.ID ${keysetOperator} #{keysetId}</otherwise></choose></if> "
           + "</where> "
           + "), Y (ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, TCLASSIFICATION_KEY, "
           + " CLASSIFICATION_CATEGORY, CLASSIFICATION_ID, WORKBASKET_ID, DOMAIN, WORKBASKET_KEY, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, "
@@ -374,6 +381,7 @@ public interface TaskQueryMapper {
           + "${item}"
           + "</foreach>"
           + "</if> "
+          + "<if test='keysetLimit != null'>FETCH FIRST ${keysetLimit} ROWS ONLY </if>"
           + "with UR "
           + "</script>")
   @Results(
@@ -452,6 +460,7 @@ public interface TaskQueryMapper {
   })
   List<ObjectReference> queryObjectReferences(ObjectReferenceQueryImpl objectReference);
 
+  @Lang(QueryTemplateLanguageDriver.class)
   @Select(
       "<script> "
           + "SELECT COUNT( <if test=\"useDistinctKeyword\">DISTINCT</if>  t.ID) FROM TASK t "
@@ -467,9 +476,9 @@ public interface TaskQueryMapper {
           + "<where>"
           + "<if test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
-          + "select WID from (select WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
-          + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
-          + "group by WORKBASKET_ID ) AS f where max_read = 1 ) "
+          + "SELECT s.WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST AS s WHERE "
+          + "s.ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+          + "AND s.PERM_READ::int = 1 ) "
           + "</if> "
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
@@ -564,6 +573,7 @@ public interface TaskQueryMapper {
           + "</script>")
   Long countQueryTasks(TaskQueryImpl taskQuery);
 
+  @Lang(QueryTemplateLanguageDriver.class)
   @Select(
       "<script> "
           + "WITH X (ID, WORKBASKET_ID) AS (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.WORKBASKET_ID FROM TASK t "
@@ -694,6 +704,7 @@ public interface TaskQueryMapper {
           + "</script>")
   Long countQueryObjectReferences(ObjectReferenceQueryImpl objectReference);
 
+  @Lang(QueryTemplateLanguageDriver.class)
   @Select(
       "<script>SELECT DISTINCT ${columnName} "
           + "FROM TASK t "
@@ -709,9 +720,12 @@ public interface TaskQueryMapper {
           + "<where>"
           + "<if test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
-          + "select WID from (select WORKBASKET_ID as WID, MAX(PERM_READ) as MAX_READ FROM WORKBASKET_ACCESS_LIST where "
-          + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
-          + "group by WORKBASKET_ID ) where max_read = 1 ) "
+          + "SELECT s.WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST AS s WHERE "
+          + "s.ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+          + "<choose>"
+          + "<when test=\"_databaseId == 'db2'\">AND s.PERM_READ = 1 ) </when>"
+          + "<otherwise>AND s.PERM_READ::int = 1 ) </otherwise>"
+          + "</choose>"
           + "</if> "
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
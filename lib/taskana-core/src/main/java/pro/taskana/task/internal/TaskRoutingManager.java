@@ -1,55 +1,107 @@
 package pro.taskana.task.internal;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.util.LogSanitizer;
+import pro.taskana.spi.routing.api.TaskRoutingAttribute;
 import pro.taskana.spi.routing.api.TaskRoutingProvider;
 import pro.taskana.task.api.models.Task;
 
 /**
  * Loads TaskRoutingProvider SPI implementation(s) and passes requests to determine workbasketids to
  * them.
+ *
+ * <p>The decisions of TaskRoutingProviders which declare their {@link
+ * TaskRoutingProvider#getRoutingAttributes() routing attributes} are reused for tasks with the same
+ * values of these attributes. Within {@link #determineWorkbasketIds(List)} this is always done, in
+ * addition the decisions can be kept in a bounded cache with a time to live. If configured, the
+ * TaskRoutingProviders are asked concurrently.
  */
 public final class TaskRoutingManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskRoutingManager.class);
-  private static TaskRoutingManager singleton;
-  private boolean enabled = false;
-  private List<TaskRoutingProvider> theTaskRoutingProviders = new ArrayList<>();
-  private ServiceLoader<TaskRoutingProvider> serviceLoader;
-
-  private TaskRoutingManager(TaskanaEngine taskanaEngine) {
-    serviceLoader = ServiceLoader.load(TaskRoutingProvider.class);
-    for (TaskRoutingProvider router : serviceLoader) {
-      router.initialize(taskanaEngine);
-      theTaskRoutingProviders.add(router);
-      LOGGER.info("Registered TaskRouter provider: {}", router.getClass().getName());
-    }
+  private static final String SEPARATOR = "\u0000";
+  private static final String NULL_VALUE = "\u0001";
+  private final boolean enabled;
+  private final List<TaskRoutingProvider> theTaskRoutingProviders;
+  private final List<List<TaskRoutingAttribute>> routingAttributes = new ArrayList<>();
+  private final List<ProviderStatistics> providerStatistics = new ArrayList<>();
+  private final DecisionCache decisionCache;
+  private final ExecutorService executor;
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
 
-    if (theTaskRoutingProviders.isEmpty()) {
+  public TaskRoutingManager(TaskanaEngine taskanaEngine) {
+    this(
+        loadTaskRoutingProviders(taskanaEngine),
+        taskanaEngine.getConfiguration().isRoutingCacheEnabled(),
+        taskanaEngine.getConfiguration().getRoutingCacheMaxSize(),
+        taskanaEngine.getConfiguration().getRoutingCacheTimeToLive(),
+        taskanaEngine.getConfiguration().getRoutingParallelism());
+  }
+
+  TaskRoutingManager(
+      List<TaskRoutingProvider> taskRoutingProviders,
+      boolean cacheEnabled,
+      int cacheMaxSize,
+      Duration cacheTimeToLive,
+      int parallelism) {
+    theTaskRoutingProviders = new ArrayList<>(taskRoutingProviders);
+    for (TaskRoutingProvider router : theTaskRoutingProviders) {
+      Set<TaskRoutingAttribute> attributes = router.getRoutingAttributes();
+      routingAttributes.add(
+          attributes == null ? null : attributes.stream().sorted().collect(Collectors.toList()));
+      providerStatistics.add(new ProviderStatistics(router.getClass().getName()));
+    }
+    enabled = !theTaskRoutingProviders.isEmpty();
+    if (!enabled) {
       LOGGER.info("No TaskRouter provider found. Running without Task Routing.");
+    }
+
+    if (enabled && cacheEnabled) {
+      decisionCache = new DecisionCache(cacheMaxSize, cacheTimeToLive);
     } else {
-      enabled = true;
+      decisionCache = null;
     }
-  }
 
-  public static synchronized TaskRoutingManager getInstance(TaskanaEngine taskanaEngine) {
-    if (singleton == null) {
-      singleton = new TaskRoutingManager(taskanaEngine);
+    if (Math.min(parallelism, theTaskRoutingProviders.size()) > 1) {
+      AtomicInteger threadCount = new AtomicInteger();
+      executor =
+          Executors.newFixedThreadPool(
+              Math.min(parallelism, theTaskRoutingProviders.size()),
+              runnable -> {
+                Thread thread =
+                    new Thread(runnable, "taskana-task-router-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+    } else {
+      executor = null;
     }
-    return singleton;
   }
 
-  public static boolean isTaskRoutingEnabled() {
-    return Objects.nonNull(singleton) && singleton.enabled;
+  public boolean isTaskRoutingEnabled() {
+    return enabled;
   }
 
   /**
@@ -63,35 +115,261 @@ public final class TaskRoutingManager {
    */
   public String determineWorkbasketId(Task task) {
     LOGGER.debug(
-        "entry to routeToWorkbasket. TaskRouterr is enabled {}, task = {}",
-        isTaskRoutingEnabled(),
-        task);
+        "entry to routeToWorkbasket. TaskRouterr is enabled {}, task = {}", enabled, task);
     String workbasketId = null;
-    if (isTaskRoutingEnabled()) {
-      // route to all TaskRoutingProviders
-      // collect in a set to see whether different workbasket ids are returned
-      Set<String> workbasketIds =
-          theTaskRoutingProviders.stream()
-              .map(rtr -> rtr.determineWorkbasketId(task))
-              .filter(Objects::nonNull)
-              .collect(Collectors.toSet());
-      if (workbasketIds.isEmpty()) {
-        if (LOGGER.isErrorEnabled()) {
-          LOGGER.error(
-              "No TaskRouter determined a workbasket for task {}.",
-              LogSanitizer.stripLineBreakingChars(task));
-        }
-      } else if (workbasketIds.size() > 1) {
-        if (LOGGER.isErrorEnabled()) {
-          LOGGER.error(
-              "The TaskRouters determined more than one workbasket for task {}",
-              LogSanitizer.stripLineBreakingChars(task));
+    if (enabled) {
+      workbasketId = routeTask(task, new HashMap<>());
+    }
+    LOGGER.debug("exit from routeToWorkbasketId. Destination WorkbasketId = {}", workbasketId);
+    return workbasketId;
+  }
+
+  /**
+   * Determines the workbasket ids for several tasks like {@link #determineWorkbasketId(Task)}. The
+   * decisions of TaskRoutingProviders which declare their routing attributes are computed only once
+   * per distinct combination of attribute values.
+   *
+   * @param tasks the tasks for which the workbasketIds are to be determined.
+   * @return the ids of the workbaskets in the order of the tasks, null for every task which could
+   *     not be routed.
+   */
+  public List<String> determineWorkbasketIds(List<? extends Task> tasks) {
+    LOGGER.debug(
+        "entry to determineWorkbasketIds. TaskRouter is enabled {}, number of tasks = {}",
+        enabled,
+        tasks.size());
+    List<String> workbasketIds = new ArrayList<>(tasks.size());
+    Map<String, Decision> decisionsOfBatch = new HashMap<>();
+    for (Task task : tasks) {
+      workbasketIds.add(enabled ? routeTask(task, decisionsOfBatch) : null);
+    }
+    LOGGER.debug("exit from determineWorkbasketIds. Destination WorkbasketIds = {}", workbasketIds);
+    return workbasketIds;
+  }
+
+  public long getCacheHitCount() {
+    return cacheHits.sum();
+  }
+
+  public long getCacheMissCount() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * Returns the number of invocations and the time spent in each registered TaskRoutingProvider.
+   *
+   * @return the statistics of the TaskRoutingProviders in the order of their registration
+   */
+  public List<ProviderStatistics> getProviderStatistics() {
+    return Collections.unmodifiableList(providerStatistics);
+  }
+
+  /** Discards all cached routing decisions. */
+  public void clearCache() {
+    if (decisionCache != null) {
+      decisionCache.clear();
+    }
+  }
+
+  private static List<TaskRoutingProvider> loadTaskRoutingProviders(TaskanaEngine taskanaEngine) {
+    List<TaskRoutingProvider> taskRoutingProviders = new ArrayList<>();
+    for (TaskRoutingProvider router : ServiceLoader.load(TaskRoutingProvider.class)) {
+      router.initialize(taskanaEngine);
+      taskRoutingProviders.add(router);
+      LOGGER.info("Registered TaskRouter provider: {}", router.getClass().getName());
+    }
+    return taskRoutingProviders;
+  }
+
+  private String routeTask(Task task, Map<String, Decision> decisionsOfBatch) {
+    // collect in a set to see whether different workbasket ids are returned
+    Set<String> workbasketIds = new HashSet<>();
+    Map<Integer, String> providersToAsk = new LinkedHashMap<>();
+    for (int i = 0; i < theTaskRoutingProviders.size(); i++) {
+      String key = createKey(i, task);
+      Decision decision = key == null ? null : decisionsOfBatch.get(key);
+      if (decision == null && key != null && decisionCache != null) {
+        decision = decisionCache.get(key);
+        if (decision != null) {
+          cacheHits.increment();
+          decisionsOfBatch.put(key, decision);
+        } else {
+          cacheMisses.increment();
         }
+      }
+      if (decision != null) {
+        workbasketIds.add(decision.workbasketId);
       } else {
-        workbasketId = workbasketIds.stream().findFirst().orElse(null);
+        providersToAsk.put(i, key);
       }
     }
-    LOGGER.debug("exit from routeToWorkbasketId. Destination WorkbasketId = {}", workbasketId);
-    return workbasketId;
+
+    List<String> answers = askProviders(new ArrayList<>(providersToAsk.keySet()), task);
+    int answerIndex = 0;
+    for (String key : providersToAsk.values()) {
+      String answer = answers.get(answerIndex++);
+      workbasketIds.add(answer);
+      if (key != null) {
+        Decision decision = new Decision(answer);
+        decisionsOfBatch.put(key, decision);
+        if (decisionCache != null) {
+          decisionCache.put(key, decision);
+        }
+      }
+    }
+    workbasketIds.remove(null);
+
+    if (workbasketIds.isEmpty()) {
+      if (LOGGER.isErrorEnabled()) {
+        LOGGER.error(
+            "No TaskRouter determined a workbasket for task {}.",
+            LogSanitizer.stripLineBreakingChars(task));
+      }
+    } else if (workbasketIds.size() > 1) {
+      if (LOGGER.isErrorEnabled()) {
+        LOGGER.error(
+            "The TaskRouters determined more than one workbasket for task {}",
+            LogSanitizer.stripLineBreakingChars(task));
+      }
+    } else {
+      return workbasketIds.iterator().next();
+    }
+    return null;
+  }
+
+  private List<String> askProviders(List<Integer> providerIndexes, Task task) {
+    if (executor == null || providerIndexes.size() < 2) {
+      return providerIndexes.stream()
+          .map(index -> askProvider(index, task))
+          .collect(Collectors.toList());
+    }
+    List<CompletableFuture<String>> answers =
+        providerIndexes.stream()
+            .map(index -> CompletableFuture.supplyAsync(() -> askProvider(index, task), executor))
+            .collect(Collectors.toList());
+    try {
+      return answers.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new SystemException("A TaskRouter failed to determine a workbasket", e.getCause());
+    }
+  }
+
+  private String askProvider(int providerIndex, Task task) {
+    long start = System.nanoTime();
+    try {
+      return theTaskRoutingProviders.get(providerIndex).determineWorkbasketId(task);
+    } finally {
+      providerStatistics.get(providerIndex).record(System.nanoTime() - start);
+    }
+  }
+
+  private String createKey(int providerIndex, Task task) {
+    List<TaskRoutingAttribute> attributes = routingAttributes.get(providerIndex);
+    if (attributes == null) {
+      return null;
+    }
+    StringBuilder key = new StringBuilder().append(providerIndex);
+    for (TaskRoutingAttribute attribute : attributes) {
+      String value = attribute.getValue(task);
+      key.append(SEPARATOR).append(value == null ? NULL_VALUE : value);
+    }
+    return key.toString();
+  }
+
+  /** The number of invocations and the time spent in one TaskRoutingProvider. */
+  public static final class ProviderStatistics {
+
+    private final String providerName;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    private ProviderStatistics(String providerName) {
+      this.providerName = providerName;
+    }
+
+    public String getProviderName() {
+      return providerName;
+    }
+
+    public long getInvocationCount() {
+      return invocations.sum();
+    }
+
+    public Duration getTotalDuration() {
+      return Duration.ofNanos(totalNanos.sum());
+    }
+
+    public Duration getAverageDuration() {
+      long count = invocations.sum();
+      return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / count);
+    }
+
+    private void record(long nanos) {
+      invocations.increment();
+      totalNanos.add(nanos);
+    }
+
+    @Override
+    public String toString() {
+      return "ProviderStatistics [providerName="
+          + providerName
+          + ", invocations="
+          + getInvocationCount()
+          + ", totalDuration="
+          + getTotalDuration()
+          + "]";
+    }
+  }
+
+  /** The decision of a TaskRoutingProvider, the workbasket id may be null. */
+  private static final class Decision {
+
+    private final String workbasketId;
+    private final long createdNanos = System.nanoTime();
+
+    private Decision(String workbasketId) {
+      this.workbasketId = workbasketId;
+    }
+  }
+
+  /** Bounded cache of routing decisions, least recently used entries are evicted first. */
+  private static final class DecisionCache {
+
+    private final long timeToLiveNanos;
+    private final Map<String, Decision> entries;
+
+    private DecisionCache(int maxSize, Duration timeToLive) {
+      this.timeToLiveNanos = timeToLive.toNanos();
+      this.entries =
+          Collections.synchronizedMap(
+              new LinkedHashMap<String, Decision>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Decision> eldest) {
+                  return size() > maxSize;
+                }
+              });
+    }
+
+    private Decision get(String key) {
+      Decision decision = entries.get(key);
+      if (decision != null && System.nanoTime() - decision.createdNanos >= timeToLiveNanos) {
+        entries.remove(key);
+        return null;
+      }
+      return decision;
+    }
+
+    private void put(String key, Decision decision) {
+      entries.put(key, decision);
+    }
+
+    private void clear() {
+      entries.clear();
+    }
   }
 }
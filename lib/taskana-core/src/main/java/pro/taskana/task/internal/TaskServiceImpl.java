@@ -2,14 +2,18 @@ package pro.taskana.task.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.ibatis.exceptions.PersistenceException;
@@ -20,7 +24,9 @@ import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.ClassificationServiceImpl;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
@@ -33,6 +39,7 @@ import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.security.CurrentUserContext;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.Pair;
+import pro.taskana.monitor.internal.TaskCountStore;
 import pro.taskana.spi.history.api.events.task.ClaimCancelledEvent;
 import pro.taskana.spi.history.api.events.task.ClaimedEvent;
 import pro.taskana.spi.history.api.events.task.CompletedEvent;
@@ -90,6 +97,7 @@ public class TaskServiceImpl implements TaskService {
   private static final String ID_PREFIX_TASK = "TKI";
   private static final String ID_PREFIX_EXT_TASK_ID = "ETI";
   private static final String ID_PREFIX_BUSINESS_PROCESS = "BPI";
+  private static final int BULK_INSERT_CHUNK_SIZE = 100;
   private static final Set<String> ALLOWED_KEYS =
       IntStream.rangeClosed(1, 16).mapToObj(String::valueOf).collect(Collectors.toSet());
   private static final String TASK_WITH_ID_IS_ALREADY_IN_END_STATE =
@@ -99,11 +107,14 @@ public class TaskServiceImpl implements TaskService {
   private ClassificationService classificationService;
   private TaskMapper taskMapper;
   private AttachmentMapper attachmentMapper;
+  private TaskCommentMapper taskCommentMapper;
   private HistoryEventProducer historyEventProducer;
   private TaskTransferrer taskTransferrer;
   private TaskCommentServiceImpl taskCommentService;
   private ServiceLevelHandler serviceLevelHandler;
   private AttachmentHandler attachmentHandler;
+  private TaskCountStore taskCountStore;
+  private IdGenerationStrategy idGenerationStrategy;
 
   public TaskServiceImpl(
       InternalTaskanaEngine taskanaEngine,
@@ -115,12 +126,16 @@ public class TaskServiceImpl implements TaskService {
     this.taskMapper = taskMapper;
     this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
     this.attachmentMapper = attachmentMapper;
+    this.taskCommentMapper = taskCommentMapper;
     this.classificationService = taskanaEngine.getEngine().getClassificationService();
     this.historyEventProducer = taskanaEngine.getHistoryEventProducer();
+    this.taskCountStore = taskanaEngine.getTaskCountStore();
+    this.idGenerationStrategy = taskanaEngine.getIdGenerationStrategy();
     this.taskTransferrer = new TaskTransferrer(taskanaEngine, taskMapper, this);
     this.taskCommentService = new TaskCommentServiceImpl(taskanaEngine, taskCommentMapper, this);
     this.serviceLevelHandler = new ServiceLevelHandler(taskanaEngine, taskMapper, attachmentMapper);
-    this.attachmentHandler = new AttachmentHandler(attachmentMapper, classificationService);
+    this.attachmentHandler =
+        new AttachmentHandler(attachmentMapper, classificationService, idGenerationStrategy);
   }
 
   @Override
@@ -222,6 +237,7 @@ public class TaskServiceImpl implements TaskService {
       setCallbackStateOnTaskCreation(task);
       try {
         this.taskMapper.insert(task);
+        taskCountStore.taskCreated(task);
         LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
         if (HistoryEventProducer.isHistoryEnabled()) {
           historyEventProducer.createEvent(new CreatedEvent(task, CurrentUserContext.getUserid()));
@@ -265,6 +281,66 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "entry to createTasks(tasksToCreate = {})", LoggerUtils.listToString(tasksToCreate));
+    }
+    if (tasksToCreate == null) {
+      throw new InvalidArgumentException("List of tasks to create must not be null.");
+    }
+    checkExternalIdsAreUnique(tasksToCreate);
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    try {
+      taskanaEngine.openConnection();
+
+      Map<String, TaskImpl> tasksByExternalId = new LinkedHashMap<>();
+      for (Task taskToCreate : tasksToCreate) {
+        TaskImpl task = (TaskImpl) taskToCreate;
+        if (task.getExternalId() == null) {
+          task.setExternalId(
+              IdGenerator.generateWithPrefix(ID_PREFIX_EXT_TASK_ID, idGenerationStrategy));
+        }
+        if (task.getId() != null && !task.getId().equals("")) {
+          bulkLog.addError(task.getExternalId(), new TaskAlreadyExistException(task.getId()));
+        } else {
+          tasksByExternalId.put(task.getExternalId(), task);
+        }
+      }
+      removeTasksWithExistingExternalIds(tasksByExternalId, bulkLog);
+
+      NewTaskResolver resolver = new NewTaskResolver();
+      resolver.routeTasks(tasksByExternalId.values());
+      List<TaskImpl> tasksToInsert = new ArrayList<>();
+      for (TaskImpl task : tasksByExternalId.values()) {
+        try {
+          prepareNewTask(task, resolver);
+          tasksToInsert.add(task);
+        } catch (TaskanaException e) {
+          bulkLog.addError(task.getExternalId(), e);
+        }
+      }
+      try {
+        insertNewTasks(tasksToInsert);
+      } catch (PersistenceException e) {
+        // the tasks are inserted in chunks, so no chunk of this call may be committed
+        taskanaEngine.rollbackIfAutocommit();
+        throw new SystemException(
+            "Could not insert the tasks into the database. None of the tasks was created.", e);
+      }
+      LOGGER.debug(
+          "Method createTasks() created {} Tasks, {} failed.",
+          tasksToInsert.size(),
+          bulkLog.getFailedIds().size());
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from createTasks(), returning {}", bulkLog);
+    }
+  }
+
   @Override
   public Task getTask(String id) throws NotAuthorizedException, TaskNotFoundException {
     LOGGER.debug("entry to getTaskById(id = {})", id);
@@ -411,6 +487,7 @@ public class TaskServiceImpl implements TaskService {
     try {
       taskanaEngine.openConnection();
       oldTaskImpl = (TaskImpl) getTask(newTaskImpl.getId());
+      final TaskCountStore.Entry countEntry = taskCountStore.entryOf(oldTaskImpl);
 
       newTaskImpl = checkConcurrencyAndSetModified(newTaskImpl, oldTaskImpl);
 
@@ -420,6 +497,7 @@ public class TaskServiceImpl implements TaskService {
       standardUpdateActions(oldTaskImpl, newTaskImpl);
 
       taskMapper.update(newTaskImpl);
+      taskCountStore.taskChanged(countEntry, newTaskImpl);
       LOGGER.debug("Method updateTask() updated task '{}' for user '{}'.", task.getId(), userId);
 
     } finally {
@@ -474,14 +552,19 @@ public class TaskServiceImpl implements TaskService {
         return bulkLog;
       }
 
-      List<MinimalTaskSummary> taskSummaries = taskMapper.findExistingTasks(taskIds, null);
+      Map<String, MinimalTaskSummary> taskSummariesById =
+          taskMapper.findExistingTasks(taskIds, null).stream()
+              .collect(
+                  Collectors.toMap(
+                      MinimalTaskSummary::getTaskId, Function.identity(), (t1, t2) -> t1));
 
       Iterator<String> taskIdIterator = taskIds.iterator();
       while (taskIdIterator.hasNext()) {
-        removeSingleTaskForTaskDeletionById(bulkLog, taskSummaries, taskIdIterator);
+        removeSingleTaskForTaskDeletionById(bulkLog, taskSummariesById, taskIdIterator);
       }
       if (!taskIds.isEmpty()) {
         taskMapper.deleteMultiple(taskIds);
+        taskCountStore.invalidate();
       }
       return bulkLog;
     } finally {
@@ -741,6 +824,7 @@ public class TaskServiceImpl implements TaskService {
       bulkLog.addAllErrors(resultsPair.getRight());
       BulkLog errorsFromProcessing =
           serviceLevelHandler.setPlannedPropertyOfTasksImpl(planned, tasksToModify);
+      taskCountStore.invalidate();
       bulkLog.addAllErrors(errorsFromProcessing);
       return bulkLog;
     } finally {
@@ -775,49 +859,167 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
-  public List<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
+  /**
+   * Selects the ids of at most limit tasks which can be deleted by the cleanup job. A task can be
+   * deleted if it has been in an end state since completedBefore and no callback processing is
+   * pending.
+   *
+   * @param completedBefore the tasks must have been completed before this instant
+   * @param allCompletedSameParentBusiness if true, tasks are only selected if all tasks with the
+   *     same parent business process id have been completed before completedBefore. Tasks without
+   *     parent business process id are not selected in this case.
+   * @param limit the maximum number of returned ids
+   * @return the ids of the tasks which can be deleted
+   */
+  public List<String> findTaskIdsToBeCleanedUp(
+      Instant completedBefore, boolean allCompletedSameParentBusiness, int limit) {
     LOGGER.debug(
-        "entry to findTasksIdsAffectedByClassificationChange(classificationId = {})",
-        classificationId);
-    // tasks directly affected
-    List<TaskSummary> tasksAffectedDirectly =
-        createTaskQuery()
-            .classificationIdIn(classificationId)
-            .stateIn(TaskState.READY, TaskState.CLAIMED)
-            .list();
-
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> affectedPairs =
-        tasksAffectedDirectly.stream()
-            .map(t -> new Pair<String, Instant>(t.getId(), t.getPlanned()))
-            .collect(Collectors.toList());
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> taskIdsAndPlannedFromAttachments =
-        attachmentMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId);
-
-    List<String> taskIdsFromAttachments =
-        taskIdsAndPlannedFromAttachments.stream().map(Pair::getLeft).collect(Collectors.toList());
-    List<Pair<String, Instant>> filteredTaskIdsAndPlannedFromAttachments =
-        taskIdsFromAttachments.isEmpty()
-            ? new ArrayList<>()
-            : taskMapper.filterTaskIdsForReadyAndClaimed(taskIdsFromAttachments);
-    affectedPairs.addAll(filteredTaskIdsAndPlannedFromAttachments);
-    //  sort all affected tasks according to the planned instant
-    List<String> affectedTaskIds =
-        affectedPairs.stream()
-            .sorted(Comparator.comparing(Pair::getRight))
-            .distinct()
-            .map(Pair::getLeft)
-            .collect(Collectors.toList());
+        "entry to findTaskIdsToBeCleanedUp(completedBefore = {}, "
+            + "allCompletedSameParentBusiness = {}, limit = {})",
+        completedBefore,
+        allCompletedSameParentBusiness,
+        limit);
+    List<String> taskIds = null;
+    try {
+      taskanaEngine.openConnection();
+      taskIds =
+          taskMapper.findTaskIdsToBeCleanedUp(
+              completedBefore, allCompletedSameParentBusiness, limit);
+      return taskIds;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from findTaskIdsToBeCleanedUp(), returning {} ids",
+          taskIds == null ? 0 : taskIds.size());
+    }
+  }
 
-    if (LOGGER.isDebugEnabled()) {
+  /**
+   * Selects the parent business process ids of which all tasks have been completed before
+   * completedBefore.
+   *
+   * @param completedBefore all tasks of a parent business process must have been completed before
+   *     this instant
+   * @return the parent business process ids
+   */
+  public List<String> findParentBusinessProcessIdsCompletedBefore(Instant completedBefore) {
+    LOGGER.debug(
+        "entry to findParentBusinessProcessIdsCompletedBefore(completedBefore = {})",
+        completedBefore);
+    List<String> parentBusinessProcessIds = null;
+    try {
+      taskanaEngine.openConnection();
+      parentBusinessProcessIds =
+          taskMapper.findParentBusinessProcessIdsCompletedBefore(completedBefore);
+      return parentBusinessProcessIds;
+    } finally {
+      taskanaEngine.returnConnection();
       LOGGER.debug(
-          "the following tasks are affected by the update of classification {} : {}",
-          classificationId,
-          LoggerUtils.listToString(affectedTaskIds));
+          "exit from findParentBusinessProcessIdsCompletedBefore(), returning {} ids",
+          parentBusinessProcessIds == null ? 0 : parentBusinessProcessIds.size());
+    }
+  }
+
+  /**
+   * Deletes the given tasks together with their attachments and comments with one statement per
+   * table. In contrast to {@link #deleteTasks(List)} the tasks are not validated, so the ids must
+   * have been selected by {@link #findTaskIdsToBeCleanedUp(Instant, boolean, int)}.
+   *
+   * @param taskIds the ids of the tasks to delete
+   * @return the number of deleted tasks
+   */
+  public int deleteTasksWithoutValidation(List<String> taskIds) {
+    LOGGER.debug("entry to deleteTasksWithoutValidation(number of tasks = {})", taskIds.size());
+    int deletedTasks = 0;
+    try {
+      taskanaEngine.openConnection();
+      if (!taskIds.isEmpty()) {
+        deletedTasks = deleteTasksWithDependentObjects(taskIds);
+      }
+      return deletedTasks;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from deleteTasksWithoutValidation(), returning {}", deletedTasks);
+    }
+  }
+
+  /**
+   * Returns the task which is offset positions behind the given task in the list of all tasks
+   * affected by a change of the given classification. The affected tasks are the ready and claimed
+   * tasks which reference the classification directly or via an attachment. They are ordered by
+   * planned and id.
+   *
+   * @param classificationId the id of the changed classification
+   * @param afterPlanned the planned timestamp of the preceding task or null to start at the
+   *     beginning
+   * @param afterId the id of the preceding task or null to start at the beginning
+   * @param offset the number of tasks to skip
+   * @return the id and planned timestamp of the found task or null, if there is no such task
+   */
+  public Pair<String, Instant> findTaskAffectedByClassificationChange(
+      String classificationId, Instant afterPlanned, String afterId, int offset) {
+    LOGGER.debug(
+        "entry to findTaskAffectedByClassificationChange(classificationId = {}, "
+            + "afterPlanned = {}, afterId = {}, offset = {})",
+        classificationId,
+        afterPlanned,
+        afterId,
+        offset);
+    Pair<String, Instant> result = null;
+    try {
+      taskanaEngine.openConnection();
+      List<Pair<String, Instant>> tasks =
+          taskMapper.findTasksAffectedByClassificationChange(
+              classificationId, afterPlanned, afterId, null, null, offset);
+      result = tasks.isEmpty() ? null : tasks.get(0);
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from findTaskAffectedByClassificationChange(), returning {}", result);
+    }
+  }
+
+  /**
+   * Returns the ids of the tasks affected by a change of the given classification whose planned
+   * timestamp and id lie after the lower bound and up to and including the upper bound.
+   *
+   * @param classificationId the id of the changed classification
+   * @param fromPlanned the planned timestamp of the exclusive lower bound or null if unbounded
+   * @param fromId the id of the exclusive lower bound or null if unbounded
+   * @param toPlanned the planned timestamp of the inclusive upper bound or null if unbounded
+   * @param toId the id of the inclusive upper bound or null if unbounded
+   * @return the ids of the affected tasks
+   */
+  public List<String> findTaskIdsAffectedByClassificationChange(
+      String classificationId,
+      Instant fromPlanned,
+      String fromId,
+      Instant toPlanned,
+      String toId) {
+    LOGGER.debug(
+        "entry to findTaskIdsAffectedByClassificationChange(classificationId = {}, "
+            + "fromPlanned = {}, fromId = {}, toPlanned = {}, toId = {})",
+        classificationId,
+        fromPlanned,
+        fromId,
+        toPlanned,
+        toId);
+    List<String> affectedTaskIds = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      taskMapper
+          .findTasksAffectedByClassificationChange(
+              classificationId, fromPlanned, fromId, toPlanned, toId, null)
+          .forEach(task -> affectedTaskIds.add(task.getLeft()));
+      return affectedTaskIds;
+    } finally {
+      taskanaEngine.returnConnection();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "exit from findTaskIdsAffectedByClassificationChange(), returning {}",
+            LoggerUtils.listToString(affectedTaskIds));
+      }
     }
-    LOGGER.debug("exit from findTasksIdsAffectedByClassificationChange(). ");
-    return affectedTaskIds;
   }
 
   public void refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
@@ -844,6 +1046,7 @@ public class TaskServiceImpl implements TaskService {
               return null;
             });
       }
+      taskCountStore.invalidate();
     } finally {
       LOGGER.debug("exit from refreshPriorityAndDueDateOfTasks");
       taskanaEngine.returnConnection();
@@ -988,11 +1191,13 @@ public class TaskServiceImpl implements TaskService {
       throw new InvalidStateException(String.format(TASK_WITH_ID_IS_ALREADY_IN_END_STATE, taskId));
     }
 
+    final TaskCountStore.Entry countEntry = taskCountStore.entryOf(task);
     Instant now = Instant.now();
     task.setModified(now);
     task.setCompleted(now);
     task.setState(targetState);
     taskMapper.update(task);
+    taskCountStore.taskChanged(countEntry, task);
     LOGGER.debug("Task '{}' cancelled by user '{}'.", taskId, CurrentUserContext.getUserid());
     return task;
   }
@@ -1041,6 +1246,7 @@ public class TaskServiceImpl implements TaskService {
         throw new InvalidOwnerException(
             String.format(TASK_WITH_ID_IS_ALREADY_CLAIMED_BY, taskId, task.getOwner()));
       }
+      final TaskCountStore.Entry countEntry = taskCountStore.entryOf(task);
       Instant now = Instant.now();
       task.setOwner(userId);
       task.setModified(now);
@@ -1048,6 +1254,7 @@ public class TaskServiceImpl implements TaskService {
       task.setRead(true);
       task.setState(TaskState.CLAIMED);
       taskMapper.update(task);
+      taskCountStore.taskChanged(countEntry, task);
       LOGGER.debug("Task '{}' claimed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(new ClaimedEvent(task, CurrentUserContext.getUserid()));
@@ -1081,6 +1288,7 @@ public class TaskServiceImpl implements TaskService {
         throw new InvalidOwnerException(
             String.format(TASK_WITH_ID_IS_ALREADY_CLAIMED_BY, taskId, task.getOwner()));
       }
+      final TaskCountStore.Entry countEntry = taskCountStore.entryOf(task);
       Instant now = Instant.now();
       task.setOwner(null);
       task.setModified(now);
@@ -1088,6 +1296,7 @@ public class TaskServiceImpl implements TaskService {
       task.setRead(true);
       task.setState(TaskState.READY);
       taskMapper.update(task);
+      taskCountStore.taskChanged(countEntry, task);
       LOGGER.debug("Task '{}' unclaimed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(
@@ -1138,12 +1347,14 @@ public class TaskServiceImpl implements TaskService {
           task = (TaskImpl) this.forceClaim(taskId);
         }
       }
+      final TaskCountStore.Entry countEntry = taskCountStore.entryOf(task);
       Instant now = Instant.now();
       task.setCompleted(now);
       task.setModified(now);
       task.setState(TaskState.COMPLETED);
       task.setOwner(userId);
       taskMapper.update(task);
+      taskCountStore.taskChanged(countEntry, task);
       LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(new CompletedEvent(task, CurrentUserContext.getUserid()));
@@ -1174,6 +1385,7 @@ public class TaskServiceImpl implements TaskService {
       }
 
       taskMapper.delete(taskId);
+      taskCountStore.taskDeleted(taskCountStore.entryOf(task));
       LOGGER.debug("Task {} deleted.", taskId);
     } finally {
       taskanaEngine.returnConnection();
@@ -1181,9 +1393,17 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  private int deleteTasksWithDependentObjects(List<String> taskIds) {
+    attachmentMapper.deleteMultipleByTaskIds(taskIds);
+    taskCommentMapper.deleteMultipleByTaskIds(taskIds);
+    int deletedTasks = taskMapper.deleteMultiple(taskIds);
+    taskCountStore.invalidate();
+    return deletedTasks;
+  }
+
   private void removeSingleTaskForTaskDeletionById(
       BulkOperationResults<String, TaskanaException> bulkLog,
-      List<MinimalTaskSummary> taskSummaries,
+      Map<String, MinimalTaskSummary> taskSummariesById,
       Iterator<String> taskIdIterator) {
     LOGGER.debug("entry to removeSingleTask()");
     String currentTaskId = taskIdIterator.next();
@@ -1192,11 +1412,7 @@ public class TaskServiceImpl implements TaskService {
           "", new InvalidArgumentException(IDS_WITH_EMPTY_OR_NULL_VALUE_ARE_NOT_ALLOWED));
       taskIdIterator.remove();
     } else {
-      MinimalTaskSummary foundSummary =
-          taskSummaries.stream()
-              .filter(taskSummary -> currentTaskId.equals(taskSummary.getTaskId()))
-              .findFirst()
-              .orElse(null);
+      MinimalTaskSummary foundSummary = taskSummariesById.get(currentTaskId);
       if (foundSummary == null) {
         bulkLog.addError(
             currentTaskId,
@@ -1278,12 +1494,25 @@ public class TaskServiceImpl implements TaskService {
 
   private void standardSettings(TaskImpl task, Classification classification)
       throws InvalidArgumentException {
-    TaskImpl task1 = task;
     LOGGER.debug("entry to standardSettings()");
+    initializeNewTask(task, classification);
+    try {
+      attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
+    } catch (AttachmentPersistenceException e) {
+      throw new SystemException(
+          "Internal error when trying to insert new Attachments on Task Creation.", e);
+    }
+    LOGGER.debug("exit from standardSettings()");
+  }
+
+  private void initializeNewTask(TaskImpl task, Classification classification)
+      throws InvalidArgumentException {
+    TaskImpl task1 = task;
     final Instant now = Instant.now();
-    task1.setId(IdGenerator.generateWithPrefix(ID_PREFIX_TASK));
+    task1.setId(IdGenerator.generateWithPrefix(ID_PREFIX_TASK, idGenerationStrategy));
     if (task1.getExternalId() == null) {
-      task1.setExternalId(IdGenerator.generateWithPrefix(ID_PREFIX_EXT_TASK_ID));
+      task1.setExternalId(
+          IdGenerator.generateWithPrefix(ID_PREFIX_EXT_TASK_ID, idGenerationStrategy));
     }
     task1.setState(TaskState.READY);
     task1.setCreated(now);
@@ -1300,7 +1529,8 @@ public class TaskServiceImpl implements TaskService {
 
     // if no business process id is provided, a unique id is created.
     if (task1.getBusinessProcessId() == null) {
-      task1.setBusinessProcessId(IdGenerator.generateWithPrefix(ID_PREFIX_BUSINESS_PROCESS));
+      task1.setBusinessProcessId(
+          IdGenerator.generateWithPrefix(ID_PREFIX_BUSINESS_PROCESS, idGenerationStrategy));
     }
 
     // null in case of manual tasks
@@ -1318,13 +1548,80 @@ public class TaskServiceImpl implements TaskService {
     if (task1.getDescription() == null && classification != null) {
       task1.setDescription(classification.getDescription());
     }
-    try {
-      attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
-    } catch (AttachmentPersistenceException e) {
-      throw new SystemException(
-          "Internal error when trying to insert new Attachments on Task Creation.", e);
+  }
+
+  /**
+   * The results of {@link #createTasks(List)} are reported per external id, so every external id
+   * may occur only once.
+   */
+  private void checkExternalIdsAreUnique(List<Task> tasksToCreate)
+      throws InvalidArgumentException {
+    Set<String> externalIds = new HashSet<>();
+    for (Task task : tasksToCreate) {
+      if (task.getExternalId() != null && !externalIds.add(task.getExternalId())) {
+        throw new InvalidArgumentException(
+            "The external id "
+                + task.getExternalId()
+                + " is contained more than once in the list of tasks to create.");
+      }
+    }
+  }
+
+  private void removeTasksWithExistingExternalIds(
+      Map<String, TaskImpl> tasksByExternalId,
+      BulkOperationResults<String, TaskanaException> bulkLog) {
+    List<String> externalIds = new ArrayList<>(tasksByExternalId.keySet());
+    for (int from = 0; from < externalIds.size(); from += BULK_INSERT_CHUNK_SIZE) {
+      int to = Math.min(from + BULK_INSERT_CHUNK_SIZE, externalIds.size());
+      for (String externalId : taskMapper.findExistingExternalIds(externalIds.subList(from, to))) {
+        tasksByExternalId.remove(externalId);
+        bulkLog.addError(
+            externalId,
+            new TaskAlreadyExistException(
+                "Task with external id " + externalId + " already exists"));
+      }
+    }
+  }
+
+  private void prepareNewTask(TaskImpl task, NewTaskResolver resolver) throws TaskanaException {
+    Workbasket workbasket = resolver.getWorkbasket(task);
+    task.setWorkbasketSummary(workbasket.asSummary());
+    task.setDomain(workbasket.getDomain());
+    resolver.checkAppendPermission(workbasket.getId());
+
+    String classificationKey = task.getClassificationKey();
+    if (classificationKey == null || classificationKey.length() == 0) {
+      throw new InvalidArgumentException("classificationKey of task must not be empty");
+    }
+    Classification classification =
+        resolver.getClassification(classificationKey, workbasket.getDomain());
+    task.setClassificationSummary(classification.asSummary());
+    ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", TASK);
+    initializeNewTask(task, classification);
+    setCallbackStateOnTaskCreation(task);
+    attachmentHandler.initializeAttachmentsOnTaskCreation(task);
+  }
+
+  private void insertNewTasks(List<TaskImpl> tasks) {
+    List<AttachmentImpl> attachments = new ArrayList<>();
+    for (int from = 0; from < tasks.size(); from += BULK_INSERT_CHUNK_SIZE) {
+      taskMapper.insertMultiple(
+          tasks.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, tasks.size())));
+    }
+    for (TaskImpl task : tasks) {
+      if (task.getAttachments() != null) {
+        task.getAttachments().forEach(attachment -> attachments.add((AttachmentImpl) attachment));
+      }
+    }
+    for (int from = 0; from < attachments.size(); from += BULK_INSERT_CHUNK_SIZE) {
+      attachmentMapper.insertMultiple(
+          attachments.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, attachments.size())));
+    }
+    taskCountStore.tasksCreated(tasks);
+    if (HistoryEventProducer.isHistoryEnabled()) {
+      String userId = CurrentUserContext.getUserid();
+      tasks.forEach(task -> historyEventProducer.createEvent(new CreatedEvent(task, userId)));
     }
-    LOGGER.debug("exit from standardSettings()");
   }
 
   private void setCallbackStateOnTaskCreation(TaskImpl task) throws InvalidArgumentException {
@@ -1404,6 +1701,7 @@ public class TaskServiceImpl implements TaskService {
 
     if (!taskIds.isEmpty() && !taskSummaries.isEmpty()) {
       taskMapper.updateCompleted(taskIds, (TaskSummaryImpl) taskSummaries.get(0));
+      taskCountStore.invalidate();
       if (HistoryEventProducer.isHistoryEnabled()) {
         createTasksCompletedEvents(taskSummaries);
       }
@@ -1424,14 +1722,12 @@ public class TaskServiceImpl implements TaskService {
       LOGGER.debug("exit from addClassificationSummariesToTaskSummaries()");
       return;
     }
+    Map<String, ClassificationSummary> classificationsById =
+        createClassificationSummaryIndex(classifications);
     // assign query results to appropriate tasks.
     for (TaskSummaryImpl task : tasks) {
       String classificationId = task.getClassificationSummary().getId();
-      ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(c -> c.getId().equals(classificationId))
-              .findFirst()
-              .orElse(null);
+      ClassificationSummary classificationSummary = classificationsById.get(classificationId);
       if (classificationSummary == null) {
         throw new SystemException(
             "Did not find a Classification for task (Id="
@@ -1484,15 +1780,11 @@ public class TaskServiceImpl implements TaskService {
   private List<ClassificationSummary> queryClassificationsForTasksAndAttachments(
       Set<String> classificationIdSet) {
 
-    String[] classificationIdArray = classificationIdSet.toArray(new String[0]);
-
     LOGGER.debug(
         "getClassificationsForTasksAndAttachments() about to query classifications and exit");
     // perform classification query
-    return this.classificationService
-        .createClassificationQuery()
-        .idIn(classificationIdArray)
-        .list();
+    return ((ClassificationServiceImpl) this.classificationService)
+        .getClassificationSummaries(classificationIdSet);
   }
 
   private void addWorkbasketSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries) {
@@ -1510,17 +1802,17 @@ public class TaskServiceImpl implements TaskService {
     WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
     query.setUsedToAugmentTasks(true);
 
-    List<WorkbasketSummary> workbaskets = query.idIn(workbasketIdArray).list();
+    Map<String, WorkbasketSummary> workbasketsById =
+        query.idIn(workbasketIdArray).list().stream()
+            .collect(
+                Collectors.toMap(WorkbasketSummary::getId, Function.identity(), (wb1, wb2) -> wb1));
     Iterator<TaskSummaryImpl> taskIterator = taskSummaries.iterator();
     while (taskIterator.hasNext()) {
       TaskSummaryImpl task = taskIterator.next();
       String workbasketId = task.getWorkbasketSummaryImpl().getId();
 
       WorkbasketSummary workbasketSummary =
-          workbaskets.stream()
-              .filter(x -> workbasketId != null && workbasketId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
+          workbasketId == null ? null : workbasketsById.get(workbasketId);
       if (workbasketSummary == null) {
         LOGGER.warn("Could not find a Workbasket for task {}.", task.getId());
         taskIterator.remove();
@@ -1556,11 +1848,15 @@ public class TaskServiceImpl implements TaskService {
     addClassificationSummariesToAttachmentSummaries(
         attachmentSummaries, taskSummaries, classifications);
     // assign attachment summaries to task summaries
+    Map<String, List<AttachmentSummaryImpl>> attachmentSummariesByTaskId =
+        attachmentSummaries.stream()
+            .filter(attachment -> attachment.getTaskId() != null)
+            .collect(Collectors.groupingBy(AttachmentSummaryImpl::getTaskId));
     for (TaskSummaryImpl task : taskSummaries) {
-      for (AttachmentSummaryImpl attachment : attachmentSummaries) {
-        if (attachment.getTaskId() != null && attachment.getTaskId().equals(task.getId())) {
-          task.addAttachmentSummary(attachment);
-        }
+      List<AttachmentSummaryImpl> attachmentsOfTask =
+          attachmentSummariesByTaskId.get(task.getId());
+      if (attachmentsOfTask != null) {
+        attachmentsOfTask.forEach(task::addAttachmentSummary);
       }
     }
 
@@ -1580,14 +1876,13 @@ public class TaskServiceImpl implements TaskService {
       LOGGER.debug("exit from addClassificationSummariesToAttachmentSummaries()");
       return;
     }
+    Map<String, ClassificationSummary> classificationsById =
+        createClassificationSummaryIndex(classifications);
     // iterate over all attachment summaries an add the appropriate classification summary to each
     for (AttachmentSummaryImpl att : attachmentSummaries) {
       String classificationId = att.getClassificationSummary().getId();
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(x -> classificationId != null && classificationId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
+          classificationId == null ? null : classificationsById.get(classificationId);
       if (classificationSummary == null) {
         throw new SystemException("Could not find a Classification for attachment " + att);
       }
@@ -1610,14 +1905,13 @@ public class TaskServiceImpl implements TaskService {
       return new ArrayList<>();
     }
 
+    Map<String, ClassificationSummary> classificationsById =
+        createClassificationSummaryIndex(classifications);
     List<Attachment> result = new ArrayList<>();
     for (AttachmentImpl att : attachmentImpls) {
       // find the associated task to use the correct domain
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(c -> c != null && c.getId().equals(att.getClassificationSummary().getId()))
-              .findFirst()
-              .orElse(null);
+          classificationsById.get(att.getClassificationSummary().getId());
 
       if (classificationSummary == null) {
         throw new SystemException("Could not find a Classification for attachment " + att);
@@ -1632,6 +1926,14 @@ public class TaskServiceImpl implements TaskService {
     return result;
   }
 
+  private static Map<String, ClassificationSummary> createClassificationSummaryIndex(
+      List<ClassificationSummary> classifications) {
+    return classifications.stream()
+        .filter(Objects::nonNull)
+        .collect(
+            Collectors.toMap(ClassificationSummary::getId, Function.identity(), (c1, c2) -> c1));
+  }
+
   private TaskImpl initUpdatedTask(
       Map<String, String> customFieldsToUpdate, CustomPropertySelector fieldSelector)
       throws InvalidArgumentException {
@@ -1754,4 +2056,111 @@ public class TaskServiceImpl implements TaskService {
             historyEventProducer.createEvent(
                 new CompletedEvent(task, CurrentUserContext.getUserid())));
   }
+
+  /**
+   * Resolves the workbaskets, permissions and classifications of new tasks. Each distinct
+   * workbasket and classification is read only once; failures are remembered as well.
+   */
+  private class NewTaskResolver {
+
+    private final Map<String, Workbasket> workbaskets = new HashMap<>();
+    private final Map<String, TaskanaException> workbasketErrors = new HashMap<>();
+    private final Map<String, TaskanaException> permissionErrors = new HashMap<>();
+    private final Set<String> workbasketsWithAppendPermission = new HashSet<>();
+    private final Map<String, Classification> classifications = new HashMap<>();
+    private final Map<String, TaskanaException> classificationErrors = new HashMap<>();
+    private final Map<TaskImpl, String> routedWorkbasketIds = new IdentityHashMap<>();
+
+    void routeTasks(Collection<TaskImpl> tasks) {
+      List<TaskImpl> tasksToRoute =
+          tasks.stream()
+              .filter(
+                  task ->
+                      task.getWorkbasketSummary().getId() == null
+                          && task.getWorkbasketKey() == null)
+              .collect(Collectors.toList());
+      if (!tasksToRoute.isEmpty()) {
+        List<String> workbasketIds =
+            taskanaEngine.getTaskRoutingManager().determineWorkbasketIds(tasksToRoute);
+        for (int i = 0; i < tasksToRoute.size(); i++) {
+          routedWorkbasketIds.put(tasksToRoute.get(i), workbasketIds.get(i));
+        }
+      }
+    }
+
+    Workbasket getWorkbasket(TaskImpl task) throws TaskanaException {
+      String workbasketId = task.getWorkbasketSummary().getId();
+      String cacheKey;
+      if (workbasketId != null) {
+        cacheKey = workbasketId;
+      } else if (task.getWorkbasketKey() != null) {
+        cacheKey = task.getWorkbasketKey() + "@" + task.getDomain();
+      } else {
+        workbasketId =
+            routedWorkbasketIds.containsKey(task)
+                ? routedWorkbasketIds.get(task)
+                : taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
+        if (workbasketId == null) {
+          throw new InvalidArgumentException("Cannot create a task outside a workbasket");
+        }
+        cacheKey = workbasketId;
+      }
+      if (workbasketErrors.containsKey(cacheKey)) {
+        throw workbasketErrors.get(cacheKey);
+      }
+      Workbasket workbasket = workbaskets.get(cacheKey);
+      if (workbasket == null) {
+        try {
+          workbasket =
+              workbasketId != null
+                  ? workbasketService.getWorkbasket(workbasketId)
+                  : workbasketService.getWorkbasket(task.getWorkbasketKey(), task.getDomain());
+          if (workbasket.isMarkedForDeletion()) {
+            throw new WorkbasketNotFoundException(
+                workbasket.getId(),
+                THE_WORKBASKET + workbasket.getId() + WAS_MARKED_FOR_DELETION);
+          }
+        } catch (WorkbasketNotFoundException | NotAuthorizedException e) {
+          workbasketErrors.put(cacheKey, e);
+          throw e;
+        }
+        workbaskets.put(cacheKey, workbasket);
+      }
+      return workbasket;
+    }
+
+    void checkAppendPermission(String workbasketId) throws TaskanaException {
+      if (workbasketsWithAppendPermission.contains(workbasketId)) {
+        return;
+      }
+      if (permissionErrors.containsKey(workbasketId)) {
+        throw permissionErrors.get(workbasketId);
+      }
+      try {
+        workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.APPEND);
+        workbasketsWithAppendPermission.add(workbasketId);
+      } catch (NotAuthorizedException | WorkbasketNotFoundException e) {
+        permissionErrors.put(workbasketId, e);
+        throw e;
+      }
+    }
+
+    Classification getClassification(String key, String domain) throws TaskanaException {
+      String cacheKey = key + "@" + domain;
+      if (classificationErrors.containsKey(cacheKey)) {
+        throw classificationErrors.get(cacheKey);
+      }
+      Classification classification = classifications.get(cacheKey);
+      if (classification == null) {
+        try {
+          classification = classificationService.getClassification(key, domain);
+        } catch (ClassificationNotFoundException e) {
+          classificationErrors.put(cacheKey, e);
+          throw e;
+        }
+        classifications.put(cacheKey, classification);
+      }
+      return classification;
+    }
+  }
 }
@@ -2,11 +2,12 @@ package pro.taskana.task.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,6 +18,8 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.security.CurrentUserContext;
+import pro.taskana.monitor.internal.TaskCountStore;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TransferredEvent;
 import pro.taskana.spi.history.internal.HistoryEventProducer;
 import pro.taskana.task.api.TaskState;
@@ -42,12 +45,15 @@ public class TaskTransferrer {
   private static final String TASK_WITH_ID = "Task with id ";
   private static final String WAS_MARKED_FOR_DELETION = " was marked for deletion";
   private static final String THE_WORKBASKET = "The workbasket ";
+  // maximum number of task ids in the IN list of one statement of a bulk transfer
+  private static final int TRANSFER_CHUNK_SIZE = 1000;
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskTransferrer.class);
   private InternalTaskanaEngine taskanaEngine;
   private WorkbasketService workbasketService;
   private TaskServiceImpl taskService;
   private TaskMapper taskMapper;
   private HistoryEventProducer historyEventProducer;
+  private TaskCountStore taskCountStore;
 
   TaskTransferrer(
       InternalTaskanaEngine taskanaEngine, TaskMapper taskMapper, TaskServiceImpl taskService) {
@@ -57,6 +63,7 @@ public class TaskTransferrer {
     this.taskMapper = taskMapper;
     this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
     this.historyEventProducer = taskanaEngine.getHistoryEventProducer();
+    this.taskCountStore = taskanaEngine.getTaskCountStore();
   }
 
   Task transfer(String taskId, String destinationWorkbasketKey, String domain)
@@ -90,6 +97,8 @@ public class TaskTransferrer {
       Workbasket destinationWorkbasket =
           workbasketService.getWorkbasket(destinationWorkbasketKey, domain);
 
+      final TaskCountStore.Entry countEntry = taskCountStore.entryOf(task);
+
       // reset read flag and set transferred flag
       task.setRead(false);
       task.setTransferred(true);
@@ -107,6 +116,7 @@ public class TaskTransferrer {
       task.setState(TaskState.READY);
       task.setOwner(null);
       taskMapper.update(task);
+      taskCountStore.taskChanged(countEntry, task);
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -147,6 +157,8 @@ public class TaskTransferrer {
 
       Workbasket destinationWorkbasket = workbasketService.getWorkbasket(destinationWorkbasketId);
 
+      final TaskCountStore.Entry countEntry = taskCountStore.entryOf(task);
+
       // reset read flag and set transferred flag
       task.setRead(false);
       task.setTransferred(true);
@@ -164,6 +176,7 @@ public class TaskTransferrer {
       task.setState(TaskState.READY);
       task.setOwner(null);
       taskMapper.update(task);
+      taskCountStore.taskChanged(countEntry, task);
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -269,14 +282,17 @@ public class TaskTransferrer {
       throw new InvalidArgumentException("TaskIds must not contain only invalid arguments.");
     }
 
-    List<MinimalTaskSummary> taskSummaries;
-    if (taskIds.isEmpty()) {
-      taskSummaries = new ArrayList<>();
-    } else {
-      taskSummaries = taskMapper.findExistingTasks(taskIds, null);
+    Map<String, MinimalTaskSummary> taskSummariesById = new HashMap<>();
+    for (int from = 0; from < taskIds.size(); from += TRANSFER_CHUNK_SIZE) {
+      List<String> chunk =
+          taskIds.subList(from, Math.min(from + TRANSFER_CHUNK_SIZE, taskIds.size()));
+      taskMapper
+          .findExistingTasks(chunk, null)
+          .forEach(taskSummary -> taskSummariesById.put(taskSummary.getTaskId(), taskSummary));
     }
-    checkIfTransferConditionsAreFulfilled(taskIds, taskSummaries, bulkLog);
-    updateTasksToBeTransferred(taskIds, taskSummaries, destinationWorkbasket);
+    Map<WorkbasketSummary, List<String>> taskIdsBySourceWorkbasket =
+        checkIfTransferConditionsAreFulfilled(taskIds, taskSummariesById, bulkLog);
+    updateTasksToBeTransferred(taskIdsBySourceWorkbasket, destinationWorkbasket);
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("exit from transferTasks(), returning {}", bulkLog);
     }
@@ -284,83 +300,87 @@ public class TaskTransferrer {
     return bulkLog;
   }
 
-  private void checkIfTransferConditionsAreFulfilled(
+  private Map<WorkbasketSummary, List<String>> checkIfTransferConditionsAreFulfilled(
       List<String> taskIds,
-      List<MinimalTaskSummary> taskSummaries,
+      Map<String, MinimalTaskSummary> taskSummariesById,
       BulkOperationResults<String, TaskanaException> bulkLog) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to checkIfTransferConditionsAreFulfilled(taskIds = {}, "
               + "taskSummaries = {}, bulkLog = {})",
           LoggerUtils.listToString(taskIds),
-          LoggerUtils.listToString(taskSummaries),
+          LoggerUtils.listToString(new ArrayList<>(taskSummariesById.values())),
           bulkLog);
     }
 
     Set<String> workbasketIds = new HashSet<>();
-    taskSummaries.forEach(t -> workbasketIds.add(t.getWorkbasketId()));
+    taskSummariesById.values().forEach(t -> workbasketIds.add(t.getWorkbasketId()));
     WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
     query.setUsedToAugmentTasks(true);
-    List<WorkbasketSummary> sourceWorkbaskets;
-    if (taskSummaries.isEmpty()) {
-      sourceWorkbaskets = new ArrayList<>();
-    } else {
-      sourceWorkbaskets =
-          query
-              .callerHasPermission(WorkbasketPermission.TRANSFER)
-              .idIn(workbasketIds.toArray(new String[0]))
-              .list();
+    Map<String, WorkbasketSummary> sourceWorkbasketsById = new HashMap<>();
+    if (!workbasketIds.isEmpty()) {
+      query
+          .callerHasPermission(WorkbasketPermission.TRANSFER)
+          .idIn(workbasketIds.toArray(new String[0]))
+          .list()
+          .forEach(workbasket -> sourceWorkbasketsById.put(workbasket.getId(), workbasket));
     }
-    checkIfTasksMatchTransferCriteria(taskIds, taskSummaries, sourceWorkbaskets, bulkLog);
+    Map<WorkbasketSummary, List<String>> taskIdsBySourceWorkbasket =
+        checkIfTasksMatchTransferCriteria(
+            taskIds, taskSummariesById, sourceWorkbasketsById, bulkLog);
     LOGGER.debug("exit from checkIfTransferConditionsAreFulfilled()");
+    return taskIdsBySourceWorkbasket;
   }
 
-  private void checkIfTasksMatchTransferCriteria(
+  private Map<WorkbasketSummary, List<String>> checkIfTasksMatchTransferCriteria(
       List<String> taskIds,
-      List<MinimalTaskSummary> taskSummaries,
-      List<WorkbasketSummary> sourceWorkbaskets,
+      Map<String, MinimalTaskSummary> taskSummariesById,
+      Map<String, WorkbasketSummary> sourceWorkbasketsById,
       BulkOperationResults<String, TaskanaException> bulkLog) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to checkIfTasksMatchTransferCriteria(taskIds = {}, taskSummaries = {}, "
               + "sourceWorkbaskets = {}, bulkLog = {})",
           LoggerUtils.listToString(taskIds),
-          LoggerUtils.listToString(taskSummaries),
-          LoggerUtils.listToString(sourceWorkbaskets),
+          LoggerUtils.listToString(new ArrayList<>(taskSummariesById.values())),
+          LoggerUtils.listToString(new ArrayList<>(sourceWorkbasketsById.values())),
           bulkLog);
     }
 
-    Iterator<String> taskIdIterator = taskIds.iterator();
-    while (taskIdIterator.hasNext()) {
-      String currentTaskId = taskIdIterator.next();
-      MinimalTaskSummary taskSummary =
-          taskSummaries.stream()
-              .filter(t -> currentTaskId.equals(t.getTaskId()))
-              .findFirst()
-              .orElse(null);
+    Map<WorkbasketSummary, List<String>> taskIdsBySourceWorkbasket = new LinkedHashMap<>();
+    Set<String> acceptedTaskIds = new HashSet<>();
+    for (String currentTaskId : taskIds) {
+      MinimalTaskSummary taskSummary = taskSummariesById.get(currentTaskId);
       if (taskSummary == null) {
         bulkLog.addError(
             currentTaskId,
             new TaskNotFoundException(
                 currentTaskId, TASK_WITH_ID + currentTaskId + WAS_NOT_FOUND2));
-        taskIdIterator.remove();
-      } else if (taskSummary.getTaskState().isEndState()) {
+        continue;
+      }
+      if (taskSummary.getTaskState().isEndState()) {
         bulkLog.addError(
             currentTaskId,
             new InvalidStateException(
                 String.format(TASK_IN_END_STATE_WITH_ID_CANNOT_BE_TRANSFERRED, currentTaskId)));
-        taskIdIterator.remove();
-      } else if (sourceWorkbaskets.stream()
-          .noneMatch(wb -> taskSummary.getWorkbasketId().equals(wb.getId()))) {
+        continue;
+      }
+      WorkbasketSummary sourceWorkbasket =
+          sourceWorkbasketsById.get(taskSummary.getWorkbasketId());
+      if (sourceWorkbasket == null) {
         bulkLog.addError(
             currentTaskId,
             new NotAuthorizedException(
                 "The workbasket of this task got not TRANSFER permissions. TaskId=" + currentTaskId,
                 CurrentUserContext.getUserid()));
-        taskIdIterator.remove();
+      } else if (acceptedTaskIds.add(currentTaskId)) {
+        taskIdsBySourceWorkbasket
+            .computeIfAbsent(sourceWorkbasket, wb -> new ArrayList<>())
+            .add(currentTaskId);
       }
     }
     LOGGER.debug("exit from checkIfTasksMatchTransferCriteria()");
+    return taskIdsBySourceWorkbasket;
   }
 
   private void createTaskTransferredEvent(
@@ -371,23 +391,17 @@ public class TaskTransferrer {
   }
 
   private void updateTasksToBeTransferred(
-      List<String> taskIds,
-      List<MinimalTaskSummary> taskSummaries,
+      Map<WorkbasketSummary, List<String>> taskIdsBySourceWorkbasket,
       Workbasket destinationWorkbasket) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "entry to updateTasksToBeTransferred(taskIds = {}, taskSummaries = {}, "
+          "entry to updateTasksToBeTransferred(sourceWorkbaskets = {}, "
               + "destinationWorkbasket = {})",
-          LoggerUtils.listToString(taskIds),
-          LoggerUtils.listToString(taskSummaries),
+          LoggerUtils.listToString(new ArrayList<>(taskIdsBySourceWorkbasket.keySet())),
           destinationWorkbasket.getId());
     }
 
-    taskSummaries =
-        taskSummaries.stream()
-            .filter(ts -> taskIds.contains(ts.getTaskId()))
-            .collect(Collectors.toList());
-    if (!taskSummaries.isEmpty()) {
+    if (!taskIdsBySourceWorkbasket.isEmpty()) {
       Instant now = Instant.now();
       TaskSummaryImpl updateObject = new TaskSummaryImpl();
       updateObject.setRead(false);
@@ -397,30 +411,51 @@ public class TaskTransferrer {
       updateObject.setModified(now);
       updateObject.setState(TaskState.READY);
       updateObject.setOwner(null);
-      taskMapper.updateTransfered(taskIds, updateObject);
-      if (HistoryEventProducer.isHistoryEnabled()) {
-        createTasksTransferredEvents(taskSummaries, updateObject);
+
+      int numberOfTasks =
+          taskIdsBySourceWorkbasket.values().stream().mapToInt(List::size).sum();
+      int transferredTasks = 0;
+      for (Map.Entry<WorkbasketSummary, List<String>> entry :
+          taskIdsBySourceWorkbasket.entrySet()) {
+        List<String> taskIds = entry.getValue();
+        for (int from = 0; from < taskIds.size(); from += TRANSFER_CHUNK_SIZE) {
+          List<String> chunk =
+              taskIds.subList(from, Math.min(from + TRANSFER_CHUNK_SIZE, taskIds.size()));
+          taskMapper.updateTransfered(chunk, updateObject);
+          if (HistoryEventProducer.isHistoryEnabled()) {
+            createTasksTransferredEvents(chunk, entry.getKey(), updateObject);
+          }
+          transferredTasks += chunk.size();
+          LOGGER.debug(
+              "transferred {} of {} tasks to workbasket {}",
+              transferredTasks,
+              numberOfTasks,
+              destinationWorkbasket.getId());
+        }
       }
+      taskCountStore.invalidate();
     }
     LOGGER.debug("exit from updateTasksToBeTransferred()");
   }
 
   private void createTasksTransferredEvents(
-      List<MinimalTaskSummary> taskSummaries, TaskSummaryImpl updateObject) {
-    taskSummaries.stream()
-        .forEach(
-            task -> {
-              TaskImpl newTask = (TaskImpl) taskService.newTask(task.getWorkbasketId());
-              newTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
-              newTask.setRead(updateObject.isRead());
-              newTask.setTransferred(updateObject.isTransferred());
-              newTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
-              newTask.setDomain(updateObject.getDomain());
-              newTask.setModified(updateObject.getModified());
-              newTask.setState(updateObject.getState());
-              newTask.setOwner(updateObject.getOwner());
-              createTaskTransferredEvent(
-                  newTask, newTask.getWorkbasketSummary(), updateObject.getWorkbasketSummary());
-            });
+      List<String> taskIds, WorkbasketSummary sourceWorkbasket, TaskSummaryImpl updateObject) {
+    String userId = CurrentUserContext.getUserid();
+    List<TaskanaHistoryEvent> events = new ArrayList<>(taskIds.size());
+    for (String taskId : taskIds) {
+      TaskImpl newTask = (TaskImpl) taskService.newTask(sourceWorkbasket.getId());
+      newTask.setId(taskId);
+      newTask.setRead(updateObject.isRead());
+      newTask.setTransferred(updateObject.isTransferred());
+      newTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
+      newTask.setDomain(updateObject.getDomain());
+      newTask.setModified(updateObject.getModified());
+      newTask.setState(updateObject.getState());
+      newTask.setOwner(updateObject.getOwner());
+      events.add(
+          new TransferredEvent(
+              newTask, sourceWorkbasket, updateObject.getWorkbasketSummary(), userId));
+    }
+    historyEventProducer.createEvents(events);
   }
 }
@@ -27,6 +27,8 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
   private Map<String, String> callbackInfo = Collections.emptyMap();
   private CallbackState callbackState;
   private List<Attachment> attachments = new ArrayList<>();
+  // the DOMAIN column as it was read. The domain of a task is the one of its workbasket.
+  private transient String persistedDomain;
 
   public TaskImpl() {}
 
@@ -38,6 +40,14 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
     attachments = copyFrom.attachments.stream().map(Attachment::copy).collect(Collectors.toList());
   }
 
+  public String getPersistedDomain() {
+    return persistedDomain;
+  }
+
+  public void setPersistedDomain(String persistedDomain) {
+    this.persistedDomain = persistedDomain;
+  }
+
   public CallbackState getCallbackState() {
     return callbackState;
   }
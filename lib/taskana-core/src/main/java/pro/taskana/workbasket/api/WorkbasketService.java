@@ -150,6 +150,21 @@ public interface WorkbasketService {
   void checkAuthorization(String workbasketKey, String domain, WorkbasketPermission... permission)
       throws NotAuthorizedException, WorkbasketNotFoundException;
 
+  /**
+   * This method checks the authorization for the actual User on several workbaskets at once. The
+   * permissions of all given workbaskets are resolved with a single database query.
+   *
+   * @param workbasketIds the ids of the workbaskets we want to access
+   * @param permission the needed {@link WorkbasketPermission}. If more than one permission is
+   *     specified, the current user needs all of them on every workbasket.
+   * @throws NotAuthorizedException if the current user has not the requested permission for one of
+   *     the existing workbaskets
+   * @throws WorkbasketNotFoundException if one of the workbaskets cannot be found and the current
+   *     user has the requested permissions for all existing ones.
+   */
+  void checkAuthorization(List<String> workbasketIds, WorkbasketPermission... permission)
+      throws NotAuthorizedException, WorkbasketNotFoundException;
+
   /**
    * Get all {@link WorkbasketAccessItem s} for a Workbasket.
    *
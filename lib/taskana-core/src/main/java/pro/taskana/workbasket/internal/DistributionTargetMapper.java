@@ -14,6 +14,13 @@ public interface DistributionTargetMapper {
       "INSERT INTO DISTRIBUTION_TARGETS (SOURCE_ID, TARGET_ID) VALUES (#{sourceId}, #{targetId})")
   void insert(@Param("sourceId") String sourceId, @Param("targetId") String targetId);
 
+  @Insert(
+      "<script>INSERT INTO DISTRIBUTION_TARGETS (SOURCE_ID, TARGET_ID) "
+          + "VALUES <foreach item='targetId' collection='targetIds' separator=',' >(#{sourceId}, #{targetId})</foreach>"
+          + "</script>")
+  void insertMultiple(
+      @Param("sourceId") String sourceId, @Param("targetIds") List<String> targetIds);
+
   @Delete(
       "DELETE FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId} AND TARGET_ID = #{targetId}")
   void delete(@Param("sourceId") String sourceId, @Param("targetId") String targetId);
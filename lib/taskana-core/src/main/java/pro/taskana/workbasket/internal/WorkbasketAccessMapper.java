@@ -16,6 +16,22 @@ import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
 @SuppressWarnings("checkstyle:LineLength")
 public interface WorkbasketAccessMapper {
 
+  /**
+   * Combines the permissions of the selected access items into one bit mask. A permission is
+   * granted if any of the access items grants it. Its bit is the one of {@link
+   * WorkbasketPermissionMask#bit}, so the weights follow the order of the WorkbasketPermission
+   * enum.
+   */
+  String PERMISSION_MASK =
+      "<choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "COALESCE(MAX(PERM_READ) + MAX(PERM_OPEN) * 2 + MAX(PERM_APPEND) * 4 + MAX(PERM_TRANSFER) * 8 + MAX(PERM_DISTRIBUTE) * 16 + MAX(PERM_CUSTOM_1) * 32 + MAX(PERM_CUSTOM_2) * 64 + MAX(PERM_CUSTOM_3) * 128 + MAX(PERM_CUSTOM_4) * 256 + MAX(PERM_CUSTOM_5) * 512 + MAX(PERM_CUSTOM_6) * 1024 + MAX(PERM_CUSTOM_7) * 2048 + MAX(PERM_CUSTOM_8) * 4096 + MAX(PERM_CUSTOM_9) * 8192 + MAX(PERM_CUSTOM_10) * 16384 + MAX(PERM_CUSTOM_11) * 32768 + MAX(PERM_CUSTOM_12) * 65536, 0) "
+          + "</when>"
+          + "<otherwise>"
+          + "COALESCE(MAX(PERM_READ::int) + MAX(PERM_OPEN::int) * 2 + MAX(PERM_APPEND::int) * 4 + MAX(PERM_TRANSFER::int) * 8 + MAX(PERM_DISTRIBUTE::int) * 16 + MAX(PERM_CUSTOM_1::int) * 32 + MAX(PERM_CUSTOM_2::int) * 64 + MAX(PERM_CUSTOM_3::int) * 128 + MAX(PERM_CUSTOM_4::int) * 256 + MAX(PERM_CUSTOM_5::int) * 512 + MAX(PERM_CUSTOM_6::int) * 1024 + MAX(PERM_CUSTOM_7::int) * 2048 + MAX(PERM_CUSTOM_8::int) * 4096 + MAX(PERM_CUSTOM_9::int) * 8192 + MAX(PERM_CUSTOM_10::int) * 16384 + MAX(PERM_CUSTOM_11::int) * 32768 + MAX(PERM_CUSTOM_12::int) * 65536, 0) "
+          + "</otherwise>"
+          + "</choose>";
+
   @Select(
       "<script>SELECT ID, WORKBASKET_ID, ACCESS_ID, ACCESS_NAME, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE, PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12 "
           + "FROM WORKBASKET_ACCESS_LIST WHERE ID = #{id} "
@@ -85,6 +101,14 @@ public interface WorkbasketAccessMapper {
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(@Param("workbasketAccessItem") WorkbasketAccessItemImpl workbasketAccessItem);
 
+  @Insert(
+      "<script>INSERT INTO WORKBASKET_ACCESS_LIST (ID, WORKBASKET_ID, ACCESS_ID, ACCESS_NAME, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE,  PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12) "
+          + "VALUES <foreach item='item' collection='workbasketAccessItems' separator=',' >"
+          + "(#{item.id}, #{item.workbasketId}, #{item.accessId}, #{item.accessName}, #{item.permRead}, #{item.permOpen}, #{item.permAppend}, #{item.permTransfer}, #{item.permDistribute}, #{item.permCustom1}, #{item.permCustom2}, #{item.permCustom3}, #{item.permCustom4}, #{item.permCustom5}, #{item.permCustom6}, #{item.permCustom7}, #{item.permCustom8}, #{item.permCustom9}, #{item.permCustom10}, #{item.permCustom11}, #{item.permCustom12})"
+          + "</foreach></script>")
+  void insertMultiple(
+      @Param("workbasketAccessItems") List<WorkbasketAccessItemImpl> workbasketAccessItems);
+
   @Update(
       "UPDATE WORKBASKET_ACCESS_LIST SET WORKBASKET_ID = #{workbasketAccessItem.workbasketId}, ACCESS_ID = #{workbasketAccessItem.accessId}, ACCESS_NAME = #{workbasketAccessItem.accessName}, PERM_READ = #{workbasketAccessItem.permRead}, PERM_OPEN = #{workbasketAccessItem.permOpen}, PERM_APPEND = #{workbasketAccessItem.permAppend}, PERM_TRANSFER = #{workbasketAccessItem.permTransfer}, PERM_DISTRIBUTE = #{workbasketAccessItem.permDistribute}, PERM_CUSTOM_1 = #{workbasketAccessItem.permCustom1}, PERM_CUSTOM_2 = #{workbasketAccessItem.permCustom2}, PERM_CUSTOM_3 = #{workbasketAccessItem.permCustom3}, PERM_CUSTOM_4 = #{workbasketAccessItem.permCustom4}, PERM_CUSTOM_5 = #{workbasketAccessItem.permCustom5}, PERM_CUSTOM_6 = #{workbasketAccessItem.permCustom6}, PERM_CUSTOM_7 = #{workbasketAccessItem.permCustom7}, PERM_CUSTOM_8 = #{workbasketAccessItem.permCustom8}, PERM_CUSTOM_9 = #{workbasketAccessItem.permCustom9}, PERM_CUSTOM_10 = #{workbasketAccessItem.permCustom10}, PERM_CUSTOM_11 = #{workbasketAccessItem.permCustom11}, PERM_CUSTOM_12 = #{workbasketAccessItem.permCustom12} "
           + "WHERE id = #{workbasketAccessItem.id}")
@@ -100,86 +124,49 @@ public interface WorkbasketAccessMapper {
   void deleteAccessItemsForAccessId(@Param("accessId") String accessId);
 
   @Select(
-      "<script>"
-          + "<choose>"
-          + "<when test=\"_databaseId == 'db2'\">"
-          + "SELECT MAX(PERM_READ) AS P_READ, MAX(PERM_OPEN) AS P_OPEN, MAX(PERM_APPEND) AS P_APPEND, MAX(PERM_TRANSFER) AS P_TRANSFER, MAX(PERM_DISTRIBUTE) AS P_DISTRIBUTE, MAX(PERM_CUSTOM_1) AS P_CUSTOM_1, MAX(PERM_CUSTOM_2) AS P_CUSTOM_2, MAX(PERM_CUSTOM_3) AS P_CUSTOM_3, MAX(PERM_CUSTOM_4) AS P_CUSTOM_4, MAX(PERM_CUSTOM_5) AS P_CUSTOM_5, MAX(PERM_CUSTOM_6) AS P_CUSTOM_6, MAX(PERM_CUSTOM_7) AS P_CUSTOM_7, MAX(PERM_CUSTOM_8) AS P_CUSTOM_8, MAX(PERM_CUSTOM_9) AS P_CUSTOM_9, MAX(PERM_CUSTOM_10) AS P_CUSTOM_10, MAX(PERM_CUSTOM_11) AS P_CUSTOM_11, MAX(PERM_CUSTOM_12) AS P_CUSTOM_12 "
-          + "</when>"
-          + "<otherwise>"
-          + "SELECT MAX(PERM_READ::int) AS P_READ, MAX(PERM_OPEN::int) AS P_OPEN, MAX(PERM_APPEND::int) AS P_APPEND, MAX(PERM_TRANSFER::int) AS P_TRANSFER, MAX(PERM_DISTRIBUTE::int) AS P_DISTRIBUTE, MAX(PERM_CUSTOM_1::int) AS P_CUSTOM_1, MAX(PERM_CUSTOM_2::int) AS P_CUSTOM_2, MAX(PERM_CUSTOM_3::int) AS P_CUSTOM_3, MAX(PERM_CUSTOM_4::int) AS P_CUSTOM_4, MAX(PERM_CUSTOM_5::int) AS P_CUSTOM_5, MAX(PERM_CUSTOM_6::int) AS P_CUSTOM_6, MAX(PERM_CUSTOM_7::int) AS P_CUSTOM_7, MAX(PERM_CUSTOM_8::int) AS P_CUSTOM_8, MAX(PERM_CUSTOM_9::int) AS P_CUSTOM_9, MAX(PERM_CUSTOM_10::int) AS P_CUSTOM_10, MAX(PERM_CUSTOM_11::int) AS P_CUSTOM_11, MAX(PERM_CUSTOM_12::int) AS P_CUSTOM_12 "
-          + "</otherwise>"
-          + "</choose>"
-          + "FROM WORKBASKET_ACCESS_LIST "
+      "<script>SELECT "
+          + PERMISSION_MASK
+          + " FROM WORKBASKET_ACCESS_LIST "
           + "WHERE WORKBASKET_ID = #{workbasketId} "
           + "AND ACCESS_ID IN(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
-  @Results(
-      value = {
-        @Result(property = "id", column = "ID"),
-        @Result(property = "workbasketId", column = "WORKBASKET_ID"),
-        @Result(property = "accessId", column = "ACCESS_ID"),
-        @Result(property = "accessName", column = "ACCESS_NAME"),
-        @Result(property = "permRead", column = "P_READ"),
-        @Result(property = "permOpen", column = "P_OPEN"),
-        @Result(property = "permAppend", column = "P_APPEND"),
-        @Result(property = "permTransfer", column = "P_TRANSFER"),
-        @Result(property = "permDistribute", column = "P_DISTRIBUTE"),
-        @Result(property = "permCustom1", column = "P_CUSTOM_1"),
-        @Result(property = "permCustom2", column = "P_CUSTOM_2"),
-        @Result(property = "permCustom3", column = "P_CUSTOM_3"),
-        @Result(property = "permCustom4", column = "P_CUSTOM_4"),
-        @Result(property = "permCustom5", column = "P_CUSTOM_5"),
-        @Result(property = "permCustom6", column = "P_CUSTOM_6"),
-        @Result(property = "permCustom7", column = "P_CUSTOM_7"),
-        @Result(property = "permCustom8", column = "P_CUSTOM_8"),
-        @Result(property = "permCustom9", column = "P_CUSTOM_9"),
-        @Result(property = "permCustom10", column = "P_CUSTOM_10"),
-        @Result(property = "permCustom11", column = "P_CUSTOM_11"),
-        @Result(property = "permCustom12", column = "P_CUSTOM_12")
-      })
-  WorkbasketAccessItemImpl findByWorkbasketAndAccessId(
+  int findPermissionMaskByWorkbasketAndAccessId(
       @Param("workbasketId") String workbasketId, @Param("accessIds") List<String> accessIds);
 
   @Select(
-      "<script>"
+      "<script>SELECT WB.ID AS WORKBASKET_ID, "
+          + PERMISSION_MASK
+          + " AS PERMISSION_MASK "
+          + "FROM WORKBASKET AS WB LEFT JOIN WORKBASKET_ACCESS_LIST AS WBA ON WBA.WORKBASKET_ID = WB.ID "
           + "<choose>"
-          + "<when test=\"_databaseId == 'db2'\">"
-          + "SELECT MAX(PERM_READ) AS P_READ, MAX(PERM_OPEN) AS P_OPEN, MAX(PERM_APPEND) AS P_APPEND, MAX(PERM_TRANSFER) AS P_TRANSFER, MAX(PERM_DISTRIBUTE) AS P_DISTRIBUTE, MAX(PERM_CUSTOM_1) AS P_CUSTOM_1, MAX(PERM_CUSTOM_2) AS P_CUSTOM_2, MAX(PERM_CUSTOM_3) AS P_CUSTOM_3, MAX(PERM_CUSTOM_4) AS P_CUSTOM_4, MAX(PERM_CUSTOM_5) AS P_CUSTOM_5, MAX(PERM_CUSTOM_6) AS P_CUSTOM_6, MAX(PERM_CUSTOM_7) AS P_CUSTOM_7, MAX(PERM_CUSTOM_8) AS P_CUSTOM_8, MAX(PERM_CUSTOM_9) AS P_CUSTOM_9, MAX(PERM_CUSTOM_10) AS P_CUSTOM_10, MAX(PERM_CUSTOM_11) AS P_CUSTOM_11, MAX(PERM_CUSTOM_12) AS P_CUSTOM_12 "
+          + "<when test='accessIds != null and accessIds.size() > 0'>"
+          + "AND WBA.ACCESS_ID IN(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
           + "</when>"
-          + "<otherwise>"
-          + "SELECT MAX(PERM_READ::int) AS P_READ, MAX(PERM_OPEN::int) AS P_OPEN, MAX(PERM_APPEND::int) AS P_APPEND, MAX(PERM_TRANSFER::int) AS P_TRANSFER, MAX(PERM_DISTRIBUTE::int) AS P_DISTRIBUTE, MAX(PERM_CUSTOM_1::int) AS P_CUSTOM_1, MAX(PERM_CUSTOM_2::int) AS P_CUSTOM_2, MAX(PERM_CUSTOM_3::int) AS P_CUSTOM_3, MAX(PERM_CUSTOM_4::int) AS P_CUSTOM_4, MAX(PERM_CUSTOM_5::int) AS P_CUSTOM_5, MAX(PERM_CUSTOM_6::int) AS P_CUSTOM_6, MAX(PERM_CUSTOM_7::int) AS P_CUSTOM_7, MAX(PERM_CUSTOM_8::int) AS P_CUSTOM_8, MAX(PERM_CUSTOM_9::int) AS P_CUSTOM_9, MAX(PERM_CUSTOM_10::int) AS P_CUSTOM_10, MAX(PERM_CUSTOM_11::int) AS P_CUSTOM_11, MAX(PERM_CUSTOM_12::int) AS P_CUSTOM_12 "
-          + "</otherwise>"
+          + "<otherwise>AND 1 = 0 </otherwise>"
           + "</choose>"
-          + "FROM WORKBASKET_ACCESS_LIST "
-          + "WHERE WORKBASKET_ID in (SELECT ID FROM WORKBASKET WHERE KEY = #{workbasketKey} AND DOMAIN = #{domain} )  "
-          + "AND ACCESS_ID IN(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "WHERE WB.ID IN(<foreach item='item' collection='workbasketIds' separator=',' >#{item}</foreach>) "
+          + "GROUP BY WB.ID "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   @Results(
       value = {
         @Result(property = "workbasketId", column = "WORKBASKET_ID"),
-        @Result(property = "accessId", column = "ACCESS_ID"),
-        @Result(property = "accessName", column = "ACCESS_NAME"),
-        @Result(property = "permRead", column = "P_READ"),
-        @Result(property = "permOpen", column = "P_OPEN"),
-        @Result(property = "permAppend", column = "P_APPEND"),
-        @Result(property = "permTransfer", column = "P_TRANSFER"),
-        @Result(property = "permDistribute", column = "P_DISTRIBUTE"),
-        @Result(property = "permCustom1", column = "P_CUSTOM_1"),
-        @Result(property = "permCustom2", column = "P_CUSTOM_2"),
-        @Result(property = "permCustom3", column = "P_CUSTOM_3"),
-        @Result(property = "permCustom4", column = "P_CUSTOM_4"),
-        @Result(property = "permCustom5", column = "P_CUSTOM_5"),
-        @Result(property = "permCustom6", column = "P_CUSTOM_6"),
-        @Result(property = "permCustom7", column = "P_CUSTOM_7"),
-        @Result(property = "permCustom8", column = "P_CUSTOM_8"),
-        @Result(property = "permCustom9", column = "P_CUSTOM_9"),
-        @Result(property = "permCustom10", column = "P_CUSTOM_10"),
-        @Result(property = "permCustom11", column = "P_CUSTOM_11"),
-        @Result(property = "permCustom12", column = "P_CUSTOM_12")
+        @Result(property = "permissionMask", column = "PERMISSION_MASK")
       })
-  WorkbasketAccessItemImpl findByWorkbasketKeyDomainAndAccessId(
+  List<WorkbasketPermissionItem> findPermissionMasksByWorkbasketIdsAndAccessIds(
+      @Param("workbasketIds") List<String> workbasketIds,
+      @Param("accessIds") List<String> accessIds);
+
+  @Select(
+      "<script>SELECT "
+          + PERMISSION_MASK
+          + " FROM WORKBASKET_ACCESS_LIST "
+          + "WHERE WORKBASKET_ID in (SELECT ID FROM WORKBASKET WHERE KEY = #{workbasketKey} AND DOMAIN = #{domain} )  "
+          + "AND ACCESS_ID IN(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  int findPermissionMaskByWorkbasketKeyDomainAndAccessId(
       @Param("workbasketKey") String workbasketKey,
       @Param("domain") String domain,
       @Param("accessIds") List<String> accessIds);
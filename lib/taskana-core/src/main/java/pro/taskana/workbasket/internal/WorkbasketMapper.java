@@ -168,6 +168,12 @@ public interface WorkbasketMapper {
       })
   List<WorkbasketSummaryImpl> findAll();
 
+  @Select(
+      "<script>SELECT ID FROM WORKBASKET WHERE ID IN (<foreach item='id' collection='ids' separator=',' >#{id}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findExistingIds(@Param("ids") List<String> ids);
+
   @Insert(
       "<script>INSERT INTO WORKBASKET (ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION) VALUES (#{workbasket.id}, #{workbasket.key}, #{workbasket.created}, #{workbasket.modified}, #{workbasket.name}, #{workbasket.domain}, #{workbasket.type}, #{workbasket.description}, #{workbasket.owner}, #{workbasket.custom1}, #{workbasket.custom2}, #{workbasket.custom3}, #{workbasket.custom4}, #{workbasket.orgLevel1}, #{workbasket.orgLevel2}, #{workbasket.orgLevel3}, #{workbasket.orgLevel4}, #{workbasket.markedForDeletion}) "
           + "</script>")
@@ -0,0 +1,143 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine wide cache for the combined permissions a set of access ids holds on a workbasket. The
+ * permissions are cached as {@link WorkbasketPermissionMask bit mask}. The cache is bounded by a
+ * maximum number of entries (least recently used entries are evicted first) and every entry expires
+ * after the configured time to live. Whenever workbasket access items are changed, the whole cache
+ * has to be invalidated via {@link #invalidateAll()}.
+ */
+public class WorkbasketPermissionCache {
+
+  private static final String SEPARATOR = "\u0000";
+
+  private final boolean enabled;
+  private final long timeToLiveNanos;
+  private final Map<String, CacheEntry> entries;
+
+  public WorkbasketPermissionCache(boolean enabled, int maxSize, Duration timeToLive) {
+    this.enabled = enabled && maxSize > 0 && !timeToLive.isNegative() && !timeToLive.isZero();
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.entries =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+              private static final long serialVersionUID = 1L;
+
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+              }
+            });
+  }
+
+  public static WorkbasketPermissionCache disabled() {
+    return new WorkbasketPermissionCache(false, 0, Duration.ZERO);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the cached permissions of the given access ids on the workbasket with the given id.
+   *
+   * @param accessIds the access ids of the current user
+   * @param workbasketId the id of the workbasket
+   * @return the mask of the granted permissions or {@link WorkbasketPermissionMask#UNKNOWN}, if
+   *     there is no valid cache entry
+   */
+  public int getPermissions(Collection<String> accessIds, String workbasketId) {
+    if (!enabled) {
+      return WorkbasketPermissionMask.UNKNOWN;
+    }
+    return get(createKey(accessIds, "ID", workbasketId));
+  }
+
+  /**
+   * Returns the cached permissions of the given access ids on the workbasket with the given key and
+   * domain.
+   *
+   * @param accessIds the access ids of the current user
+   * @param workbasketKey the key of the workbasket
+   * @param domain the domain of the workbasket
+   * @return the mask of the granted permissions or {@link WorkbasketPermissionMask#UNKNOWN}, if
+   *     there is no valid cache entry
+   */
+  public int getPermissions(Collection<String> accessIds, String workbasketKey, String domain) {
+    if (!enabled) {
+      return WorkbasketPermissionMask.UNKNOWN;
+    }
+    return get(createKey(accessIds, "KEY_DOMAIN", workbasketKey + SEPARATOR + domain));
+  }
+
+  public void putPermissions(Collection<String> accessIds, String workbasketId, int permissions) {
+    if (enabled) {
+      put(createKey(accessIds, "ID", workbasketId), permissions);
+    }
+  }
+
+  public void putPermissions(
+      Collection<String> accessIds,
+      String workbasketKey,
+      String domain,
+      int permissions) {
+    if (enabled) {
+      put(createKey(accessIds, "KEY_DOMAIN", workbasketKey + SEPARATOR + domain), permissions);
+    }
+  }
+
+  /** Removes all entries from the cache. */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private static String createKey(
+      Collection<String> accessIds, String workbasketIdentifierType, String workbasketIdentifier) {
+    List<String> sortedAccessIds = new ArrayList<>(accessIds);
+    Collections.sort(sortedAccessIds);
+    return workbasketIdentifierType
+        + SEPARATOR
+        + workbasketIdentifier
+        + SEPARATOR
+        + String.join(SEPARATOR, sortedAccessIds);
+  }
+
+  private int get(String key) {
+    CacheEntry entry = entries.get(key);
+    if (entry == null) {
+      return WorkbasketPermissionMask.UNKNOWN;
+    }
+    if (System.nanoTime() - entry.createdNanos >= timeToLiveNanos) {
+      entries.remove(key);
+      return WorkbasketPermissionMask.UNKNOWN;
+    }
+    return entry.permissions;
+  }
+
+  private void put(String key, int permissions) {
+    entries.put(key, new CacheEntry(permissions, System.nanoTime()));
+  }
+
+  private static final class CacheEntry {
+
+    private final int permissions;
+    private final long createdNanos;
+
+    private CacheEntry(int permissions, long createdNanos) {
+      this.permissions = permissions;
+      this.createdNanos = createdNanos;
+    }
+  }
+}
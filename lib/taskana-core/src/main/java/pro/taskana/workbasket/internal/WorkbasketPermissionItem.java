@@ -0,0 +1,37 @@
+package pro.taskana.workbasket.internal;
+
+/**
+ * The WorkbasketPermissionItem contains the combined permissions of the current access ids on one
+ * workbasket as a {@link WorkbasketPermissionMask bit mask}.
+ */
+public class WorkbasketPermissionItem {
+
+  private String workbasketId;
+  private int permissionMask;
+
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  public void setWorkbasketId(String workbasketId) {
+    this.workbasketId = workbasketId;
+  }
+
+  public int getPermissionMask() {
+    return permissionMask;
+  }
+
+  public void setPermissionMask(int permissionMask) {
+    this.permissionMask = permissionMask;
+  }
+
+  @Override
+  public String toString() {
+    return "WorkbasketPermissionItem ["
+        + "workbasketId= "
+        + this.workbasketId
+        + ", permissionMask= "
+        + this.permissionMask
+        + "]";
+  }
+}
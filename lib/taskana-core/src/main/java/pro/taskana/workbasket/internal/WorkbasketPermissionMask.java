@@ -0,0 +1,66 @@
+package pro.taskana.workbasket.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pro.taskana.workbasket.api.WorkbasketPermission;
+
+/**
+ * This class contains util methods for workbasket permissions which are represented as an int bit
+ * mask. The bit of a permission is {@code 1 << permission.ordinal()}, which is also how the
+ * WorkbasketAccessMapper combines the permissions of several access items.
+ */
+public final class WorkbasketPermissionMask {
+
+  /** Marks a mask which is not known, e.g. because it is not cached. */
+  public static final int UNKNOWN = -1;
+
+  public static final int NONE = 0;
+
+  private static final WorkbasketPermission[] PERMISSIONS = WorkbasketPermission.values();
+
+  private WorkbasketPermissionMask() {}
+
+  public static int of(WorkbasketPermission... permissions) {
+    int mask = NONE;
+    for (WorkbasketPermission permission : permissions) {
+      mask |= bit(permission);
+    }
+    return mask;
+  }
+
+  public static int bit(WorkbasketPermission permission) {
+    return 1 << permission.ordinal();
+  }
+
+  public static boolean containsAll(int grantedMask, int requestedMask) {
+    return (grantedMask & requestedMask) == requestedMask;
+  }
+
+  /**
+   * Returns the first of the requested permissions which is not granted.
+   *
+   * @param grantedMask the mask of the granted permissions
+   * @param requestedPermissions the requested permissions
+   * @return the first missing permission or null, if all requested permissions are granted
+   */
+  public static WorkbasketPermission firstMissing(
+      int grantedMask, WorkbasketPermission... requestedPermissions) {
+    for (WorkbasketPermission permission : requestedPermissions) {
+      if ((grantedMask & bit(permission)) == 0) {
+        return permission;
+      }
+    }
+    return null;
+  }
+
+  public static List<WorkbasketPermission> toList(int mask) {
+    List<WorkbasketPermission> permissions = new ArrayList<>(Integer.bitCount(mask));
+    for (WorkbasketPermission permission : PERMISSIONS) {
+      if ((mask & bit(permission)) != 0) {
+        permissions.add(permission);
+      }
+    }
+    return permissions;
+  }
+}
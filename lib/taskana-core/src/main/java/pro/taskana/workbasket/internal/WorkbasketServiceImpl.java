@@ -3,9 +3,11 @@ package pro.taskana.workbasket.internal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
@@ -14,6 +16,7 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.IdGenerationStrategy;
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
@@ -47,20 +50,26 @@ public class WorkbasketServiceImpl implements WorkbasketService {
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketServiceImpl.class);
   private static final String ID_PREFIX_WORKBASKET = "WBI";
   private static final String ID_PREFIX_WORKBASKET_AUTHORIZATION = "WAI";
+  private static final int BULK_INSERT_CHUNK_SIZE = 100;
   private InternalTaskanaEngine taskanaEngine;
   private WorkbasketMapper workbasketMapper;
   private DistributionTargetMapper distributionTargetMapper;
   private WorkbasketAccessMapper workbasketAccessMapper;
+  private WorkbasketPermissionCache permissionCache;
+  private IdGenerationStrategy idGenerationStrategy;
 
   public WorkbasketServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       WorkbasketMapper workbasketMapper,
       DistributionTargetMapper distributionTargetMapper,
-      WorkbasketAccessMapper workbasketAccessMapper) {
+      WorkbasketAccessMapper workbasketAccessMapper,
+      WorkbasketPermissionCache permissionCache) {
     this.taskanaEngine = taskanaEngine;
     this.workbasketMapper = workbasketMapper;
     this.distributionTargetMapper = distributionTargetMapper;
     this.workbasketAccessMapper = workbasketAccessMapper;
+    this.permissionCache = permissionCache;
+    this.idGenerationStrategy = taskanaEngine.getIdGenerationStrategy();
   }
 
   @Override
@@ -129,7 +138,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       if (workbasket.getId() == null || workbasket.getId().isEmpty()) {
-        workbasket.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET));
+        workbasket.setId(
+            IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET, idGenerationStrategy));
       }
       validateWorkbasket(workbasket);
 
@@ -208,7 +218,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     WorkbasketAccessItemImpl accessItem = (WorkbasketAccessItemImpl) workbasketAccessItem;
     try {
       taskanaEngine.openConnection();
-      accessItem.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+      accessItem.setId(
+          IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION, idGenerationStrategy));
       if (workbasketAccessItem.getId() == null
           || workbasketAccessItem.getAccessId() == null
           || workbasketAccessItem.getWorkbasketId() == null) {
@@ -228,6 +239,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       try {
         workbasketAccessMapper.insert(accessItem);
+        invalidatePermissionCache();
         LOGGER.debug(
             "Method createWorkbasketAccessItem() created workbaskteAccessItem {}", accessItem);
       } catch (PersistenceException e) {
@@ -273,6 +285,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.update(accessItem);
+      invalidatePermissionCache();
       LOGGER.debug(
           "Method updateWorkbasketAccessItem() updated workbasketAccessItem {}", accessItem);
       return accessItem;
@@ -290,6 +303,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       workbasketAccessMapper.delete(accessItemId);
+      invalidatePermissionCache();
       LOGGER.debug(
           "Method deleteWorkbasketAccessItem() deleted workbasketAccessItem wit Id {}",
           accessItemId);
@@ -306,19 +320,25 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findById(workbasketId) == null) {
-        throw new WorkbasketNotFoundException(
-            workbasketId, "Workbasket with id " + workbasketId + " was not found.");
-      }
+      List<String> accessIds = CurrentUserContext.getAccessIds();
+      int grantedPermissions = permissionCache.getPermissions(accessIds, workbasketId);
+      if (grantedPermissions == WorkbasketPermissionMask.UNKNOWN) {
+        if (workbasketMapper.findById(workbasketId) == null) {
+          throw new WorkbasketNotFoundException(
+              workbasketId, "Workbasket with id " + workbasketId + " was not found.");
+        }
+
+        if (skipAuthorizationCheck()) {
+          return;
+        }
 
-      if (skipAuthorizationCheck()) {
-        return;
+        grantedPermissions =
+            workbasketAccessMapper.findPermissionMaskByWorkbasketAndAccessId(
+                workbasketId, accessIds);
+        permissionCache.putPermissions(accessIds, workbasketId, grantedPermissions);
       }
 
-      List<String> accessIds = CurrentUserContext.getAccessIds();
-      WorkbasketAccessItem wbAcc =
-          workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
-      if (wbAcc == null) {
+      if (grantedPermissions == WorkbasketPermissionMask.NONE) {
         throw new NotAuthorizedException(
             "Not authorized. Permission '"
                 + Arrays.toString(requestedPermissions)
@@ -328,21 +348,95 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             CurrentUserContext.getUserid());
       }
 
-      List<WorkbasketPermission> grantedPermissions =
-          this.getPermissionsFromWorkbasketAccessItem(wbAcc);
+      if (!WorkbasketPermissionMask.containsAll(
+          grantedPermissions, WorkbasketPermissionMask.of(requestedPermissions))) {
+        isAuthorized = false;
+        throw new NotAuthorizedException(
+            "Not authorized. Permission '"
+                + WorkbasketPermissionMask.firstMissing(grantedPermissions, requestedPermissions)
+                + "' on workbasket '"
+                + workbasketId
+                + "' is needed.",
+            CurrentUserContext.getUserid());
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from checkAuthorization(). User is authorized = {}.", isAuthorized);
+    }
+  }
+
+  @Override
+  public void checkAuthorization(
+      List<String> workbasketIds, WorkbasketPermission... requestedPermissions)
+      throws NotAuthorizedException, WorkbasketNotFoundException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "entry to checkAuthorization(workbasketIds = {}, requestedPermissions = {})",
+          LoggerUtils.listToString(workbasketIds),
+          Arrays.toString(requestedPermissions));
+    }
+    boolean isAuthorized = true;
+    try {
+      taskanaEngine.openConnection();
+
+      List<String> accessIds = CurrentUserContext.getAccessIds();
+      Map<String, Integer> grantedPermissionsById = new HashMap<>();
+      List<String> uncachedIds = new ArrayList<>();
+      for (String workbasketId : new HashSet<>(workbasketIds)) {
+        int cachedPermissions = permissionCache.getPermissions(accessIds, workbasketId);
+        if (cachedPermissions == WorkbasketPermissionMask.UNKNOWN) {
+          uncachedIds.add(workbasketId);
+        } else {
+          grantedPermissionsById.put(workbasketId, cachedPermissions);
+        }
+      }
+
+      boolean skipAuthorizationCheck = skipAuthorizationCheck();
+      if (!uncachedIds.isEmpty()) {
+        List<WorkbasketPermissionItem> permissionItems =
+            workbasketAccessMapper.findPermissionMasksByWorkbasketIdsAndAccessIds(
+                uncachedIds, accessIds);
+        for (WorkbasketPermissionItem permissionItem : permissionItems) {
+          grantedPermissionsById.put(
+              permissionItem.getWorkbasketId(), permissionItem.getPermissionMask());
+          if (!skipAuthorizationCheck) {
+            permissionCache.putPermissions(
+                accessIds, permissionItem.getWorkbasketId(), permissionItem.getPermissionMask());
+          }
+        }
+      }
 
-      for (WorkbasketPermission perm : requestedPermissions) {
-        if (!grantedPermissions.contains(perm)) {
+      final int requestedMask = WorkbasketPermissionMask.of(requestedPermissions);
+      String missingWorkbasketId = null;
+      for (String workbasketId : workbasketIds) {
+        Integer grantedPermissions = grantedPermissionsById.get(workbasketId);
+        if (grantedPermissions == null) {
+          LOGGER.debug("checkAuthorization() did not find workbasket with id {}", workbasketId);
+          if (missingWorkbasketId == null) {
+            missingWorkbasketId = workbasketId;
+          }
+          continue;
+        }
+        if (skipAuthorizationCheck) {
+          continue;
+        }
+        if (!WorkbasketPermissionMask.containsAll(grantedPermissions, requestedMask)) {
           isAuthorized = false;
           throw new NotAuthorizedException(
               "Not authorized. Permission '"
-                  + perm.name()
+                  + WorkbasketPermissionMask.firstMissing(grantedPermissions, requestedPermissions)
                   + "' on workbasket '"
                   + workbasketId
                   + "' is needed.",
               CurrentUserContext.getUserid());
         }
       }
+
+      if (missingWorkbasketId != null) {
+        throw new WorkbasketNotFoundException(
+            missingWorkbasketId,
+            "Workbasket with id " + missingWorkbasketId + " was not found.");
+      }
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from checkAuthorization(). User is authorized = {}.", isAuthorized);
@@ -357,20 +451,25 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
-        throw new WorkbasketNotFoundException(
-            workbasketKey,
-            domain,
-            "Workbasket with key " + workbasketKey + " and domain " + domain + " was not found");
-      }
-      if (skipAuthorizationCheck()) {
-        return;
-      }
       List<String> accessIds = CurrentUserContext.getAccessIds();
-      WorkbasketAccessItem wbAcc =
-          workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
-              workbasketKey, domain, accessIds);
-      if (wbAcc == null) {
+      int grantedPermissions = permissionCache.getPermissions(accessIds, workbasketKey, domain);
+      if (grantedPermissions == WorkbasketPermissionMask.UNKNOWN) {
+        if (workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
+          throw new WorkbasketNotFoundException(
+              workbasketKey,
+              domain,
+              "Workbasket with key " + workbasketKey + " and domain " + domain + " was not found");
+        }
+        if (skipAuthorizationCheck()) {
+          return;
+        }
+        grantedPermissions =
+            workbasketAccessMapper.findPermissionMaskByWorkbasketKeyDomainAndAccessId(
+                workbasketKey, domain, accessIds);
+        permissionCache.putPermissions(accessIds, workbasketKey, domain, grantedPermissions);
+      }
+
+      if (grantedPermissions == WorkbasketPermissionMask.NONE) {
         throw new NotAuthorizedException(
             "Not authorized. Permission '"
                 + Arrays.toString(requestedPermissions)
@@ -381,22 +480,19 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 + "' is needed.",
             CurrentUserContext.getUserid());
       }
-      List<WorkbasketPermission> grantedPermissions =
-          this.getPermissionsFromWorkbasketAccessItem(wbAcc);
 
-      for (WorkbasketPermission perm : requestedPermissions) {
-        if (!grantedPermissions.contains(perm)) {
-          isAuthorized = false;
-          throw new NotAuthorizedException(
-              "Not authorized. Permission '"
-                  + perm.name()
-                  + "' on workbasket with key '"
-                  + workbasketKey
-                  + "' and domain '"
-                  + domain
-                  + "' is needed.",
-              CurrentUserContext.getUserid());
-        }
+      if (!WorkbasketPermissionMask.containsAll(
+          grantedPermissions, WorkbasketPermissionMask.of(requestedPermissions))) {
+        isAuthorized = false;
+        throw new NotAuthorizedException(
+            "Not authorized. Permission '"
+                + WorkbasketPermissionMask.firstMissing(grantedPermissions, requestedPermissions)
+                + "' on workbasket with key '"
+                + workbasketKey
+                + "' and domain '"
+                + domain
+                + "' is needed.",
+            CurrentUserContext.getUserid());
       }
     } finally {
       taskanaEngine.returnConnection();
@@ -437,7 +533,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
 
     Set<String> ids = new HashSet<>();
-    Set<WorkbasketAccessItemImpl> accessItems = new HashSet<>();
+    List<WorkbasketAccessItemImpl> accessItems = new ArrayList<>();
     for (WorkbasketAccessItem workbasketAccessItem : wbAccessItems) {
       WorkbasketAccessItemImpl wbAccessItemImpl = (WorkbasketAccessItemImpl) workbasketAccessItem;
       // Check pre-conditions and set ID
@@ -455,7 +551,9 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 workbasketId, workbasketAccessItem));
       }
       if (wbAccessItemImpl.getId() == null || wbAccessItemImpl.getId().isEmpty()) {
-        wbAccessItemImpl.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+        wbAccessItemImpl.setId(
+            IdGenerator.generateWithPrefix(
+                ID_PREFIX_WORKBASKET_AUTHORIZATION, idGenerationStrategy));
       }
       if (ids.contains(wbAccessItemImpl.getAccessId())) {
         throw new WorkbasketAccessItemAlreadyExistException(wbAccessItemImpl);
@@ -467,7 +565,11 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       taskanaEngine.openConnection();
       // delete all current ones
       workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
-      accessItems.forEach(workbasketAccessMapper::insert);
+      for (int from = 0; from < accessItems.size(); from += BULK_INSERT_CHUNK_SIZE) {
+        workbasketAccessMapper.insertMultiple(
+            accessItems.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, accessItems.size())));
+      }
+      invalidatePermissionCache();
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from setWorkbasketAccessItems(workbasketAccessItems = {})", wbAccessItems);
@@ -495,10 +597,9 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
   @Override
   public List<WorkbasketPermission> getPermissionsForWorkbasket(String workbasketId) {
-    WorkbasketAccessItem wbAcc =
-        workbasketAccessMapper.findByWorkbasketAndAccessId(
-            workbasketId, CurrentUserContext.getAccessIds());
-    return this.getPermissionsFromWorkbasketAccessItem(wbAcc);
+    return WorkbasketPermissionMask.toList(
+        workbasketAccessMapper.findPermissionMaskByWorkbasketAndAccessId(
+            workbasketId, CurrentUserContext.getAccessIds()));
   }
 
   @Override
@@ -578,15 +679,12 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       workbasketMapper.update(sourceWorkbasket);
 
       if (targetWorkbasketIds != null) {
-        for (String targetId : targetWorkbasketIds) {
-          // check for existence of target workbasket
-          getWorkbasket(targetId);
-          distributionTargetMapper.insert(sourceWorkbasketId, targetId);
-          LOGGER.debug(
-              "Method setDistributionTargets() created distribution target "
-                  + "for source '{}' and target {}",
-              sourceWorkbasketId,
-              targetId);
+        for (int from = 0; from < targetWorkbasketIds.size(); from += BULK_INSERT_CHUNK_SIZE) {
+          List<String> targetIds =
+              targetWorkbasketIds.subList(
+                  from, Math.min(from + BULK_INSERT_CHUNK_SIZE, targetWorkbasketIds.size()));
+          checkExistenceOfWorkbaskets(targetIds);
+          distributionTargetMapper.insertMultiple(sourceWorkbasketId, targetIds);
         }
       }
     } finally {
@@ -721,6 +819,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (canBeDeletedNow) {
         workbasketMapper.delete(workbasketId);
         deleteReferencesToWorkbasket(workbasketId);
+        invalidatePermissionCache();
       } else {
         markWorkbasketForDeletion(workbasketId);
       }
@@ -849,6 +948,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       workbasketAccessMapper.deleteAccessItemsForAccessId(accessId);
+      invalidatePermissionCache();
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from deleteWorkbasketAccessItemsForAccessId(accessId={}).", accessId);
@@ -885,6 +985,17 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  private void checkExistenceOfWorkbaskets(List<String> workbasketIds)
+      throws WorkbasketNotFoundException {
+    Set<String> existingIds = new HashSet<>(workbasketMapper.findExistingIds(workbasketIds));
+    for (String workbasketId : workbasketIds) {
+      if (!existingIds.contains(workbasketId)) {
+        throw new WorkbasketNotFoundException(
+            workbasketId, "Workbasket with id " + workbasketId + " was not found.");
+      }
+    }
+  }
+
   private long getCountTasksByWorkbasketId(String workbasketId) {
     return taskanaEngine
         .getEngine()
@@ -944,66 +1055,6 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
-  private List<WorkbasketPermission> getPermissionsFromWorkbasketAccessItem(
-      WorkbasketAccessItem workbasketAccessItem) {
-    List<WorkbasketPermission> permissions = new ArrayList<>();
-    if (workbasketAccessItem == null) {
-      return permissions;
-    }
-    if (workbasketAccessItem.isPermOpen()) {
-      permissions.add(WorkbasketPermission.OPEN);
-    }
-    if (workbasketAccessItem.isPermRead()) {
-      permissions.add(WorkbasketPermission.READ);
-    }
-    if (workbasketAccessItem.isPermAppend()) {
-      permissions.add(WorkbasketPermission.APPEND);
-    }
-    if (workbasketAccessItem.isPermTransfer()) {
-      permissions.add(WorkbasketPermission.TRANSFER);
-    }
-    if (workbasketAccessItem.isPermDistribute()) {
-      permissions.add(WorkbasketPermission.DISTRIBUTE);
-    }
-    if (workbasketAccessItem.isPermCustom1()) {
-      permissions.add(WorkbasketPermission.CUSTOM_1);
-    }
-    if (workbasketAccessItem.isPermCustom2()) {
-      permissions.add(WorkbasketPermission.CUSTOM_2);
-    }
-    if (workbasketAccessItem.isPermCustom3()) {
-      permissions.add(WorkbasketPermission.CUSTOM_3);
-    }
-    if (workbasketAccessItem.isPermCustom4()) {
-      permissions.add(WorkbasketPermission.CUSTOM_4);
-    }
-    if (workbasketAccessItem.isPermCustom5()) {
-      permissions.add(WorkbasketPermission.CUSTOM_5);
-    }
-    if (workbasketAccessItem.isPermCustom6()) {
-      permissions.add(WorkbasketPermission.CUSTOM_6);
-    }
-    if (workbasketAccessItem.isPermCustom7()) {
-      permissions.add(WorkbasketPermission.CUSTOM_7);
-    }
-    if (workbasketAccessItem.isPermCustom8()) {
-      permissions.add(WorkbasketPermission.CUSTOM_8);
-    }
-    if (workbasketAccessItem.isPermCustom9()) {
-      permissions.add(WorkbasketPermission.CUSTOM_9);
-    }
-    if (workbasketAccessItem.isPermCustom10()) {
-      permissions.add(WorkbasketPermission.CUSTOM_10);
-    }
-    if (workbasketAccessItem.isPermCustom11()) {
-      permissions.add(WorkbasketPermission.CUSTOM_11);
-    }
-    if (workbasketAccessItem.isPermCustom12()) {
-      permissions.add(WorkbasketPermission.CUSTOM_12);
-    }
-    return permissions;
-  }
-
   private void markWorkbasketForDeletion(String workbasketId)
       throws NotAuthorizedException, InvalidArgumentException {
     LOGGER.debug("entry to markWorkbasketForDeletion(workbasketId = {})", workbasketId);
@@ -1020,6 +1071,15 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  /**
+   * Invalidates the permission cache now, so that this call sees its own changes, and again after
+   * the commit, because other sessions may have cached the old permissions in the meantime.
+   */
+  private void invalidatePermissionCache() {
+    permissionCache.invalidateAll();
+    taskanaEngine.executeAfterCommit(permissionCache::invalidateAll);
+  }
+
   private void deleteReferencesToWorkbasket(String workbasketId) {
     // deletes sub-tables workbasket references
     distributionTargetMapper.deleteAllDistributionTargetsBySourceId(workbasketId);
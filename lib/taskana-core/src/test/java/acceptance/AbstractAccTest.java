@@ -19,6 +19,7 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
 import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.util.WorkingDaysToDaysConverter;
 import pro.taskana.sampledata.SampleDataGenerator;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.ObjectReference;
@@ -101,6 +102,12 @@ public abstract class AbstractAccTest {
     return attachment;
   }
 
+  protected WorkingDaysToDaysConverter createWorkingDaysToDaysConverter() {
+    return WorkingDaysToDaysConverter.initialize(
+        taskanaEngineConfiguration.isGermanPublicHolidaysEnabled(),
+        taskanaEngineConfiguration.getCustomHolidays());
+  }
+
   protected String getDatabaseProductId() throws SQLException {
     try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection()) {
       return connection.getMetaData().getDatabaseProductName();
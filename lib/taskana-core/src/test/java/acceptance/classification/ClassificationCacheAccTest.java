@@ -0,0 +1,107 @@
+package acceptance.classification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.ClassificationServiceImpl;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.ConnectionStatistics;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+
+/** Acceptance test for reading classifications with enabled classification cache. */
+@ExtendWith(JaasExtension.class)
+class ClassificationCacheAccTest extends AbstractAccTest {
+
+  private ClassificationServiceImpl classificationService;
+  private ConnectionStatistics connectionStatistics;
+
+  @BeforeAll
+  static void enableClassificationCache() {
+    taskanaEngineConfiguration.setClassificationCacheEnabled(true);
+    taskanaEngineConfiguration.setClassificationCacheVersionCheckInterval(Duration.ZERO);
+    taskanaEngineConfiguration.setConnectionStatisticsEnabled(true);
+    taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+    taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @BeforeEach
+  void setup() {
+    classificationService = (ClassificationServiceImpl) taskanaEngine.getClassificationService();
+    connectionStatistics = ((TaskanaEngineImpl) taskanaEngine).getConnectionStatistics();
+  }
+
+  @Test
+  void should_NotAccessDatabase_When_ClassificationIsReadAgain() throws Exception {
+    Classification classification = classificationService.getClassification("L1050", "DOMAIN_B");
+    connectionStatistics.reset();
+
+    Classification cachedClassification =
+        classificationService.getClassification("L1050", "DOMAIN_B");
+    Classification cachedById = classificationService.getClassification(classification.getId());
+
+    assertThat(classification.getDomain()).isEmpty();
+    assertThat(cachedClassification).isEqualTo(classification).isNotSameAs(classification);
+    assertThat(cachedById).isEqualTo(classification);
+    assertThat(connectionStatistics.getConnectionAcquisitionCount()).isZero();
+    assertThat(connectionStatistics.getStatementCount()).isZero();
+  }
+
+  @Test
+  void should_CacheMissingClassification_When_ClassificationDoesNotExist() {
+    assertThatThrownBy(() -> classificationService.getClassification("UNKNOWN", "DOMAIN_A"))
+        .isInstanceOf(ClassificationNotFoundException.class);
+    connectionStatistics.reset();
+
+    assertThatThrownBy(() -> classificationService.getClassification("UNKNOWN", "DOMAIN_A"))
+        .isInstanceOf(ClassificationNotFoundException.class);
+    assertThat(connectionStatistics.getStatementCount()).isZero();
+  }
+
+  @Test
+  void should_ReadOnlyUncachedClassifications_When_SummariesAreRequested() throws Exception {
+    classificationService.getClassification("CLI:100000000000000000000000000000000010");
+    connectionStatistics.reset();
+
+    List<ClassificationSummary> summaries =
+        classificationService.getClassificationSummaries(
+            Arrays.asList(
+                "CLI:100000000000000000000000000000000010",
+                "CLI:100000000000000000000000000000000014",
+                "CLI:NOT_EXISTING"));
+
+    assertThat(summaries)
+        .extracting(ClassificationSummary::getKey)
+        .containsExactlyInAnyOrder("T2100", "L10000");
+    assertThat(connectionStatistics.getStatementCount()).isEqualTo(1);
+  }
+
+  @WithAccessId(
+      userName = "dummy",
+      groupNames = {"businessadmin"})
+  @Test
+  void should_ReturnUpdatedClassification_When_ClassificationWasUpdated() throws Exception {
+    Classification classification = classificationService.getClassification("T2100", "DOMAIN_A");
+    classification.setName("updated by cache test");
+
+    classificationService.updateClassification(classification);
+
+    assertThat(classificationService.getClassification("T2100", "DOMAIN_A").getName())
+        .isEqualTo("updated by cache test");
+    assertThat(classificationService.getClassification(classification.getId()).getName())
+        .isEqualTo("updated by cache test");
+  }
+}
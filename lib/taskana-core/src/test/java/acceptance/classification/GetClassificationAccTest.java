@@ -2,8 +2,10 @@ package acceptance.classification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import acceptance.AbstractAccTest;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -142,4 +144,21 @@ class GetClassificationAccTest extends AbstractAccTest {
     assertEquals("", classification.getDomain());
     assertEquals(999L, classification.getPriority());
   }
+
+  @Test
+  void testGetClassificationsByIdsIgnoresUnknownIds() {
+    List<Classification> classifications =
+        classificationService.getClassifications(
+            Arrays.asList(
+                "CLI:100000000000000000000000000000000011",
+                "CLI:100000000000000000000000000000000014",
+                "CLI:NOT_EXISTING"));
+    assertEquals(2, classifications.size());
+    assertTrue(
+        classifications.stream().anyMatch(c -> "T6310".equals(c.getKey())),
+        "classification T6310 was not returned");
+    assertTrue(
+        classifications.stream().anyMatch(c -> "L10000".equals(c.getKey())),
+        "classification L10000 was not returned");
+  }
 }
@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import acceptance.AbstractAccTest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -155,6 +158,25 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
             || modifiedBefore.equals(classification.getModified()));
   }
 
+  @WithAccessId(
+      userName = "dummy",
+      groupNames = {"businessadmin"})
+  @Test
+  void should_ChangeCategoryOfAllTasks_When_UserCannotReadTheWorkbasketsOfTheTasks()
+      throws Exception {
+    setupTest();
+    String classificationId = "CLI:100000000000000000000000000000000003";
+    TaskService taskService = taskanaEngine.getTaskService();
+    assertEquals(0, taskService.createTaskQuery().classificationIdIn(classificationId).count());
+    assertTrue(countTasksOfClassificationNotInCategory(classificationId, "PROCESS") > 0);
+    Classification classification = classificationService.getClassification(classificationId);
+    classification.setCategory("PROCESS");
+
+    classificationService.updateClassification(classification);
+
+    assertEquals(0, countTasksOfClassificationNotInCategory(classificationId, "PROCESS"));
+  }
+
   @WithAccessId(
       userName = "teamlead_1",
       groupNames = {"group_1", "businessadmin"})
@@ -235,7 +257,7 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
     // TODO - resume old behaviour after attachment query is possible.
     TaskService taskService = taskanaEngine.getTaskService();
 
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
 
     List<String> tasksWithP1D =
         new ArrayList<>(
@@ -353,8 +375,7 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
     assertFalse(modifiedBefore.isAfter(updatedClassification.getModified()));
     // TODO - resume old behaviour after attachment query is possible.
     TaskService taskService = taskanaEngine.getTaskService();
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(true);
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
 
     List<String> tasksWithPrio99 =
         new ArrayList<>(
@@ -493,8 +514,7 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
     assertFalse(modifiedBefore.isAfter(updatedClassification.getModified()));
     // TODO - resume old behaviour after attachment query is possible.
     TaskService taskService = taskanaEngine.getTaskService();
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(true);
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     List<String> tasksWithPD12 =
         new ArrayList<>(
             Arrays.asList(
@@ -555,6 +575,29 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
         before, tasksWithPD1, taskService, converter, 1, 555);
   }
 
+  private long countTasksOfClassificationNotInCategory(String classificationId, String category)
+      throws Exception {
+    return countTasks(
+        "SELECT COUNT(*) FROM %s.TASK WHERE CLASSIFICATION_ID = ? AND CLASSIFICATION_CATEGORY <> ?",
+        classificationId,
+        category);
+  }
+
+  private long countTasks(String sql, String... parameters) throws Exception {
+    try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement(
+                String.format(sql, taskanaEngineConfiguration.getSchemaName()))) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setString(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getLong(1);
+      }
+    }
+  }
+
   private void updateClassificationAndRunAssociatedJobs(Classification classification)
       throws ClassificationNotFoundException, NotAuthorizedException, ConcurrencyException,
           InvalidArgumentException, InterruptedException {
@@ -0,0 +1,135 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+
+/** Acceptance test for claiming and running jobs with the JobRunner. */
+@ExtendWith(JaasExtension.class)
+class JobRunnerAccTest extends AbstractAccTest {
+
+  private JobServiceImpl jobService;
+  private Duration jobLockExpirationPeriod;
+  private int jobRunnerPoolSize;
+  private Map<ScheduledJob.Type, Integer> jobRunnerMaxConcurrency;
+
+  @BeforeEach
+  void before() throws Exception {
+    resetDb(false);
+    jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    // the job table is not cleared by resetDb, so due jobs of other tests are removed here
+    jobService.findJobsToRun().forEach(jobService::deleteJob);
+    jobLockExpirationPeriod = taskanaEngineConfiguration.getJobLockExpirationPeriod();
+    jobRunnerPoolSize = taskanaEngineConfiguration.getJobRunnerPoolSize();
+    jobRunnerMaxConcurrency =
+        new HashMap<>(taskanaEngineConfiguration.getJobRunnerMaxConcurrency());
+  }
+
+  @AfterEach
+  void after() {
+    // the configuration is shared with the other acceptance tests
+    taskanaEngineConfiguration.setJobLockExpirationPeriod(jobLockExpirationPeriod);
+    taskanaEngineConfiguration.setJobRunnerPoolSize(jobRunnerPoolSize);
+    taskanaEngineConfiguration.setJobRunnerMaxConcurrency(jobRunnerMaxConcurrency);
+  }
+
+  @Test
+  void should_ClaimJobOnlyOnce_When_TwoRunnersClaimAtTheSameTime() {
+    createDueJob(ScheduledJob.Type.TASKCLEANUPJOB);
+
+    List<ScheduledJob> jobsOfFirstRunner =
+        jobService.claimJobs("node-a", 10, Collections.emptySet());
+    List<ScheduledJob> jobsOfSecondRunner =
+        jobService.claimJobs("node-b", 10, Collections.emptySet());
+
+    assertThat(jobsOfFirstRunner).hasSize(1);
+    assertThat(jobsOfFirstRunner.get(0).getLockedBy()).isEqualTo("node-a");
+    assertThat(jobsOfSecondRunner).isEmpty();
+  }
+
+  @Test
+  void should_ClaimJobAgain_When_LockOfPreviousOwnerHasExpired() throws Exception {
+    taskanaEngineConfiguration.setJobLockExpirationPeriod(Duration.ofMillis(1));
+    createDueJob(ScheduledJob.Type.TASKCLEANUPJOB);
+    final int retries = taskanaEngineConfiguration.getMaxNumberOfJobRetries();
+
+    assertThat(jobService.claimJobs("node-a", 10, Collections.emptySet())).hasSize(1);
+    Thread.sleep(20);
+    List<ScheduledJob> jobsOfSecondRunner =
+        jobService.claimJobs("node-b", 10, Collections.emptySet());
+
+    assertThat(jobsOfSecondRunner).hasSize(1);
+    assertThat(jobsOfSecondRunner.get(0).getLockedBy()).isEqualTo("node-b");
+    assertThat(jobsOfSecondRunner.get(0).getRetryCount()).isEqualTo(retries - 2);
+  }
+
+  @Test
+  void should_NotClaimJobs_When_TheirTypeIsExcluded() {
+    createDueJob(ScheduledJob.Type.TASKCLEANUPJOB);
+    createDueJob(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+
+    List<ScheduledJob> claimedJobs =
+        jobService.claimJobs("node-a", 10, EnumSet.of(ScheduledJob.Type.TASKCLEANUPJOB));
+
+    assertThat(claimedJobs)
+        .extracting(ScheduledJob::getType)
+        .containsExactly(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_RunAllDueJobs_When_JobRunnerUsesWorkerPool() {
+    taskanaEngineConfiguration.setJobRunnerPoolSize(4);
+    createDueJob(ScheduledJob.Type.TASKCLEANUPJOB);
+    createDueJob(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+    createDueJob(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    assertThat(jobService.findJobsToRun()).isEmpty();
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_NotRunJobsOfType_When_MaximumConcurrencyIsZero() {
+    taskanaEngineConfiguration.setJobRunnerPoolSize(2);
+    taskanaEngineConfiguration
+        .getJobRunnerMaxConcurrency()
+        .put(ScheduledJob.Type.WORKBASKETCLEANUPJOB, 0);
+    createDueJob(ScheduledJob.Type.TASKCLEANUPJOB);
+    createDueJob(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    List<ScheduledJob.Type> remainingJobTypes =
+        jobService.findJobsToRun().stream()
+            .map(ScheduledJob::getType)
+            .collect(Collectors.toList());
+    assertThat(remainingJobTypes).containsExactly(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+  }
+
+  private void createDueJob(ScheduledJob.Type type) {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(type);
+    job.setDue(Instant.now().minusSeconds(1));
+    jobService.createJob(job);
+  }
+}
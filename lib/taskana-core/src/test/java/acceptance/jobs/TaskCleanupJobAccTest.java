@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import acceptance.AbstractAccTest;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +33,8 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 class TaskCleanupJobAccTest extends AbstractAccTest {
 
   TaskService taskService;
+  private Duration cleanupJobMinimumAge;
+  private int maxNumberOfUpdatesPerTransaction;
 
   @BeforeEach
   void before() throws SQLException {
@@ -38,6 +42,19 @@ class TaskCleanupJobAccTest extends AbstractAccTest {
     // TODO split test class into readOnly & modifying tests to improve performance
     resetDb(false);
     taskService = taskanaEngine.getTaskService();
+    cleanupJobMinimumAge = taskanaEngine.getConfiguration().getCleanupJobMinimumAge();
+    maxNumberOfUpdatesPerTransaction =
+        taskanaEngine.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+  }
+
+  @AfterEach
+  void after() {
+    taskanaEngine.getConfiguration().setTaskCleanupJobSetBased(false);
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(false);
+    taskanaEngine.getConfiguration().setCleanupJobMinimumAge(cleanupJobMinimumAge);
+    taskanaEngine
+        .getConfiguration()
+        .setMaxNumberOfUpdatesPerTransaction(maxNumberOfUpdatesPerTransaction);
   }
 
   @WithAccessId(userName = "admin")
@@ -83,6 +100,104 @@ class TaskCleanupJobAccTest extends AbstractAccTest {
     assertEquals(66, totalTasksCount);
   }
 
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_CleanCompletedTasksUntilDate_When_TasksAreDeletedInSeveralPages() throws Exception {
+    createAndCompleteTask();
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(false);
+    taskanaEngine.getConfiguration().setMaxNumberOfUpdatesPerTransaction(3);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    assertEquals(68, taskService.createTaskQuery().count());
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_CleanTasksWithSameParentBusiness_When_TasksAreDeletedInSeveralPages()
+      throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(true);
+    taskanaEngine.getConfiguration().setMaxNumberOfUpdatesPerTransaction(1);
+    List<String> ids = new ArrayList<>();
+    taskService.createTaskQuery().parentBusinessProcessIdIn("DOC_0000000000000000006").list()
+        .stream()
+        .filter(task -> task.getCompleted() == null)
+        .forEach(task -> ids.add(task.getId()));
+    taskService.deleteTasks(ids);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    assertEquals(66, taskService.createTaskQuery().count());
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_CleanCompletedTasksUntilDate_When_SetBasedCleanupIsEnabled() throws Exception {
+    createAndCompleteTask();
+    long totalTasksCount = taskService.createTaskQuery().count();
+    assertEquals(84, totalTasksCount);
+
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(false);
+    taskanaEngine.getConfiguration().setTaskCleanupJobSetBased(true);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    totalTasksCount = taskService.createTaskQuery().count();
+    assertEquals(68, totalTasksCount);
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_CleanTasksWithSameParentBusiness_When_SetBasedCleanupIsEnabled() throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(true);
+    taskanaEngine.getConfiguration().setTaskCleanupJobSetBased(true);
+
+    List<String> ids = new ArrayList<>();
+    taskService.createTaskQuery().parentBusinessProcessIdIn("DOC_0000000000000000006").list()
+        .stream()
+        .filter(task -> task.getCompleted() == null)
+        .forEach(task -> ids.add(task.getId()));
+    taskService.deleteTasks(ids);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    long totalTasksCount = taskService.createTaskQuery().count();
+    assertEquals(66, totalTasksCount);
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_KeepTaskWithoutParentBusinessProcess_When_AllCompletedSameParentBusinessIsSet()
+      throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(true);
+    taskanaEngine.getConfiguration().setCleanupJobMinimumAge(Duration.ZERO);
+    Task createdTask = createAndCompleteTask();
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    assertEquals(1, taskService.createTaskQuery().idIn(createdTask.getId()).count());
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_KeepTaskWithoutParentBusinessProcess_When_SetBasedCleanupIsEnabled()
+      throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(true);
+    taskanaEngine.getConfiguration().setTaskCleanupJobSetBased(true);
+    taskanaEngine.getConfiguration().setCleanupJobMinimumAge(Duration.ZERO);
+    Task createdTask = createAndCompleteTask();
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    assertEquals(1, taskService.createTaskQuery().idIn(createdTask.getId()).count());
+  }
+
   @WithAccessId(userName = "admin")
   @Test
   void shouldNotCleanCompleteTasksAfterDefinedDay() throws Exception {
@@ -0,0 +1,56 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+import pro.taskana.task.internal.TaskServiceImpl;
+
+/** Acceptance test for the partitions of the tasks which are refreshed by TaskRefreshJobs. */
+@ExtendWith(JaasExtension.class)
+class TaskRefreshPartitionAccTest extends AbstractAccTest {
+
+  private static final String CLASSIFICATION_ID = "CLI:100000000000000000000000000000000003";
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_CoverEveryAffectedTaskExactlyOnce_When_TasksArePartitionedByRange() {
+    TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngine.getTaskService();
+    List<String> allAffectedTaskIds =
+        taskService.findTaskIdsAffectedByClassificationChange(
+            CLASSIFICATION_ID, null, null, null, null);
+    assertThat(allAffectedTaskIds).hasSizeGreaterThan(2);
+
+    List<String> partitionedTaskIds = new ArrayList<>();
+    Pair<String, Instant> lowerBound = null;
+    Pair<String, Instant> upperBound;
+    do {
+      upperBound =
+          taskService.findTaskAffectedByClassificationChange(
+              CLASSIFICATION_ID,
+              lowerBound == null ? null : lowerBound.getRight(),
+              lowerBound == null ? null : lowerBound.getLeft(),
+              1);
+      List<String> partition =
+          taskService.findTaskIdsAffectedByClassificationChange(
+              CLASSIFICATION_ID,
+              lowerBound == null ? null : lowerBound.getRight(),
+              lowerBound == null ? null : lowerBound.getLeft(),
+              upperBound == null ? null : upperBound.getRight(),
+              upperBound == null ? null : upperBound.getLeft());
+      assertThat(partition).hasSizeLessThanOrEqualTo(2);
+      partitionedTaskIds.addAll(partition);
+      lowerBound = upperBound;
+    } while (upperBound != null);
+
+    assertThat(partitionedTaskIds).containsExactlyElementsOf(allAffectedTaskIds);
+  }
+}
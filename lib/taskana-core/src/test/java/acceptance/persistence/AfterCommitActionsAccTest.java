@@ -0,0 +1,119 @@
+package acceptance.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+
+/** Acceptance test for the actions which are executed after the commit of an Api call. */
+class AfterCommitActionsAccTest extends AbstractAccTest {
+
+  private TaskanaEngine engine;
+  private InternalTaskanaEngine internalEngine;
+  private AtomicInteger executedActions;
+
+  @BeforeEach
+  void setup() throws Exception {
+    engine = taskanaEngineConfiguration.buildTaskanaEngine();
+    internalEngine = new TaskanaEngineProxyForTest(engine).getEngine();
+    executedActions = new AtomicInteger();
+  }
+
+  @Test
+  void should_ExecuteActionAfterOutermostCall_When_ModeIsAutocommit() {
+    engine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+
+    internalEngine.openConnection();
+    internalEngine.openConnection();
+    internalEngine.executeAfterCommit(executedActions::incrementAndGet);
+    internalEngine.returnConnection();
+    assertThat(executedActions).hasValue(0);
+    internalEngine.returnConnection();
+
+    assertThat(executedActions).hasValue(1);
+  }
+
+  @Test
+  void should_DiscardAction_When_AutocommitCallIsRolledBack() {
+    engine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+
+    internalEngine.openConnection();
+    internalEngine.executeAfterCommit(executedActions::incrementAndGet);
+    internalEngine.rollbackIfAutocommit();
+    internalEngine.returnConnection();
+
+    assertThat(executedActions).hasValue(0);
+  }
+
+  @Test
+  void should_ExecuteActionOnlyOnCommit_When_ModeIsExplicit() throws Exception {
+    try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection()) {
+      engine.setConnection(connection);
+
+      internalEngine.openConnection();
+      internalEngine.executeAfterCommit(executedActions::incrementAndGet);
+      internalEngine.returnConnection();
+      assertThat(executedActions).hasValue(0);
+
+      engine.commitConnection();
+      assertThat(executedActions).hasValue(1);
+      engine.closeConnection();
+    }
+  }
+
+  @Test
+  void should_DiscardAction_When_ExplicitConnectionIsRolledBack() throws Exception {
+    try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection()) {
+      engine.setConnection(connection);
+
+      internalEngine.openConnection();
+      internalEngine.executeAfterCommit(executedActions::incrementAndGet);
+      internalEngine.returnConnection();
+      engine.rollbackConnection();
+      engine.commitConnection();
+      engine.closeConnection();
+    }
+
+    assertThat(executedActions).hasValue(0);
+  }
+
+  @Test
+  void should_DiscardAction_When_ExplicitConnectionIsClosedWithoutCommit() throws Exception {
+    try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection()) {
+      engine.setConnection(connection);
+
+      internalEngine.openConnection();
+      internalEngine.executeAfterCommit(executedActions::incrementAndGet);
+      internalEngine.returnConnection();
+      engine.closeConnection();
+    }
+
+    assertThat(executedActions).hasValue(0);
+  }
+
+  /**
+   * The core engine does not know the transaction it participates in, so it can only execute the
+   * actions when the outermost call returns, which may be before that transaction commits.
+   */
+  @Test
+  void should_ExecuteActionAfterOutermostCall_When_ModeIsParticipate() {
+    engine.setConnectionManagementMode(ConnectionManagementMode.PARTICIPATE);
+
+    internalEngine.openConnection();
+    internalEngine.openConnection();
+    internalEngine.executeAfterCommit(executedActions::incrementAndGet);
+    internalEngine.returnConnection();
+    assertThat(executedActions).hasValue(0);
+    internalEngine.returnConnection();
+
+    assertThat(executedActions).hasValue(1);
+  }
+}
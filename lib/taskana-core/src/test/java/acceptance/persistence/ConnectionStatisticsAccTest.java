@@ -0,0 +1,109 @@
+package acceptance.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.ConnectionStatistics;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance test for the connection handling of nested calls. */
+@ExtendWith(JaasExtension.class)
+class ConnectionStatisticsAccTest extends AbstractAccTest {
+
+  private TaskService taskService;
+  private ConnectionStatistics connectionStatistics;
+
+  @BeforeAll
+  static void enableConnectionStatistics() {
+    taskanaEngineConfiguration.setConnectionStatisticsEnabled(true);
+    taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+    taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @BeforeEach
+  void setup() {
+    taskService = taskanaEngine.getTaskService();
+    connectionStatistics = ((TaskanaEngineImpl) taskanaEngine).getConnectionStatistics();
+    connectionStatistics.reset();
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_AcquireOneConnectionAndSetSchemaOnce_When_TaskIsCreated() throws Exception {
+    Task newTask = taskService.newTask("USER_1_1", "DOMAIN_A");
+    newTask.setClassificationKey("T2100");
+    ObjectReference objectReference =
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567");
+    newTask.setPrimaryObjRef(objectReference);
+
+    taskService.createTask(newTask);
+
+    assertThat(connectionStatistics.getCallCount()).isEqualTo(1);
+    assertThat(connectionStatistics.getConnectionAcquisitionCount()).isEqualTo(1);
+    assertThat(connectionStatistics.getSchemaSetCount()).isEqualTo(1);
+    assertThat(connectionStatistics.getStatementCount()).isPositive();
+    assertThat(connectionStatistics.getStatementCountOfLastCall())
+        .isEqualTo(connectionStatistics.getStatementCount())
+        .isEqualTo(connectionStatistics.getMaxStatementsPerCall());
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ReuseConnection_When_CallsAreNested() throws Exception {
+    TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest(taskanaEngine);
+
+    engineProxy.openConnection();
+    try {
+      taskService.getTask("TKI:000000000000000000000000000000000000");
+      taskService.getTask("TKI:000000000000000000000000000000000001");
+      assertThat(connectionStatistics.getCallCount()).isEqualTo(1);
+    } finally {
+      engineProxy.returnConnection();
+    }
+
+    assertThat(connectionStatistics.getConnectionAcquisitionCount()).isEqualTo(1);
+    assertThat(connectionStatistics.getSchemaSetCount()).isEqualTo(1);
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_NotExceedStatementBudget_When_TaskIsRead() throws Exception {
+    taskService.getTask("TKI:000000000000000000000000000000000000");
+
+    assertThat(connectionStatistics.getConnectionAcquisitionCount()).isEqualTo(1);
+    assertThat(connectionStatistics.getStatementCountOfLastCall()).isBetween(1L, 10L);
+  }
+
+  @Test
+  void should_NotMaintainConnectionStatistics_When_TheyAreNotEnabled() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            taskanaEngineConfiguration.getDatasource(),
+            false,
+            taskanaEngineConfiguration.getSchemaName());
+
+    TaskanaEngineImpl engine = (TaskanaEngineImpl) configuration.buildTaskanaEngine();
+
+    assertThat(configuration.isConnectionStatisticsEnabled()).isFalse();
+    assertThat(engine.getConnectionStatistics()).isNull();
+  }
+}
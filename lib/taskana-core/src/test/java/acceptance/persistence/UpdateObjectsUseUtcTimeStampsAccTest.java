@@ -62,8 +62,7 @@ public class UpdateObjectsUseUtcTimeStampsAccTest extends AbstractAccTest {
 
     task.setPlanned(now.plus(Duration.ofHours(17)));
 
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(true);
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     // associated Classification has ServiceLevel 'P1D'
     task.setDue(converter.addWorkingDaysToInstant(task.getPlanned(), Duration.ofDays(1)));
 
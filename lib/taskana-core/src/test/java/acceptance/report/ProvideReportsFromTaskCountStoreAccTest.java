@@ -0,0 +1,176 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.TaskStatusReport;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.QueryItem;
+import pro.taskana.monitor.api.reports.row.Row;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+import pro.taskana.task.api.CustomField;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+/** Acceptance test for reports which are built from the incrementally maintained task counts. */
+@ExtendWith(JaasExtension.class)
+class ProvideReportsFromTaskCountStoreAccTest extends AbstractReportAccTest {
+
+  private static final List<TimeIntervalColumnHeader> COLUMN_HEADERS =
+      Arrays.asList(
+          new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11),
+          new TimeIntervalColumnHeader(-10, -6),
+          new TimeIntervalColumnHeader(-5, -1),
+          new TimeIntervalColumnHeader(0),
+          new TimeIntervalColumnHeader(1, 5),
+          new TimeIntervalColumnHeader(6, 10),
+          new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+
+  private TaskanaEngine storeEngine;
+
+  @BeforeEach
+  void setupStoreEngine() throws Exception {
+    resetDb();
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setGermanPublicHolidaysEnabled(false);
+    configuration.setTaskCountStoreEnabled(true);
+    configuration.setTaskCountStoreReconciliationInterval(Duration.ofHours(1));
+    storeEngine = configuration.buildTaskanaEngine();
+    storeEngine.setConnectionManagementMode(TaskanaEngine.ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @WithAccessId(userName = "monitor")
+  @Test
+  void should_BuildSameReportsAsDatabase_When_TaskCountStoreIsEnabled() throws Exception {
+    assertSameReports();
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_BuildSameReportsAsDatabase_When_TasksWereChangedAfterLoadingTheCounts()
+      throws Exception {
+    assertSameReports();
+    TaskService taskService = storeEngine.getTaskService();
+    List<TaskSummary> readyTasks =
+        taskService
+            .createTaskQuery()
+            .stateIn(TaskState.READY)
+            .orderByTaskId(SortDirection.ASCENDING)
+            .list();
+    List<TaskSummary> claimedTasks =
+        taskService
+            .createTaskQuery()
+            .stateIn(TaskState.CLAIMED)
+            .orderByTaskId(SortDirection.ASCENDING)
+            .list();
+    WorkbasketSummary destination =
+        storeEngine
+            .getWorkbasketService()
+            .createWorkbasketQuery()
+            .keyIn("USER_1_3")
+            .single();
+
+    taskService.claim(readyTasks.get(0).getId());
+    taskService.forceCompleteTask(readyTasks.get(1).getId());
+    taskService.forceCancelClaim(claimedTasks.get(0).getId());
+    taskService.transfer(readyTasks.get(2).getId(), destination.getId());
+    taskService.cancelTask(readyTasks.get(3).getId());
+    taskService.forceDeleteTask(readyTasks.get(4).getId());
+    assertSameReports();
+
+    taskService.deleteTasks(Collections.singletonList(readyTasks.get(3).getId()));
+    assertSameReports();
+  }
+
+  @WithAccessId(userName = "monitor")
+  @Test
+  void should_UseDatabase_When_ReportFiltersOnCustomAttributes() throws Exception {
+    Map<CustomField, String> customAttributeFilter =
+        Collections.singletonMap(CustomField.CUSTOM_1, "Geschaeftsstelle A");
+
+    WorkbasketReport storeReport =
+        storeEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .customAttributeFilterIn(customAttributeFilter)
+            .buildReport();
+    WorkbasketReport report =
+        taskanaEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .customAttributeFilterIn(customAttributeFilter)
+            .buildReport();
+
+    assertSameRows(storeReport, report);
+  }
+
+  private void assertSameReports() throws Exception {
+    assertSameRows(
+        storeEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport(),
+        taskanaEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport());
+    List<TaskState> states = Arrays.asList(TaskState.READY, TaskState.CLAIMED);
+    List<String> domains = Arrays.asList("DOMAIN_A", "MONITOR_TEST_DOMAIN");
+    assertSameRows(
+        storeEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .stateIn(states)
+            .domainIn(domains)
+            .buildReport(),
+        taskanaEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .stateIn(states)
+            .domainIn(domains)
+            .buildReport());
+    TaskStatusReport storeStatusReport =
+        storeEngine.getMonitorService().createTaskStatusReportBuilder().buildReport();
+    TaskStatusReport statusReport =
+        taskanaEngine.getMonitorService().createTaskStatusReportBuilder().buildReport();
+    assertSameRows(storeStatusReport, statusReport);
+  }
+
+  private static <I extends QueryItem> void assertSameRows(
+      Report<I, ?> storeReport, Report<I, ?> expected) {
+    assertThat(storeReport.getRows().keySet()).isEqualTo(expected.getRows().keySet());
+    for (Map.Entry<String, Row<I>> row : expected.getRows().entrySet()) {
+      assertThat(storeReport.getRow(row.getKey()).getCells())
+          .as("cells of row %s", row.getKey())
+          .containsExactly(row.getValue().getCells());
+    }
+    assertThat(storeReport.getSumRow().getCells()).containsExactly(expected.getSumRow().getCells());
+  }
+}
@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Consumer;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
@@ -24,9 +25,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
+import pro.taskana.common.api.IdGenerationStrategy;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.TaskanaEngineProxyForTest;
@@ -183,7 +188,7 @@ class CreateTaskAccTest extends AbstractAccTest {
         createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
     newTask.setOwner("user_1_1");
 
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize();
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     // TODO: this is a temporal bug fix because we did not define what happens when a task is
     // planned on the weekend.
     long i = converter.convertWorkingDaysToDays(instantPlanned, 0);
@@ -467,7 +472,7 @@ class CreateTaskAccTest extends AbstractAccTest {
     assertEquals(planned, readTask.getPlanned());
 
     long calendarDays =
-        WorkingDaysToDaysConverter.initialize()
+        createWorkingDaysToDaysConverter()
             .convertWorkingDaysToDays(readTask.getPlanned(), serviceLevelDays);
 
     Instant shouldBeDueDate = readTask.getPlanned().plus(Duration.ofDays(calendarDays));
@@ -502,7 +507,7 @@ class CreateTaskAccTest extends AbstractAccTest {
     assertEquals(due, readTask.getDue());
 
     long calendarDaysToSubstract =
-        WorkingDaysToDaysConverter.initialize().convertWorkingDaysToDays(due, -serviceLevelDays);
+        createWorkingDaysToDaysConverter().convertWorkingDaysToDays(due, -serviceLevelDays);
 
     assertTrue(calendarDaysToSubstract < 0);
     assertTrue(calendarDaysToSubstract <= -serviceLevelDays);
@@ -568,7 +573,7 @@ class CreateTaskAccTest extends AbstractAccTest {
 
     assertEquals(99, readTask.getPriority());
 
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long calendarDays = converter.convertWorkingDaysToDays(readTask.getPlanned(), 1);
 
     assertEquals(readTask.getDue(), readTask.getPlanned().plus(Duration.ofDays(calendarDays)));
@@ -909,6 +914,29 @@ class CreateTaskAccTest extends AbstractAccTest {
         .isInstanceOf(WorkbasketNotFoundException.class);
   }
 
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_UseIdGenerationStrategyOfItsEngine_When_EnginesAreConfiguredDifferently()
+      throws Exception {
+    TaskanaEngineConfiguration timeOrderedConfiguration =
+        new TaskanaEngineConfiguration(
+            taskanaEngineConfiguration.getDatasource(),
+            false,
+            taskanaEngineConfiguration.getSchemaName());
+    timeOrderedConfiguration.setIdGenerationStrategy(IdGenerationStrategy.TIME_ORDERED);
+    TaskanaEngine timeOrderedEngine = timeOrderedConfiguration.buildTaskanaEngine();
+    timeOrderedEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    TaskService timeOrderedTaskService = timeOrderedEngine.getTaskService();
+
+    Task timeOrderedTask = timeOrderedTaskService.createTask(makeNewTask(timeOrderedTaskService));
+    Task randomTask = taskService.createTask(makeNewTask(taskService));
+
+    assertEquals(7, UUID.fromString(timeOrderedTask.getId().substring(4)).version());
+    assertEquals(4, UUID.fromString(randomTask.getId().substring(4)).version());
+  }
+
   private Task setTaskProperties(Task task) {
     task.setClassificationKey("L12010");
     task.setPrimaryObjRef(
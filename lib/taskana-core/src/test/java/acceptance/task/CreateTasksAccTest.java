@@ -0,0 +1,164 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.models.AttachmentSummary;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for the creation of several tasks at once. */
+@ExtendWith(JaasExtension.class)
+class CreateTasksAccTest extends AbstractAccTest {
+
+  private static final String EXISTING_EXTERNAL_ID = "ETI:000000000000000000000000000000000000";
+
+  private TaskService taskService;
+
+  @BeforeEach
+  void setup() {
+    taskService = taskanaEngine.getTaskService();
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_CreateAllTasks_When_TheyAreValid() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      tasks.add(createNewTask("USER_1_1", "T2100", "BULK-ALL-" + i));
+    }
+    tasks.get(0)
+        .addAttachment(
+            createAttachment(
+                "DOCTYPE_DEFAULT",
+                createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "1"),
+                "E-MAIL",
+                "2018-01-15",
+                createSimpleCustomProperties(3)));
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.containsErrors()).isFalse();
+    List<TaskSummary> createdTasks =
+        taskService.createTaskQuery().externalIdLike("BULK-ALL-%").list();
+    assertThat(createdTasks)
+        .hasSize(150)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getState()).isEqualTo(TaskState.READY);
+              assertThat(task.getWorkbasketSummary().getKey()).isEqualTo("USER_1_1");
+              assertThat(task.getClassificationSummary().getKey()).isEqualTo("T2100");
+              assertThat(task.getDue()).isNotNull();
+            });
+    Task taskWithAttachment = taskService.getTask(tasks.get(0).getId());
+    assertThat(taskWithAttachment.getAttachments())
+        .extracting(AttachmentSummary::getTaskId)
+        .containsExactly(taskWithAttachment.getId());
+    assertThat(taskWithAttachment.getAttachments().get(0).getCustomAttributes()).hasSize(3);
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ReportFailedTasks_When_SomeTasksAreInvalid() throws Exception {
+    Task validTask = createNewTask("USER_1_1", "T2100", "BULK-MIXED-VALID");
+    Task notPermittedTask = createNewTask("GPK_KSC", "T2100", "BULK-MIXED-NOT-PERMITTED");
+    Task unknownClassificationTask = createNewTask("USER_1_1", "UNKNOWN", "BULK-MIXED-UNKNOWN");
+    Task existingTask = createNewTask("USER_1_1", "T2100", EXISTING_EXTERNAL_ID);
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.createTasks(
+            Arrays.asList(validTask, notPermittedTask, unknownClassificationTask, existingTask));
+
+    assertThat(results.getFailedIds())
+        .containsExactlyInAnyOrder(
+            "BULK-MIXED-NOT-PERMITTED", "BULK-MIXED-UNKNOWN", EXISTING_EXTERNAL_ID);
+    assertThat(results.getErrorForId("BULK-MIXED-NOT-PERMITTED"))
+        .isInstanceOf(NotAuthorizedException.class);
+    assertThat(results.getErrorForId("BULK-MIXED-UNKNOWN"))
+        .isInstanceOf(ClassificationNotFoundException.class);
+    assertThat(results.getErrorForId(EXISTING_EXTERNAL_ID))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    List<String> createdExternalIds =
+        taskService.createTaskQuery().externalIdLike("BULK-MIXED-%").list().stream()
+            .map(TaskSummary::getExternalId)
+            .collect(Collectors.toList());
+    assertThat(createdExternalIds).containsExactly("BULK-MIXED-VALID");
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_CreateNoTask_When_DatabaseRejectsATaskOfALaterChunk() {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      tasks.add(createNewTask("USER_1_1", "T2100", "BULK-REJECTED-" + i));
+    }
+    // longer than the NAME column, so only the insert of the second chunk fails
+    tasks.get(120).setName(String.join("", Collections.nCopies(300, "x")));
+
+    assertThatThrownBy(() -> taskService.createTasks(tasks))
+        .isInstanceOf(SystemException.class);
+    assertThat(taskService.createTaskQuery().externalIdLike("BULK-REJECTED-%").count()).isZero();
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_CreateNoTask_When_ExternalIdIsContainedTwice() {
+    Task firstTask = createNewTask("USER_1_1", "T2100", "BULK-DUPLICATE");
+    Task otherTask = createNewTask("USER_1_1", "T2100", "BULK-DUPLICATE-OTHER");
+    Task secondTask = createNewTask("USER_1_1", "T2100", "BULK-DUPLICATE");
+
+    List<Task> tasks = Arrays.asList(firstTask, otherTask, secondTask);
+
+    assertThatThrownBy(() -> taskService.createTasks(tasks))
+        .isInstanceOf(InvalidArgumentException.class)
+        .hasMessageContaining("BULK-DUPLICATE");
+    assertThat(taskService.createTaskQuery().externalIdLike("BULK-DUPLICATE%").count()).isZero();
+  }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ThrowException_When_ListOfTasksIsNull() {
+    assertThatThrownBy(() -> taskService.createTasks(null))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+
+  private Task createNewTask(String workbasketKey, String classificationKey, String externalId) {
+    Task task = taskService.newTask(workbasketKey, "DOMAIN_A");
+    task.setClassificationKey(classificationKey);
+    task.setExternalId(externalId);
+    task.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    return task;
+  }
+}
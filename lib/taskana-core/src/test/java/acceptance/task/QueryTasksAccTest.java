@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static pro.taskana.common.api.BaseQuery.SortDirection.ASCENDING;
 import static pro.taskana.common.api.BaseQuery.SortDirection.DESCENDING;
 import static pro.taskana.task.api.TaskQueryColumnName.A_CHANNEL;
@@ -33,6 +34,7 @@ import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+import pro.taskana.common.internal.persistence.QueryTemplateSqlSource;
 import pro.taskana.security.JaasExtension;
 import pro.taskana.security.WithAccessId;
 import pro.taskana.task.api.TaskQuery;
@@ -850,6 +852,31 @@ class QueryTasksAccTest extends AbstractAccTest {
     assertEquals(4, results.size());
   }
 
+  @WithAccessId(userName = "admin")
+  @Test
+  void testQueryWithSameShapeReusesRenderedSql() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest(taskanaEngine);
+    QueryTemplateSqlSource sqlSource =
+        (QueryTemplateSqlSource)
+            engineProxy
+                .getSqlSession()
+                .getConfiguration()
+                .getMappedStatement("pro.taskana.task.internal.TaskQueryMapper.queryTaskSummaries")
+                .getSqlSource();
+    long hitCount = sqlSource.getHitCount();
+
+    List<TaskSummary> results2 =
+        taskService.createTaskQuery().creatorIn("creator_user_id2").list();
+    List<TaskSummary> results3 =
+        taskService.createTaskQuery().creatorIn("creator_user_id3").list();
+
+    assertEquals(hitCount + 1, sqlSource.getHitCount());
+    assertEquals(4, results2.size() + results3.size());
+    assertTrue(results2.stream().allMatch(t -> "creator_user_id2".equals(t.getCreator())));
+    assertTrue(results3.stream().allMatch(t -> "creator_user_id3".equals(t.getCreator())));
+  }
+
   @WithAccessId(userName = "admin")
   @Test
   void testQueryForCreatorLike() {
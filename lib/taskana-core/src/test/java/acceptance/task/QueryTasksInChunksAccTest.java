@@ -0,0 +1,96 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for reading the result of a task query in chunks. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksInChunksAccTest extends AbstractAccTest {
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ReturnSameTasksAsList_When_ResultIsReadInChunks() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected = createQuery(taskService).list();
+    List<Integer> chunkSizes = new ArrayList<>();
+    List<TaskSummary> result = new ArrayList<>();
+    Consumer<List<TaskSummary>> chunkConsumer =
+        chunk -> {
+          chunkSizes.add(chunk.size());
+          result.addAll(chunk);
+        };
+
+    createQuery(taskService).forEachChunk(7, chunkConsumer);
+
+    assertThat(expected).hasSizeGreaterThan(7);
+    assertThat(chunkSizes).allMatch(size -> size <= 7);
+    assertThat(chunkSizes.subList(0, chunkSizes.size() - 1)).allMatch(size -> size == 7);
+    assertThat(result.stream().map(TaskSummary::getId).collect(Collectors.toList()))
+        .containsExactlyElementsOf(
+            expected.stream().map(TaskSummary::getId).collect(Collectors.toList()));
+    assertThat(result)
+        .allMatch(task -> task.getClassificationSummary().getName() != null)
+        .allMatch(task -> task.getWorkbasketSummary().getName() != null);
+  }
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_UseConfiguredFetchSize_When_NoChunkSizeIsGiven() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<List<TaskSummary>> chunks = new ArrayList<>();
+
+    createQuery(taskService).forEachChunk(chunks::add);
+
+    assertThat(chunks).hasSize(1);
+    assertThat(chunks.get(0)).hasSize((int) createQuery(taskService).count());
+  }
+
+  @WithAccessId(userName = "user_1_1")
+  @Test
+  void should_NotCallConsumer_When_QueryHasNoResult() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<List<TaskSummary>> chunks = new ArrayList<>();
+
+    taskService.createTaskQuery().idIn("TKI:doesNotExist").forEachChunk(5, chunks::add);
+
+    assertThat(chunks).isEmpty();
+  }
+
+  @WithAccessId(userName = "user_1_1")
+  @Test
+  void should_ThrowException_When_ChunkSizeIsNotPositive() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<List<TaskSummary>> chunks = new ArrayList<>();
+
+    ThrowingCallable call = () -> taskService.createTaskQuery().forEachChunk(0, chunks::add);
+    assertThatThrownBy(call).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private TaskQuery createQuery(TaskService taskService) {
+    return taskService
+        .createTaskQuery()
+        .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+        .orderByTaskId(SortDirection.ASCENDING);
+  }
+}
@@ -0,0 +1,137 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for all "query tasks with keyset pagination" scenarios. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithKeysetPaginationAccTest extends AbstractAccTest {
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ReturnAllTasksInOrder_When_PagingWithContinuationTokenByTaskId() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery query =
+        taskService
+            .createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .orderByTaskId(SortDirection.DESCENDING);
+
+    List<String> expectedIds = getIds(query.list());
+    List<String> pagedIds = readAllPages(query, 4);
+
+    assertThat(expectedIds).hasSizeGreaterThan(4);
+    assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+  }
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ReturnAllTasksInOrder_When_PagingWithContinuationTokenByPriority() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery query =
+        taskService
+            .createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .orderByPriority(SortDirection.ASCENDING)
+            .orderByTaskId(SortDirection.ASCENDING);
+
+    List<String> expectedIds = getIds(query.list());
+    List<String> pagedIds = readAllPages(query, 3);
+
+    assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+  }
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ReturnAllTasksInOrder_When_PagingWithContinuationTokenByDue() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<String> expectedIds =
+        getIds(
+            taskService
+                .createTaskQuery()
+                .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+                .orderByDue(SortDirection.DESCENDING)
+                .orderByTaskId(SortDirection.DESCENDING)
+                .list());
+    TaskQuery query =
+        taskService
+            .createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .orderByDue(SortDirection.DESCENDING);
+
+    List<String> pagedIds = readAllPages(query, 5);
+
+    assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+  }
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ThrowException_When_SortOrderIsNotSupported() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery query = taskService.createTaskQuery().orderByName(SortDirection.ASCENDING);
+
+    ThrowingCallable call = () -> query.listAfter(null, 10);
+    assertThatThrownBy(call).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_ThrowException_When_ContinuationTokenDoesNotMatchSortOrder() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery queryByDue = taskService.createTaskQuery().orderByDue(SortDirection.ASCENDING);
+    TaskSummary lastTask = queryByDue.listAfter(null, 1).get(0);
+    String token = queryByDue.getContinuationToken(lastTask);
+    TaskQuery queryById = taskService.createTaskQuery().orderByTaskId(SortDirection.ASCENDING);
+
+    ThrowingCallable call = () -> queryById.listAfter(token, 10);
+    assertThatThrownBy(call).isInstanceOf(IllegalArgumentException.class);
+
+    call = () -> queryById.listAfter("invalid token", 10);
+    assertThatThrownBy(call).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<String> readAllPages(TaskQuery query, int pageSize) {
+    List<String> ids = new ArrayList<>();
+    String continuationToken = null;
+    List<TaskSummary> page;
+    do {
+      page = query.listAfter(continuationToken, pageSize);
+      assertThat(page).hasSizeLessThanOrEqualTo(pageSize);
+      ids.addAll(getIds(page));
+      if (!page.isEmpty()) {
+        continuationToken = query.getContinuationToken(page.get(page.size() - 1));
+      }
+    } while (page.size() == pageSize);
+    return ids;
+  }
+
+  private List<String> getIds(List<TaskSummary> tasks) {
+    return tasks.stream().map(TaskSummary::getId).collect(Collectors.toList());
+  }
+}
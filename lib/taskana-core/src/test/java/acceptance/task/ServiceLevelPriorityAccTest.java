@@ -36,7 +36,6 @@ public class ServiceLevelPriorityAccTest extends AbstractAccTest {
 
   ServiceLevelPriorityAccTest() {
     super();
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(true);
     taskService = taskanaEngine.getTaskService();
   }
 
@@ -286,7 +285,7 @@ public class ServiceLevelPriorityAccTest extends AbstractAccTest {
         taskService.setPlannedPropertyOfTasks(planned, Arrays.asList(taskId));
     Task task = taskService.getTask(taskId);
     assertThat(results.containsErrors()).isFalse();
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize();
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long days = converter.convertWorkingDaysToDays(task.getPlanned(), 1);
     assertThat(task.getDue()).isEqualTo(planned.plus(Duration.ofDays(days)));
   }
@@ -300,7 +299,7 @@ public class ServiceLevelPriorityAccTest extends AbstractAccTest {
           ConcurrencyException, InvalidStateException, ClassificationNotFoundException,
           AttachmentPersistenceException {
     String taskId = "TKI:000000000000000000000000000000000002";
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize();
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     Task task = taskService.getTask(taskId);
     // test update of planned date via updateTask()
     task.setPlanned(task.getPlanned().plus(Duration.ofDays(3)));
@@ -339,7 +338,7 @@ public class ServiceLevelPriorityAccTest extends AbstractAccTest {
     Instant planned = getInstant("2020-05-03T07:00:00");
     Task task = taskService.getTask(taskId);
     task.setDue(planned.plus(Duration.ofDays(3)));
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize();
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long days = converter.convertWorkingDaysToDays(task.getDue(), -1);
     task.setPlanned(task.getDue().plus(Duration.ofDays(-1)));
     task = taskService.updateTask(task);
@@ -361,7 +360,7 @@ public class ServiceLevelPriorityAccTest extends AbstractAccTest {
     task.setDue(planned.plus(Duration.ofDays(3)));
     task.setPlanned(null);
     task = taskService.updateTask(task);
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize();
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long days = converter.convertWorkingDaysToDays(task.getDue(), -1);
     assertThat(task.getPlanned()).isEqualTo(task.getDue().plus(Duration.ofDays(days)));
   }
@@ -380,7 +379,7 @@ public class ServiceLevelPriorityAccTest extends AbstractAccTest {
 
     task.setPlanned(null);
     task = taskService.updateTask(task);
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize();
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long days = converter.convertWorkingDaysToDays(task.getPlanned(), 1);
     assertThat(task.getDue()).isEqualTo(task.getPlanned().plus(Duration.ofDays(days)));
 
@@ -393,4 +393,29 @@ class TransferTaskAccTest extends AbstractAccTest {
     assertFalse(transferredTask.getModified().isBefore(before));
     assertThat(transferredTask.getOwner(), equalTo(null));
   }
+
+  @WithAccessId(
+      userName = "admin",
+      groupNames = {"group_1"})
+  @Test
+  void should_TransferTasksOfSeveralSourceWorkbaskets_When_TaskIdsContainDuplicates()
+      throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<String> taskIdList =
+        Arrays.asList(
+            "TKI:000000000000000000000000000000000000",
+            "TKI:000000000000000000000000000000000007",
+            "TKI:000000000000000000000000000000000000");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.transferTasks("WBI:100000000000000000000000000000000007", taskIdList);
+
+    assertFalse(results.containsErrors());
+    for (String taskId : taskIdList) {
+      Task transferredTask = taskService.getTask(taskId);
+      assertTrue(transferredTask.isTransferred());
+      assertEquals("USER_1_2", transferredTask.getWorkbasketKey());
+      assertEquals(TaskState.READY, transferredTask.getState());
+    }
+  }
 }
@@ -345,4 +345,35 @@ class UpdateTaskAccTest extends AbstractAccTest {
 
     assertThat(retrievedUpdatedTask.getCallbackInfo()).isEqualTo(callbackInfo);
   }
+
+  @WithAccessId(
+      userName = "user_1_1",
+      groupNames = {"group_1"})
+  @Test
+  void should_KeepLargeCustomAttributes_When_TaskIsUpdatedWithoutChangingThem() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    Map<String, String> customAttributes = new HashMap<>();
+    for (int i = 0; i < 500; i++) {
+      customAttributes.put("attribute_" + i, "Value of attribute " + i + " with some padding");
+    }
+    Task newTask = taskService.newTask("USER_1_1", "DOMAIN_A");
+    newTask.setClassificationKey("T2100");
+    newTask.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    newTask.setCustomAttributes(customAttributes);
+    Task createdTask = taskService.createTask(newTask);
+
+    Task retrievedTask = taskService.getTask(createdTask.getId());
+    retrievedTask.setNote("changed note");
+    taskService.updateTask(retrievedTask);
+    Task updatedTask = taskService.getTask(createdTask.getId());
+    assertThat(updatedTask.getNote()).isEqualTo("changed note");
+    assertThat(updatedTask.getCustomAttributes()).isEqualTo(customAttributes);
+
+    updatedTask.getCustomAttributes().put("attribute_500", "new value");
+    taskService.updateTask(updatedTask);
+    assertThat(taskService.getTask(createdTask.getId()).getCustomAttributes())
+        .hasSize(501)
+        .containsEntry("attribute_500", "new value");
+  }
 }
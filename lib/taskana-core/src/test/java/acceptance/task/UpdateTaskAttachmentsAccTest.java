@@ -10,7 +10,6 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import acceptance.AbstractAccTest;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
@@ -172,7 +171,7 @@ class UpdateTaskAttachmentsAccTest extends AbstractAccTest {
     assertThat(task.getAttachments().get(0).getChannel(), equalTo(newChannel));
     assertEquals(999, task.getPriority());
 
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long calendarDays = converter.convertWorkingDaysToDays(task.getDue(), 1);
     assertEquals(task.getDue(), task.getPlanned().plus(Duration.ofDays(calendarDays)));
   }
@@ -330,7 +329,7 @@ class UpdateTaskAttachmentsAccTest extends AbstractAccTest {
     assertThat(task.getAttachments().size(), equalTo(attachmentCount));
     assertThat(task.getAttachments().get(0).getChannel(), equalTo(newChannel));
     assertEquals(999, task.getPriority());
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long calendarDays = converter.convertWorkingDaysToDays(task.getDue(), 1);
 
     assertEquals(task.getDue(), task.getPlanned().plus(Duration.ofDays(calendarDays)));
@@ -365,7 +364,7 @@ class UpdateTaskAttachmentsAccTest extends AbstractAccTest {
     task = taskService.updateTask(task);
     task = taskService.getTask(task.getId());
     assertEquals(101, task.getPriority());
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long calendarDays = converter.convertWorkingDaysToDays(task.getDue(), 1);
 
     assertEquals(task.getDue(), task.getPlanned().plus(Duration.ofDays(calendarDays)));
@@ -561,7 +560,7 @@ class UpdateTaskAttachmentsAccTest extends AbstractAccTest {
 
     assertEquals(99, readTask.getPriority());
 
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(Instant.now());
+    WorkingDaysToDaysConverter converter = createWorkingDaysToDaysConverter();
     long calendarDays = converter.convertWorkingDaysToDays(readTask.getPlanned(), 1);
 
     assertEquals(readTask.getDue(), readTask.getPlanned().plus(Duration.ofDays(calendarDays)));
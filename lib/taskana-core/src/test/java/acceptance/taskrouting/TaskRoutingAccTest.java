@@ -7,15 +7,19 @@ import acceptance.AbstractAccTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
 import pro.taskana.security.JaasExtension;
 import pro.taskana.security.WithAccessId;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.internal.TaskRoutingManager;
 import pro.taskana.task.internal.models.TaskImpl;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 
@@ -101,6 +105,35 @@ class TaskRoutingAccTest extends AbstractAccTest {
         .isInstanceOf(InvalidArgumentException.class);
   }
 
+  @WithAccessId(
+      userName = "admin",
+      groupNames = {"group_1"})
+  @Test
+  void should_KeepTaskRoutingManagerPerEngine_When_SeveralEnginesAreBuilt() throws Exception {
+    TaskanaEngineConfiguration otherConfiguration =
+        new TaskanaEngineConfiguration(
+            taskanaEngineConfiguration.getDatasource(),
+            false,
+            taskanaEngineConfiguration.getSchemaName());
+    otherConfiguration.setRoutingCacheEnabled(true);
+    TaskanaEngine otherEngine = otherConfiguration.buildTaskanaEngine();
+
+    TaskRoutingManager routingManager =
+        new TaskanaEngineProxyForTest(taskanaEngine).getEngine().getTaskRoutingManager();
+    TaskRoutingManager otherRoutingManager =
+        new TaskanaEngineProxyForTest(otherEngine).getEngine().getTaskRoutingManager();
+
+    assertThat(otherRoutingManager).isNotSameAs(routingManager);
+    assertThat(otherRoutingManager.isTaskRoutingEnabled()).isTrue();
+    Task newTask = otherEngine.getTaskService().newTask(null, "DOMAIN_A");
+    newTask.setClassificationKey("L12010");
+    newTask.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    Task createdTask = otherEngine.getTaskService().createTask(newTask);
+    assertThat(createdTask.getWorkbasketSummary().getId())
+        .isEqualTo("WBI:100000000000000000000000000000000001");
+  }
+
   private TaskImpl createTask(String domain, String classificationKey)
       throws WorkbasketNotFoundException, ClassificationNotFoundException, NotAuthorizedException,
           TaskAlreadyExistException, InvalidArgumentException {
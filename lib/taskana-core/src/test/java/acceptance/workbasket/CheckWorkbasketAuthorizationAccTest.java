@@ -0,0 +1,134 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.security.JaasExtension;
+import pro.taskana.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/** Acceptance test for workbasket authorization checks with enabled permission cache. */
+@ExtendWith(JaasExtension.class)
+class CheckWorkbasketAuthorizationAccTest extends AbstractAccTest {
+
+  @BeforeAll
+  static void enablePermissionCache() {
+    taskanaEngineConfiguration.setWorkbasketPermissionCacheEnabled(true);
+    taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+    taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @WithAccessId(userName = "user_1_1")
+  @Test
+  void should_NotThrow_When_UserHasPermissionsOnAllWorkbaskets() {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    List<String> workbasketIds =
+        Collections.singletonList("WBI:100000000000000000000000000000000006");
+
+    ThrowingCallable call =
+        () ->
+            workbasketService.checkAuthorization(
+                workbasketIds, WorkbasketPermission.READ, WorkbasketPermission.OPEN);
+    assertThatCode(call).doesNotThrowAnyException();
+  }
+
+  @WithAccessId(userName = "user_1_1")
+  @Test
+  void should_ThrowNotAuthorizedException_When_UserLacksPermissionOnOneWorkbasket() {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    List<String> workbasketIds =
+        Arrays.asList(
+            "WBI:100000000000000000000000000000000006", "WBI:100000000000000000000000000000000007");
+
+    ThrowingCallable call =
+        () -> workbasketService.checkAuthorization(workbasketIds, WorkbasketPermission.READ);
+    assertThatThrownBy(call)
+        .isInstanceOf(NotAuthorizedException.class)
+        .hasMessageContaining("WBI:100000000000000000000000000000000007");
+  }
+
+  @WithAccessId(userName = "user_1_1")
+  @Test
+  void should_ThrowWorkbasketNotFoundException_When_OneWorkbasketDoesNotExist() {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    List<String> workbasketIds =
+        Arrays.asList("WBI:100000000000000000000000000000000006", "WBI:invalid");
+
+    ThrowingCallable call =
+        () -> workbasketService.checkAuthorization(workbasketIds, WorkbasketPermission.READ);
+    assertThatThrownBy(call).isInstanceOf(WorkbasketNotFoundException.class);
+  }
+
+  @WithAccessId(userName = "admin")
+  @Test
+  void should_OnlyCheckExistence_When_UserIsAdmin() {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    List<String> existingWorkbasketIds =
+        Arrays.asList(
+            "WBI:100000000000000000000000000000000006", "WBI:100000000000000000000000000000000007");
+
+    ThrowingCallable call =
+        () ->
+            workbasketService.checkAuthorization(
+                existingWorkbasketIds, WorkbasketPermission.TRANSFER);
+    assertThatCode(call).doesNotThrowAnyException();
+
+    call =
+        () ->
+            workbasketService.checkAuthorization(
+                Collections.singletonList("WBI:invalid"), WorkbasketPermission.READ);
+    assertThatThrownBy(call).isInstanceOf(WorkbasketNotFoundException.class);
+  }
+
+  @WithAccessId(
+      userName = "teamlead_1",
+      groupNames = {"businessadmin"})
+  @Test
+  void should_RevalidatePermissions_When_AccessItemWasUpdated() throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    String workbasketId = "WBI:100000000000000000000000000000000004";
+
+    workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.READ);
+    workbasketService.checkAuthorization(
+        Collections.singletonList(workbasketId), WorkbasketPermission.READ);
+    workbasketService.checkAuthorization("TEAMLEAD_1", "DOMAIN_A", WorkbasketPermission.READ);
+
+    WorkbasketAccessItem accessItem =
+        workbasketService.getWorkbasketAccessItems(workbasketId).stream()
+            .filter(item -> "teamlead_1".equals(item.getAccessId()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("access item not found"));
+    accessItem.setPermRead(false);
+    workbasketService.updateWorkbasketAccessItem(accessItem);
+
+    ThrowingCallable call =
+        () -> workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.READ);
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+
+    call =
+        () ->
+            workbasketService.checkAuthorization(
+                Collections.singletonList(workbasketId), WorkbasketPermission.READ);
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+
+    call =
+        () ->
+            workbasketService.checkAuthorization(
+                "TEAMLEAD_1", "DOMAIN_A", WorkbasketPermission.READ);
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+}
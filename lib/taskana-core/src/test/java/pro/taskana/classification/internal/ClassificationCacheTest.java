@@ -0,0 +1,117 @@
+package pro.taskana.classification.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.classification.internal.models.ClassificationImpl;
+
+/** Unit test for {@link ClassificationCache}. */
+class ClassificationCacheTest {
+
+  @Test
+  void should_ReturnCopyOfCachedClassification_When_ItIsCachedByKeyAndDomain() {
+    ClassificationCache cache = createCache(10, Duration.ofHours(1));
+    ClassificationImpl classification = createClassification("CLI:1", "L10000", "");
+    cache.putByKeyAndDomain("L10000", "DOMAIN_A", classification);
+    classification.setName("changed");
+
+    ClassificationImpl cached = cache.getByKeyAndDomain("L10000", "DOMAIN_A");
+    cached.setName("changed again");
+
+    assertThat(cache.getByKeyAndDomain("L10000", "DOMAIN_A").getName()).isEqualTo("name");
+    assertThat(cache.getById("CLI:1").getId()).isEqualTo("CLI:1");
+    assertThat(cache.getById("CLI:1").getDomain()).isEmpty();
+    assertThat(cache.getByKeyAndDomain("L10000", "DOMAIN_B")).isNull();
+  }
+
+  @Test
+  void should_CacheMissingClassification_When_ItIsMarkedAsMissing() {
+    ClassificationCache cache = createCache(10, Duration.ofHours(1));
+    cache.putMissingByKeyAndDomain("UNKNOWN", "DOMAIN_A");
+    cache.putMissingById("CLI:UNKNOWN");
+
+    assertThat(cache.getByKeyAndDomain("UNKNOWN", "DOMAIN_A")).isNull();
+    assertThat(cache.isMissingByKeyAndDomain("UNKNOWN", "DOMAIN_A")).isTrue();
+    assertThat(cache.getById("CLI:UNKNOWN")).isNull();
+    assertThat(cache.isMissingById("CLI:UNKNOWN")).isTrue();
+    assertThat(cache.isMissingById("CLI:1")).isFalse();
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void should_EvictLeastRecentlyUsedEntry_When_MaxSizeIsExceeded() {
+    ClassificationCache cache = createCache(2, Duration.ofHours(1));
+    cache.putById("CLI:1", createClassification("CLI:1", "A", "DOMAIN_A"));
+    cache.putById("CLI:2", createClassification("CLI:2", "B", "DOMAIN_A"));
+    cache.getById("CLI:1");
+    cache.putById("CLI:3", createClassification("CLI:3", "C", "DOMAIN_A"));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getById("CLI:1")).isNotNull();
+    assertThat(cache.getById("CLI:2")).isNull();
+  }
+
+  @Test
+  void should_NotReturnExpiredEntry_When_TimeToLiveIsExceeded() {
+    ClassificationCache cache = createCache(10, Duration.ofNanos(1));
+    cache.putById("CLI:1", createClassification("CLI:1", "A", "DOMAIN_A"));
+
+    assertThat(cache.getById("CLI:1")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void should_InvalidateCache_When_VersionStampChanges() {
+    ClassificationCache cache =
+        new ClassificationCache(true, 10, Duration.ofHours(1), Duration.ofNanos(1));
+    AtomicInteger checks = new AtomicInteger();
+    cache.validate(() -> "1|" + checks.incrementAndGet());
+    cache.putById("CLI:1", createClassification("CLI:1", "A", "DOMAIN_A"));
+
+    cache.validate(() -> "1|" + checks.incrementAndGet());
+
+    assertThat(checks).hasValue(2);
+    assertThat(cache.getById("CLI:1")).isNull();
+  }
+
+  @Test
+  void should_ReadVersionStampOncePerInterval_When_CacheIsValidatedRepeatedly() {
+    ClassificationCache cache =
+        new ClassificationCache(true, 10, Duration.ofHours(1), Duration.ofHours(1));
+    AtomicInteger checks = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      cache.validate(() -> "stamp" + checks.incrementAndGet());
+    }
+
+    assertThat(checks).hasValue(1);
+  }
+
+  @Test
+  void should_NeitherCacheNorValidate_When_CacheIsDisabled() {
+    ClassificationCache cache = ClassificationCache.disabled();
+    AtomicInteger checks = new AtomicInteger();
+    cache.putById("CLI:1", createClassification("CLI:1", "A", "DOMAIN_A"));
+    cache.validate(() -> "stamp" + checks.incrementAndGet());
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.getById("CLI:1")).isNull();
+    assertThat(checks).hasValue(0);
+  }
+
+  private ClassificationCache createCache(int maxSize, Duration timeToLive) {
+    return new ClassificationCache(true, maxSize, timeToLive, Duration.ZERO);
+  }
+
+  private ClassificationImpl createClassification(String id, String key, String domain) {
+    ClassificationImpl classification = new ClassificationImpl();
+    classification.setId(id);
+    classification.setKey(key);
+    classification.setDomain(domain);
+    classification.setName("name");
+    return classification;
+  }
+}
@@ -2,12 +2,17 @@ package pro.taskana.classification.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -32,10 +37,12 @@ class ClassificationServiceImplTest {
   @Mock private TaskanaEngine taskanaEngineMock;
   @Mock private InternalTaskanaEngine internalTaskanaEngineMock;
   @Mock private ClassificationQueryImpl classificationQueryImplMock;
+  @Mock private ClassificationCache classificationCacheMock;
 
   @Test
   void testCreateClassificationQuery() {
     cutSpy.createClassificationQuery();
+    verify(internalTaskanaEngineMock).getIdGenerationStrategy();
     verifyNoMoreInteractions(
         classificationMapperMock,
         internalTaskanaEngineMock,
@@ -59,6 +66,24 @@ class ClassificationServiceImplTest {
         invalidArgumentException.getMessage(), "ClassificationId should be null on creation");
   }
 
+  @Test
+  void should_InvalidateClassificationCacheAgain_When_DeletionIsCommitted() throws Exception {
+    when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
+    when(classificationMapperMock.findById("CLI:1"))
+        .thenReturn((ClassificationImpl) createDummyClassification("CLI:1"));
+    doReturn(classificationQueryImplMock).when(cutSpy).createClassificationQuery();
+    when(classificationQueryImplMock.parentIdIn("CLI:1")).thenReturn(classificationQueryImplMock);
+    when(classificationQueryImplMock.list()).thenReturn(Collections.emptyList());
+    ArgumentCaptor<Runnable> afterCommitAction = ArgumentCaptor.forClass(Runnable.class);
+
+    cutSpy.deleteClassification("CLI:1");
+
+    verify(classificationCacheMock, times(1)).invalidateAll();
+    verify(internalTaskanaEngineMock).executeAfterCommit(afterCommitAction.capture());
+    afterCommitAction.getValue().run();
+    verify(classificationCacheMock, times(2)).invalidateAll();
+  }
+
   private Classification createDummyClassification() {
     return this.createDummyClassification("ID: 1");
   }
@@ -0,0 +1,76 @@
+package pro.taskana.common.internal.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit test for {@link MapTypeHandler} and {@link LazyJsonMap}. */
+@ExtendWith(MockitoExtension.class)
+class MapTypeHandlerTest {
+
+  private static final String JSON = "{\"key1\":\"value1\", \"key2\":\"value2\"}";
+
+  private final MapTypeHandler mapTypeHandler = new MapTypeHandler();
+
+  @Mock private ResultSet resultSetMock;
+  @Mock private PreparedStatement preparedStatementMock;
+
+  @Test
+  void should_ParseJsonOnFirstAccess_When_MapIsRead() throws Exception {
+    when(resultSetMock.getString("CUSTOM_ATTRIBUTES")).thenReturn(JSON);
+
+    Map<String, Object> map = mapTypeHandler.getNullableResult(resultSetMock, "CUSTOM_ATTRIBUTES");
+
+    assertThat(map).isInstanceOf(LazyJsonMap.class);
+    assertThat(((LazyJsonMap) map).isParsed()).isFalse();
+    assertThat(map.get("key1")).isEqualTo("value1");
+    assertThat(map).hasSize(2);
+    assertThat(((LazyJsonMap) map).isParsed()).isTrue();
+  }
+
+  @Test
+  void should_WriteOriginalJson_When_MapIsUnchanged() throws Exception {
+    LazyJsonMap map = new LazyJsonMap(JSON);
+    map.get("key1");
+
+    mapTypeHandler.setNonNullParameter(preparedStatementMock, 1, map, null);
+
+    verify(preparedStatementMock).setString(1, JSON);
+  }
+
+  @Test
+  void should_SerializeMap_When_MapWasModified() throws Exception {
+    LazyJsonMap map = new LazyJsonMap(JSON);
+    map.put("key3", "value3");
+
+    mapTypeHandler.setNonNullParameter(preparedStatementMock, 1, map, null);
+
+    ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+    verify(preparedStatementMock).setString(eq(1), json.capture());
+    assertThat(json.getValue()).isNotEqualTo(JSON).contains("\"key3\":\"value3\"");
+    assertThat(new LazyJsonMap(json.getValue())).hasSize(3);
+  }
+
+  @Test
+  void should_TreatMapAsModified_When_ViewIsRequested() throws Exception {
+    LazyJsonMap map = new LazyJsonMap(JSON);
+    map.entrySet().removeIf(entry -> entry.getKey().equals("key1"));
+
+    mapTypeHandler.setNonNullParameter(preparedStatementMock, 1, map, null);
+
+    assertThat(map.getUnmodifiedJson()).isNull();
+    verify(preparedStatementMock).setString(eq(1), anyString());
+    assertThat(map).containsOnlyKeys("key2");
+  }
+}
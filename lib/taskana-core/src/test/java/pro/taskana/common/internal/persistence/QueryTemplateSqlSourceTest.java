@@ -0,0 +1,216 @@
+package pro.taskana.common.internal.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.TimeInterval;
+
+/** Unit test for {@link QueryTemplateSqlSource}. */
+class QueryTemplateSqlSourceTest {
+
+  private static final String SCRIPT =
+      "<script>SELECT ID FROM TASK <where>"
+          + "<if test='nameIn != null'>AND NAME IN(<foreach item='item' collection='nameIn' "
+          + "separator=',' >#{item}</foreach>)</if> "
+          + "<if test='ownerIn != null'>AND OWNER IN(<foreach item='item' collection='ownerIn' "
+          + "separator=',' >#{item}</foreach>)</if> "
+          + "<if test='priority != null'>AND PRIORITY IN(<foreach item='item' "
+          + "collection='priority' separator=',' >#{item}</foreach>)</if> "
+          + "<if test='isRead != null'>AND IS_READ = #{isRead}</if> "
+          + "<if test='createdIn != null'>AND (<foreach item='item' collection='createdIn' "
+          + "separator=' OR '>(<if test='item.begin != null'>CREATED &gt;= #{item.begin} </if>"
+          + "<if test='item.begin != null and item.end != null'>AND </if>"
+          + "<if test='item.end != null'>CREATED &lt;= #{item.end}</if>)</foreach>)</if> "
+          + "</where>"
+          + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' "
+          + "separator=','>${item}</foreach></if> "
+          + "<if test='limit != null'>FETCH FIRST ${limit} ROWS ONLY</if>"
+          + "</script>";
+
+  private static final String COMPARING_SCRIPT =
+      "<script>SELECT ID FROM TASK <where>"
+          + "<if test=\"state != null and state == 'READY'\">AND STATE = #{state}</if> "
+          + "<if test='createdIn != null'>AND (<foreach item='interval' collection='createdIn' "
+          + "separator=' OR '><choose><when test='interval.begin == interval.end'>"
+          + "CREATED = #{interval.begin}</when><otherwise>CREATED &lt;= #{interval.end}"
+          + "</otherwise></choose></foreach>)</if> "
+          + "</where></script>";
+
+  private Configuration configuration;
+  private QueryTemplateSqlSource sqlSource;
+
+  @BeforeEach
+  void setup() {
+    configuration = new Configuration();
+    SqlSource source =
+        new QueryTemplateLanguageDriver().createSqlSource(configuration, SCRIPT, Query.class);
+    assertThat(source).isInstanceOf(QueryTemplateSqlSource.class);
+    sqlSource = (QueryTemplateSqlSource) source;
+  }
+
+  @Test
+  void should_ReuseRenderedSql_When_OnlyValuesDiffer() {
+    Query first = new Query();
+    first.nameIn = new String[] {"a", "b"};
+    first.priority = new int[] {1, 2};
+    first.isRead = true;
+    first.createdIn = new TimeInterval[] {new TimeInterval(Instant.EPOCH, null)};
+    first.orderBy.add("NAME ASC");
+    Query second = new Query();
+    second.nameIn = new String[] {"c", "d"};
+    second.priority = new int[] {300, 400};
+    second.isRead = true;
+    second.createdIn = new TimeInterval[] {new TimeInterval(Instant.now(), null)};
+    second.orderBy.add("NAME ASC");
+
+    BoundSql firstSql = sqlSource.getBoundSql(first);
+    BoundSql secondSql = sqlSource.getBoundSql(second);
+
+    assertThat(sqlSource.getHitCount()).isEqualTo(1);
+    assertThat(secondSql.getSql()).isEqualTo(firstSql.getSql());
+    assertThat(getValues(firstSql)).containsExactly("a", "b", 1, 2, true, Instant.EPOCH);
+    assertThat(getValues(secondSql))
+        .containsExactly("c", "d", 300, 400, true, second.createdIn[0].getBegin());
+  }
+
+  @Test
+  void should_RenderSqlAgain_When_ShapeDiffers() {
+    Query query = new Query();
+    query.nameIn = new String[] {"a"};
+    sqlSource.getBoundSql(query);
+    query.nameIn = new String[] {"a", "b"};
+    sqlSource.getBoundSql(query);
+    query.createdIn = new TimeInterval[] {new TimeInterval(null, Instant.EPOCH)};
+    sqlSource.getBoundSql(query);
+    query.createdIn = new TimeInterval[] {new TimeInterval(Instant.EPOCH, Instant.EPOCH)};
+    sqlSource.getBoundSql(query);
+    query.orderBy.add("NAME DESC");
+    sqlSource.getBoundSql(query);
+    query.limit = 10;
+    sqlSource.getBoundSql(query);
+    query.limit = 20;
+    BoundSql boundSql = sqlSource.getBoundSql(query);
+
+    assertThat(sqlSource.getHitCount()).isZero();
+    assertThat(sqlSource.getTemplateCount()).isEqualTo(7);
+    assertThat(boundSql.getSql())
+        .contains("NAME DESC")
+        .endsWith("FETCH FIRST 20 ROWS ONLY");
+  }
+
+  @Test
+  void should_NotCacheShape_When_ItemCanNotBeLocatedUnambiguously() {
+    String sameInstance = "user_1_1";
+    Query query = new Query();
+    query.nameIn = new String[] {sameInstance};
+    query.ownerIn = new String[] {sameInstance};
+
+    sqlSource.getBoundSql(query);
+    BoundSql boundSql = sqlSource.getBoundSql(query);
+
+    assertThat(sqlSource.getTemplateCount()).isZero();
+    assertThat(sqlSource.getMissCount()).isEqualTo(2);
+    assertThat(getValues(boundSql)).containsExactly(sameInstance, sameInstance);
+  }
+
+  @Test
+  void should_RenderSqlAgain_When_ValueComparedInTestDiffers() {
+    Query ready = new Query();
+    ready.state = "READY";
+    ready.createdIn = new TimeInterval[] {new TimeInterval(Instant.EPOCH, Instant.EPOCH)};
+    Query claimed = new Query();
+    claimed.state = "CLAIMED";
+    claimed.createdIn = new TimeInterval[] {new TimeInterval(Instant.EPOCH, Instant.now())};
+    QueryTemplateSqlSource source =
+        (QueryTemplateSqlSource)
+            new QueryTemplateLanguageDriver()
+                .createSqlSource(configuration, COMPARING_SCRIPT, Query.class);
+
+    BoundSql readySql = source.getBoundSql(ready);
+    BoundSql claimedSql = source.getBoundSql(claimed);
+
+    assertThat(source.getHitCount()).isZero();
+    assertThat(readySql.getSql()).contains("STATE =").contains("CREATED =");
+    assertThat(claimedSql.getSql()).doesNotContain("STATE =").contains("CREATED <=");
+  }
+
+  @Test
+  void should_ExtractLiteralProperties_When_ScriptIsParsed() {
+    assertThat(QueryTemplateLanguageDriver.getLiteralProperties(SCRIPT))
+        .containsExactlyInAnyOrder("item", "limit");
+  }
+
+  @Test
+  void should_ExtractComparedProperties_When_ScriptIsParsed() {
+    assertThat(QueryTemplateLanguageDriver.getComparedProperties(configuration, SCRIPT))
+        .containsExactly("orderBy");
+  }
+
+  private List<Object> getValues(BoundSql boundSql) {
+    MetaObject metaObject = configuration.newMetaObject(boundSql.getParameterObject());
+    List<Object> values = new ArrayList<>();
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      String property = parameterMapping.getProperty();
+      values.add(
+          boundSql.hasAdditionalParameter(property)
+              ? boundSql.getAdditionalParameter(property)
+              : metaObject.getValue(property));
+    }
+    return values;
+  }
+
+  /** A query object like the ones used by the query implementations. */
+  static class Query {
+
+    private String[] nameIn;
+    private String[] ownerIn;
+    private int[] priority;
+    private Boolean isRead;
+    private TimeInterval[] createdIn;
+    private List<String> orderBy = new ArrayList<>();
+    private Integer limit;
+    private String state;
+
+    public String[] getNameIn() {
+      return nameIn;
+    }
+
+    public String[] getOwnerIn() {
+      return ownerIn;
+    }
+
+    public int[] getPriority() {
+      return priority;
+    }
+
+    public Boolean getIsRead() {
+      return isRead;
+    }
+
+    public TimeInterval[] getCreatedIn() {
+      return createdIn;
+    }
+
+    public List<String> getOrderBy() {
+      return orderBy;
+    }
+
+    public Integer getLimit() {
+      return limit;
+    }
+
+    public String getState() {
+      return state;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package pro.taskana.common.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.IdGenerationStrategy;
+
+/** Test for the IdGenerator. */
+class IdGeneratorTest {
+
+  @Test
+  void should_CreateIdWithPrefixAndLength40_When_StrategyIsRandom() {
+    String id = IdGenerator.generateWithPrefix("TKI");
+
+    assertThat(id).hasSize(40).startsWith("TKI:");
+    assertThat(UUID.fromString(id.substring(4)).version()).isEqualTo(4);
+  }
+
+  @Test
+  void should_CreateIdWithPrefixAndLength40_When_StrategyIsTimeOrdered() {
+    String id = IdGenerator.generateWithPrefix("TKI", IdGenerationStrategy.TIME_ORDERED);
+
+    assertThat(id).hasSize(40).startsWith("TKI:");
+    UUID uuid = UUID.fromString(id.substring(4));
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+
+  @Test
+  void should_CreateAscendingIds_When_StrategyIsTimeOrdered() {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      ids.add(IdGenerator.generateWithPrefix("TKI", IdGenerationStrategy.TIME_ORDERED));
+    }
+
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+  }
+
+  @Test
+  void should_CreateUniqueIds_When_TimeOrderedIdsAreCreatedConcurrently() throws Exception {
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    Runnable createIds =
+        () -> {
+          for (int i = 0; i < 5000; i++) {
+            ids.add(IdGenerator.generateWithPrefix("TKI", IdGenerationStrategy.TIME_ORDERED));
+          }
+        };
+    for (int i = 0; i < 4; i++) {
+      executor.execute(createIds);
+    }
+    executor.shutdown();
+
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(ids).hasSize(20000);
+  }
+}
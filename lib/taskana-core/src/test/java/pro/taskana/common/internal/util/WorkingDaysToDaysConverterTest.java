@@ -2,10 +2,11 @@ package pro.taskana.common.internal.util;
 
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static pro.taskana.common.internal.util.WorkingDaysToDaysConverter.getEasterSunday;
+import static pro.taskana.common.internal.util.WorkingDaysCalendar.getEasterSunday;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
@@ -17,18 +18,20 @@ import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 /** Test for the WorkingDaysToDaysConverter. */
 class WorkingDaysToDaysConverterTest {
 
+  private static WorkingDaysCalendar calendar;
+
   @BeforeAll
   static void setup() {
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(true);
     LocalDate dayOfReformation = LocalDate.of(2018, 10, 31);
     LocalDate allSaintsDays = LocalDate.of(2018, 11, 1);
-    WorkingDaysToDaysConverter.setCustomHolidays(Arrays.asList(dayOfReformation, allSaintsDays));
+    calendar = WorkingDaysCalendar.of(true, Arrays.asList(dayOfReformation, allSaintsDays));
   }
 
   @Test
   void testConvertWorkingDaysToDaysForTasks() throws InvalidArgumentException {
     Instant thursday0201 = Instant.parse("2018-02-01T07:00:00.000Z");
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(thursday0201);
+    WorkingDaysToDaysConverter converter =
+        WorkingDaysToDaysConverter.initialize(thursday0201, calendar);
 
     long days = converter.convertWorkingDaysToDays(thursday0201, -7); // = tuesday (sat + sun)
     assertEquals(-9, days);
@@ -73,7 +76,8 @@ class WorkingDaysToDaysConverterTest {
   @Test
   void testConvertWorkingDaysToDaysForKarFreitag() throws InvalidArgumentException {
     Instant thursday0201 = Instant.parse("2018-02-01T07:00:00.000Z");
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(thursday0201);
+    WorkingDaysToDaysConverter converter =
+        WorkingDaysToDaysConverter.initialize(thursday0201, calendar);
     Instant gruenDonnerstag2018 = Instant.parse("2018-03-29T01:00:00.000Z");
     long days = converter.convertWorkingDaysToDays(gruenDonnerstag2018, 0);
     assertEquals(0, days);
@@ -87,7 +91,8 @@ class WorkingDaysToDaysConverterTest {
   void testConvertWorkingDaysToDaysForHolidays() throws InvalidArgumentException {
     List<TimeIntervalColumnHeader> reportItems = singletonList(new TimeIntervalColumnHeader(0));
     Instant thursday0201 = Instant.parse("2018-02-01T07:00:00.000Z");
-    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(thursday0201);
+    WorkingDaysToDaysConverter converter =
+        WorkingDaysToDaysConverter.initialize(thursday0201, calendar);
 
     Instant freitag0427 = Instant.parse("2018-04-27T19:00:00.000Z");
     long days = converter.convertWorkingDaysToDays(freitag0427, 0);
@@ -123,4 +128,69 @@ class WorkingDaysToDaysConverterTest {
     assertEquals(LocalDate.of(2050, 4, 10), getEasterSunday(2050));
     assertEquals(LocalDate.of(2100, 3, 28), getEasterSunday(2100));
   }
+
+  @Test
+  void testConvertWorkingDaysToDaysUsesEasterOfTheYearOfTheStartTime() throws Exception {
+    WorkingDaysToDaysConverter converter =
+        WorkingDaysToDaysConverter.initialize(
+            Instant.parse("2018-02-01T07:00:00.000Z"), WorkingDaysCalendar.of(true, null));
+
+    Instant thursdayBeforeEaster2020 = Instant.parse("2020-04-09T07:00:00.000Z");
+    long days = converter.convertWorkingDaysToDays(thursdayBeforeEaster2020, 1);
+    assertEquals(5, days); // good friday and easter monday are skipped
+    days = converter.convertWorkingDaysToDays(thursdayBeforeEaster2020, -1);
+    assertEquals(-1, days);
+  }
+
+  @Test
+  void testConvertWorkingDaysToDaysAcrossTheTurnOfTheYear() throws Exception {
+    WorkingDaysToDaysConverter converter =
+        WorkingDaysToDaysConverter.initialize(
+            Instant.parse("2018-02-01T07:00:00.000Z"), WorkingDaysCalendar.of(true, null));
+
+    Instant monday1223 = Instant.parse("2024-12-23T07:00:00.000Z");
+    long days = converter.convertWorkingDaysToDays(monday1223, 3); // christmas is skipped
+    assertEquals(7, days);
+    days = converter.convertWorkingDaysToDays(monday1223, 5); // new year is skipped
+    assertEquals(10, days);
+    days = converter.convertWorkingDaysToDays(monday1223.plus(10, ChronoUnit.DAYS), -5);
+    assertEquals(-10, days);
+  }
+
+  @Test
+  void testConvertWorkingDaysToDaysFarAwayFromTheReferenceDate() throws Exception {
+    WorkingDaysCalendar calendar = WorkingDaysCalendar.of(true, null);
+    WorkingDaysToDaysConverter converter =
+        WorkingDaysToDaysConverter.initialize(Instant.parse("2018-02-01T07:00:00.000Z"), calendar);
+
+    Instant start = Instant.parse("1990-06-01T07:00:00.000Z");
+    long days = converter.convertWorkingDaysToDays(start, 5000);
+    LocalDate startDate = LocalDate.of(1990, 6, 1);
+    assertEquals(5000, calendar.countWorkingDays(startDate, startDate.plusDays(days)));
+    assertEquals(true, calendar.isWorkingDay(startDate.plusDays(days)));
+  }
+
+  @Test
+  void testCountWorkingDays() {
+    WorkingDaysCalendar calendar =
+        WorkingDaysCalendar.of(true, singletonList(LocalDate.of(2018, 10, 31)));
+
+    // 2018-10-29 (monday) until 2018-11-05 (monday): reformation day and weekend are excluded
+    LocalDate monday1029 = LocalDate.of(2018, 10, 29);
+    LocalDate monday1105 = LocalDate.of(2018, 11, 5);
+    assertEquals(4, calendar.countWorkingDays(monday1029, monday1105));
+    assertEquals(0, calendar.countWorkingDays(monday1105, monday1105));
+  }
+
+  @Test
+  void testConvertersWithDifferentHolidaysDoNotAffectEachOther() throws Exception {
+    Instant reformationDay = Instant.parse("2018-10-31T07:00:00.000Z");
+    WorkingDaysToDaysConverter converter =
+        WorkingDaysToDaysConverter.initialize(reformationDay, calendar);
+    WorkingDaysToDaysConverter otherConverter =
+        WorkingDaysToDaysConverter.initialize(reformationDay, WorkingDaysCalendar.of(true, null));
+
+    assertEquals(false, converter.isWorkingDay(0, reformationDay));
+    assertEquals(true, otherConverter.isWorkingDay(0, reformationDay));
+  }
 }
@@ -22,11 +22,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.reports.CategoryReport;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
@@ -44,16 +44,13 @@ class CategoryReportBuilderImplTest {
 
   @Mock private TaskanaEngine taskanaEngineMock;
 
-  @Mock private TaskanaEngineConfiguration taskanaEngineConfiguration;
-
   @Mock private MonitorMapper monitorMapperMock;
 
   @BeforeEach
   void setup() {
-    when(taskanaEngineMock.getConfiguration()).thenReturn(taskanaEngineConfiguration);
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
-    when(taskanaEngineConfiguration.isGermanPublicHolidaysEnabled()).thenReturn(true);
-    when(taskanaEngineConfiguration.getCustomHolidays()).thenReturn(null);
+    when(internalTaskanaEngineMock.getWorkingDaysCalendar())
+        .thenReturn(WorkingDaysCalendar.of(true, null));
   }
 
   @Test
@@ -96,19 +93,13 @@ class CategoryReportBuilderImplTest {
             .buildReport();
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(actualResult.getRow("EXTERN").getTotalValue(), 1);
@@ -159,19 +150,13 @@ class CategoryReportBuilderImplTest {
             .buildReport();
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(actualResult.getRow("EXTERN").getTotalValue(), 1);
@@ -228,20 +213,14 @@ class CategoryReportBuilderImplTest {
             .listTaskIdsForSelectedItems(selectedItems);
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
     verify(monitorMapperMock, times(1))
         .getTaskIdsForSelectedItems(
             any(), any(), any(), any(), any(), any(), any(), any(), any(), eq(false));
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(expectedResult, actualResult);
@@ -301,19 +280,13 @@ class CategoryReportBuilderImplTest {
             .listCustomAttributeValuesForCustomAttributeName(CustomField.CUSTOM_1);
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
     verify(monitorMapperMock, times(1))
         .getCustomAttributeValuesForReport(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(expectedResult, actualResult);
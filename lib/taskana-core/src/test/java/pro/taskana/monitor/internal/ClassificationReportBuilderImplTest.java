@@ -22,11 +22,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.reports.ClassificationReport;
 import pro.taskana.monitor.api.reports.ClassificationReport.DetailedClassificationReport;
@@ -47,16 +47,13 @@ class ClassificationReportBuilderImplTest {
 
   @Mock private TaskanaEngine taskanaEngineMock;
 
-  @Mock private TaskanaEngineConfiguration taskanaEngineConfiguration;
-
   @Mock private MonitorMapper monitorMapperMock;
 
   @BeforeEach
   void setup() {
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
-    when(taskanaEngineMock.getConfiguration()).thenReturn(taskanaEngineConfiguration);
-    when(taskanaEngineConfiguration.isGermanPublicHolidaysEnabled()).thenReturn(true);
-    when(taskanaEngineConfiguration.getCustomHolidays()).thenReturn(null);
+    when(internalTaskanaEngineMock.getWorkingDaysCalendar())
+        .thenReturn(WorkingDaysCalendar.of(true, null));
   }
 
   @Test
@@ -100,18 +97,12 @@ class ClassificationReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfClassifications(any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(
@@ -165,19 +156,13 @@ class ClassificationReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
 
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfClassifications(any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(
@@ -228,18 +213,12 @@ class ClassificationReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfDetailedClassifications(any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     FoldableRow<DetailedMonitorQueryItem> line =
         actualResult.getRow("CLI:000000000000000000000000000000000001");
@@ -296,18 +275,12 @@ class ClassificationReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfDetailedClassifications(any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     FoldableRow<DetailedMonitorQueryItem> line =
         actualResult.getRow("CLI:000000000000000000000000000000000001");
@@ -370,19 +343,13 @@ class ClassificationReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskIdsForSelectedItems(
             any(), any(), any(), any(), any(), any(), any(), any(), any(), eq(false));
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(expectedResult, actualResult);
@@ -446,18 +413,12 @@ class ClassificationReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getCustomAttributeValuesForReport(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(expectedResult, actualResult);
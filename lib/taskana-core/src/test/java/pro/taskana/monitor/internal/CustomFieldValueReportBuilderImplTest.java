@@ -21,11 +21,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.reports.CustomFieldValueReport;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
@@ -43,16 +43,13 @@ class CustomFieldValueReportBuilderImplTest {
 
   @Mock private TaskanaEngine taskanaEngineMock;
 
-  @Mock private TaskanaEngineConfiguration taskanaEngineConfigurationMock;
-
   @Mock private MonitorMapper monitorMapperMock;
 
   @BeforeEach
   void setup() {
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
-    when(taskanaEngineMock.getConfiguration()).thenReturn(taskanaEngineConfigurationMock);
-    when(taskanaEngineConfigurationMock.isGermanPublicHolidaysEnabled()).thenReturn(true);
-    when(taskanaEngineConfigurationMock.getCustomHolidays()).thenReturn(null);
+    when(internalTaskanaEngineMock.getWorkingDaysCalendar())
+        .thenReturn(WorkingDaysCalendar.of(true, null));
   }
 
   @Test
@@ -97,18 +94,12 @@ class CustomFieldValueReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfigurationMock, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfigurationMock, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfCustomFieldValues(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfigurationMock);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(actualResult.getRow("Geschaeftsstelle A").getTotalValue(), 1);
@@ -161,18 +152,12 @@ class CustomFieldValueReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfigurationMock, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfigurationMock, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfCustomFieldValues(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfigurationMock);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(actualResult.getRow("Geschaeftsstelle A").getTotalValue(), 1);
@@ -225,18 +210,12 @@ class CustomFieldValueReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfigurationMock, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfigurationMock, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getCustomAttributeValuesForReport(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfigurationMock);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(expectedResult, actualResult);
@@ -162,6 +162,32 @@ class ReportTest {
     assertEquals(2 * item.getValue(), sumRow.getTotalValue());
   }
 
+  @Test
+  void testInsertItemsIntoUnsortedHeadersWithOpenEnds() {
+    // given
+    List<TimeIntervalColumnHeader> headers =
+        Arrays.asList(
+            new TimeIntervalColumnHeader(1, 5),
+            new TimeIntervalColumnHeader(Integer.MIN_VALUE, -6),
+            new TimeIntervalColumnHeader(6, Integer.MAX_VALUE),
+            new TimeIntervalColumnHeader(-5, 0));
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+
+    // when
+    for (int ageInDays : new int[] {-100, -6, -5, 0, 1, 5, 6, 100}) {
+      MonitorQueryItem item = new MonitorQueryItem();
+      item.setKey("key");
+      item.setAgeInDays(ageInDays);
+      item.setNumberOfTasks(1);
+      report.addItem(item);
+    }
+
+    // then
+    Row<MonitorQueryItem> row = report.getRow("key");
+    assertArrayEquals(new int[] {2, 2, 2, 2}, row.getCells());
+    assertEquals(8, row.getTotalValue());
+  }
+
   @Test
   void testInsertItemWithPreProcessor() {
     // given
@@ -0,0 +1,179 @@
+package pro.taskana.monitor.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.api.reports.item.TaskQueryItem;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.internal.models.TaskImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
+
+/** Unit test for the TaskCountStore. */
+@ExtendWith(MockitoExtension.class)
+class TaskCountStoreTest {
+
+  @Mock private MonitorMapper monitorMapperMock;
+
+  @Test
+  void should_MaintainCountsIncrementally_When_TasksAreChanged() {
+    when(monitorMapperMock.getTaskCounts()).thenReturn(Collections.emptyList());
+    TaskCountStore store = new TaskCountStore(true, Duration.ofHours(1), true, Runnable::run);
+    store.getTasksCountByState(monitorMapperMock, null, null);
+
+    TaskImpl task = createTask(TaskState.READY);
+    store.taskCreated(task);
+    store.taskCreated(createTask(TaskState.READY));
+    TaskCountStore.Entry before = store.entryOf(task);
+    task.setState(TaskState.CLAIMED);
+    store.taskChanged(before, task);
+
+    List<TaskQueryItem> items = store.getTasksCountByState(monitorMapperMock, null, null);
+    assertThat(items)
+        .extracting(TaskQueryItem::getState, TaskQueryItem::getValue)
+        .containsExactlyInAnyOrder(tuple(TaskState.READY, 1), tuple(TaskState.CLAIMED, 1));
+    List<MonitorQueryItem> workbasketItems =
+        store.getTaskCountOfWorkbaskets(monitorMapperMock, null, null, null, null);
+    assertThat(workbasketItems)
+        .extracting(MonitorQueryItem::getKey, MonitorQueryItem::getAgeInDays)
+        .containsExactly(tuple("WB_KEY", 0));
+    assertThat(workbasketItems.get(0).getValue()).isEqualTo(2);
+    verify(monitorMapperMock, times(1)).getTaskCounts();
+  }
+
+  @Test
+  void should_DetectDrift_When_CountsAreReconciledWithTheDatabase() {
+    TaskCountItem item = new TaskCountItem();
+    item.setWorkbasketId("WB_ID");
+    item.setWorkbasketKey("WB_KEY");
+    item.setDomain("DOMAIN_A");
+    item.setState(TaskState.READY);
+    item.setDueDay(Date.valueOf(LocalDate.now(ZoneOffset.UTC)));
+    item.setNumberOfTasks(1);
+    item.setNumberOfRows(1);
+    when(monitorMapperMock.getTaskCounts())
+        .thenReturn(Collections.emptyList())
+        .thenReturn(Collections.singletonList(item));
+    TaskCountStore store = new TaskCountStore(true, Duration.ZERO, true, Runnable::run);
+
+    store.getTasksCountByState(monitorMapperMock, null, null);
+    store.getTasksCountByState(monitorMapperMock, null, null);
+
+    assertThat(store.getReconciliationCount()).isEqualTo(1);
+    assertThat(store.getDriftCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_ApplyChangesOnlyAfterCommit_When_TransactionCommits() {
+    when(monitorMapperMock.getTaskCounts()).thenReturn(Collections.emptyList());
+    List<Runnable> afterCommitActions = new ArrayList<>();
+    TaskCountStore store =
+        new TaskCountStore(true, Duration.ofHours(1), true, afterCommitActions::add);
+    store.getTasksCountByState(monitorMapperMock, null, null);
+
+    store.taskCreated(createTask(TaskState.READY));
+
+    assertThat(store.getTasksCountByState(monitorMapperMock, null, null)).isEmpty();
+    afterCommitActions.forEach(Runnable::run);
+    assertThat(store.getTasksCountByState(monitorMapperMock, null, null))
+        .extracting(TaskQueryItem::getState, TaskQueryItem::getValue)
+        .containsExactly(tuple(TaskState.READY, 1));
+    verify(monitorMapperMock, times(1)).getTaskCounts();
+  }
+
+  @Test
+  void should_KeepCounts_When_TransactionIsRolledBack() {
+    when(monitorMapperMock.getTaskCounts()).thenReturn(Collections.emptyList());
+    List<Runnable> afterCommitActions = new ArrayList<>();
+    TaskCountStore store =
+        new TaskCountStore(true, Duration.ofHours(1), true, afterCommitActions::add);
+    store.getTasksCountByState(monitorMapperMock, null, null);
+
+    store.taskCreated(createTask(TaskState.READY));
+    afterCommitActions.clear();
+
+    assertThat(store.getTasksCountByState(monitorMapperMock, null, null)).isEmpty();
+    verify(monitorMapperMock, times(1)).getTaskCounts();
+  }
+
+  @Test
+  void should_ReloadCounts_When_CountsWereLoadedBeforeTheChangesCommitted() {
+    TaskCountItem item = new TaskCountItem();
+    item.setWorkbasketId("WB_ID");
+    item.setWorkbasketKey("WB_KEY");
+    item.setDomain("DOMAIN_A");
+    item.setState(TaskState.READY);
+    item.setDueDay(Date.valueOf(LocalDate.now(ZoneOffset.UTC)));
+    item.setNumberOfTasks(1);
+    item.setNumberOfRows(1);
+    when(monitorMapperMock.getTaskCounts()).thenReturn(Collections.singletonList(item));
+    List<Runnable> afterCommitActions = new ArrayList<>();
+    TaskCountStore store =
+        new TaskCountStore(true, Duration.ofHours(1), true, afterCommitActions::add);
+
+    store.taskCreated(createTask(TaskState.READY));
+    store.getTasksCountByState(monitorMapperMock, null, null);
+    afterCommitActions.forEach(Runnable::run);
+
+    assertThat(store.getTasksCountByState(monitorMapperMock, null, null))
+        .extracting(TaskQueryItem::getState, TaskQueryItem::getValue)
+        .containsExactly(tuple(TaskState.READY, 1));
+    verify(monitorMapperMock, times(2)).getTaskCounts();
+  }
+
+  @Test
+  void should_RemoveTaskFromItsStoredDomain_When_DomainOfTaskDiffersFromItsWorkbasket() {
+    when(monitorMapperMock.getTaskCounts()).thenReturn(Collections.emptyList());
+    TaskCountStore store = new TaskCountStore(true, Duration.ofHours(1), true, Runnable::run);
+    store.getTasksCountByState(monitorMapperMock, null, null);
+    TaskImpl task = createTask(TaskState.READY);
+    store.taskCreated(task);
+    task.setPersistedDomain("DOMAIN_A");
+    ((WorkbasketSummaryImpl) task.getWorkbasketSummary()).setDomain("DOMAIN_B");
+
+    TaskCountStore.Entry before = store.entryOf(task);
+    task.setState(TaskState.CLAIMED);
+    store.taskChanged(before, task);
+
+    assertThat(store.getTasksCountByState(monitorMapperMock, null, null))
+        .extracting(TaskQueryItem::getKey, TaskQueryItem::getState, TaskQueryItem::getValue)
+        .containsExactly(tuple("DOMAIN_B", TaskState.CLAIMED, 1));
+  }
+
+  @Test
+  void should_IgnoreChanges_When_StoreIsDisabled() {
+    TaskCountStore store = TaskCountStore.disabled();
+
+    store.taskCreated(createTask(TaskState.READY));
+
+    assertThat(store.isEnabled()).isFalse();
+    assertThat(store.entryOf(createTask(TaskState.READY))).isNull();
+  }
+
+  private static TaskImpl createTask(TaskState state) {
+    WorkbasketSummaryImpl workbasket = new WorkbasketSummaryImpl();
+    workbasket.setId("WB_ID");
+    workbasket.setKey("WB_KEY");
+    workbasket.setDomain("DOMAIN_A");
+    TaskImpl task = new TaskImpl();
+    task.setWorkbasketSummary(workbasket);
+    task.setState(state);
+    task.setDue(LocalDate.now(ZoneOffset.UTC).atTime(12, 0).toInstant(ZoneOffset.UTC));
+    return task;
+  }
+}
@@ -11,29 +11,30 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
-import pro.taskana.common.internal.util.WorkingDaysToDaysConverter;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.internal.preprocessor.WorkingDaysToDaysReportConverter;
 
 /** Test for the DaysToWorkingDaysReportConverter. */
 class WorkingDaysToDaysReportConverterTest {
 
+  private static WorkingDaysCalendar calendar;
+
   @BeforeAll
   static void setup() {
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(true);
     LocalDate dayOfReformation = LocalDate.of(2018, 10, 31);
     LocalDate allSaintsDays = LocalDate.of(2018, 11, 1);
-    WorkingDaysToDaysConverter.setCustomHolidays(Arrays.asList(dayOfReformation, allSaintsDays));
+    calendar = WorkingDaysCalendar.of(true, Arrays.asList(dayOfReformation, allSaintsDays));
   }
 
   @Test
   void should_AssertNotEqual_When_InitializingDifferentDates() throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance1 =
         WorkingDaysToDaysReportConverter.initialize(
-            getShortListOfColumnHeaders(), Instant.parse("2018-02-04T00:00:00.000Z"));
+            getShortListOfColumnHeaders(), Instant.parse("2018-02-04T00:00:00.000Z"), calendar);
     WorkingDaysToDaysReportConverter instance2 =
         WorkingDaysToDaysReportConverter.initialize(
-            getShortListOfColumnHeaders(), Instant.parse("2018-02-05T00:00:00.000Z"));
+            getShortListOfColumnHeaders(), Instant.parse("2018-02-05T00:00:00.000Z"), calendar);
 
     assertThat(instance1).isNotEqualTo(instance2);
   }
@@ -42,7 +43,7 @@ class WorkingDaysToDaysReportConverterTest {
   void should_ReturnWorkingDays_When_ConvertingDaysToWorkingDays() throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-02-06T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-02-06T00:00:00.000Z"), calendar);
 
     int oneBelowLimit = -16;
     int oneAboveLimit = 16;
@@ -71,7 +72,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-02-06T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-02-06T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertWorkingDaysToDays(-999)).containsExactlyInAnyOrder(-999);
   }
@@ -81,7 +82,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-02-06T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-02-06T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertWorkingDaysToDays(999)).containsExactlyInAnyOrder(999);
   }
@@ -91,7 +92,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-02-27T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-02-27T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertWorkingDaysToDays(-13)).containsExactlyInAnyOrder(-13);
     assertThat(instance.convertWorkingDaysToDays(-12)).containsExactlyInAnyOrder(-12);
@@ -126,7 +127,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-03-10T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-03-10T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertWorkingDaysToDays(-13)).containsExactlyInAnyOrder(-13);
     assertThat(instance.convertWorkingDaysToDays(-12)).containsExactlyInAnyOrder(-12);
@@ -161,7 +162,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-04-01T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-04-01T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertWorkingDaysToDays(-13)).containsExactlyInAnyOrder(-13);
     assertThat(instance.convertWorkingDaysToDays(-12)).containsExactlyInAnyOrder(-12);
@@ -196,7 +197,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-03-28T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-03-28T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertDaysToWorkingDays(0)).isEqualTo(0);
     assertThat(instance.convertDaysToWorkingDays(1)).isEqualTo(1);
@@ -212,7 +213,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-05-16T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-05-16T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertDaysToWorkingDays(0)).isEqualTo(0);
     assertThat(instance.convertDaysToWorkingDays(1)).isEqualTo(1);
@@ -228,7 +229,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-04-26T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-04-26T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertDaysToWorkingDays(0)).isEqualTo(0);
     assertThat(instance.convertDaysToWorkingDays(1)).isEqualTo(1);
@@ -245,7 +246,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-05-07T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-05-07T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertDaysToWorkingDays(0)).isEqualTo(0);
     assertThat(instance.convertDaysToWorkingDays(1)).isEqualTo(1);
@@ -262,7 +263,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-10-01T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-10-01T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertDaysToWorkingDays(0)).isEqualTo(0);
     assertThat(instance.convertDaysToWorkingDays(1)).isEqualTo(1);
@@ -279,7 +280,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-12-20T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-12-20T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertDaysToWorkingDays(0)).isEqualTo(0);
     assertThat(instance.convertDaysToWorkingDays(1)).isEqualTo(1);
@@ -303,7 +304,7 @@ class WorkingDaysToDaysReportConverterTest {
       throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
         WorkingDaysToDaysReportConverter.initialize(
-            getLargeListOfColumnHeaders(), Instant.parse("2018-10-26T00:00:00.000Z"));
+            getLargeListOfColumnHeaders(), Instant.parse("2018-10-26T00:00:00.000Z"), calendar);
 
     assertThat(instance.convertDaysToWorkingDays(0)).isEqualTo(0);
     assertThat(instance.convertDaysToWorkingDays(1)).isEqualTo(0);
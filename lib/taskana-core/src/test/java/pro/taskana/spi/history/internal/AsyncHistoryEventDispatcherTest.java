@@ -0,0 +1,131 @@
+package pro.taskana.spi.history.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import pro.taskana.spi.history.api.HistoryBackpressurePolicy;
+import pro.taskana.spi.history.api.TaskanaHistory;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/** Unit test for {@link AsyncHistoryEventDispatcher}. */
+@ExtendWith(MockitoExtension.class)
+class AsyncHistoryEventDispatcherTest {
+
+  @Mock private TaskanaHistory historyProviderMock;
+
+  @Test
+  void should_HandOverQueuedEventsInBatches_When_Flushed() {
+    List<Integer> batchSizes = new ArrayList<>();
+    Answer<Void> recordBatchSize =
+        invocation -> {
+          List<?> events = invocation.getArgument(0);
+          batchSizes.add(events.size());
+          return null;
+        };
+    doAnswer(recordBatchSize).when(historyProviderMock).createBatch(anyList());
+    AsyncHistoryEventDispatcher dispatcher =
+        createDispatcher(10, 2, HistoryBackpressurePolicy.BLOCK);
+
+    for (int i = 0; i < 5; i++) {
+      dispatcher.dispatch(new TaskanaHistoryEvent("user_1_1"));
+    }
+    assertThat(dispatcher.getQueueDepth()).isEqualTo(5);
+
+    dispatcher.flush();
+
+    assertThat(batchSizes).containsExactly(2, 2, 1);
+    assertThat(dispatcher.getQueueDepth()).isZero();
+    assertThat(dispatcher.getFlushedEventCount()).isEqualTo(5);
+  }
+
+  @Test
+  void should_SetCreatedTimestamp_When_EventIsDispatched() {
+    AsyncHistoryEventDispatcher dispatcher =
+        createDispatcher(10, 10, HistoryBackpressurePolicy.BLOCK);
+    TaskanaHistoryEvent event = new TaskanaHistoryEvent("user_1_1");
+
+    dispatcher.dispatch(event);
+
+    assertThat(event.getCreated()).isNotNull();
+  }
+
+  @Test
+  void should_DropEvent_When_QueueIsFullAndPolicyIsDrop() {
+    AsyncHistoryEventDispatcher dispatcher =
+        createDispatcher(1, 10, HistoryBackpressurePolicy.DROP);
+
+    dispatcher.dispatch(new TaskanaHistoryEvent("user_1_1"));
+    dispatcher.dispatch(new TaskanaHistoryEvent("user_1_1"));
+
+    assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+    assertThat(dispatcher.getDroppedEventCount()).isEqualTo(1);
+    verify(historyProviderMock, never()).createBatch(anyList());
+  }
+
+  @Test
+  void should_WriteEventOnCallingThread_When_QueueIsFullAndPolicyIsCallerRuns() {
+    AsyncHistoryEventDispatcher dispatcher =
+        createDispatcher(1, 10, HistoryBackpressurePolicy.CALLER_RUNS);
+    TaskanaHistoryEvent overflowEvent = new TaskanaHistoryEvent("user_1_1");
+
+    dispatcher.dispatch(new TaskanaHistoryEvent("user_1_1"));
+    dispatcher.dispatch(overflowEvent);
+
+    verify(historyProviderMock).createBatch(Collections.singletonList(overflowEvent));
+    assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+    assertThat(dispatcher.getDroppedEventCount()).isZero();
+  }
+
+  @Test
+  void should_HandOverEventsInBackground_When_DispatcherIsStarted() throws Exception {
+    List<TaskanaHistoryEvent> createdEvents = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(3);
+    Answer<Void> recordEvents =
+        invocation -> {
+          List<TaskanaHistoryEvent> events = invocation.getArgument(0);
+          createdEvents.addAll(events);
+          events.forEach(event -> latch.countDown());
+          return null;
+        };
+    doAnswer(recordEvents).when(historyProviderMock).createBatch(anyList());
+    AsyncHistoryEventDispatcher dispatcher =
+        createDispatcher(10, 10, HistoryBackpressurePolicy.BLOCK);
+    dispatcher.start();
+    try {
+      for (int i = 0; i < 3; i++) {
+        dispatcher.dispatch(new TaskanaHistoryEvent("user_1_1"));
+      }
+
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(createdEvents).hasSize(3);
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  private AsyncHistoryEventDispatcher createDispatcher(
+      int queueCapacity, int batchSize, HistoryBackpressurePolicy backpressurePolicy) {
+    return new AsyncHistoryEventDispatcher(
+        Collections.singletonList(historyProviderMock),
+        queueCapacity,
+        batchSize,
+        Duration.ofMillis(10),
+        backpressurePolicy);
+  }
+}
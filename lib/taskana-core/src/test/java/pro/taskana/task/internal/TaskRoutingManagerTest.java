@@ -0,0 +1,153 @@
+package pro.taskana.task.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.spi.routing.api.TaskRoutingAttribute;
+import pro.taskana.spi.routing.api.TaskRoutingProvider;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/** Unit test for the TaskRoutingManager. */
+class TaskRoutingManagerTest {
+
+  private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+  @Test
+  void should_ReuseDecision_When_RoutingAttributesOfTasksAreEqual() {
+    CountingRoutingProvider provider =
+        new CountingRoutingProvider(EnumSet.of(TaskRoutingAttribute.DOMAIN));
+    TaskRoutingManager manager =
+        new TaskRoutingManager(Collections.singletonList(provider), true, 100, TIME_TO_LIVE, 1);
+
+    assertThat(manager.determineWorkbasketId(createTask("DOMAIN_A"))).isEqualTo("WB_DOMAIN_A");
+    assertThat(manager.determineWorkbasketId(createTask("DOMAIN_A"))).isEqualTo("WB_DOMAIN_A");
+    assertThat(manager.determineWorkbasketId(createTask("DOMAIN_B"))).isEqualTo("WB_DOMAIN_B");
+
+    assertThat(provider.invocations.get()).isEqualTo(2);
+    assertThat(manager.getCacheHitCount()).isEqualTo(1);
+    assertThat(manager.getCacheMissCount()).isEqualTo(2);
+    assertThat(manager.getProviderStatistics())
+        .extracting(TaskRoutingManager.ProviderStatistics::getInvocationCount)
+        .containsExactly(2L);
+  }
+
+  @Test
+  void should_AskProviderForEveryTask_When_ProviderDeclaresNoRoutingAttributes() {
+    CountingRoutingProvider provider = new CountingRoutingProvider(null);
+    TaskRoutingManager manager =
+        new TaskRoutingManager(Collections.singletonList(provider), true, 100, TIME_TO_LIVE, 1);
+
+    manager.determineWorkbasketIds(Arrays.asList(createTask("DOMAIN_A"), createTask("DOMAIN_A")));
+
+    assertThat(provider.invocations.get()).isEqualTo(2);
+    assertThat(manager.getCacheHitCount()).isZero();
+  }
+
+  @Test
+  void should_AskProviderOncePerAttributeValues_When_TasksAreRoutedInBatch() {
+    CountingRoutingProvider provider =
+        new CountingRoutingProvider(EnumSet.of(TaskRoutingAttribute.DOMAIN));
+    TaskRoutingManager manager =
+        new TaskRoutingManager(Collections.singletonList(provider), false, 0, TIME_TO_LIVE, 1);
+
+    List<String> workbasketIds =
+        manager.determineWorkbasketIds(
+            Arrays.asList(createTask("DOMAIN_A"), createTask("DOMAIN_B"), createTask("DOMAIN_A")));
+
+    assertThat(workbasketIds).containsExactly("WB_DOMAIN_A", "WB_DOMAIN_B", "WB_DOMAIN_A");
+    assertThat(provider.invocations.get()).isEqualTo(2);
+  }
+
+  @Test
+  void should_ReturnNull_When_ProvidersDetermineDifferentWorkbaskets() {
+    TaskRoutingProvider otherProvider = new FixedRoutingProvider("WB_OTHER");
+    TaskRoutingManager manager =
+        new TaskRoutingManager(
+            Arrays.asList(new CountingRoutingProvider(null), otherProvider),
+            false,
+            0,
+            TIME_TO_LIVE,
+            2);
+
+    assertThat(manager.determineWorkbasketId(createTask("DOMAIN_A"))).isNull();
+  }
+
+  @Test
+  void should_DetermineWorkbasket_When_ProvidersAreAskedConcurrently() {
+    TaskRoutingManager manager =
+        new TaskRoutingManager(
+            Arrays.asList(
+                new CountingRoutingProvider(null),
+                new FixedRoutingProvider(null),
+                new FixedRoutingProvider(null)),
+            false,
+            0,
+            TIME_TO_LIVE,
+            3);
+
+    List<String> workbasketIds =
+        manager.determineWorkbasketIds(Arrays.asList(createTask("DOMAIN_A"), createTask(null)));
+
+    assertThat(workbasketIds).containsExactly("WB_DOMAIN_A", null);
+    assertThat(manager.getProviderStatistics())
+        .extracting(TaskRoutingManager.ProviderStatistics::getInvocationCount)
+        .containsExactly(2L, 2L, 2L);
+  }
+
+  private static Task createTask(String domain) {
+    TaskImpl task = new TaskImpl();
+    task.setDomain(domain);
+    return task;
+  }
+
+  private static class CountingRoutingProvider implements TaskRoutingProvider {
+
+    private final Set<TaskRoutingAttribute> routingAttributes;
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    CountingRoutingProvider(Set<TaskRoutingAttribute> routingAttributes) {
+      this.routingAttributes = routingAttributes;
+    }
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {}
+
+    @Override
+    public String determineWorkbasketId(Task task) {
+      invocations.incrementAndGet();
+      return task.getDomain() == null ? null : "WB_" + task.getDomain();
+    }
+
+    @Override
+    public Set<TaskRoutingAttribute> getRoutingAttributes() {
+      return routingAttributes;
+    }
+  }
+
+  private static class FixedRoutingProvider implements TaskRoutingProvider {
+
+    private final String workbasketId;
+
+    FixedRoutingProvider(String workbasketId) {
+      this.workbasketId = workbasketId;
+    }
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {}
+
+    @Override
+    public String determineWorkbasketId(Task task) {
+      return workbasketId;
+    }
+  }
+}
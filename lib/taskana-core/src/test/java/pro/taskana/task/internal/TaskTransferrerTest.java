@@ -22,6 +22,7 @@ import pro.taskana.classification.internal.ClassificationServiceImpl;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.monitor.internal.TaskCountStore;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.exceptions.InvalidStateException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
@@ -69,6 +70,7 @@ class TaskTransferrerTest {
           InvalidStateException {
     doReturn(taskanaEngineMock).when(internalTaskanaEngineMock).getEngine();
     doReturn(workbasketServiceMock).when(taskanaEngineMock).getWorkbasketService();
+    doReturn(TaskCountStore.disabled()).when(internalTaskanaEngineMock).getTaskCountStore();
     cut = new TaskTransferrer(internalTaskanaEngineMock, taskMapperMock, taskServiceImplMock);
 
     final TaskTransferrer cutSpy = Mockito.spy(cut);
@@ -97,6 +99,7 @@ class TaskTransferrerTest {
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
     verify(internalTaskanaEngineMock, times(1)).getEngine();
     verify(internalTaskanaEngineMock).getHistoryEventProducer();
+    verify(internalTaskanaEngineMock).getTaskCountStore();
     verify(taskanaEngineMock).getWorkbasketService();
     verifyNoMoreInteractions(
         attachmentMapperMock,
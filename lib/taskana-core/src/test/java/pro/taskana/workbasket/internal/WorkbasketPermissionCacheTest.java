@@ -0,0 +1,94 @@
+package pro.taskana.workbasket.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.workbasket.internal.WorkbasketPermissionMask.UNKNOWN;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.workbasket.api.WorkbasketPermission;
+
+/** Unit test for {@link WorkbasketPermissionCache}. */
+class WorkbasketPermissionCacheTest {
+
+  private static final List<String> ACCESS_IDS = Arrays.asList("user_1_1", "group_1");
+  private static final int READ = WorkbasketPermissionMask.of(WorkbasketPermission.READ);
+
+  @Test
+  void should_ReturnCachedPermissions_When_AccessIdsAreGivenInDifferentOrder() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(true, 10, Duration.ofHours(1));
+    int readAndOpen =
+        WorkbasketPermissionMask.of(WorkbasketPermission.READ, WorkbasketPermission.OPEN);
+    cache.putPermissions(ACCESS_IDS, "WBI:1", readAndOpen);
+
+    assertThat(cache.getPermissions(Arrays.asList("group_1", "user_1_1"), "WBI:1"))
+        .isEqualTo(readAndOpen);
+    assertThat(cache.getPermissions(Arrays.asList("group_1"), "WBI:1")).isEqualTo(UNKNOWN);
+  }
+
+  @Test
+  void should_DistinguishIdAndKeyDomainEntries() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(true, 10, Duration.ofHours(1));
+    int append = WorkbasketPermissionMask.of(WorkbasketPermission.APPEND);
+    cache.putPermissions(ACCESS_IDS, "KEY", "DOMAIN_A", append);
+
+    assertThat(cache.getPermissions(ACCESS_IDS, "KEY")).isEqualTo(UNKNOWN);
+    assertThat(cache.getPermissions(ACCESS_IDS, "KEY", "DOMAIN_B")).isEqualTo(UNKNOWN);
+    assertThat(cache.getPermissions(ACCESS_IDS, "KEY", "DOMAIN_A")).isEqualTo(append);
+  }
+
+  @Test
+  void should_CacheMissingPermissions_When_NoPermissionIsGranted() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(true, 10, Duration.ofHours(1));
+    cache.putPermissions(ACCESS_IDS, "WBI:1", WorkbasketPermissionMask.NONE);
+
+    assertThat(cache.getPermissions(ACCESS_IDS, "WBI:1")).isEqualTo(WorkbasketPermissionMask.NONE);
+  }
+
+  @Test
+  void should_EvictLeastRecentlyUsedEntry_When_MaxSizeIsExceeded() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(true, 2, Duration.ofHours(1));
+    cache.putPermissions(ACCESS_IDS, "WBI:1", READ);
+    cache.putPermissions(ACCESS_IDS, "WBI:2", READ);
+    cache.getPermissions(ACCESS_IDS, "WBI:1");
+    cache.putPermissions(ACCESS_IDS, "WBI:3", READ);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getPermissions(ACCESS_IDS, "WBI:1")).isEqualTo(READ);
+    assertThat(cache.getPermissions(ACCESS_IDS, "WBI:2")).isEqualTo(UNKNOWN);
+    assertThat(cache.getPermissions(ACCESS_IDS, "WBI:3")).isEqualTo(READ);
+  }
+
+  @Test
+  void should_NotReturnEntry_When_TimeToLiveIsExpired() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(true, 10, Duration.ofNanos(1));
+    cache.putPermissions(ACCESS_IDS, "WBI:1", READ);
+
+    assertThat(cache.getPermissions(ACCESS_IDS, "WBI:1")).isEqualTo(UNKNOWN);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void should_RemoveAllEntries_When_CacheIsInvalidated() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(true, 10, Duration.ofHours(1));
+    cache.putPermissions(ACCESS_IDS, "WBI:1", READ);
+    cache.putPermissions(ACCESS_IDS, "KEY", "DOMAIN_A", READ);
+
+    cache.invalidateAll();
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getPermissions(ACCESS_IDS, "WBI:1")).isEqualTo(UNKNOWN);
+  }
+
+  @Test
+  void should_NeverCacheEntries_When_CacheIsDisabled() {
+    WorkbasketPermissionCache cache = WorkbasketPermissionCache.disabled();
+    cache.putPermissions(ACCESS_IDS, "WBI:1", READ);
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getPermissions(ACCESS_IDS, "WBI:1")).isEqualTo(UNKNOWN);
+  }
+}
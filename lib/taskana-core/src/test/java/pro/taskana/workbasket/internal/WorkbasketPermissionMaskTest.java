@@ -0,0 +1,46 @@
+package pro.taskana.workbasket.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.workbasket.api.WorkbasketPermission;
+
+/** Unit test for {@link WorkbasketPermissionMask}. */
+class WorkbasketPermissionMaskTest {
+
+  @Test
+  void should_ConvertMaskBackToPermissions_When_PermissionsAreCombined() {
+    int mask =
+        WorkbasketPermissionMask.of(
+            WorkbasketPermission.CUSTOM_12, WorkbasketPermission.READ, WorkbasketPermission.OPEN);
+
+    assertThat(WorkbasketPermissionMask.toList(mask))
+        .containsExactly(
+            WorkbasketPermission.READ, WorkbasketPermission.OPEN, WorkbasketPermission.CUSTOM_12);
+    assertThat(WorkbasketPermissionMask.toList(WorkbasketPermissionMask.NONE)).isEmpty();
+  }
+
+  @Test
+  void should_ReturnFirstMissingPermission_When_NotAllPermissionsAreGranted() {
+    int granted = WorkbasketPermissionMask.of(WorkbasketPermission.READ);
+    int requested =
+        WorkbasketPermissionMask.of(WorkbasketPermission.READ, WorkbasketPermission.APPEND);
+
+    assertThat(WorkbasketPermissionMask.containsAll(granted, requested)).isFalse();
+    assertThat(WorkbasketPermissionMask.containsAll(requested, granted)).isTrue();
+    assertThat(
+            WorkbasketPermissionMask.firstMissing(
+                granted, WorkbasketPermission.READ, WorkbasketPermission.APPEND))
+        .isEqualTo(WorkbasketPermission.APPEND);
+    assertThat(WorkbasketPermissionMask.firstMissing(granted, WorkbasketPermission.READ)).isNull();
+  }
+
+  @Test
+  void should_UseOneBitPerPermission() {
+    int all = WorkbasketPermissionMask.of(WorkbasketPermission.values());
+
+    assertThat(Integer.bitCount(all)).isEqualTo(WorkbasketPermission.values().length);
+    assertThat(all).isEqualTo((1 << 17) - 1);
+  }
+}
@@ -23,12 +23,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.WorkingDaysCalendar;
 import pro.taskana.monitor.api.CombinedClassificationFilter;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.reports.WorkbasketReport;
@@ -49,16 +49,13 @@ class WorkbasketReportBuilderImplTest {
 
   @Mock private TaskanaEngine taskanaEngineMock;
 
-  @Mock private TaskanaEngineConfiguration taskanaEngineConfiguration;
-
   @Mock private MonitorMapper monitorMapperMock;
 
   @BeforeEach
   void setup() {
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
-    when(taskanaEngineMock.getConfiguration()).thenReturn(taskanaEngineConfiguration);
-    when(taskanaEngineConfiguration.isGermanPublicHolidaysEnabled()).thenReturn(true);
-    when(taskanaEngineConfiguration.getCustomHolidays()).thenReturn(null);
+    when(internalTaskanaEngineMock.getWorkingDaysCalendar())
+        .thenReturn(WorkingDaysCalendar.of(true, null));
   }
 
   @Test
@@ -109,18 +106,12 @@ class WorkbasketReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfWorkbaskets(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(
@@ -180,18 +171,12 @@ class WorkbasketReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfWorkbaskets(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(
@@ -250,19 +235,13 @@ class WorkbasketReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskIdsForSelectedItems(
             any(), any(), any(), any(), any(), any(), any(), any(), any(), eq(false));
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(expectedResult, actualResult);
@@ -327,18 +306,12 @@ class WorkbasketReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(any());
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getCustomAttributeValuesForReport(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(expectedResult, actualResult);
@@ -402,10 +375,8 @@ class WorkbasketReportBuilderImplTest {
 
     verify(internalTaskanaEngineMock, times(1)).openConnection();
     verify(taskanaEngineMock, times(1)).checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    verify(taskanaEngineMock, times(2)).getConfiguration();
-    verify(internalTaskanaEngineMock, times(3)).getEngine();
-    verify(taskanaEngineConfiguration, times(1)).isGermanPublicHolidaysEnabled();
-    verify(taskanaEngineConfiguration, times(1)).getCustomHolidays();
+    verify(internalTaskanaEngineMock, times(1)).getEngine();
+    verify(internalTaskanaEngineMock, times(1)).getWorkingDaysCalendar();
     verify(monitorMapperMock, times(1))
         .getTaskCountOfWorkbasketsBasedOnPlannedDate(
             workbasketIds,
@@ -417,11 +388,7 @@ class WorkbasketReportBuilderImplTest {
             customAttributeFilter,
             combinedClassificationFilter);
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
-    verifyNoMoreInteractions(
-        internalTaskanaEngineMock,
-        taskanaEngineMock,
-        monitorMapperMock,
-        taskanaEngineConfiguration);
+    verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
 
     assertNotNull(actualResult);
     assertEquals(
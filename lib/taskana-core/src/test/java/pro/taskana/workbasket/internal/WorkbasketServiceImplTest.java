@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -66,6 +67,8 @@ class WorkbasketServiceImplTest {
 
   @Mock private WorkbasketAccessMapper workbasketAccessMapperMock;
 
+  @Mock private WorkbasketPermissionCache workbasketPermissionCacheMock;
+
   @Mock private TaskService taskServiceMock;
 
   @Mock private TaskQuery taskQueryMock;
@@ -91,20 +94,25 @@ class WorkbasketServiceImplTest {
     when(internalTaskanaEngineMock.domainExists(any())).thenReturn(true);
 
     final Workbasket actualWb = workbasketServiceSpy.createWorkbasket(expectedWb);
-    workbasketServiceSpy.setDistributionTargets(
-        expectedWb.getId(), createTestDistributionTargets(distTargetAmount));
+    List<String> distributionTargets = createTestDistributionTargets(distTargetAmount);
+    when(workbasketMapperMock.findExistingIds(distributionTargets))
+        .thenReturn(distributionTargets);
+    workbasketServiceSpy.setDistributionTargets(expectedWb.getId(), distributionTargets);
 
     verify(internalTaskanaEngineMock, times(4)).openConnection();
     verify(workbasketMapperMock, times(3)).insert(any());
-    verify(workbasketServiceSpy, times(distTargetAmount + 1)).getWorkbasket(any());
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(workbasketMapperMock, times(1)).findExistingIds(distributionTargets);
     verify(distributionTargetMapperMock, times(1)).deleteAllDistributionTargetsBySourceId(any());
-    verify(distributionTargetMapperMock, times(distTargetAmount)).insert(any(), any());
+    verify(distributionTargetMapperMock, times(1))
+        .insertMultiple(expectedWb.getId(), distributionTargets);
     verify(workbasketMapperMock, times(3)).findByKeyAndDomain(any(), any());
     verify(workbasketMapperMock, times(1)).update(any());
     verify(internalTaskanaEngineMock, times(4)).returnConnection();
     verify(taskanaEngine, times(4)).checkRoleMembership(any());
     verify(internalTaskanaEngineMock, times(4)).getEngine();
     verify(internalTaskanaEngineMock, times(3)).domainExists(any());
+    verify(internalTaskanaEngineMock, times(1)).getIdGenerationStrategy();
     verifyNoMoreInteractions(
         taskQueryMock,
         taskServiceMock,
@@ -138,15 +146,16 @@ class WorkbasketServiceImplTest {
     Assertions.assertNull(e.getKey());
     Assertions.assertNull(e.getDomain());
 
-    verify(internalTaskanaEngineMock, times(3)).openConnection();
+    verify(internalTaskanaEngineMock, times(2)).openConnection();
     verify(workbasketMapperMock, times(1)).insert(expectedWb);
-    verify(workbasketMapperMock, times(1)).findById(any());
+    verify(workbasketMapperMock, times(1)).findExistingIds(destinations);
     verify(workbasketMapperMock, times(1)).findByKeyAndDomain(any(), any());
-    verify(workbasketServiceSpy, times(2)).getWorkbasket(any());
-    verify(internalTaskanaEngineMock, times(3)).returnConnection();
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(internalTaskanaEngineMock, times(2)).returnConnection();
     verify(taskanaEngine, times(2)).checkRoleMembership(any());
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(internalTaskanaEngineMock, times(1)).domainExists(any());
+    verify(internalTaskanaEngineMock, times(1)).getIdGenerationStrategy();
     verify(distributionTargetMapperMock)
         .deleteAllDistributionTargetsBySourceId(eq(expectedWb.getId()));
     verify(workbasketMapperMock).update(eq(expectedWb));
@@ -197,6 +206,19 @@ class WorkbasketServiceImplTest {
         .isInstanceOf(WorkbasketAccessItemAlreadyExistException.class);
   }
 
+  @Test
+  void should_InvalidatePermissionCacheAgain_When_AccessItemDeletionIsCommitted()
+      throws Exception {
+    ArgumentCaptor<Runnable> afterCommitAction = ArgumentCaptor.forClass(Runnable.class);
+
+    workbasketServiceSpy.deleteWorkbasketAccessItem("WAI:1");
+
+    verify(workbasketPermissionCacheMock, times(1)).invalidateAll();
+    verify(internalTaskanaEngineMock).executeAfterCommit(afterCommitAction.capture());
+    afterCommitAction.getValue().run();
+    verify(workbasketPermissionCacheMock, times(2)).invalidateAll();
+  }
+
   @Test
   void testCheckModifiedHasNotChanged() throws Exception {
 
@@ -2,6 +2,8 @@ package pro.taskana.common.internal;
 
 import javax.annotation.PostConstruct;
 import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import pro.taskana.SpringTaskanaEngineConfiguration;
 
@@ -17,4 +19,19 @@ public class SpringTaskanaEngineImpl extends TaskanaEngineImpl {
     this.transactionFactory = new SpringManagedTransactionFactory();
     this.sessionManager = createSqlSessionManager();
   }
+
+  @Override
+  protected boolean executeAfterCommitOfSurroundingTransaction(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return false;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronizationAdapter() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+    return true;
+  }
 }
@@ -13,13 +13,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.jobs.JobRunner;
 import pro.taskana.common.internal.jobs.TaskCleanupJob;
 import pro.taskana.common.internal.jobs.WorkbasketCleanupJob;
 import pro.taskana.common.internal.security.UserPrincipal;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.spi.history.internal.HistoryEventProducer;
 
 /** This class invokes the JobRunner periodically to schedule long running jobs. */
 @Component
@@ -30,10 +34,17 @@ public class JobScheduler {
   @Autowired private TaskanaEngine taskanaEngine;
 
   @PostConstruct
-  public void scheduleCleanupJob() {
+  public void scheduleCleanupJob() throws TaskanaException {
     LOGGER.debug("Entry to scheduleCleanupJob.");
     TaskCleanupJob.initializeSchedule(taskanaEngine);
     WorkbasketCleanupJob.initializeSchedule(taskanaEngine);
+    if (HistoryEventProducer.isHistoryEnabled()
+        && !AbstractTaskanaJob.initializeProvidedJobSchedule(
+            taskanaEngine, ScheduledJob.Type.HISTORYCLEANUPJOB)) {
+      LOGGER.info(
+          "History is enabled, but the HistoryCleanupJob is not scheduled, "
+              + "because the history provider does not provide it.");
+    }
     LOGGER.debug("Exit from scheduleCleanupJob.");
   }
 
@@ -1,12 +1,21 @@
 package pro.taskana.ldap;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.naming.directory.SearchControls;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +50,10 @@ public class LdapClient {
 
   private static final String CN = "cn";
 
+  // group searches running concurrently to user searches. Further group searches are run by the
+  // calling thread after its user search.
+  private static final int MAX_CONCURRENT_GROUP_SEARCHES = 4;
+
   private boolean active = false;
 
   @Autowired private Environment env;
@@ -54,6 +67,10 @@ public class LdapClient {
 
   private String message;
 
+  private LdapSearchResultCache searchResultCache = LdapSearchResultCache.disabled();
+
+  private ExecutorService groupSearchExecutor;
+
   /**
    * Search LDAP for matching users or groups.
    *
@@ -68,6 +85,15 @@ public class LdapClient {
     isInitOrFail();
     testMinSearchForLength(name);
 
+    List<AccessIdResource> result = searchResultCache.get(name);
+    if (result != null) {
+      LOGGER.debug(
+          "exit from searchUsersAndGroups(name = {}). Returning {} cached users and groups.",
+          name,
+          result.size());
+      return result;
+    }
+
     List<AccessIdResource> accessIds = new ArrayList<>();
     if (nameIsDn(name)) {
       AccessIdResource groupByDn = searchGroupByDn(name);
@@ -75,11 +101,14 @@ public class LdapClient {
         accessIds.add(groupByDn);
       }
     } else {
-      accessIds.addAll(searchUsersByName(name));
-      accessIds.addAll(searchGroupsByName(name));
+      CompletableFuture<List<AccessIdResource>> groups =
+          CompletableFuture.supplyAsync(() -> findGroupsByName(name), groupSearchExecutor);
+      accessIds.addAll(findUsersByName(name));
+      accessIds.addAll(joinGroupSearch(groups));
     }
     sortListOfAccessIdResources(accessIds);
-    List<AccessIdResource> result = getFirstPageOfaResultList(accessIds);
+    result = new ArrayList<>(getFirstPageOfaResultList(accessIds));
+    searchResultCache.put(name, result);
 
     LOGGER.debug(
         "exit from searchUsersAndGroups(name = {}). Returning {} users and groups: {}",
@@ -100,26 +129,7 @@ public class LdapClient {
     isInitOrFail();
     testMinSearchForLength(name);
 
-    final AndFilter andFilter = new AndFilter();
-    andFilter.and(new EqualsFilter(getUserSearchFilterName(), getUserSearchFilterValue()));
-    final OrFilter orFilter = new OrFilter();
-
-    orFilter.or(new WhitespaceWildcardsFilter(getUserFirstnameAttribute(), name));
-    orFilter.or(new WhitespaceWildcardsFilter(getUserLastnameAttribute(), name));
-    orFilter.or(new WhitespaceWildcardsFilter(getUserIdAttribute(), name));
-    andFilter.and(orFilter);
-
-    String[] userAttributesToReturn = {
-      getUserFirstnameAttribute(), getUserLastnameAttribute(), getUserIdAttribute()
-    };
-
-    final List<AccessIdResource> accessIds =
-        ldapTemplate.search(
-            getUserSearchBase(),
-            andFilter.encode(),
-            SearchControls.SUBTREE_SCOPE,
-            userAttributesToReturn,
-            new UserContextMapper());
+    final List<AccessIdResource> accessIds = findUsersByName(name);
     LOGGER.debug(
         "exit from searchUsersByName. Retrieved the following users: {}.",
         LoggerUtils.listToString(accessIds));
@@ -132,22 +142,7 @@ public class LdapClient {
     isInitOrFail();
     testMinSearchForLength(name);
 
-    final AndFilter andFilter = new AndFilter();
-    andFilter.and(new EqualsFilter(getGroupSearchFilterName(), getGroupSearchFilterValue()));
-    final OrFilter orFilter = new OrFilter();
-    orFilter.or(new WhitespaceWildcardsFilter(getGroupNameAttribute(), name));
-    if (!CN.equals(getGroupNameAttribute())) {
-      orFilter.or(new WhitespaceWildcardsFilter(CN, name));
-    }
-    andFilter.and(orFilter);
-
-    final List<AccessIdResource> accessIds =
-        ldapTemplate.search(
-            getGroupSearchBase(),
-            andFilter.encode(),
-            SearchControls.SUBTREE_SCOPE,
-            getLookUpGoupAttributesToReturn(),
-            new GroupContextMapper());
+    final List<AccessIdResource> accessIds = findGroupsByName(name);
     LOGGER.debug(
         "Exit from searchGroupsByName. Retrieved the following groups: {}",
         LoggerUtils.listToString(accessIds));
@@ -270,6 +265,30 @@ public class LdapClient {
     return maxNumberOfReturnedAccessIds;
   }
 
+  public boolean calcCacheEnabled(boolean defaultValue) {
+    String envValue = LdapSettings.TASKANA_LDAP_CACHE_ENABLED.getValueFromEnv(env);
+    if (envValue == null || envValue.isEmpty()) {
+      return defaultValue;
+    }
+    return Boolean.parseBoolean(envValue);
+  }
+
+  public int calcCacheMaxSize(int defaultValue) {
+    String envValue = LdapSettings.TASKANA_LDAP_CACHE_MAX_SIZE.getValueFromEnv(env);
+    if (envValue == null || envValue.isEmpty()) {
+      return defaultValue;
+    }
+    return Integer.parseInt(envValue);
+  }
+
+  public Duration calcCacheTimeToLive(Duration defaultValue) {
+    String envValue = LdapSettings.TASKANA_LDAP_CACHE_TIME_TO_LIVE.getValueFromEnv(env);
+    if (envValue == null || envValue.isEmpty()) {
+      return defaultValue;
+    }
+    return Duration.parse(envValue);
+  }
+
   public String getGroupsOfUser() {
     return LdapSettings.TASKANA_LDAP_GROUPS_OF_USER.getValueFromEnv(env);
   }
@@ -307,11 +326,99 @@ public class LdapClient {
     }
   }
 
+  private List<AccessIdResource> findUsersByName(final String name) {
+    final AndFilter andFilter = new AndFilter();
+    andFilter.and(new EqualsFilter(getUserSearchFilterName(), getUserSearchFilterValue()));
+    final OrFilter orFilter = new OrFilter();
+
+    orFilter.or(new WhitespaceWildcardsFilter(getUserFirstnameAttribute(), name));
+    orFilter.or(new WhitespaceWildcardsFilter(getUserLastnameAttribute(), name));
+    orFilter.or(new WhitespaceWildcardsFilter(getUserIdAttribute(), name));
+    andFilter.and(orFilter);
+
+    String[] userAttributesToReturn = {
+      getUserFirstnameAttribute(), getUserLastnameAttribute(), getUserIdAttribute()
+    };
+
+    return ldapTemplate.search(
+        getUserSearchBase(),
+        andFilter.encode(),
+        createSearchControls(userAttributesToReturn),
+        new UserContextMapper());
+  }
+
+  private List<AccessIdResource> findGroupsByName(final String name) {
+    final AndFilter andFilter = new AndFilter();
+    andFilter.and(new EqualsFilter(getGroupSearchFilterName(), getGroupSearchFilterValue()));
+    final OrFilter orFilter = new OrFilter();
+    orFilter.or(new WhitespaceWildcardsFilter(getGroupNameAttribute(), name));
+    if (!CN.equals(getGroupNameAttribute())) {
+      orFilter.or(new WhitespaceWildcardsFilter(CN, name));
+    }
+    andFilter.and(orFilter);
+
+    return ldapTemplate.search(
+        getGroupSearchBase(),
+        andFilter.encode(),
+        createSearchControls(getLookUpGoupAttributesToReturn()),
+        new GroupContextMapper());
+  }
+
+  /**
+   * Creates the controls of a search, which returns at most maxNumberOfReturnedAccessIds entries.
+   * The limit is enforced by the LDAP server, so no more entries than needed are transferred.
+   */
+  private SearchControls createSearchControls(String[] attributesToReturn) {
+    SearchControls searchControls = new SearchControls();
+    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    searchControls.setReturningAttributes(attributesToReturn);
+    searchControls.setCountLimit(maxNumberOfReturnedAccessIds);
+    return searchControls;
+  }
+
+  /**
+   * Creates the executor for group searches. If all threads are busy, the calling thread runs the
+   * group search itself, so the number of threads stays bounded under load.
+   */
+  private static ExecutorService createGroupSearchExecutor() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        0,
+        MAX_CONCURRENT_GROUP_SEARCHES,
+        1,
+        TimeUnit.MINUTES,
+        new SynchronousQueue<>(),
+        runnable -> {
+          Thread thread =
+              new Thread(runnable, "taskana-ldap-group-search-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  private List<AccessIdResource> joinGroupSearch(
+      CompletableFuture<List<AccessIdResource>> groups) {
+    try {
+      return groups.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   @PostConstruct
   void init() {
     LOGGER.debug("Entry to init()");
     minSearchForLength = calcMinSearchForLength(3);
     maxNumberOfReturnedAccessIds = calcMaxNumberOfReturnedAccessIds(50);
+    searchResultCache =
+        new LdapSearchResultCache(
+            calcCacheEnabled(false),
+            calcCacheMaxSize(1000),
+            calcCacheTimeToLive(Duration.parse("PT5M")));
 
     if (useLdap()) {
       ldapTemplate.setDefaultCountLimit(maxNumberOfReturnedAccessIds);
@@ -325,16 +432,27 @@ public class LdapClient {
                 missingConfigurations);
         throw new SystemException(message);
       }
+      groupSearchExecutor = createGroupSearchExecutor();
       active = true;
     }
     LOGGER.debug("Exit from init()");
   }
 
+  @PreDestroy
+  void destroy() {
+    if (groupSearchExecutor != null) {
+      groupSearchExecutor.shutdownNow();
+    }
+  }
+
   List<LdapSettings> checkForMissingConfigurations() {
     return Arrays.stream(LdapSettings.values())
         // optional settings
         .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS))
         .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH))
+        .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_CACHE_ENABLED))
+        .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_CACHE_MAX_SIZE))
+        .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_CACHE_TIME_TO_LIVE))
         .filter(p -> Objects.isNull(p.getValueFromEnv(env)))
         .collect(Collectors.toList());
   }
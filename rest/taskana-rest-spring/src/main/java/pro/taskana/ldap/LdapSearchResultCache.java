@@ -0,0 +1,101 @@
+package pro.taskana.ldap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import pro.taskana.rest.resource.AccessIdResource;
+
+/**
+ * Cache for the results of LDAP searches for users and groups. The results are cached by the
+ * normalized search string. The cache is bounded by a maximum number of entries (least recently
+ * used entries are evicted first) and every entry expires after the configured time to live.
+ */
+class LdapSearchResultCache {
+
+  private final boolean enabled;
+  private final long timeToLiveNanos;
+  private final Map<String, CacheEntry> entries;
+
+  LdapSearchResultCache(boolean enabled, int maxSize, Duration timeToLive) {
+    this.enabled = enabled && maxSize > 0 && !timeToLive.isNegative() && !timeToLive.isZero();
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.entries =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+              private static final long serialVersionUID = 1L;
+
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+              }
+            });
+  }
+
+  static LdapSearchResultCache disabled() {
+    return new LdapSearchResultCache(false, 0, Duration.ZERO);
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns a copy of the cached result of the search for the given string.
+   *
+   * @param searchFor the search string
+   * @return the access ids found or null, if there is no valid cache entry
+   */
+  List<AccessIdResource> get(String searchFor) {
+    if (!enabled) {
+      return null;
+    }
+    String key = normalize(searchFor);
+    CacheEntry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (System.nanoTime() - entry.createdNanos >= timeToLiveNanos) {
+      entries.remove(key);
+      return null;
+    }
+    return new ArrayList<>(entry.accessIds);
+  }
+
+  /**
+   * Caches the result of the search for the given string.
+   *
+   * @param searchFor the search string
+   * @param accessIds the access ids found
+   */
+  void put(String searchFor, List<AccessIdResource> accessIds) {
+    if (enabled) {
+      List<AccessIdResource> copy = Collections.unmodifiableList(new ArrayList<>(accessIds));
+      entries.put(normalize(searchFor), new CacheEntry(copy, System.nanoTime()));
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /** LDAP matches names and ids case insensitive, so the case of the search string is ignored. */
+  private static String normalize(String searchFor) {
+    return searchFor.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static final class CacheEntry {
+
+    private final List<AccessIdResource> accessIds;
+    private final long createdNanos;
+
+    private CacheEntry(List<AccessIdResource> accessIds, long createdNanos) {
+      this.accessIds = accessIds;
+      this.createdNanos = createdNanos;
+    }
+  }
+}
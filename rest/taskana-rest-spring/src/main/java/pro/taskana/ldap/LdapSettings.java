@@ -18,7 +18,10 @@ enum LdapSettings {
   TASKANA_LDAP_GROUP_NAME_ATTRIBUTE("taskana.ldap.groupNameAttribute"),
   TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH("taskana.ldap.minSearchForLength"),
   TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS("taskana.ldap.maxNumberOfReturnedAccessIds"),
-  TASKANA_LDAP_GROUPS_OF_USER("taskana.ldap.groupsOfUser");
+  TASKANA_LDAP_GROUPS_OF_USER("taskana.ldap.groupsOfUser"),
+  TASKANA_LDAP_CACHE_ENABLED("taskana.ldap.cache.enabled"),
+  TASKANA_LDAP_CACHE_MAX_SIZE("taskana.ldap.cache.maxSize"),
+  TASKANA_LDAP_CACHE_TIME_TO_LIVE("taskana.ldap.cache.timeToLive");
 
   private final String key;
 
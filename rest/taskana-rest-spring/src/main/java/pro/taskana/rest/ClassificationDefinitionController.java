@@ -1,7 +1,7 @@
 package pro.taskana.rest;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,7 +30,6 @@ import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistExcep
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
-import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -66,12 +66,20 @@ public class ClassificationDefinitionController {
 
     List<ClassificationSummary> summaries =
         domain != null ? query.domainIn(domain).list() : query.list();
-    List<ClassificationResource> export = new ArrayList<>();
+    Map<String, Classification> classificationsById =
+        classificationService
+            .getClassifications(
+                summaries.stream().map(ClassificationSummary::getId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(Classification::getId, Function.identity()));
+    List<ClassificationResource> export = new ArrayList<>(summaries.size());
 
     for (ClassificationSummary summary : summaries) {
-      Classification classification =
-          classificationService.getClassification(summary.getKey(), summary.getDomain());
-
+      Classification classification = classificationsById.get(summary.getId());
+      if (classification == null) {
+        throw new ClassificationNotFoundException(
+            summary.getId(), "Classification for id " + summary.getId() + " was not found");
+      }
       export.add(classificationResourceAssembler.toDefinition(classification));
     }
 
@@ -91,14 +99,38 @@ public class ClassificationDefinitionController {
           DomainNotFoundException, IOException {
     LOGGER.debug("Entry to importClassifications()");
     Map<String, String> systemIds = getSystemIds();
-    List<ClassificationResource> classificationsResources =
-        extractClassificationResourcesFromFile(file);
-    checkForDuplicates(classificationsResources);
-
-    Map<Classification, String> childrenInFile =
-        mapChildrenToParentKeys(classificationsResources, systemIds);
-    insertOrUpdateClassificationsWithoutParent(classificationsResources, systemIds);
-    updateParentChildrenRelations(childrenInFile);
+    Set<String> importedKeysWithDomain = new HashSet<>();
+    Map<String, String> importedKeysById = new HashMap<>();
+    List<ParentReference> parentReferences = new ArrayList<>();
+
+    // the file is read as a stream, so only the references to parent classifications are kept in
+    // memory until all classifications are imported
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    try (MappingIterator<ClassificationResource> classificationResources =
+        mapper.readerFor(ClassificationResource.class).readValues(file.getInputStream())) {
+      while (classificationResources.hasNextValue()) {
+        ClassificationResource classificationResource = classificationResources.nextValue();
+        String keyAndDomain =
+            classificationResource.getKey() + "|" + classificationResource.getDomain();
+        if (!importedKeysWithDomain.add(keyAndDomain)) {
+          throw new DuplicateKeyException(
+              "The 'key|domain'-identifier is not unique for the value(s): [" + keyAndDomain + "]");
+        }
+        if (classificationResource.getClassificationId() != null) {
+          importedKeysById.put(
+              classificationResource.getClassificationId(), classificationResource.getKey());
+        }
+        ParentReference parentReference = new ParentReference(classificationResource);
+        if (!parentReference.parentId.isEmpty() || !parentReference.parentKey.isEmpty()) {
+          parentReferences.add(parentReference);
+        }
+        insertOrUpdateClassificationWithoutParent(classificationResource, systemIds);
+      }
+    }
+
+    updateParentChildrenRelations(
+        parentReferences, importedKeysById, importedKeysWithDomain, systemIds);
     ResponseEntity<Void> response = ResponseEntity.noContent().build();
     LOGGER.debug("Exit from importClassifications(), returning {}", response);
     return response;
@@ -110,108 +142,49 @@ public class ClassificationDefinitionController {
             Collectors.toMap(i -> i.getKey() + "|" + i.getDomain(), ClassificationSummary::getId));
   }
 
-  private List<ClassificationResource> extractClassificationResourcesFromFile(MultipartFile file)
-      throws IOException {
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-    return mapper.readValue(
-        file.getInputStream(), new TypeReference<List<ClassificationResource>>() {});
-  }
-
-  private void checkForDuplicates(List<ClassificationResource> classificationList) {
-    List<String> identifiers = new ArrayList<>();
-    Set<String> duplicates = new HashSet<>();
-    for (ClassificationResource classification : classificationList) {
-      String identifier = classification.getKey() + "|" + classification.getDomain();
-      if (identifiers.contains(identifier)) {
-        duplicates.add(identifier);
-      } else {
-        identifiers.add(identifier);
-      }
-    }
-    if (!duplicates.isEmpty()) {
-      throw new DuplicateKeyException(
-          "The 'key|domain'-identifier is not unique for the value(s): " + duplicates.toString());
-    }
-  }
-
-  private Map<Classification, String> mapChildrenToParentKeys(
-      List<ClassificationResource> classificationResources, Map<String, String> systemIds) {
-    LOGGER.debug("Entry to mapChildrenToParentKeys()");
-    Map<Classification, String> childrenInFile = new HashMap<>();
-    Set<String> newKeysWithDomain = new HashSet<>();
-    classificationResources.forEach(
-        cl -> newKeysWithDomain.add(cl.getKey() + "|" + cl.getDomain()));
-
-    for (ClassificationResource cl : classificationResources) {
-      cl.setParentId(cl.getParentId() == null ? "" : cl.getParentId());
-      cl.setParentKey(cl.getParentKey() == null ? "" : cl.getParentKey());
-
-      if (!cl.getParentId().equals("") && cl.getParentKey().equals("")) {
-        for (ClassificationResource parent : classificationResources) {
-          if (cl.getParentId().equals(parent.getClassificationId())) {
-            cl.setParentKey(parent.getKey());
-          }
-        }
-      }
-
-      String parentKeyAndDomain = cl.getParentKey() + "|" + cl.getDomain();
-      if (!cl.getParentKey().isEmpty() && !cl.getParentKey().equals("")) {
-        if (newKeysWithDomain.contains(parentKeyAndDomain)
-            || systemIds.containsKey(parentKeyAndDomain)) {
-          childrenInFile.put(classificationResourceAssembler.toModel(cl), cl.getParentKey());
-        }
-      }
-    }
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "Exit from mapChildrenToParentKeys(), returning {}",
-          LoggerUtils.mapToString(childrenInFile));
-    }
-
-    return childrenInFile;
-  }
-
-  private void insertOrUpdateClassificationsWithoutParent(
-      List<ClassificationResource> classificationResources, Map<String, String> systemIds)
+  private void insertOrUpdateClassificationWithoutParent(
+      ClassificationResource classificationResource, Map<String, String> systemIds)
       throws ClassificationNotFoundException, NotAuthorizedException, InvalidArgumentException,
           ClassificationAlreadyExistException, DomainNotFoundException, ConcurrencyException {
-    LOGGER.debug("Entry to insertOrUpdateClassificationsWithoutParent()");
-
-    for (ClassificationResource classificationResource : classificationResources) {
-      classificationResource.setParentKey(null);
-      classificationResource.setParentId(null);
-      classificationResource.setClassificationId(null);
-
-      String systemId =
-          systemIds.get(classificationResource.getKey() + "|" + classificationResource.getDomain());
-      if (systemId != null) {
-        updateExistingClassification(classificationResource, systemId);
-      } else {
-        classificationService.createClassification(
-            classificationResourceAssembler.toModel(classificationResource));
-      }
+    classificationResource.setParentKey(null);
+    classificationResource.setParentId(null);
+    classificationResource.setClassificationId(null);
+
+    String systemId =
+        systemIds.get(classificationResource.getKey() + "|" + classificationResource.getDomain());
+    if (systemId != null) {
+      updateExistingClassification(classificationResource, systemId);
+    } else {
+      classificationService.createClassification(
+          classificationResourceAssembler.toModel(classificationResource));
     }
-    LOGGER.debug("Exit from insertOrUpdateClassificationsWithoutParent()");
   }
 
-  private void updateParentChildrenRelations(Map<Classification, String> childrenInFile)
+  private void updateParentChildrenRelations(
+      List<ParentReference> parentReferences,
+      Map<String, String> importedKeysById,
+      Set<String> importedKeysWithDomain,
+      Map<String, String> systemIds)
       throws ClassificationNotFoundException, NotAuthorizedException, ConcurrencyException,
           InvalidArgumentException {
     LOGGER.debug("Entry to updateParentChildrenRelations()");
 
-    for (Map.Entry<Classification, String> entry : childrenInFile.entrySet()) {
-      Classification childRes = entry.getKey();
-      String parentKey = entry.getValue();
-      String classificationKey = childRes.getKey();
-      String classificationDomain = childRes.getDomain();
+    for (ParentReference parentReference : parentReferences) {
+      String parentKey = parentReference.parentKey;
+      if (parentKey.isEmpty()) {
+        parentKey = importedKeysById.getOrDefault(parentReference.parentId, "");
+      }
+      String parentKeyAndDomain = parentKey + "|" + parentReference.domain;
+      if (parentKey.isEmpty()
+          || !importedKeysWithDomain.contains(parentKeyAndDomain)
+              && !systemIds.containsKey(parentKeyAndDomain)) {
+        continue;
+      }
 
       Classification child =
-          classificationService.getClassification(classificationKey, classificationDomain);
+          classificationService.getClassification(parentReference.key, parentReference.domain);
       String parentId =
-          (parentKey == null)
-              ? ""
-              : classificationService.getClassification(parentKey, classificationDomain).getId();
+          classificationService.getClassification(parentKey, parentReference.domain).getId();
 
       child.setParentKey(parentKey);
       child.setParentId(parentId);
@@ -249,4 +222,24 @@ public class ClassificationDefinitionController {
     classificationService.updateClassification(currentClassification);
     LOGGER.debug("Exit from updateExistingClassification()");
   }
+
+  /** The parent of an imported classification, which is resolved after the import. */
+  private static final class ParentReference {
+
+    private final String key;
+    private final String domain;
+    private final String parentId;
+    private final String parentKey;
+
+    private ParentReference(ClassificationResource classificationResource) {
+      key = classificationResource.getKey();
+      domain = classificationResource.getDomain();
+      parentId =
+          classificationResource.getParentId() == null ? "" : classificationResource.getParentId();
+      parentKey =
+          classificationResource.getParentKey() == null
+              ? ""
+              : classificationResource.getParentKey();
+    }
+  }
 }
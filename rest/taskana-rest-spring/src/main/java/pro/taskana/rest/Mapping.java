@@ -27,6 +27,7 @@ public final class Mapping {
   public static final String URL_VERSION = PRE + "version";
   public static final String URL_TASKS = PRE + "tasks";
   public static final String URL_TASKS_ID = URL_TASKS + "/{taskId}";
+  public static final String URL_TASKS_BULK = URL_TASKS + "/bulk";
   public static final String URL_TASK_GET_POST_COMMENTS = URL_TASKS_ID + "/comments";
   public static final String URL_TASK_COMMENTS = URL_TASKS + "/comments";
   public static final String URL_TASK_COMMENT = URL_TASK_COMMENTS + "/{taskCommentId}";
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.http.HttpStatus;
@@ -19,15 +20,19 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.rest.resource.PagedResources.PageMetadata;
+import pro.taskana.rest.resource.TaskBulkCreationResultResource;
 import pro.taskana.rest.resource.TaskResource;
 import pro.taskana.rest.resource.TaskResourceAssembler;
 import pro.taskana.rest.resource.TaskSummaryListResource;
@@ -78,6 +83,9 @@ public class TaskController extends AbstractPagingController {
   private static final String PLANNED_FROM = "planned-from";
   private static final String EXTERNAL_ID = "external-id";
 
+  private static final String CURSOR = "cursor";
+  private static final String PAGING_PAGE_SIZE = "page-size";
+
   private static final String SORT_BY = "sort-by";
   private static final String SORT_DIRECTION = "order";
 
@@ -110,11 +118,14 @@ public class TaskController extends AbstractPagingController {
     query = applyFilterParams(query, params);
     query = applySortingParams(query, params);
 
-    PageMetadata pageMetadata = getPageMetadata(params, query);
-    List<TaskSummary> taskSummaries = getQueryList(query, pageMetadata);
-
-    TaskSummaryListResource pagedResources =
-        taskSummaryResourceAssembler.toResources(taskSummaries, pageMetadata);
+    TaskSummaryListResource pagedResources;
+    if (params.containsKey(CURSOR)) {
+      pagedResources = getTasksAfterCursor(query, params);
+    } else {
+      PageMetadata pageMetadata = getPageMetadata(params, query);
+      List<TaskSummary> taskSummaries = getQueryList(query, pageMetadata);
+      pagedResources = taskSummaryResourceAssembler.toResources(taskSummaries, pageMetadata);
+    }
     ResponseEntity<TaskSummaryListResource> response = ResponseEntity.ok(pagedResources);
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Exit from getTasks(), returning {}", response);
@@ -225,6 +236,40 @@ public class TaskController extends AbstractPagingController {
     return result;
   }
 
+  @PostMapping(path = Mapping.URL_TASKS_BULK)
+  @Transactional(rollbackFor = Exception.class)
+  public ResponseEntity<TaskBulkCreationResultResource> createTasks(
+      @RequestBody List<TaskResource> taskResources) throws InvalidArgumentException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Entry to createTasks(params= {})", taskResources);
+    }
+
+    List<Task> tasksToCreate = new ArrayList<>();
+    for (TaskResource taskResource : taskResources) {
+      tasksToCreate.add(taskResourceAssembler.toModel(taskResource));
+    }
+    BulkOperationResults<String, TaskanaException> bulkLog =
+        taskService.createTasks(tasksToCreate);
+
+    TaskBulkCreationResultResource resultResource = new TaskBulkCreationResultResource();
+    for (Task task : tasksToCreate) {
+      TaskanaException error = bulkLog.getErrorForId(task.getExternalId());
+      if (error == null) {
+        resultResource.getCreatedTasks().add(taskResourceAssembler.toResource(task));
+      } else {
+        resultResource.getFailedTasks().put(task.getExternalId(), error.getMessage());
+      }
+    }
+    HttpStatus status = bulkLog.containsErrors() ? HttpStatus.MULTI_STATUS : HttpStatus.CREATED;
+    ResponseEntity<TaskBulkCreationResultResource> result =
+        ResponseEntity.status(status).body(resultResource);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from createTasks(), returning {}", result);
+    }
+
+    return result;
+  }
+
   @PostMapping(path = Mapping.URL_TASKS_ID_TRANSFER_WORKBASKETID)
   @Transactional(rollbackFor = Exception.class)
   public ResponseEntity<TaskResource> transferTask(
@@ -538,6 +583,40 @@ public class TaskController extends AbstractPagingController {
     return null;
   }
 
+  private TaskSummaryListResource getTasksAfterCursor(
+      TaskQuery query, MultiValueMap<String, String> params) throws InvalidArgumentException {
+    final String cursor = params.getFirst(CURSOR);
+    params.remove(CURSOR);
+    String pageSizeParam = params.getFirst(PAGING_PAGE_SIZE);
+    params.remove(PAGING_PAGE_SIZE);
+    if (pageSizeParam == null) {
+      throw new InvalidArgumentException(
+          "The parameter " + CURSOR + " requires the parameter " + PAGING_PAGE_SIZE + ".");
+    }
+    int pageSize;
+    try {
+      pageSize = Integer.parseInt(pageSizeParam);
+    } catch (NumberFormatException e) {
+      throw new InvalidArgumentException("page-size must be a integer value.", e.getCause());
+    }
+    validateNoInvalidParameterIsLeft(params);
+
+    // keyset pagination neither skips rows nor counts the total number of tasks
+    List<TaskSummary> taskSummaries = query.listAfter(cursor, pageSize);
+    TaskSummaryListResource pagedResources =
+        taskSummaryResourceAssembler.toResources(taskSummaries, null);
+    if (taskSummaries.size() == pageSize) {
+      String nextCursor = query.getContinuationToken(taskSummaries.get(pageSize - 1));
+      pagedResources.add(
+          new Link(
+                  ServletUriComponentsBuilder.fromCurrentRequest()
+                      .replaceQueryParam(CURSOR, nextCursor)
+                      .toUriString())
+              .withRel(Link.REL_NEXT));
+    }
+    return pagedResources;
+  }
+
   private TaskQuery applySortingParams(TaskQuery taskQuery, MultiValueMap<String, String> params)
       throws InvalidArgumentException {
     if (LOGGER.isDebugEnabled()) {
@@ -1,10 +1,10 @@
 package pro.taskana.rest;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import java.io.IOException;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -117,74 +117,51 @@ public class WorkbasketDefinitionController {
           ConcurrencyException {
     LOGGER.debug("Entry to importWorkbaskets()");
     ObjectMapper mapper = new ObjectMapper();
-    mapper.enable(SerializationFeature.INDENT_OUTPUT);
     mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-    List<WorkbasketDefinitionResource> definitions =
-        mapper.readValue(
-            file.getInputStream(), new TypeReference<List<WorkbasketDefinitionResource>>() {});
 
     // key: logical ID
     // value: system ID (in database)
     Map<String, String> systemIds =
         workbasketService.createWorkbasketQuery().list().stream()
             .collect(Collectors.toMap(this::logicalId, WorkbasketSummary::getId));
-    checkForDuplicates(definitions);
+    Set<String> existingIds = new HashSet<>(systemIds.values());
+    Set<String> importedLogicalIds = new HashSet<>();
 
     // key: old system ID
     // value: system ID
     Map<String, String> idConversion = new HashMap<>();
-
-    // STEP 1: update or create workbaskets from the import
-    for (WorkbasketDefinitionResource definition : definitions) {
-      Workbasket importedWb = workbasketDefinitionAssembler.toModel(definition.getWorkbasket());
-      String newId;
-      WorkbasketImpl wbWithoutId = (WorkbasketImpl) removeId(importedWb);
-      if (systemIds.containsKey(logicalId(importedWb))) {
-        Workbasket modifiedWb =
-            workbasketService.getWorkbasket(importedWb.getKey(), importedWb.getDomain());
-        wbWithoutId.setModified(modifiedWb.getModified());
-        workbasketService.updateWorkbasket(wbWithoutId);
-
-        newId = systemIds.get(logicalId(importedWb));
-      } else {
-        newId = workbasketService.createWorkbasket(wbWithoutId).getId();
-      }
-
-      // Since we would have a n² runtime when doing a lookup and updating the access items we
-      // decided to
-      // simply delete all existing accessItems and create new ones.
-      boolean noWrongAuth =
-          definition.getAuthorizations().stream()
-              .noneMatch(
-                  access -> {
-                    return (!access.getWorkbasketId().equals(importedWb.getId()))
-                        || (!access.getWorkbasketKey().equals(importedWb.getKey()));
-                  });
-      if (!noWrongAuth) {
-        throw new InvalidWorkbasketException(
-            "The given Authentications for Workbasket "
-                + importedWb.getId()
-                + " doesn't match in WorkbasketId and/or WorkbasketKey. "
-                + "Please provide consistent WorkbasketDefinitions");
-      }
-      for (WorkbasketAccessItem accessItem : workbasketService.getWorkbasketAccessItems(newId)) {
-        workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
-      }
-      for (WorkbasketAccessItemImpl authorization : definition.getAuthorizations()) {
-        authorization.setWorkbasketId(newId);
-        workbasketService.createWorkbasketAccessItem(authorization);
+    // key: old system ID of the source workbasket
+    // value: old system IDs of the distribution targets
+    List<Map.Entry<String, Set<String>>> distributionTargetsToImport = new ArrayList<>();
+
+    // STEP 1: update or create workbaskets from the import. The file is read as a stream, so only
+    // the distribution targets are kept in memory for step 2.
+    try (MappingIterator<WorkbasketDefinitionResource> definitions =
+        mapper.readerFor(WorkbasketDefinitionResource.class).readValues(file.getInputStream())) {
+      while (definitions.hasNextValue()) {
+        WorkbasketDefinitionResource definition = definitions.nextValue();
+        Workbasket importedWb = workbasketDefinitionAssembler.toModel(definition.getWorkbasket());
+        if (!importedLogicalIds.add(logicalId(importedWb))) {
+          throw new DuplicateKeyException(
+              "The 'key|domain'-identifier is not unique for the value(s): ["
+                  + logicalId(importedWb)
+                  + "]");
+        }
+        String newId = importWorkbasket(definition, importedWb, systemIds);
+        idConversion.put(importedWb.getId(), newId);
+        distributionTargetsToImport.add(
+            new SimpleImmutableEntry<>(importedWb.getId(), definition.getDistributionTargets()));
       }
-      idConversion.put(importedWb.getId(), newId);
     }
 
     // STEP 2: update distribution targets
     // This can not be done in step 1 because the system IDs are only known after step 1
-    for (WorkbasketDefinitionResource definition : definitions) {
+    for (Map.Entry<String, Set<String>> entry : distributionTargetsToImport) {
       List<String> distributionTargets = new ArrayList<>();
-      for (String oldId : definition.getDistributionTargets()) {
+      for (String oldId : entry.getValue()) {
         if (idConversion.containsKey(oldId)) {
           distributionTargets.add(idConversion.get(oldId));
-        } else if (systemIds.containsValue(oldId)) {
+        } else if (existingIds.contains(oldId)) {
           distributionTargets.add(oldId);
         } else {
           throw new InvalidWorkbasketException(
@@ -196,37 +173,71 @@ public class WorkbasketDefinitionController {
 
       workbasketService.setDistributionTargets(
           // no verification necessary since the workbasket was already imported in step 1.
-          idConversion.get(definition.getWorkbasket().getWorkbasketId()), distributionTargets);
+          idConversion.get(entry.getKey()), distributionTargets);
     }
     ResponseEntity<Void> response = ResponseEntity.noContent().build();
     LOGGER.debug("Exit from importWorkbaskets(), returning {}", response);
     return response;
   }
 
+  private String importWorkbasket(
+      WorkbasketDefinitionResource definition,
+      Workbasket importedWb,
+      Map<String, String> systemIds)
+      throws NotAuthorizedException, DomainNotFoundException, InvalidWorkbasketException,
+          WorkbasketAlreadyExistException, WorkbasketNotFoundException, InvalidArgumentException,
+          WorkbasketAccessItemAlreadyExistException, ConcurrencyException {
+    String newId;
+    WorkbasketImpl wbWithoutId = (WorkbasketImpl) removeId(importedWb);
+    if (systemIds.containsKey(logicalId(importedWb))) {
+      Workbasket modifiedWb =
+          workbasketService.getWorkbasket(importedWb.getKey(), importedWb.getDomain());
+      wbWithoutId.setModified(modifiedWb.getModified());
+      workbasketService.updateWorkbasket(wbWithoutId);
+
+      newId = systemIds.get(logicalId(importedWb));
+    } else {
+      newId = workbasketService.createWorkbasket(wbWithoutId).getId();
+    }
+
+    boolean noWrongAuth =
+        definition.getAuthorizations().stream()
+            .noneMatch(
+                access ->
+                    (!access.getWorkbasketId().equals(importedWb.getId()))
+                        || (!access.getWorkbasketKey().equals(importedWb.getKey())));
+    if (!noWrongAuth) {
+      throw new InvalidWorkbasketException(
+          "The given Authentications for Workbasket "
+              + importedWb.getId()
+              + " doesn't match in WorkbasketId and/or WorkbasketKey. "
+              + "Please provide consistent WorkbasketDefinitions");
+    }
+    // all existing access items are replaced with one bulk operation, instead of looking up and
+    // updating every single access item
+    List<WorkbasketAccessItem> accessItems = new ArrayList<>();
+    for (WorkbasketAccessItemImpl authorization : definition.getAuthorizations()) {
+      if (authorization.getAccessId() == null) {
+        throw new InvalidArgumentException(
+            String.format(
+                "Checking the preconditions of the current "
+                    + "WorkbasketAccessItem failed. WorkbasketAccessItem=%s",
+                authorization));
+      }
+      authorization.setId(null);
+      authorization.setWorkbasketId(newId);
+      accessItems.add(authorization);
+    }
+    workbasketService.setWorkbasketAccessItems(newId, accessItems);
+    return newId;
+  }
+
   private Workbasket removeId(Workbasket importedWb) {
     WorkbasketResource wbRes = new WorkbasketResource(importedWb);
     wbRes.setWorkbasketId(null);
     return workbasketDefinitionAssembler.toModel(wbRes);
   }
 
-  private void checkForDuplicates(List<WorkbasketDefinitionResource> definitions) {
-    List<String> identifiers = new ArrayList<>();
-    Set<String> duplicates = new HashSet<>();
-    for (WorkbasketDefinitionResource definition : definitions) {
-      String identifier =
-          logicalId(workbasketDefinitionAssembler.toModel(definition.getWorkbasket()));
-      if (identifiers.contains(identifier)) {
-        duplicates.add(identifier);
-      } else {
-        identifiers.add(identifier);
-      }
-    }
-    if (!duplicates.isEmpty()) {
-      throw new DuplicateKeyException(
-          "The 'key|domain'-identifier is not unique for the value(s): " + duplicates.toString());
-    }
-  }
-
   private String logicalId(WorkbasketSummary workbasket) {
     return logicalId(workbasket.getKey(), workbasket.getDomain());
   }
@@ -0,0 +1,39 @@
+package pro.taskana.rest.resource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.hateoas.ResourceSupport;
+
+/** Resource class for the result of the creation of several tasks at once. */
+public class TaskBulkCreationResultResource extends ResourceSupport {
+
+  private List<TaskResource> createdTasks = new ArrayList<>();
+  private Map<String, String> failedTasks = new LinkedHashMap<>();
+
+  public List<TaskResource> getCreatedTasks() {
+    return createdTasks;
+  }
+
+  public void setCreatedTasks(List<TaskResource> createdTasks) {
+    this.createdTasks = createdTasks;
+  }
+
+  public Map<String, String> getFailedTasks() {
+    return failedTasks;
+  }
+
+  public void setFailedTasks(Map<String, String> failedTasks) {
+    this.failedTasks = failedTasks;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskBulkCreationResultResource [createdTasks="
+        + createdTasks
+        + ", failedTasks="
+        + failedTasks
+        + "]";
+  }
+}
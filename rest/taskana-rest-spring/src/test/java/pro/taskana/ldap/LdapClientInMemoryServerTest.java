@@ -0,0 +1,169 @@
+package pro.taskana.ldap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.LdapContextSource;
+
+import pro.taskana.rest.resource.AccessIdResource;
+
+/** Test the searches of the {@link LdapClient} against an embedded in-memory LDAP server. */
+@ExtendWith(MockitoExtension.class)
+class LdapClientInMemoryServerTest {
+
+  private static final String BASE_DN = "o=TaskanaTest";
+  private static final int NUMBER_OF_USERS = 120;
+
+  private static InMemoryDirectoryServer server;
+  private static LdapContextSource contextSource;
+
+  @Mock Environment environment;
+
+  @Spy LdapTemplate ldapTemplate = new LdapTemplate(contextSource);
+
+  @InjectMocks LdapClient cut;
+
+  @BeforeAll
+  static void startServer() throws Exception {
+    InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+    config.addAdditionalBindCredentials("cn=admin", "secret");
+    config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+    config.setSchema(null);
+    server = new InMemoryDirectoryServer(config);
+    server.add("dn: " + BASE_DN, "objectClass: organization", "o: TaskanaTest");
+    server.add("dn: ou=people," + BASE_DN, "objectClass: organizationalUnit", "ou: people");
+    server.add("dn: ou=groups," + BASE_DN, "objectClass: organizationalUnit", "ou: groups");
+    for (int i = 0; i < NUMBER_OF_USERS; i++) {
+      server.add(
+          "dn: uid=user-" + i + ",ou=people," + BASE_DN,
+          "objectClass: person",
+          "uid: user-" + i,
+          "givenName: Max",
+          "sn: Mustermann" + i);
+    }
+    for (int i = 0; i < 3; i++) {
+      server.add(
+          "dn: cn=user-" + i + "-group,ou=groups," + BASE_DN,
+          "objectClass: groupOfUniqueNames",
+          "cn: user-" + i + "-group");
+    }
+    server.startListening();
+
+    contextSource = new LdapContextSource();
+    contextSource.setUrl("ldap://localhost:" + server.getListenPort());
+    contextSource.setBase(BASE_DN);
+    contextSource.setUserDn("cn=admin");
+    contextSource.setPassword("secret");
+    contextSource.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopServer() {
+    server.shutDown(true);
+  }
+
+  @AfterEach
+  void shutdownClient() {
+    cut.destroy();
+  }
+
+  @Test
+  void should_LimitResultOfEachSearch_When_MoreEntriesMatch() throws Exception {
+    setUpEnvMock("true");
+    cut.init();
+
+    assertThat(cut.searchUsersByName("user")).hasSize(cut.getMaxNumberOfReturnedAccessIds());
+    assertThat(cut.searchGroupsByName("user")).hasSize(3);
+    assertThat(cut.searchUsersAndGroups("user"))
+        .hasSize(cut.getMaxNumberOfReturnedAccessIds())
+        .isSortedAccordingTo((a, b) -> a.getAccessId().compareToIgnoreCase(b.getAccessId()));
+  }
+
+  @Test
+  void should_FindUsersAndGroups_When_BothMatch() throws Exception {
+    setUpEnvMock("true");
+    cut.init();
+
+    assertThat(cut.searchUsersAndGroups("user-1"))
+        .extracting(AccessIdResource::getAccessId)
+        .contains("user-1", "user-119", "cn=user-1-group,ou=groups," + BASE_DN)
+        .doesNotContain("user-2");
+  }
+
+  @Test
+  void should_ReturnCachedResult_When_SearchIsRepeatedWithinTimeToLive() throws Exception {
+    setUpEnvMock("true");
+    cut.init();
+    List<AccessIdResource> result = cut.searchUsersAndGroups("group");
+    server.add(
+        "dn: cn=new-group,ou=groups," + BASE_DN,
+        "objectClass: groupOfUniqueNames",
+        "cn: new-group");
+    try {
+      result.clear();
+
+      assertThat(cut.searchUsersAndGroups("Group ")).hasSize(3);
+    } finally {
+      server.delete("cn=new-group,ou=groups," + BASE_DN);
+    }
+  }
+
+  @Test
+  void should_SearchAgain_When_CacheIsDisabled() throws Exception {
+    setUpEnvMock("false");
+    cut.init();
+    cut.searchUsersAndGroups("group");
+    server.add(
+        "dn: cn=new-group,ou=groups," + BASE_DN,
+        "objectClass: groupOfUniqueNames",
+        "cn: new-group");
+    try {
+      assertThat(cut.searchUsersAndGroups("group")).hasSize(4);
+    } finally {
+      server.delete("cn=new-group,ou=groups," + BASE_DN);
+    }
+  }
+
+  private void setUpEnvMock(String cacheEnabled) {
+    Stream.of(
+            new String[][] {
+              {"taskana.ldap.minSearchForLength", "3"},
+              {"taskana.ldap.maxNumberOfReturnedAccessIds", "50"},
+              {"taskana.ldap.cache.enabled", cacheEnabled},
+              {"taskana.ldap.cache.maxSize", "10"},
+              {"taskana.ldap.cache.timeToLive", "PT1H"},
+              {"taskana.ldap.useLdap", "true"},
+              {"taskana.ldap.baseDn", BASE_DN},
+              {"taskana.ldap.userSearchBase", "ou=people"},
+              {"taskana.ldap.userSearchFilterName", "objectclass"},
+              {"taskana.ldap.userSearchFilterValue", "person"},
+              {"taskana.ldap.userFirstnameAttribute", "givenName"},
+              {"taskana.ldap.userLastnameAttribute", "sn"},
+              {"taskana.ldap.userIdAttribute", "uid"},
+              {"taskana.ldap.groupSearchBase", "ou=groups"},
+              {"taskana.ldap.groupSearchFilterName", "objectclass"},
+              {"taskana.ldap.groupSearchFilterValue", "groupOfUniqueNames"},
+              {"taskana.ldap.groupNameAttribute", "cn"},
+              {"taskana.ldap.groupsOfUser", "memberUid"}
+            })
+        .forEach(
+            strings ->
+                lenient().when(this.environment.getProperty(strings[0])).thenReturn(strings[1]));
+  }
+}
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
@@ -16,6 +15,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import javax.naming.directory.SearchControls;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -60,10 +60,16 @@ class LdapClientTest {
     AccessIdResource user = new AccessIdResource("testU", "testUId");
 
     when(ldapTemplate.search(
-            any(String.class), any(), anyInt(), any(), any(LdapClient.GroupContextMapper.class)))
+            any(String.class),
+            any(String.class),
+            any(SearchControls.class),
+            any(LdapClient.GroupContextMapper.class)))
         .thenReturn(Collections.singletonList(group));
     when(ldapTemplate.search(
-            any(String.class), any(), anyInt(), any(), any(LdapClient.UserContextMapper.class)))
+            any(String.class),
+            any(String.class),
+            any(SearchControls.class),
+            any(LdapClient.UserContextMapper.class)))
         .thenReturn(Collections.singletonList(user));
 
     assertThat(cut.searchUsersAndGroups("test")).hasSize(2).containsExactlyInAnyOrder(user, group);
@@ -130,9 +136,10 @@ class LdapClientTest {
   @Test
   void testLdap_checkForMissingConfigurations() {
     // optional config fields
-    // minSearchForLength, maxNumberOfReturnedAccessIds
+    // minSearchForLength, maxNumberOfReturnedAccessIds, cache.enabled, cache.maxSize,
+    // cache.timeToLive
     assertThat(new LdapClient().checkForMissingConfigurations())
-        .hasSize(LdapSettings.values().length - 2);
+        .hasSize(LdapSettings.values().length - 5);
   }
 
   @Test
@@ -40,6 +40,7 @@ import pro.taskana.RestHelper;
 import pro.taskana.TaskanaSpringBootTest;
 import pro.taskana.rest.resource.WorkbasketDefinitionResource;
 import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
 
 /** Integration tests for WorkbasketDefinitionController. */
 @TaskanaSpringBootTest
@@ -177,6 +178,38 @@ class WorkbasketDefinitionControllerIntTest {
     }
   }
 
+  @Test
+  void testImportWorkbasketReplacesAuthorizationsAndDistributionTargets() throws IOException {
+    List<WorkbasketDefinitionResource> wbList = executeExportRequestForDomain("DOMAIN_A").getBody();
+    WorkbasketDefinitionResource w =
+        wbList.stream().filter(d -> d.getAuthorizations().size() > 1).findFirst().get();
+    String workbasketId = w.getWorkbasket().getWorkbasketId();
+    String targetId =
+        wbList.stream()
+            .map(d -> d.getWorkbasket().getWorkbasketId())
+            .filter(id -> !id.equals(workbasketId))
+            .findFirst()
+            .get();
+    w.getAuthorizations().remove(0);
+    w.setDistributionTargets(Collections.singleton(targetId));
+    List<String> accessIds =
+        w.getAuthorizations().stream()
+            .map(WorkbasketAccessItemImpl::getAccessId)
+            .collect(Collectors.toList());
+
+    expectStatusWhenExecutingImportRequestOfWorkbaskets(HttpStatus.NO_CONTENT, w);
+
+    WorkbasketDefinitionResource imported =
+        executeExportRequestForDomain("DOMAIN_A").getBody().stream()
+            .filter(d -> d.getWorkbasket().getWorkbasketId().equals(workbasketId))
+            .findFirst()
+            .get();
+    assertThat(imported.getAuthorizations())
+        .extracting(WorkbasketAccessItemImpl::getAccessId)
+        .containsExactlyInAnyOrderElementsOf(accessIds);
+    assertThat(imported.getDistributionTargets()).containsExactly(targetId);
+  }
+
   @Test
   void testFailOnImportDuplicates() throws IOException {
     WorkbasketDefinitionResource w = executeExportRequestForDomain("DOMAIN_A").getBody().get(0);